@@ -14,12 +14,12 @@
  * limitations under the License.
  */
 
-package eu.cloudnetservice.driver.util;
+package eu.cloudnetservice.common.concurrent;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
-import dev.derklaro.reflexion.MethodAccessor;
-import dev.derklaro.reflexion.Reflexion;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -38,42 +38,47 @@ public final class ExecutorServiceUtil {
   // marker which indicates if virtual threads are available & preview features enabled
   private static final boolean VIRTUAL_THREADS_AVAILABLE;
 
-  private static final MethodAccessor<Method> VIRTUAL_BUILDER_GETTER;
-  private static final MethodAccessor<Method> VIRTUAL_BUILDER_NAME;
-  private static final MethodAccessor<Method> VIRTUAL_BUILDER_TO_FACTORY;
-
-  private static final MethodAccessor<Method> EXECUTORS_NEW_THREAD_PER_TASK;
+  // Thread.ofVirtual().name(String, long).factory() followed by Executors.newThreadPerTaskExecutor(ThreadFactory)
+  private static final MethodHandle NEW_VIRTUAL_THREAD_EXECUTOR;
 
   static {
-    var threadReflexion = Reflexion.on(Thread.class);
-
-    // try to get the Thread.ofVirtual method; invoke if present -> an exception is thrown = preview features are disabled
-    VIRTUAL_BUILDER_GETTER = threadReflexion.findMethod("ofVirtual").orElse(null);
-    if (VIRTUAL_BUILDER_GETTER == null || VIRTUAL_BUILDER_GETTER.invoke().wasExceptional()) {
-      // virtual threads not available or preview not enabled
-      VIRTUAL_THREADS_AVAILABLE = false;
-      VIRTUAL_BUILDER_NAME = null;
-      VIRTUAL_BUILDER_TO_FACTORY = null;
-      EXECUTORS_NEW_THREAD_PER_TASK = null;
-    } else {
-      // virtual threads are available
-      VIRTUAL_THREADS_AVAILABLE = true;
+    MethodHandle newVirtualThreadExecutor;
+    try {
+      var lookup = MethodHandles.publicLookup();
+      var virtualBuilderClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
 
-      // find the virtual builder class & the name(String, long) method
-      var virtualBuilderReflexion = Reflexion.find("java.lang.Thread$Builder$OfVirtual").orElseThrow();
-      VIRTUAL_BUILDER_NAME = virtualBuilderReflexion
-        .findMethod("name", String.class, long.class)
-        .orElseThrow();
+      // try to get the Thread.ofVirtual method; invoke it -> an exception is thrown = preview features are disabled
+      var builderGetter = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(virtualBuilderClass));
+      var ignored = builderGetter.invoke();
 
-      // find the factory() method
-      VIRTUAL_BUILDER_TO_FACTORY = virtualBuilderReflexion.findMethod("factory").orElseThrow();
+      // find the name(String, long) and factory() methods of the virtual builder
+      var builderName = lookup.findVirtual(
+        virtualBuilderClass,
+        "name",
+        MethodType.methodType(virtualBuilderClass, String.class, long.class));
+      var builderToFactory = lookup.findVirtual(
+        virtualBuilderClass,
+        "factory",
+        MethodType.methodType(ThreadFactory.class));
 
       // find the Executors.newThreadPerTaskExecutor(ThreadFactory) method
-      var executorsReflexion = Reflexion.on(Executors.class);
-      EXECUTORS_NEW_THREAD_PER_TASK = executorsReflexion
-        .findMethod("newThreadPerTaskExecutor", ThreadFactory.class)
-        .orElseThrow();
+      var newThreadPerTask = lookup.findStatic(
+        Executors.class,
+        "newThreadPerTaskExecutor",
+        MethodType.methodType(ExecutorService.class, ThreadFactory.class));
+
+      // (String, long) -> ExecutorService
+      var factoryFromName = MethodHandles.filterReturnValue(
+        MethodHandles.foldArguments(builderName, builderGetter),
+        builderToFactory);
+      newVirtualThreadExecutor = MethodHandles.filterReturnValue(factoryFromName, newThreadPerTask);
+    } catch (Throwable throwable) {
+      // virtual threads not available or preview not enabled
+      newVirtualThreadExecutor = null;
     }
+
+    NEW_VIRTUAL_THREAD_EXECUTOR = newVirtualThreadExecutor;
+    VIRTUAL_THREADS_AVAILABLE = newVirtualThreadExecutor != null;
   }
 
   private ExecutorServiceUtil() {
@@ -105,12 +110,12 @@ public static boolean virtualThreadsAvailable() {
     @NonNull Function<ThreadFactory, ExecutorService> fallbackExecutorFactory
   ) {
     if (VIRTUAL_THREADS_AVAILABLE) {
-      // builds a new thread factory for virtual threads
-      return VIRTUAL_BUILDER_GETTER.invoke()
-        .flatMap(builder -> VIRTUAL_BUILDER_NAME.invoke(builder, threadNamePrefix, 1L))
-        .flatMap(VIRTUAL_BUILDER_TO_FACTORY::invoke)
-        .flatMap(EXECUTORS_NEW_THREAD_PER_TASK::<ExecutorService>invokeWithArgs)
-        .getOrThrow();
+      try {
+        // builds a new thread factory for virtual threads
+        return (ExecutorService) NEW_VIRTUAL_THREAD_EXECUTOR.invoke(threadNamePrefix, 1L);
+      } catch (Throwable throwable) {
+        throw new IllegalStateException("Unable to create virtual thread executor", throwable);
+      }
     } else {
       var threadFactory = new ThreadFactoryBuilder()
         .setNameFormat(threadNamePrefix + "%d")
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.common.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.NonNull;
+
+/**
+ * A pipe which connects an output stream written by one thread with an input stream read by another thread. Unlike the
+ * jdk piped streams this pipe does not bind itself to the reading or writing thread, which makes it safe to use with
+ * pooled threads. Data is handed over in chunks, the writer blocks once the maximum amount of chunks is buffered. If
+ * the reader does not take any chunk for longer than the configured idle timeout, the reader is considered abandoned
+ * and the writer fails instead of blocking forever.
+ *
+ * @since 4.0
+ */
+final class StreamPipe {
+
+  private static final byte[] END_OF_STREAM = new byte[0];
+
+  private final int chunkSize;
+  private final long readerIdleTimeoutNanos;
+  private final BlockingQueue<byte[]> chunks;
+
+  private final Source source;
+  private final Sink sink;
+
+  private volatile boolean readerClosed;
+  private volatile Throwable writerFailure;
+
+  /**
+   * Constructs a new pipe.
+   *
+   * @param chunkSize         the size of the chunks handed over to the reader.
+   * @param bufferedChunks    the maximum amount of chunks buffered before the writer blocks.
+   * @param readerIdleTimeout the maximum time the writer waits for the reader to take a chunk.
+   * @param timeoutUnit       the unit of the given reader idle timeout.
+   * @throws NullPointerException if the given timeout unit is null.
+   */
+  StreamPipe(int chunkSize, int bufferedChunks, long readerIdleTimeout, @NonNull TimeUnit timeoutUnit) {
+    this.chunkSize = chunkSize;
+    this.readerIdleTimeoutNanos = timeoutUnit.toNanos(readerIdleTimeout);
+    this.chunks = new ArrayBlockingQueue<>(bufferedChunks);
+
+    this.source = new Source();
+    this.sink = new Sink();
+  }
+
+  /**
+   * Get the reading side of this pipe. The stream throws an exception once all data was read if the writer failed.
+   *
+   * @return the reading side of this pipe.
+   */
+  @NonNull InputStream source() {
+    return this.source;
+  }
+
+  /**
+   * Get the writing side of this pipe. Writes fail with an exception once the reading side was closed.
+   *
+   * @return the writing side of this pipe.
+   */
+  @NonNull OutputStream sink() {
+    return this.sink;
+  }
+
+  /**
+   * Marks the writing side of this pipe as failed. The reader receives the given cause after reading all data which
+   * was written before the failure.
+   *
+   * @param cause the cause of the failure.
+   * @throws NullPointerException if the given cause is null.
+   */
+  void fail(@NonNull Throwable cause) {
+    this.writerFailure = cause;
+    try {
+      this.sink.close();
+    } catch (IOException ignored) {
+      // the reader is already gone
+    }
+  }
+
+  private final class Source extends InputStream {
+
+    private byte[] current;
+    private int position;
+    private boolean endOfStream;
+
+    @Override
+    public int read() throws IOException {
+      var buffer = new byte[1];
+      return this.read(buffer, 0, 1) == -1 ? -1 : buffer[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte @NonNull [] b, int off, int len) throws IOException {
+      Objects.checkFromIndexSize(off, len, b.length);
+      if (len == 0) {
+        return 0;
+      }
+
+      // take the next chunk if the current one was fully read
+      while (!this.endOfStream && (this.current == null || this.position == this.current.length)) {
+        this.current = this.takeChunk();
+        this.position = 0;
+        this.endOfStream = this.current == END_OF_STREAM;
+      }
+
+      if (this.endOfStream) {
+        var failure = StreamPipe.this.writerFailure;
+        if (failure != null) {
+          throw new IOException("Writing side of the pipe failed", failure);
+        }
+        return -1;
+      }
+
+      var read = Math.min(len, this.current.length - this.position);
+      System.arraycopy(this.current, this.position, b, off, read);
+      this.position += read;
+      return read;
+    }
+
+    @Override
+    public void close() {
+      StreamPipe.this.readerClosed = true;
+      StreamPipe.this.chunks.clear();
+    }
+
+    private byte @NonNull [] takeChunk() throws IOException {
+      try {
+        return StreamPipe.this.chunks.take();
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting for data");
+      }
+    }
+  }
+
+  private final class Sink extends OutputStream {
+
+    private final byte[] buffer = new byte[StreamPipe.this.chunkSize];
+
+    private int count;
+    private boolean closed;
+
+    @Override
+    public void write(int b) throws IOException {
+      if (this.count == this.buffer.length) {
+        this.flush();
+      }
+      this.buffer[this.count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte @NonNull [] b, int off, int len) throws IOException {
+      Objects.checkFromIndexSize(off, len, b.length);
+      while (len > 0) {
+        if (this.count == this.buffer.length) {
+          this.flush();
+        }
+
+        var written = Math.min(len, this.buffer.length - this.count);
+        System.arraycopy(b, off, this.buffer, this.count, written);
+        this.count += written;
+        off += written;
+        len -= written;
+      }
+    }
+
+    @Override
+    public void flush() throws IOException {
+      if (this.count > 0) {
+        this.putChunk(Arrays.copyOf(this.buffer, this.count));
+        this.count = 0;
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (!this.closed) {
+        this.closed = true;
+        // drop the buffered data if the writer failed, the reader only receives the failure
+        if (StreamPipe.this.writerFailure == null) {
+          this.flush();
+        }
+        this.putChunk(END_OF_STREAM);
+      }
+    }
+
+    private void putChunk(byte @NonNull [] chunk) throws IOException {
+      if (StreamPipe.this.readerClosed) {
+        throw new IOException("Reading side of the pipe is closed");
+      }
+
+      try {
+        // re-check periodically if the reader is still present, as the reader clears the queue once when closing
+        var waitStart = System.nanoTime();
+        while (!StreamPipe.this.chunks.offer(chunk, 100, TimeUnit.MILLISECONDS)) {
+          if (StreamPipe.this.readerClosed) {
+            throw new IOException("Reading side of the pipe is closed");
+          }
+
+          // the reader did not take a chunk for too long, most likely the stream was dropped without closing it
+          if (System.nanoTime() - waitStart >= StreamPipe.this.readerIdleTimeoutNanos) {
+            this.abandonReader();
+          }
+        }
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting for the reader");
+      }
+    }
+
+    private void abandonReader() throws IOException {
+      var exception = new IOException("Reading side of the pipe was idle for too long");
+
+      // release the buffered chunks and let a reader which comes back fail instead of waiting for more data
+      StreamPipe.this.writerFailure = exception;
+      StreamPipe.this.readerClosed = true;
+      StreamPipe.this.chunks.clear();
+      StreamPipe.this.chunks.offer(END_OF_STREAM);
+      throw exception;
+    }
+  }
+}
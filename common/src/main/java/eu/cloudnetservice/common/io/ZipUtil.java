@@ -16,20 +16,26 @@
 
 package eu.cloudnetservice.common.io;
 
+import eu.cloudnetservice.common.concurrent.ExecutorServiceUtil;
 import eu.cloudnetservice.common.log.LogManager;
 import eu.cloudnetservice.common.log.Logger;
 import eu.cloudnetservice.common.util.StringUtil;
+import io.vavr.CheckedConsumer;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
-import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
-import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
+import java.util.zip.Deflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
@@ -49,6 +55,21 @@ public final class ZipUtil {
   private static final Logger LOGGER = LogManager.logger(ZipUtil.class);
   private static final boolean IS_WINDOWS = StringUtil.toLower(System.getProperty("os.name")).contains("windows");
 
+  private static final int COMPRESSION_LEVEL = Integer.getInteger(
+    "cloudnet.zip.compression-level",
+    Deflater.DEFAULT_COMPRESSION);
+  // files which are already compressed are not compressed again, this mostly applies to jar files
+  private static final Set<String> STORED_FILE_EXTENSIONS = Set.of(
+    System.getProperty("cloudnet.zip.stored-file-extensions", "jar,zip").split(","));
+
+  private static final int PIPE_CHUNK_SIZE = 64 * 1024;
+  private static final int PIPE_BUFFERED_CHUNKS = 16;
+  // the time a zip writer waits for the reader of the stream before considering the stream abandoned
+  private static final long PIPE_READER_IDLE_TIMEOUT = Long.getLong("cloudnet.zip.reader-idle-timeout", 300);
+  private static final ExecutorService ZIP_WRITER_EXECUTOR = ExecutorServiceUtil.newVirtualThreadExecutor(
+    "Zip-Stream-Writer-",
+    Executors::newCachedThreadPool);
+
   private ZipUtil() {
     throw new UnsupportedOperationException();
   }
@@ -68,25 +89,74 @@ private ZipUtil() {
 
   /**
    * Zips the given directory into a zip input stream while filtering with the given filter and returning the new input
-   * stream.
+   * stream. The zip is compressed on the fly while the stream is read, no temporary file is created. If the given
+   * directory does not exist, an empty stream is returned.
    *
    * @param directory  the directory to zip.
    * @param fileFilter the filter to filter against.
    * @return the new input stream for the zip.
-   * @throws NullPointerException  if the given directory is null.
-   * @throws IllegalStateException if the opening of the zip file failed.
+   * @throws NullPointerException if the given directory is null.
    */
   public static @NonNull InputStream zipToStream(@NonNull Path directory, @Nullable Predicate<Path> fileFilter) {
-    var target = FileUtil.createTempFile();
-    zipToFile(
-      directory,
-      target,
-      path -> !target.equals(path) && (fileFilter == null || fileFilter.test(path)));
+    if (Files.notExists(directory)) {
+      return InputStream.nullInputStream();
+    }
+
+    return zipToStream(out -> zipDir(out, directory, fileFilter));
+  }
+
+  /**
+   * Creates a new input stream for a zip which is written by the given writer. The writer is called on a separate
+   * thread and writes into a pipe, which means that the zip is compressed on the fly while the stream is read. If the
+   * writer fails, the returned stream throws an exception once all data written before the failure was read. Closing
+   * the returned stream causes all further writes of the writer to fail. The writer fails as well if the returned
+   * stream is not read for longer than 5 minutes, which can be changed using the
+   * {@code cloudnet.zip.reader-idle-timeout} property (in seconds).
+   *
+   * @param entryWriter the writer which writes all entries into the given zip output stream.
+   * @return the new input stream for the zip.
+   * @throws NullPointerException if the given writer is null.
+   */
+  public static @NonNull InputStream zipToStream(@NonNull CheckedConsumer<ZipOutputStream> entryWriter) {
+    var pipe = new StreamPipe(PIPE_CHUNK_SIZE, PIPE_BUFFERED_CHUNKS, PIPE_READER_IDLE_TIMEOUT, TimeUnit.SECONDS);
+    ZIP_WRITER_EXECUTOR.execute(() -> {
+      var out = new ZipOutputStream(pipe.sink(), StandardCharsets.UTF_8);
+      try {
+        out.setLevel(COMPRESSION_LEVEL);
+        entryWriter.accept(out);
+        out.close();
+      } catch (Throwable throwable) {
+        LOGGER.fine("Exception while writing zip stream", throwable);
+        pipe.fail(throwable);
+      }
+    });
+    return pipe.source();
+  }
+
+  /**
+   * Writes a new entry with the given name and content into the given zip output stream. Files which are already
+   * compressed (by default jar and zip files) are written without compressing them again.
+   *
+   * @param out     the stream to write the entry to.
+   * @param name    the name of the entry.
+   * @param content the content of the entry.
+   * @throws IOException          if the writing process of the new zip entry fails.
+   * @throws NullPointerException if the given stream, name or content is null.
+   */
+  public static void writeEntry(
+    @NonNull ZipOutputStream out,
+    @NonNull String name,
+    @NonNull InputStream content
+  ) throws IOException {
+    var extensionIndex = name.lastIndexOf('.');
+    var storedFile = extensionIndex != -1 && STORED_FILE_EXTENSIONS.contains(name.substring(extensionIndex + 1));
+    out.setLevel(storedFile ? Deflater.NO_COMPRESSION : COMPRESSION_LEVEL);
 
     try {
-      return Files.newInputStream(target, StandardOpenOption.DELETE_ON_CLOSE, LinkOption.NOFOLLOW_LINKS);
-    } catch (IOException exception) {
-      throw new IllegalStateException("Unable to open input stream to zip file " + target, exception);
+      out.putNextEntry(new ZipEntry(name));
+      content.transferTo(out);
+    } finally {
+      out.closeEntry();
     }
   }
 
@@ -146,11 +216,8 @@ private static void zipDir(
         @Override
         public FileVisitResult visitFile(@NonNull Path file, @NonNull BasicFileAttributes attrs) throws IOException {
           if (filter == null || filter.test(file)) {
-            try {
-              out.putNextEntry(new ZipEntry(dir.relativize(file).toString().replace("\\", "/")));
-              Files.copy(file, out);
-            } finally {
-              out.closeEntry();
+            try (var content = Files.newInputStream(file)) {
+              writeEntry(out, dir.relativize(file).toString().replace("\\", "/"), content);
             }
           }
           // continue search
@@ -245,10 +312,9 @@ private static void extractEntry(
     if (zipEntry.isDirectory()) {
       FileUtil.createDirectory(file);
     } else {
+      // replace the file instead of truncating it, existing files might be hard linked into other directories
       FileUtil.createDirectory(file.getParent());
-      try (var outputStream = Files.newOutputStream(file)) {
-        FileUtil.copy(in, outputStream);
-      }
+      Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
     }
   }
 
@@ -260,7 +326,7 @@ private static void extractEntry(
    * @throws NullPointerException  if the given name is null.
    * @throws IllegalStateException if the name contains an illegal character.
    */
-  private static void ensureSafeZipEntryName(@NonNull String name) {
+  public static void ensureSafeZipEntryName(@NonNull String name) {
     if (name.isEmpty()
       || name.startsWith("/")
       || name.startsWith("\\")
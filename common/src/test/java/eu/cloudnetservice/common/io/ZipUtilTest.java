@@ -18,14 +18,18 @@
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 import java.util.zip.ZipFile;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public final class ZipUtilTest {
 
@@ -96,4 +100,47 @@ void testExtractZip() throws Exception {
     Assertions.assertTrue(Files.exists(TEST_DIR.resolve("nms/bukkit.yml")));
     Assertions.assertTrue(Files.exists(TEST_DIR.resolve("nms/server.properties")));
   }
+
+  @Test
+  void testZipToStream(@TempDir Path tempDir) throws Exception {
+    var source = tempDir.resolve("source");
+    FileUtil.createDirectory(source.resolve("plugins"));
+    Files.writeString(source.resolve("server.properties"), "motd=Hello World");
+    Files.write(source.resolve("plugins").resolve("plugin.jar"), new byte[1024 * 1024]);
+
+    var target = tempDir.resolve("target");
+    try (var stream = ZipUtil.zipToStream(source)) {
+      Assertions.assertNotNull(ZipUtil.extract(stream, target));
+    }
+
+    Assertions.assertEquals("motd=Hello World", Files.readString(target.resolve("server.properties")));
+    Assertions.assertEquals(1024 * 1024, Files.size(target.resolve("plugins").resolve("plugin.jar")));
+  }
+
+  @Test
+  void testFailingZipStream() {
+    var stream = ZipUtil.zipToStream(out -> {
+      ZipUtil.writeEntry(out, "info.txt", new ByteArrayInputStream("Info message :3".getBytes()));
+      throw new IllegalStateException("Unable to write the next entry");
+    });
+    Assertions.assertThrows(IOException.class, stream::readAllBytes);
+  }
+
+  @Test
+  void testAbandonedStreamPipe() throws Exception {
+    var pipe = new StreamPipe(16, 1, 200, TimeUnit.MILLISECONDS);
+    var sink = pipe.sink();
+
+    // the first chunk is buffered, the second one waits for a reader which never shows up
+    sink.write(new byte[16]);
+    sink.flush();
+    sink.write(new byte[16]);
+    Assertions.assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+      Assertions.assertThrows(IOException.class, sink::flush);
+    });
+
+    // further writes fail immediately and a reader which comes back receives the failure
+    Assertions.assertThrows(IOException.class, () -> sink.write(new byte[16]));
+    Assertions.assertThrows(IOException.class, () -> pipe.source().readAllBytes());
+  }
 }
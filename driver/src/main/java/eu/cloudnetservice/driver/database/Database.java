@@ -66,6 +66,17 @@ public interface Database extends Named, AutoCloseable {
    */
   boolean insert(@NonNull String key, @NonNull Document document);
 
+  /**
+   * Associates each key of the given map with the document mapped to it in the database. Existing keys will get
+   * overridden. This method should be preferred over single inserts when writing many documents at once, as the
+   * underlying database is able to write all documents in one go (for example in a single transaction).
+   *
+   * @param entries the key-document pairs to write into the database.
+   * @return true if all documents were associated with their key successfully, false otherwise.
+   * @throws NullPointerException if the given entries map is null.
+   */
+  boolean insertAll(@NonNull Map<String, Document> entries);
+
   /**
    * Tests whether a document is associated with the given key.
    *
@@ -84,6 +95,17 @@ public interface Database extends Named, AutoCloseable {
    */
   boolean delete(@NonNull String key);
 
+  /**
+   * Removes all given keys and the associated documents from the database. Keys which are not mapped to a document are
+   * ignored. This method should be preferred over single deletes when removing many keys at once, as the underlying
+   * database is able to remove all keys in one go (for example in a single transaction).
+   *
+   * @param keys the keys to remove.
+   * @return the amount of keys which were removed from the database.
+   * @throws NullPointerException if the given key collection is null.
+   */
+  int deleteAll(@NonNull Collection<String> keys);
+
   /**
    * Gets the associated document with the given key from the database. If the returned document is null than there is
    * no document associated with the given key.
@@ -179,6 +201,22 @@ public interface Database extends Named, AutoCloseable {
     return Task.supply(() -> this.insert(key, document));
   }
 
+  /**
+   * Associates each key of the given map with the document mapped to it in the database. Existing keys will get
+   * overridden. This method should be preferred over single inserts when writing many documents at once, as the
+   * underlying database is able to write all documents in one go (for example in a single transaction).
+   * <p>
+   * The returned future, if completed successfully, completes with true to indicate that all values were written into
+   * the database successfully. Will be completed with false if the data wasn't written without specifying a reason.
+   *
+   * @param entries the key-document pairs to write into the database.
+   * @return a future completed with the write operation status.
+   * @throws NullPointerException if the given entries map is null.
+   */
+  default @NonNull Task<Boolean> insertAllAsync(@NonNull Map<String, Document> entries) {
+    return Task.supply(() -> this.insertAll(entries));
+  }
+
   /**
    * Tests whether a document is associated with the given key.
    * <p>
@@ -209,6 +247,22 @@ public interface Database extends Named, AutoCloseable {
     return Task.supply(() -> this.delete(key));
   }
 
+  /**
+   * Removes all given keys and the associated documents from the database. Keys which are not mapped to a document are
+   * ignored. This method should be preferred over single deletes when removing many keys at once, as the underlying
+   * database is able to remove all keys in one go (for example in a single transaction).
+   * <p>
+   * The returned future, if completed successfully, completes with the amount of keys which were removed from the
+   * database.
+   *
+   * @param keys the keys to remove.
+   * @return a future completed with the amount of removed keys.
+   * @throws NullPointerException if the given key collection is null.
+   */
+  default @NonNull Task<Integer> deleteAllAsync(@NonNull Collection<String> keys) {
+    return Task.supply(() -> this.deleteAll(keys));
+  }
+
   /**
    * Gets the associated document with the given key from the database. If the returned document is null than there is
    * no document associated with the given key.
@@ -0,0 +1,266 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.document.send;
+
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.document.DocumentFactory;
+import eu.cloudnetservice.driver.document.send.element.ArrayElement;
+import eu.cloudnetservice.driver.document.send.element.Element;
+import eu.cloudnetservice.driver.document.send.element.NullElement;
+import eu.cloudnetservice.driver.document.send.element.ObjectElement;
+import eu.cloudnetservice.driver.document.send.element.PrimitiveElement;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import lombok.NonNull;
+
+/**
+ * A compact binary encoding of the element tree of a document send. In comparison to the json representation of a
+ * document, the binary representation does not need to be tokenized when reading and stores numbers in their binary
+ * form rather than as a string.
+ * <p>
+ * Each element is encoded as a type tag followed by the key of the element (only for members of objects) and the
+ * value of the element. Objects and arrays are prefixed with the amount of elements they contain. The encoded form of a
+ * document always starts with {@link #MAGIC} followed by the format version, which allows to distinguish it from json
+ * encoded documents which always start with a {@code '{'}.
+ *
+ * @since 4.0
+ */
+public final class BinaryDocumentCodec {
+
+  public static final byte MAGIC = (byte) 0xCB;
+  public static final byte VERSION = 1;
+
+  // element type tags
+  private static final byte TYPE_NULL = 0;
+  private static final byte TYPE_OBJECT = 1;
+  private static final byte TYPE_ARRAY = 2;
+  private static final byte TYPE_STRING = 3;
+  private static final byte TYPE_BOOLEAN = 4;
+  private static final byte TYPE_BYTE = 5;
+  private static final byte TYPE_SHORT = 6;
+  private static final byte TYPE_INT = 7;
+  private static final byte TYPE_LONG = 8;
+  private static final byte TYPE_FLOAT = 9;
+  private static final byte TYPE_DOUBLE = 10;
+  private static final byte TYPE_CHAR = 11;
+  private static final byte TYPE_DECIMAL = 12;
+
+  private BinaryDocumentCodec() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Checks if the given data starts with the header of a binary encoded document.
+   *
+   * @param data the data to check.
+   * @return true if the given data is a binary encoded document, false otherwise.
+   * @throws NullPointerException if the given data is null.
+   */
+  public static boolean isBinaryEncoded(byte @NonNull [] data) {
+    return data.length >= 2 && data[0] == MAGIC;
+  }
+
+  /**
+   * Encodes the given document into its binary representation.
+   *
+   * @param document the document to encode.
+   * @return the binary representation of the given document.
+   * @throws NullPointerException if the given document is null.
+   */
+  public static byte[] encode(@NonNull Document document) {
+    var buffer = DataBufFactory.defaultFactory().createEmpty();
+    writeDocument(buffer, document.send());
+    return buffer.toByteArray();
+  }
+
+  /**
+   * Decodes the given binary representation of a document into a document of the given factory.
+   *
+   * @param factory the factory to create the document with.
+   * @param data    the binary representation of the document.
+   * @return the decoded document.
+   * @throws NullPointerException     if the given factory or data is null.
+   * @throws IllegalArgumentException if the given data is not a binary encoded document.
+   */
+  public static @NonNull Document.Mutable decode(@NonNull DocumentFactory factory, byte @NonNull [] data) {
+    var buffer = DataBufFactory.defaultFactory().fromBytes(data);
+    try {
+      return readDocument(buffer).into(factory);
+    } finally {
+      buffer.release();
+    }
+  }
+
+  /**
+   * Writes the binary representation of the given document send into the given buffer.
+   *
+   * @param target the buffer to write the document to.
+   * @param send   the document send to write.
+   * @throws NullPointerException if the given buffer or document send is null.
+   */
+  public static void writeDocument(@NonNull DataBuf.Mutable target, @NonNull DocumentSend send) {
+    target.writeByte(MAGIC).writeByte(VERSION);
+    writeChildren(target, send.rootElement().elements(), true);
+  }
+
+  /**
+   * Reads a binary encoded document send from the given buffer.
+   *
+   * @param source the buffer to read the document from.
+   * @return the document send read from the given buffer.
+   * @throws NullPointerException     if the given buffer is null.
+   * @throws IllegalArgumentException if the buffer does not contain a binary encoded document.
+   */
+  public static @NonNull DocumentSend readDocument(@NonNull DataBuf source) {
+    var magic = source.readByte();
+    var version = source.readByte();
+    if (magic != MAGIC || version != VERSION) {
+      throw new IllegalArgumentException(String.format("Unsupported document header %d version %d", magic, version));
+    }
+
+    return new ElementDocumentSend(new ObjectElement(Element.NO_KEY, readChildren(source, true)));
+  }
+
+  private static void writeChildren(
+    @NonNull DataBuf.Mutable target,
+    @NonNull Collection<? extends Element> elements,
+    boolean keyed
+  ) {
+    target.writeInt(elements.size());
+    for (var element : elements) {
+      writeElement(target, element, keyed);
+    }
+  }
+
+  private static void writeElement(@NonNull DataBuf.Mutable target, @NonNull Element element, boolean keyed) {
+    if (element instanceof ObjectElement objectElement) {
+      writeHeader(target, TYPE_OBJECT, objectElement.key(), keyed);
+      writeChildren(target, objectElement.elements(), true);
+    } else if (element instanceof ArrayElement arrayElement) {
+      writeHeader(target, TYPE_ARRAY, arrayElement.key(), keyed);
+      writeChildren(target, arrayElement.entries(), false);
+    } else if (element instanceof PrimitiveElement primitiveElement) {
+      writePrimitive(target, primitiveElement, keyed);
+    } else {
+      writeHeader(target, TYPE_NULL, element.key(), keyed);
+    }
+  }
+
+  private static void writePrimitive(
+    @NonNull DataBuf.Mutable target,
+    @NonNull PrimitiveElement element,
+    boolean keyed
+  ) {
+    var key = element.key();
+    var value = element.innerValue();
+    if (value instanceof String string) {
+      writeHeader(target, TYPE_STRING, key, keyed).writeString(string);
+    } else if (value instanceof Boolean bool) {
+      writeHeader(target, TYPE_BOOLEAN, key, keyed).writeBoolean(bool);
+    } else if (value instanceof Character character) {
+      writeHeader(target, TYPE_CHAR, key, keyed).writeChar(character);
+    } else if (value instanceof Byte byteValue) {
+      writeHeader(target, TYPE_BYTE, key, keyed).writeByte(byteValue);
+    } else if (value instanceof Short shortValue) {
+      writeHeader(target, TYPE_SHORT, key, keyed).writeShort(shortValue);
+    } else if (value instanceof Integer intValue) {
+      writeHeader(target, TYPE_INT, key, keyed).writeInt(intValue);
+    } else if (value instanceof Long longValue) {
+      writeHeader(target, TYPE_LONG, key, keyed).writeLong(longValue);
+    } else if (value instanceof Float floatValue) {
+      writeHeader(target, TYPE_FLOAT, key, keyed).writeFloat(floatValue);
+    } else if (value instanceof Double doubleValue) {
+      writeHeader(target, TYPE_DOUBLE, key, keyed).writeDouble(doubleValue);
+    } else if (value instanceof Number number) {
+      // numbers of an unknown type (for example lazily parsed json numbers), store integral values as a long
+      var numberString = number.toString();
+      var decimal = new BigDecimal(numberString);
+      if (decimal.scale() <= 0 && decimal.compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) <= 0
+        && decimal.compareTo(BigDecimal.valueOf(Long.MIN_VALUE)) >= 0) {
+        writeHeader(target, TYPE_LONG, key, keyed).writeLong(decimal.longValueExact());
+      } else {
+        writeHeader(target, TYPE_DECIMAL, key, keyed).writeString(numberString);
+      }
+    } else {
+      throw new IllegalArgumentException("Unsupported primitive type " + value.getClass().getName());
+    }
+  }
+
+  private static @NonNull DataBuf.Mutable writeHeader(
+    @NonNull DataBuf.Mutable target,
+    byte type,
+    @NonNull String key,
+    boolean keyed
+  ) {
+    target.writeByte(type);
+    if (keyed) {
+      target.writeString(key);
+    }
+    return target;
+  }
+
+  private static @NonNull Collection<Element> readChildren(@NonNull DataBuf source, boolean keyed) {
+    var elementCount = source.readInt();
+    var elements = new ArrayList<Element>(elementCount);
+    for (var i = 0; i < elementCount; i++) {
+      elements.add(readElement(source, keyed));
+    }
+    return Collections.unmodifiableCollection(elements);
+  }
+
+  private static @NonNull Element readElement(@NonNull DataBuf source, boolean keyed) {
+    var type = source.readByte();
+    var key = keyed ? source.readString() : Element.NO_KEY;
+    return switch (type) {
+      case TYPE_NULL -> new NullElement(key);
+      case TYPE_OBJECT -> new ObjectElement(key, readChildren(source, true));
+      case TYPE_ARRAY -> new ArrayElement(key, readChildren(source, false));
+      case TYPE_STRING -> new PrimitiveElement(key, source.readString());
+      case TYPE_BOOLEAN -> new PrimitiveElement(key, source.readBoolean());
+      case TYPE_BYTE -> new PrimitiveElement(key, source.readByte());
+      case TYPE_SHORT -> new PrimitiveElement(key, source.readShort());
+      case TYPE_INT -> new PrimitiveElement(key, source.readInt());
+      case TYPE_LONG -> new PrimitiveElement(key, source.readLong());
+      case TYPE_FLOAT -> new PrimitiveElement(key, source.readFloat());
+      case TYPE_DOUBLE -> new PrimitiveElement(key, source.readDouble());
+      case TYPE_CHAR -> new PrimitiveElement(key, source.readChar());
+      case TYPE_DECIMAL -> new PrimitiveElement(key, new BigDecimal(source.readString()));
+      default -> throw new IllegalArgumentException("Unknown element type " + type);
+    };
+  }
+
+  /**
+   * A document send which wraps a decoded element tree.
+   *
+   * @param rootElement the root object element of the document send.
+   * @since 4.0
+   */
+  private record ElementDocumentSend(@NonNull ObjectElement rootElement) implements DocumentSend {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NonNull Document.Mutable into(@NonNull DocumentFactory factory) {
+      return factory.receive(this);
+    }
+  }
+}
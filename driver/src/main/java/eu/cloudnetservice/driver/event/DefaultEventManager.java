@@ -17,15 +17,22 @@
 package eu.cloudnetservice.driver.event;
 
 import dev.derklaro.aerogel.auto.Provides;
+import eu.cloudnetservice.common.concurrent.ExecutorServiceUtil;
 import eu.cloudnetservice.driver.inject.InjectionLayer;
 import jakarta.inject.Singleton;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Predicate;
@@ -33,6 +40,12 @@
 
 /**
  * The default implementation of an event manager.
+ * <p>
+ * This event manager bakes an immutable array of listeners for each combination of event class and channel once an
+ * event is called the first time. The baked arrays include all listeners which are listening to the event class or one
+ * of its super types and are invalidated once a listener gets registered or unregistered. Calling an event to which no
+ * listener is listening therefore only requires a single map lookup, the same lookup is used to check if an event has
+ * any listeners without calling it.
  *
  * @since 4.0
  */
@@ -42,6 +55,25 @@ public class DefaultEventManager implements EventManager {
 
   protected final Lock bakeLock = new ReentrantLock(true);
   protected final Map<Class<?>, List<RegisteredEventListener>> listeners = new HashMap<>();
+  protected final Map<Class<?>, Map<String, RegisteredEventListener[]>> bakedListeners = new ConcurrentHashMap<>();
+
+  // the executor used to call asynchronous event listeners, created once the first asynchronous listener is called
+  protected final Lock asyncExecutorLock = new ReentrantLock();
+  protected volatile ExecutorService asyncListenerExecutor;
+  protected volatile boolean closed;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Collection<RegisteredEventListener> registeredListeners() {
+    this.bakeLock.lock();
+    try {
+      return this.listeners.values().stream().flatMap(Collection::stream).toList();
+    } finally {
+      this.bakeLock.unlock();
+    }
+  }
 
   /**
    * {@inheritDoc}
@@ -69,23 +101,18 @@ public class DefaultEventManager implements EventManager {
    */
   @Override
   public <T extends Event> @NonNull T callEvent(@NonNull String channel, @NonNull T event) {
-    // get all registered listeners of the event
-    var listeners = this.listeners.get(event.getClass());
-    if (listeners != null && !listeners.isEmpty()) {
-      // check if there is only one listener
-      if (listeners.size() == 1) {
-        var listener = listeners.get(0);
-        // check if the event gets called on the same channel as the listener is listening to
-        if (listener.channel().equals(channel)) {
-          listener.fireEvent(event);
-        }
-      } else {
-        // post the event to the listeners
+    // get the baked listeners of the event, bake them if this event wasn't called before
+    var channelListeners = this.bakedListeners.get(event.getClass());
+    if (channelListeners == null) {
+      channelListeners = this.bakeListeners(event.getClass());
+    }
+
+    // post the event to the listeners which are listening to the given channel
+    if (!channelListeners.isEmpty()) {
+      var listeners = channelListeners.get(channel);
+      if (listeners != null) {
         for (var listener : listeners) {
-          // check if the event gets called on the same channel as the listener is listening to
-          if (listener.channel().equals(channel)) {
-            listener.fireEvent(event);
-          }
+          listener.fireEvent(event);
         }
       }
     }
@@ -93,6 +120,20 @@ public class DefaultEventManager implements EventManager {
     return event;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean hasListeners(@NonNull String channel, @NonNull Class<? extends Event> eventClass) {
+    var channelListeners = this.bakedListeners.get(eventClass);
+    if (channelListeners == null) {
+      channelListeners = this.bakeListeners(eventClass);
+    }
+
+    var listeners = channelListeners.get(channel);
+    return listeners != null && listeners.length > 0;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -144,7 +185,12 @@ public class DefaultEventManager implements EventManager {
         }
 
         // bring the information together
-        var eventListener = new DefaultRegisteredEventListener(listener, method, annotation, layer);
+        var eventListener = new DefaultRegisteredEventListener(
+          listener,
+          method,
+          annotation,
+          layer,
+          this::executeAsync);
 
         this.bakeLock.lock();
         try {
@@ -153,6 +199,8 @@ public class DefaultEventManager implements EventManager {
           listeners.add(eventListener);
           // sort now - we don't need to sort lather then
           Collections.sort(listeners);
+          // the listener might be a target for already baked event classes
+          this.bakedListeners.clear();
         } finally {
           this.bakeLock.unlock();
         }
@@ -181,6 +229,95 @@ protected void safeRemove(@NonNull Predicate<RegisteredEventListener> predicate)
           iterator.remove();
         }
       }
+
+      // removed listeners might be part of the baked listeners
+      this.bakedListeners.clear();
+    } finally {
+      this.bakeLock.unlock();
+    }
+  }
+
+  /**
+   * Shuts down the executor which calls the asynchronous event listeners. Events which were already passed to an
+   * asynchronous listener are still delivered, but asynchronous listeners are no longer called for events which are
+   * called after this method was invoked.
+   */
+  public void close() {
+    this.asyncExecutorLock.lock();
+    try {
+      this.closed = true;
+      if (this.asyncListenerExecutor != null) {
+        this.asyncListenerExecutor.shutdown();
+      }
+    } finally {
+      this.asyncExecutorLock.unlock();
+    }
+  }
+
+  /**
+   * Executes the given task using the executor for asynchronous event listeners, creating the executor if this is the
+   * first task that gets executed.
+   *
+   * @param task the task to execute.
+   * @throws NullPointerException       if the given task is null.
+   * @throws RejectedExecutionException if this event manager was closed.
+   */
+  protected void executeAsync(@NonNull Runnable task) {
+    var executor = this.asyncListenerExecutor;
+    if (executor == null) {
+      this.asyncExecutorLock.lock();
+      try {
+        if (this.closed) {
+          throw new RejectedExecutionException("Event manager was closed");
+        }
+
+        // re-check, the executor might have been created while waiting for the lock
+        executor = this.asyncListenerExecutor;
+        if (executor == null) {
+          executor = this.asyncListenerExecutor = ExecutorServiceUtil.newVirtualThreadExecutor(
+            "Event-Listener-",
+            Executors::newCachedThreadPool);
+        }
+      } finally {
+        this.asyncExecutorLock.unlock();
+      }
+    }
+
+    executor.execute(task);
+  }
+
+  /**
+   * Bakes the listeners for the given event class. The baked listeners include all listeners which are listening to the
+   * given event class or one of its super types, grouped by the channel they are listening to and sorted by their
+   * invocation order.
+   *
+   * @param eventClass the event class to bake the listeners for.
+   * @return the baked listeners of the given event class, mapped by the channel the listeners are listening to.
+   * @throws NullPointerException if the given event class is null.
+   */
+  protected @NonNull Map<String, RegisteredEventListener[]> bakeListeners(@NonNull Class<?> eventClass) {
+    this.bakeLock.lock();
+    try {
+      return this.bakedListeners.computeIfAbsent(eventClass, $ -> {
+        // collect all listeners which can handle the given event class
+        Map<String, List<RegisteredEventListener>> listenersByChannel = new HashMap<>();
+        for (var entry : this.listeners.entrySet()) {
+          if (entry.getKey().isAssignableFrom(eventClass)) {
+            for (var listener : entry.getValue()) {
+              listenersByChannel.computeIfAbsent(listener.channel(), channel -> new ArrayList<>()).add(listener);
+            }
+          }
+        }
+
+        // sort the listeners of each channel and convert them to an array
+        Map<String, RegisteredEventListener[]> bakedListeners = new HashMap<>();
+        for (var entry : listenersByChannel.entrySet()) {
+          var listeners = entry.getValue();
+          Collections.sort(listeners);
+          bakedListeners.put(entry.getKey(), listeners.toArray(RegisteredEventListener[]::new));
+        }
+        return Map.copyOf(bakedListeners);
+      });
     } finally {
       this.bakeLock.unlock();
     }
@@ -23,7 +23,16 @@
 import eu.cloudnetservice.common.log.Logger;
 import eu.cloudnetservice.driver.inject.InjectUtil;
 import eu.cloudnetservice.driver.inject.InjectionLayer;
+import jakarta.inject.Provider;
 import java.lang.reflect.Method;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
 import lombok.NonNull;
 
 /**
@@ -45,6 +54,20 @@ final class DefaultRegisteredEventListener implements RegisteredEventListener {
 
   private final InjectionLayer<?> injectionLayer;
 
+  // asynchronous delivery, events are queued to ensure that the listener is only called by one thread at a time
+  private final boolean async;
+  private final Executor asyncExecutor;
+  private final Queue<Event> pendingEvents = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean deliveryScheduled = new AtomicBoolean();
+
+  // invocation statistics
+  private final LongAdder invocationCount = new LongAdder();
+  private final LongAdder totalInvocationNanos = new LongAdder();
+  private final LongAccumulator maxInvocationNanos = new LongAccumulator(Math::max, 0);
+
+  // the providers of the additional method arguments, resolved when the listener gets called the first time
+  private volatile Provider<?>[] argumentProviders;
+
   /**
    * Constructs a new default registered event listener instance.
    *
@@ -52,18 +75,22 @@ final class DefaultRegisteredEventListener implements RegisteredEventListener {
    * @param targetMethod   the method of the event listener.
    * @param eventListener  the annotation used to identify the target method.
    * @param injectionLayer the injection layer to use when additional parameters are present on the target method.
+   * @param asyncExecutor  the executor to deliver events with if the listener is asynchronous.
    * @throws NullPointerException if one of the given arguments is null.
    */
   DefaultRegisteredEventListener(
     @NonNull Object instance,
     @NonNull Method targetMethod,
     @NonNull EventListener eventListener,
-    @NonNull InjectionLayer<?> injectionLayer
+    @NonNull InjectionLayer<?> injectionLayer,
+    @NonNull Executor asyncExecutor
   ) {
     // listener info
     this.instance = instance;
     this.eventListener = eventListener;
     this.injectionLayer = injectionLayer;
+    this.async = eventListener.async();
+    this.asyncExecutor = asyncExecutor;
 
     // method information
     this.methodName = targetMethod.getName();
@@ -82,18 +109,76 @@ final class DefaultRegisteredEventListener implements RegisteredEventListener {
    */
   @Override
   public void fireEvent(@NonNull Event event) {
-    LOGGER.fine(
-      "Calling event %s on listener %s",
-      null,
-      event.getClass().getName(),
-      this.instance().getClass().getName());
-
-    // find the parameter instances, set the first argument to the event instance
-    var instances = InjectUtil.findAllInstances(this.injectionLayer, this.methodArguments, 1);
-    instances[0] = event;
-
-    // invoke the event listener & rethrow any thrown exceptions wrapped
-    var result = this.methodAccessor.invokeWithArgs(instances);
+    if (this.async) {
+      // enqueue the event and schedule the delivery if no delivery is running yet
+      this.pendingEvents.offer(event);
+      if (this.deliveryScheduled.compareAndSet(false, true)) {
+        try {
+          this.asyncExecutor.execute(this::deliverPendingEvents);
+        } catch (RejectedExecutionException exception) {
+          // the event manager was closed, asynchronous listeners are no longer called
+          this.pendingEvents.clear();
+          this.deliveryScheduled.set(false);
+        }
+      }
+    } else {
+      this.invokeListener(event);
+    }
+  }
+
+  /**
+   * Delivers all pending events to this listener, in the order they were called. Exceptions thrown while calling the
+   * listener are logged as they cannot be rethrown to the caller of the event. If an error escapes the delivery, the
+   * delivery of the remaining events is scheduled again before rethrowing the error.
+   */
+  private void deliverPendingEvents() {
+    try {
+      do {
+        Event event;
+        while ((event = this.pendingEvents.poll()) != null) {
+          try {
+            this.invokeListener(event);
+          } catch (Exception exception) {
+            LOGGER.severe("Exception while asynchronously calling event %s", exception, event.getClass().getName());
+          }
+        }
+
+        // reset the scheduled state and re-check if events were added before resetting the state
+        this.deliveryScheduled.set(false);
+      } while (!this.pendingEvents.isEmpty() && this.deliveryScheduled.compareAndSet(false, true));
+    } catch (Throwable throwable) {
+      // reset the scheduled state, all events called later would be queued but never delivered otherwise
+      this.deliveryScheduled.set(false);
+      if (!this.pendingEvents.isEmpty() && this.deliveryScheduled.compareAndSet(false, true)) {
+        this.asyncExecutor.execute(this::deliverPendingEvents);
+      }
+      throw throwable;
+    }
+  }
+
+  /**
+   * Invokes the underlying listener method with the given event, recording the time the invocation took.
+   *
+   * @param event the event to invoke the listener method with.
+   * @throws NullPointerException   if the given event is null.
+   * @throws EventListenerException if the underlying listener method threw an exception.
+   */
+  private void invokeListener(@NonNull Event event) {
+    // check the log level before calling to prevent the varargs array allocation on each call
+    if (LOGGER.isLoggable(Level.FINE)) {
+      LOGGER.fine(
+        "Calling event %s on listener %s",
+        null,
+        event.getClass().getName(),
+        this.instance().getClass().getName());
+    }
+
+    // invoke the event listener & record the time the listener took
+    var startTime = System.nanoTime();
+    var result = this.methodAccessor.invokeWithArgs(this.buildArguments(event));
+    this.recordInvocation(System.nanoTime() - startTime);
+
+    // rethrow any thrown exceptions wrapped
     if (result.wasExceptional()) {
       throw new EventListenerException(String.format(
         "Error while invoking event listener %s in class %s",
@@ -103,6 +188,51 @@ public void fireEvent(@NonNull Event event) {
     }
   }
 
+  /**
+   * Records an invocation of the underlying listener method which took the given amount of nanoseconds.
+   *
+   * @param invocationNanos the time the invocation took, in nanoseconds.
+   */
+  private void recordInvocation(long invocationNanos) {
+    this.invocationCount.increment();
+    this.totalInvocationNanos.add(invocationNanos);
+    this.maxInvocationNanos.accumulate(invocationNanos);
+  }
+
+  /**
+   * Builds the arguments to invoke the listener method with. The first argument is always the given event, all other
+   * arguments are obtained from the providers which were resolved from the injection layer on the first call.
+   *
+   * @param event the event to invoke the listener method with.
+   * @return the arguments to invoke the listener method with.
+   * @throws NullPointerException if the given event is null.
+   */
+  private @NonNull Object[] buildArguments(@NonNull Event event) {
+    // no need to go through the injection layer if only the event is requested
+    if (this.methodArguments.length == 0) {
+      return new Object[]{event};
+    }
+
+    // resolve the providers for all additional arguments once, the providers will respect the scope of the bindings
+    var providers = this.argumentProviders;
+    if (providers == null) {
+      providers = new Provider<?>[this.methodArguments.length];
+      for (int i = 0; i < providers.length; i++) {
+        var element = this.methodArguments[i];
+        providers[i] = this.injectionLayer.injector().binding(element).provider(element);
+      }
+      this.argumentProviders = providers;
+    }
+
+    // get the instances from the providers, set the first argument to the event instance
+    var arguments = new Object[providers.length + 1];
+    arguments[0] = event;
+    for (int i = 0; i < providers.length; i++) {
+      arguments[i + 1] = providers[i].get();
+    }
+    return arguments;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -142,4 +272,28 @@ public void fireEvent(@NonNull Event event) {
   public @NonNull EventListener eventListener() {
     return this.eventListener;
   }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long invocationCount() {
+    return this.invocationCount.sum();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long totalInvocationNanos() {
+    return this.totalInvocationNanos.sum();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long maxInvocationNanos() {
+    return this.maxInvocationNanos.get();
+  }
 }
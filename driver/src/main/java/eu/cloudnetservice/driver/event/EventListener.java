@@ -69,4 +69,17 @@
    * @return the priority of the listener.
    */
   InvocationOrder order() default InvocationOrder.NORMAL;
+
+  /**
+   * Defines if this listener should be called asynchronously. Asynchronous listeners are called on a separate (virtual,
+   * if available) thread instead of the thread calling the event. The events are delivered to an asynchronous listener
+   * in the order they were called, and the listener will never receive events simultaneously.
+   * <p>
+   * Note that the caller of the event will not wait for asynchronous listeners to complete, which means that changes
+   * made to the event by an asynchronous listener (for example cancelling the event) have no effect. Exceptions thrown
+   * by asynchronous listeners are logged instead of being rethrown to the caller. Defaults to false.
+   *
+   * @return true if the listener should be called asynchronously, false otherwise.
+   */
+  boolean async() default false;
 }
@@ -16,6 +16,7 @@
 
 package eu.cloudnetservice.driver.event;
 
+import java.util.Collection;
 import lombok.NonNull;
 
 /**
@@ -26,7 +27,8 @@
  * <p>
  * To receive an event a listener must:
  * <ol>
- *   <li>Define a method taking a single argument, the {@link Event} it wants to subscribe to.
+ *   <li>Define a method taking a single argument, the {@link Event} it wants to subscribe to. The listener will also
+ *   receive all subtypes of the event.
  *   <li>Mark that method with a {@link EventListener} annotation.
  *   <li>Pass the listener class instance to {@link #registerListener(Object)}.
  * </ol>
@@ -34,7 +36,8 @@
  * Note: event execution is always a blocking operation, <strong>NEVER</strong> should an event listener receive event
  * notifications simultaneously. By default, no event listener will be called when any event publish is ongoing. Other
  * implementations are free to change this behaviour as long as there are no calls to the same event listener
- * simultaneously.
+ * simultaneously. Listeners can opt in to be called asynchronously by using {@link EventListener#async()}, in which
+ * case the caller does not wait for the listener to process the event.
  *
  * @see EventListener
  * @see RegisteredEventListener
@@ -42,6 +45,14 @@
  */
 public interface EventManager {
 
+  /**
+   * Get all listeners which are currently registered to this event manager. The returned listeners can for example be
+   * used to find listeners which are taking long to process events.
+   *
+   * @return all listeners which are currently registered to this event manager.
+   */
+  @NonNull Collection<RegisteredEventListener> registeredListeners();
+
   /**
    * Unregisters all listeners in classes which were loaded by the given class loader.
    *
@@ -88,6 +99,36 @@ public interface EventManager {
    */
   @NonNull <T extends Event> T callEvent(@NonNull String channel, @NonNull T event);
 
+  /**
+   * Checks if any listener would be triggered when calling an event of the given type to the * channel. This allows
+   * callers of frequently called events to skip the construction of the event if nobody is listening to it.
+   * <p>
+   * This method call is equivalent to {@code hasListeners("*", eventClass)}.
+   *
+   * @param eventClass the type of the event to check for listeners.
+   * @return true if any listener would be triggered by calling an event of the given type, false otherwise.
+   * @throws NullPointerException if the given event class is null.
+   */
+  default boolean hasListeners(@NonNull Class<? extends Event> eventClass) {
+    return this.hasListeners("*", eventClass);
+  }
+
+  /**
+   * Checks if any listener would be triggered when calling an event of the given type to the given channel. This
+   * allows callers of frequently called events to skip the construction of the event if nobody is listening to it.
+   * <p>
+   * The default implementation always returns true, implementations should override this method if they can check for
+   * listeners without calling the event.
+   *
+   * @param channel    the channel to check for listeners.
+   * @param eventClass the type of the event to check for listeners.
+   * @return true if any listener would be triggered by calling an event of the given type, false otherwise.
+   * @throws NullPointerException if the given channel or event class is null.
+   */
+  default boolean hasListeners(@NonNull String channel, @NonNull Class<? extends Event> eventClass) {
+    return true;
+  }
+
   /**
    * Registers all methods in the given listener class which are annotated with {@link EventListener} and are taking
    * only one argument with a subtype of {@link Event}. The instance the constructed event listeners are bound to are
@@ -28,9 +28,9 @@
 public interface RegisteredEventListener extends Comparable<RegisteredEventListener> {
 
   /**
-   * Fires the event by invoking the underlying method with the given event. The event type is ensured to only be the
-   * same type the listener defined in the method. Event execution is not concurrent as per the event manager contract,
-   * therefore there is no need for locking before event execution.
+   * Fires the event by invoking the underlying method with the given event. The event type is ensured to be the same
+   * type or a subtype of the type the listener defined in the method. Event execution is not concurrent as per the event
+   * manager contract, therefore there is no need for locking before event execution.
    *
    * @param event the event to fire.
    * @throws NullPointerException   if the given event is null.
@@ -73,6 +73,27 @@ public interface RegisteredEventListener extends Comparable<RegisteredEventListe
    */
   @NonNull Class<?> eventClass();
 
+  /**
+   * Get the amount of times the underlying listener method was invoked.
+   *
+   * @return the amount of times the underlying listener method was invoked.
+   */
+  long invocationCount();
+
+  /**
+   * Get the total time in nanoseconds the underlying listener method took to handle all events it received.
+   *
+   * @return the total time the underlying listener method took to handle events, in nanoseconds.
+   */
+  long totalInvocationNanos();
+
+  /**
+   * Get the time in nanoseconds the slowest invocation of the underlying listener method took.
+   *
+   * @return the time the slowest invocation of the underlying listener method took, in nanoseconds.
+   */
+  long maxInvocationNanos();
+
   /**
    * {@inheritDoc}
    */
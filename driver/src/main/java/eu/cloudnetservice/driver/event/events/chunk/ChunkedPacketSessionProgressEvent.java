@@ -0,0 +1,86 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.event.events.chunk;
+
+import eu.cloudnetservice.driver.event.Event;
+import eu.cloudnetservice.driver.network.chunk.ChunkedPacketHandler;
+import eu.cloudnetservice.driver.network.chunk.TransferProgress;
+import eu.cloudnetservice.driver.network.chunk.TransferStatus;
+import eu.cloudnetservice.driver.network.chunk.data.ChunkSessionInformation;
+import lombok.NonNull;
+
+/**
+ * Called each time a chunk of a chunked packet transfer to the current network component was handled. The event holds
+ * a snapshot of the transfer progress after the chunk was handled, and is called a last time with a transfer status of
+ * {@link TransferStatus#SUCCESS} when the transfer completed. This event is only called if the chunked packet listener
+ * was created with an event manager.
+ *
+ * @since 4.0
+ */
+public final class ChunkedPacketSessionProgressEvent extends Event {
+
+  private final ChunkedPacketHandler handler;
+  private final TransferProgress progress;
+
+  /**
+   * Constructs a new chunked packet session progress event.
+   *
+   * @param handler  the handler of the chunked transfer session.
+   * @param progress the progress of the session after the chunk was handled.
+   * @throws NullPointerException if the given handler or progress is null.
+   */
+  public ChunkedPacketSessionProgressEvent(@NonNull ChunkedPacketHandler handler, @NonNull TransferProgress progress) {
+    this.handler = handler;
+    this.progress = progress;
+  }
+
+  /**
+   * Get the session information of the chunked transfer.
+   *
+   * @return the session information of the chunked transfer.
+   */
+  public @NonNull ChunkSessionInformation session() {
+    return this.handler.sessionInformation();
+  }
+
+  /**
+   * Get the handler which is handling the chunked transfer.
+   *
+   * @return the handler of the chunked transfer.
+   */
+  public @NonNull ChunkedPacketHandler handler() {
+    return this.handler;
+  }
+
+  /**
+   * Get the status of the chunked transfer after the chunk was handled.
+   *
+   * @return the status of the chunked transfer.
+   */
+  public @NonNull TransferStatus status() {
+    return this.handler.transferStatus();
+  }
+
+  /**
+   * Get a snapshot of the progress and throughput of the chunked transfer after the chunk was handled.
+   *
+   * @return the progress of the chunked transfer.
+   */
+  public @NonNull TransferProgress progress() {
+    return this.progress;
+  }
+}
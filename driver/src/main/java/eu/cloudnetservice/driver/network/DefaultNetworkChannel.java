@@ -45,6 +45,8 @@ public abstract class DefaultNetworkChannel implements NetworkChannel {
   private final boolean clientProvidedChannel;
   private final NetworkChannelHandler handler;
 
+  private volatile boolean resumableChunks;
+
   /**
    * Constructs a new default network channel instance.
    *
@@ -141,4 +143,20 @@ public boolean clientProvidedChannel() {
   public @NonNull NetworkChannelHandler handler() {
     return this.handler;
   }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean resumableChunks() {
+    return this.resumableChunks;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void resumableChunks(boolean resumableChunks) {
+    this.resumableChunks = resumableChunks;
+  }
 }
@@ -114,6 +114,23 @@ public interface NetworkChannel extends PacketSender {
    */
   boolean active();
 
+  /**
+   * Get if the component on the other side of this channel announced during the authorization that it is able to
+   * answer resume requests of chunked transfers. Resume requests must not be sent to components which didn't announce
+   * that, as they would handle the request as a chunk of the transfer.
+   *
+   * @return true if the remote component supports resuming chunked transfers, false otherwise.
+   */
+  boolean resumableChunks();
+
+  /**
+   * Sets if the component on the other side of this channel announced that it is able to answer resume requests of
+   * chunked transfers. This method should only be called when handling the authorization of the channel.
+   *
+   * @param resumableChunks true if the remote component supports resuming chunked transfers, false otherwise.
+   */
+  void resumableChunks(boolean resumableChunks);
+
   /**
    * Requests the close of the channel, flushing all outbound i/o requests before. After a channel was closed it cannot
    * be used again.
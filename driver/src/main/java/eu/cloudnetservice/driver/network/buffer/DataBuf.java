@@ -17,10 +17,13 @@
 package eu.cloudnetservice.driver.network.buffer;
 
 import eu.cloudnetservice.driver.network.rpc.object.ObjectMapper;
+import java.io.IOException;
 import java.lang.reflect.Type;
+import java.nio.channels.FileChannel;
 import java.util.UUID;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.zip.Checksum;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -158,6 +161,25 @@ public interface DataBuf extends AutoCloseable {
    */
   byte[] readByteArray();
 
+  /**
+   * Reads the next array of bytes from the buffer and writes it directly into the given file channel, starting at the
+   * given file position. The format of the array is the same as described in {@link #readByteArray()}, but the bytes
+   * are not copied into an intermediate array. The position of the given channel is not changed by this method,
+   * therefore multiple threads can write into the same channel at different positions concurrently.
+   * <p>
+   * If a checksum is given, it is updated with all bytes which are written into the target channel.
+   *
+   * @param target   the channel to write the bytes of the array to.
+   * @param position the position in the target file to start writing at.
+   * @param checksum the checksum to update with the written bytes, null to not calculate a checksum.
+   * @return the amount of bytes which were written into the target channel.
+   * @throws IOException               if an i/o error occurs while writing into the target channel.
+   * @throws NullPointerException      if the given target channel is null.
+   * @throws IndexOutOfBoundsException if there are fewer bytes than expected in the buffer.
+   * @throws IllegalStateException     if this buffer was released.
+   */
+  int readByteArray(@NonNull FileChannel target, long position, @Nullable Checksum checksum) throws IOException;
+
   /**
    * Reads the next unique id from the buffer at the current reader index. The operation reads two longs from the
    * buffer: the most significant bits of the unique id, and the least significant bits of the unique id. This totals to
@@ -425,6 +447,20 @@ interface Mutable extends DataBuf {
      */
     @NonNull DataBuf.Mutable writeByteArray(byte[] b, int amount);
 
+    /**
+     * Writes the given amount of bytes from the given file channel into the buffer, prefixed by an integer containing
+     * the amount of bytes following in the array. The bytes are read directly into this buffer without copying them
+     * into an intermediate array, the position of the given channel is not changed by this method.
+     *
+     * @param source   the channel to read the bytes from.
+     * @param position the position in the source file to start reading at.
+     * @param amount   the amount of bytes to read from the channel into the buffer.
+     * @return the same buffer used to call the method, for chaining.
+     * @throws IOException          if an i/o error occurs or the channel has fewer bytes than requested.
+     * @throws NullPointerException if the given source channel is null.
+     */
+    @NonNull DataBuf.Mutable writeByteArray(@NonNull FileChannel source, long position, int amount) throws IOException;
+
     /**
      * Writes the unique id into the buffer by first writing the most significant bits of the id followed by the last
      * significant bits of the id.
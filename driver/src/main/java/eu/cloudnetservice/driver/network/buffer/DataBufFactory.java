@@ -47,6 +47,21 @@ public interface DataBufFactory {
    */
   @NonNull DataBuf.Mutable createEmpty();
 
+  /**
+   * Creates an empty buffer which can be expanded by writing to it. The factory may use the given key to pre-allocate
+   * the buffer based on the size of the buffers previously created for the same key, which saves reallocation while
+   * writing to the buffer. Keys should be stable and few, for example a packet channel or a message type.
+   * <p>
+   * By default, this method just delegates to {@link #createEmpty()}.
+   *
+   * @param sizeKey the key to predict the size of the buffer for.
+   * @return a new, empty data buf.
+   * @throws NullPointerException if the given key is null.
+   */
+  default @NonNull DataBuf.Mutable createEmpty(@NonNull Object sizeKey) {
+    return this.createEmpty();
+  }
+
   /**
    * Creates a new readonly buffer wrapping the given byte array and using it as it's data source. Modification to the
    * given bytes will be visible in the buffer.
@@ -86,6 +101,30 @@ public interface DataBufFactory {
    */
   @NonNull DataBuf.Mutable mutableCopyOf(@NonNull DataBuf dataBuf);
 
+  /**
+   * Creates the given amount of readonly copies of the readable content of the given buffer, for example to send the
+   * same content to multiple receivers. The factory might share the memory of the given buffer between the copies
+   * rather than copying the content. Each copy must be released on its own, the given buffer is released by this
+   * method and must no longer be used.
+   * <p>
+   * By default, this method creates the copies using {@link #copyOf(DataBuf)}.
+   *
+   * @param dataBuf the buffer to copy.
+   * @param amount  the amount of copies to create.
+   * @return the copies of the given buffer.
+   * @throws IllegalArgumentException if the buffer cannot be copied or the amount is negative.
+   * @throws NullPointerException     if the given buffer is null.
+   */
+  default @NonNull DataBuf[] sharedCopiesOf(@NonNull DataBuf dataBuf, int amount) {
+    var copies = new DataBuf[amount];
+    for (var i = 0; i < amount; i++) {
+      copies[i] = this.copyOf(dataBuf);
+    }
+
+    dataBuf.release();
+    return copies;
+  }
+
   /**
    * Creates an empty mutable data buffer which pre-allocates the specified amount of expected bytes rather than
    * dynamically growing during write operations.
@@ -20,6 +20,7 @@
 import eu.cloudnetservice.driver.network.chunk.data.ChunkSessionInformation;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.BitSet;
 import lombok.NonNull;
 
 /**
@@ -54,6 +55,23 @@ public interface ChunkedPacketHandler extends ChunkedPacketProvider {
    */
   boolean handleChunkPart(int chunkPosition, @NonNull DataBuf dataBuf);
 
+  /**
+   * Get the indexes of all chunks which were received and validated successfully by this handler. The returned set is
+   * sent to the sender of the chunked data when it tries to resume a transfer, allowing it to only retransmit the
+   * chunks which are missing.
+   *
+   * @return a copy of the indexes of all chunks which were received successfully.
+   */
+  @NonNull BitSet receivedChunks();
+
+  /**
+   * Aborts the session handled by this handler, releasing all resources which were allocated to handle the received
+   * chunks. This method is called when the session failed or expired, chunks received after the call are discarded.
+   * This method does nothing by default.
+   */
+  default void abort() {
+  }
+
   /**
    * A callback called once the full data of the chunk session was received successfully.
    *
@@ -33,6 +33,13 @@ public interface ChunkedPacketProvider {
    */
   @NonNull TransferStatus transferStatus();
 
+  /**
+   * Get a snapshot of the current progress and throughput of the transfer, either while sending or receiving.
+   *
+   * @return a snapshot of the current transfer progress.
+   */
+  @NonNull TransferProgress transferProgress();
+
   /**
    * Get the session information which is associated with this provider.
    *
@@ -25,6 +25,7 @@
 import java.util.Collection;
 import java.util.UUID;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import lombok.NonNull;
 
 /**
@@ -123,6 +124,7 @@ interface Builder {
      * <ul>
      *   <li>{@code toChannels(NetworkChannel...)}
      *   <li>{@code toChannels(Collection)}
+     *   <li>{@code toChannels(Supplier)}
      *   <li>{@code packetSplitter(Consumer)}
      * </ul>
      * to set the packet splitter of this sender which is required.
@@ -138,6 +140,7 @@ interface Builder {
      * <ul>
      *   <li>{@code toChannels(NetworkChannel...)}
      *   <li>{@code toChannels(Collection)}
+     *   <li>{@code toChannels(Supplier)}
      *   <li>{@code packetSplitter(Consumer)}
      * </ul>
      * to set the packet splitter of this sender which is required.
@@ -148,12 +151,31 @@ interface Builder {
      */
     @NonNull Builder toChannels(@NonNull Collection<NetworkChannel> channels);
 
+    /**
+     * Sends each chunk data packet to all channels returned by the given resolver. The resolver is called when the
+     * sender is created and again each time a failed transfer is resumed, which allows the transfer to continue through
+     * a new channel to the same target after a reconnect. You need to call one of these methods:
+     * <ul>
+     *   <li>{@code toChannels(NetworkChannel...)}
+     *   <li>{@code toChannels(Collection)}
+     *   <li>{@code toChannels(Supplier)}
+     *   <li>{@code packetSplitter(Consumer)}
+     * </ul>
+     * to set the packet splitter of this sender which is required.
+     *
+     * @param channelResolver the resolver of the channels to send the packet to.
+     * @return the same builder as used to call the method, for chaining.
+     * @throws NullPointerException if the given channel resolver is null.
+     */
+    @NonNull Builder toChannels(@NonNull Supplier<? extends Collection<NetworkChannel>> channelResolver);
+
     /**
      * Sets the handler and processor of each packet which will be sent during the chunked data transfer. You need to
      * call one of these methods:
      * <ul>
      *   <li>{@code toChannels(NetworkChannel...)}
      *   <li>{@code toChannels(Collection)}
+     *   <li>{@code toChannels(Supplier)}
      *   <li>{@code packetSplitter(Consumer)}
      * </ul>
      * to set the packet splitter of this sender which is required.
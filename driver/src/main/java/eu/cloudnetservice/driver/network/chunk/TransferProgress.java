@@ -0,0 +1,61 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.chunk;
+
+import java.time.Duration;
+import lombok.NonNull;
+
+/**
+ * A snapshot of the progress of a chunked packet transfer, either while sending or receiving.
+ *
+ * @param transferredChunks the amount of chunks which were transferred successfully.
+ * @param expectedChunks    the total amount of chunks of the transfer, -1 if not yet known.
+ * @param transferredBytes  the amount of chunk data bytes which were transferred successfully.
+ * @param elapsed           the time elapsed since the transfer was started.
+ * @since 4.0
+ */
+public record TransferProgress(
+  int transferredChunks,
+  int expectedChunks,
+  long transferredBytes,
+  @NonNull Duration elapsed
+) {
+
+  /**
+   * Get the completion of the transfer as a value between 0 and 1. If the total amount of chunks of the transfer is
+   * not yet known, this method returns -1.
+   *
+   * @return the completion of the transfer, -1 if unknown.
+   */
+  public double completion() {
+    if (this.expectedChunks <= 0) {
+      return -1;
+    }
+
+    return Math.min(1D, this.transferredChunks / (double) this.expectedChunks);
+  }
+
+  /**
+   * Get the average throughput of the transfer since it was started, in bytes per second.
+   *
+   * @return the average throughput of the transfer in bytes per second.
+   */
+  public long bytesPerSecond() {
+    var elapsedMillis = this.elapsed.toMillis();
+    return elapsedMillis <= 0 ? this.transferredBytes : this.transferredBytes * 1000 / elapsedMillis;
+  }
+}
@@ -17,8 +17,12 @@
 package eu.cloudnetservice.driver.network.chunk.defaults;
 
 import eu.cloudnetservice.driver.network.chunk.ChunkedPacketProvider;
+import eu.cloudnetservice.driver.network.chunk.TransferProgress;
 import eu.cloudnetservice.driver.network.chunk.TransferStatus;
 import eu.cloudnetservice.driver.network.chunk.data.ChunkSessionInformation;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.NonNull;
 
 /**
@@ -31,6 +35,12 @@ public abstract class DefaultChunkedPacketProvider implements ChunkedPacketProvi
   protected final ChunkSessionInformation chunkSessionInformation;
   protected TransferStatus transferStatus;
 
+  // progress tracking
+  protected final long transferStartNanos = System.nanoTime();
+  protected final AtomicInteger transferredChunks = new AtomicInteger();
+  protected final AtomicLong transferredBytes = new AtomicLong();
+  protected volatile int expectedChunks = -1;
+
   /**
    * Creates a new instance of this class.
    *
@@ -50,6 +60,18 @@ protected DefaultChunkedPacketProvider(@NonNull ChunkSessionInformation sessionI
     return this.transferStatus;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull TransferProgress transferProgress() {
+    return new TransferProgress(
+      this.transferredChunks.get(),
+      this.expectedChunks,
+      this.transferredBytes.get(),
+      Duration.ofNanos(System.nanoTime() - this.transferStartNanos));
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -57,4 +79,14 @@ protected DefaultChunkedPacketProvider(@NonNull ChunkSessionInformation sessionI
   public @NonNull ChunkSessionInformation sessionInformation() {
     return this.chunkSessionInformation;
   }
+
+  /**
+   * Records that a chunk with the given amount of data bytes was transferred successfully.
+   *
+   * @param chunkLength the amount of data bytes in the transferred chunk.
+   */
+  protected void recordTransferredChunk(int chunkLength) {
+    this.transferredChunks.incrementAndGet();
+    this.transferredBytes.addAndGet(chunkLength);
+  }
 }
@@ -16,47 +16,108 @@
 
 package eu.cloudnetservice.driver.network.chunk.defaults;
 
+import eu.cloudnetservice.common.concurrent.ExecutorServiceUtil;
 import eu.cloudnetservice.common.concurrent.Task;
+import eu.cloudnetservice.driver.network.NetworkChannel;
 import eu.cloudnetservice.driver.network.chunk.ChunkedPacketSender;
 import eu.cloudnetservice.driver.network.chunk.TransferStatus;
 import eu.cloudnetservice.driver.network.chunk.data.ChunkSessionInformation;
+import eu.cloudnetservice.driver.network.chunk.defaults.splitter.NetworkChannelsPacketSplitter;
 import eu.cloudnetservice.driver.network.chunk.network.ChunkedPacket;
 import eu.cloudnetservice.driver.network.protocol.Packet;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.util.BitSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Represents a default implementation of a chunked packet sender specifically created for chunked transferring of a
  * huge file, e.g. a zip archive.
  * <p>
+ * Up to a configurable amount of chunks is handed to the packet splitter concurrently, which allows the next chunks to
+ * be read while the previous chunks are still being sent. When the sender is backed by a file channel, the chunks are
+ * read directly from the file into the packet buffers.
+ * <p>
+ * Transfers from a file channel can be resumed. After a failed attempt the targets are asked which chunks of the
+ * session they received already (if the packets are sent through network channels), and only the missing chunks are
+ * sent again. The target channels of a network channel packet splitter are resolved again before each resume attempt,
+ * the transfer is not resumed if one of the targets didn't announce that it supports resume requests.
+ * <p>
  * This class shouldn't get instantiated directly, use {@link ChunkedPacketSender#forFileTransfer()} instead.
  *
  * @since 4.0
  */
 public class DefaultFileChunkPacketSender extends DefaultChunkedPacketProvider implements ChunkedPacketSender {
 
+  public static final int DEFAULT_IN_FLIGHT_CHUNKS = Integer.getInteger(
+    "cloudnet.chunked-transfer.in-flight-chunks",
+    3);
+  public static final int DEFAULT_RESUME_ATTEMPTS = Integer.getInteger(
+    "cloudnet.chunked-transfer.resume-attempts",
+    3);
+
+  protected static final long RESUME_REQUEST_TIMEOUT_SECONDS = 30;
+
   protected static final byte[] EMPTY_BYTE_ARRAY = new byte[0];
+  protected static final ExecutorService CHUNK_SEND_EXECUTOR = ExecutorServiceUtil.newVirtualThreadExecutor(
+    "Chunked-Transfer-",
+    Executors::newCachedThreadPool);
 
   protected final InputStream source;
+  protected final FileChannel sourceChannel;
+  protected final int inFlightChunks;
+  protected final int resumeAttempts;
   protected final Consumer<Packet> packetSplitter;
 
+  /**
+   * Constructs a new chunked packet sender for file transfer which sends one chunk at a time.
+   *
+   * @param sessionInformation the information about the chunked session.
+   * @param source             the source stream of the file, will be closed automatically.
+   * @param packetSplitter     the splitter for each chunk part to transfer.
+   * @throws NullPointerException if either the information, source or splitter is null.
+   */
+  public DefaultFileChunkPacketSender(
+    @NonNull ChunkSessionInformation sessionInformation,
+    @NonNull InputStream source,
+    @NonNull Consumer<Packet> packetSplitter
+  ) {
+    this(sessionInformation, source, null, 1, 0, packetSplitter);
+  }
+
   /**
    * Constructs a new chunked packet sender for file transfer.
    *
    * @param sessionInformation the information about the chunked session.
    * @param source             the source stream of the file, will be closed automatically.
+   * @param sourceChannel      the channel backing the source stream, null if the stream is not backed by a channel.
+   * @param inFlightChunks     the maximum amount of chunks which are passed to the splitter concurrently.
+   * @param resumeAttempts     the amount of times a failed transfer is resumed, only possible with a source channel.
    * @param packetSplitter     the splitter for each chunk part to transfer.
    * @throws NullPointerException if either the information, source or splitter is null.
    */
   public DefaultFileChunkPacketSender(
     @NonNull ChunkSessionInformation sessionInformation,
     @NonNull InputStream source,
+    @Nullable FileChannel sourceChannel,
+    int inFlightChunks,
+    int resumeAttempts,
     @NonNull Consumer<Packet> packetSplitter
   ) {
     super(sessionInformation);
 
     this.source = source;
+    this.sourceChannel = sourceChannel;
+    this.inFlightChunks = Math.max(1, inFlightChunks);
+    this.resumeAttempts = Math.max(0, resumeAttempts);
     this.packetSplitter = packetSplitter;
   }
 
@@ -82,34 +143,207 @@ public DefaultFileChunkPacketSender(
   @Override
   public @NonNull Task<TransferStatus> transferChunkedData() {
     return Task.supply(() -> {
-      var readCalls = 0;
-      var backingArray = new byte[this.chunkSessionInformation.chunkSize()];
-
-      while (true) {
-        var bytesRead = this.source.read(backingArray);
-        if (bytesRead != -1 && bytesRead == backingArray.length) {
-          // acquire the transfer information once before writing the data of the chunk
-          this.chunkSessionInformation.transferInformation().acquire();
-          this.packetSplitter.accept(ChunkedPacket.createChunk(
-            this.chunkSessionInformation,
-            readCalls++,
-            backingArray));
-        } else {
-          this.packetSplitter.accept(ChunkedPacket.createChunk(
-            this.chunkSessionInformation,
-            readCalls,
-            readCalls,
-            bytesRead == -1 ? 0 : bytesRead,
-            bytesRead == -1 ? EMPTY_BYTE_ARRAY : backingArray));
-
-          // close the stream after reading the final chunk & release the extra content now
-          this.source.close();
-          this.chunkSessionInformation.transferInformation().release();
-
-          // successful transfer
-          return TransferStatus.SUCCESS;
+      // close the stream (and therefore the channel) after reading the final chunk
+      try (this.source) {
+        if (this.sourceChannel == null) {
+          // a stream cannot be rewound, therefore it's not possible to resume the transfer
+          return this.transferChunks(null);
+        }
+
+        // the amount of chunks is known upfront when reading from a channel
+        var chunkSize = this.chunkSessionInformation.chunkSize();
+        this.expectedChunks = (int) (this.sourceChannel.size() / chunkSize) + 1;
+
+        // the first attempt sends all chunks, the targets are only asked for the received chunks when resuming
+        BitSet receivedChunks = null;
+        for (var attempt = 0; ; attempt++) {
+          var status = this.transferChunks(receivedChunks);
+          if (status == TransferStatus.SUCCESS || attempt >= this.resumeAttempts) {
+            return status;
+          }
+
+          // the targets might be reachable through other channels now, for example after a reconnect
+          if (this.packetSplitter instanceof NetworkChannelsPacketSplitter splitter
+            && splitter.resolveChannels().isEmpty()) {
+            return TransferStatus.FAILURE;
+          }
+
+          // only send the chunks which weren't received yet, if all targets are able to tell us which chunks these are
+          receivedChunks = this.requestReceivedChunks();
+          if (receivedChunks == null) {
+            return TransferStatus.FAILURE;
+          }
         }
+      } finally {
+        // release the extra content now
+        this.chunkSessionInformation.transferInformation().release();
       }
     });
   }
+
+  /**
+   * Transfers all chunks of the source, skipping the chunks which were already received by all targets. The final
+   * chunk of the transfer is never skipped and is only sent when all other chunks were sent successfully.
+   *
+   * @param receivedChunks the indexes of the chunks to skip, null to send all chunks.
+   * @return the status of the transfer after all chunks were sent or the transfer failed.
+   * @throws IOException          if an i/o error occurs while reading the chunks from the source.
+   * @throws InterruptedException if the current thread gets interrupted while waiting for a free window slot.
+   */
+  protected @NonNull TransferStatus transferChunks(
+    @Nullable BitSet receivedChunks
+  ) throws IOException, InterruptedException {
+    var chunkSize = this.chunkSessionInformation.chunkSize();
+    var backingArray = this.sourceChannel == null ? new byte[chunkSize] : EMPTY_BYTE_ARRAY;
+
+    var window = new Semaphore(this.inFlightChunks);
+    var sendFailure = new AtomicReference<Throwable>();
+
+    var chunkIndex = 0;
+    while (true) {
+      // wait until there is a free slot in the window before reading the next chunk into memory
+      window.acquire();
+      if (sendFailure.get() != null) {
+        // wait for the chunks which are still in flight
+        window.acquire(this.inFlightChunks - 1);
+        return TransferStatus.FAILURE;
+      }
+
+      var chunkPosition = (long) chunkIndex * chunkSize;
+      var chunkLength = this.readChunk(chunkPosition, backingArray);
+      if (chunkLength == chunkSize) {
+        // skip the chunk if it was received by all targets already
+        if (receivedChunks != null && receivedChunks.get(chunkIndex)) {
+          chunkIndex++;
+          window.release();
+          continue;
+        }
+
+        var chunk = this.createChunk(null, chunkIndex++, chunkPosition, chunkLength, backingArray);
+        CHUNK_SEND_EXECUTOR.execute(() -> {
+          try {
+            this.packetSplitter.accept(chunk);
+            this.recordTransferredChunk(chunkLength);
+          } catch (Throwable throwable) {
+            sendFailure.compareAndSet(null, throwable);
+          } finally {
+            window.release();
+          }
+        });
+      } else {
+        // wait for all other chunks to be sent before sending the final chunk
+        window.acquire(this.inFlightChunks - 1);
+        if (sendFailure.get() != null) {
+          return TransferStatus.FAILURE;
+        }
+
+        try {
+          this.packetSplitter.accept(
+            this.createChunk(chunkIndex, chunkIndex, chunkPosition, chunkLength, backingArray));
+          this.recordTransferredChunk(chunkLength);
+        } catch (RuntimeException exception) {
+          return TransferStatus.FAILURE;
+        }
+
+        // successful transfer
+        this.expectedChunks = chunkIndex + 1;
+        return TransferStatus.SUCCESS;
+      }
+    }
+  }
+
+  /**
+   * Requests the indexes of the chunks which were received by all targets of this transfer. This is only possible if
+   * the packets are sent to the targets using a network channel packet splitter, an empty set is returned otherwise or
+   * if a target didn't respond to the request in time. Null is returned if one of the target channels didn't announce
+   * that it supports resume requests, in which case the transfer cannot be resumed.
+   *
+   * @return the indexes of the chunks which were received by all targets, null if the transfer cannot be resumed.
+   */
+  protected @Nullable BitSet requestReceivedChunks() {
+    if (!(this.packetSplitter instanceof NetworkChannelsPacketSplitter splitter)) {
+      return new BitSet();
+    }
+
+    // older components would handle the request as a chunk of the transfer
+    if (!splitter.channels().stream().allMatch(NetworkChannel::resumableChunks)) {
+      return null;
+    }
+
+    BitSet receivedChunks = null;
+    for (var channel : splitter.channels()) {
+      // acquire the transfer information once before writing it into the request
+      this.chunkSessionInformation.transferInformation().acquire();
+      var response = channel
+        .sendQueryAsync(ChunkedPacket.createResumeRequest(this.chunkSessionInformation))
+        .get(RESUME_REQUEST_TIMEOUT_SECONDS, TimeUnit.SECONDS, null);
+      if (response == null) {
+        return new BitSet();
+      }
+
+      // only chunks which were received by all targets can be skipped
+      var channelChunks = BitSet.valueOf(response.content().readByteArray());
+      if (receivedChunks == null) {
+        receivedChunks = channelChunks;
+      } else {
+        receivedChunks.and(channelChunks);
+      }
+    }
+
+    return receivedChunks == null ? new BitSet() : receivedChunks;
+  }
+
+  /**
+   * Reads the chunk at the given position from the source. If the source is backed by a file channel this method only
+   * calculates the length of the chunk, the content is read directly into the packet buffer later.
+   *
+   * @param position     the position of the chunk in the source.
+   * @param backingArray the array to read the chunk content into, if the source is not backed by a file channel.
+   * @return the amount of bytes in the chunk, less than the chunk size if this chunk is the final chunk.
+   * @throws IOException          if an i/o error occurs while reading from the source.
+   * @throws NullPointerException if the given backing array is null.
+   */
+  protected int readChunk(long position, byte @NonNull [] backingArray) throws IOException {
+    if (this.sourceChannel != null) {
+      var remaining = Math.max(0, this.sourceChannel.size() - position);
+      return (int) Math.min(remaining, this.chunkSessionInformation.chunkSize());
+    } else {
+      return this.source.readNBytes(backingArray, 0, backingArray.length);
+    }
+  }
+
+  /**
+   * Creates the chunk packet for the chunk at the given position.
+   *
+   * @param chunkAmount  the amount of chunks in the transfer, null if the chunk is not the final chunk.
+   * @param chunkIndex   the index of the chunk.
+   * @param position     the position of the chunk in the source.
+   * @param length       the amount of bytes in the chunk.
+   * @param backingArray the array holding the chunk content, if the source is not backed by a file channel.
+   * @return the created chunk packet.
+   * @throws IOException          if an i/o error occurs while reading the chunk from the source channel.
+   * @throws NullPointerException if the given backing array is null.
+   */
+  protected @NonNull ChunkedPacket createChunk(
+    @Nullable Integer chunkAmount,
+    int chunkIndex,
+    long position,
+    int length,
+    byte @NonNull [] backingArray
+  ) throws IOException {
+    // acquire the transfer information once before writing the data of the chunk
+    this.chunkSessionInformation.transferInformation().acquire();
+    if (this.sourceChannel != null) {
+      return ChunkedPacket.createChunk(
+        this.chunkSessionInformation,
+        chunkAmount,
+        chunkIndex,
+        this.sourceChannel,
+        position,
+        length);
+    } else {
+      // the content is copied into the packet buffer, the backing array can be re-used for the next chunk
+      return ChunkedPacket.createChunk(this.chunkSessionInformation, chunkAmount, chunkIndex, length, backingArray);
+    }
+  }
 }
@@ -23,29 +23,34 @@
 import eu.cloudnetservice.driver.network.chunk.TransferStatus;
 import eu.cloudnetservice.driver.network.chunk.data.ChunkSessionInformation;
 import java.io.IOException;
-import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.BitSet;
+import java.util.zip.CRC32C;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * Represents a handler for a chunked packet transfer which transfers a file.
+ * <p>
+ * Chunks are written directly from the packet buffer into the target file using positional writes, therefore chunks
+ * can be written concurrently and in any order. The written data is only forced to the storage device once, when the
+ * last chunk of the transfer was written. Each chunk is validated against the checksum sent with it (if the sender sent
+ * one), chunks which fail the validation are not recorded as received and must be sent again by the sender, for
+ * example by resuming the transfer.
  *
  * @since 4.0
  */
 public class DefaultFileChunkedPacketHandler extends DefaultChunkedPacketProvider implements ChunkedPacketHandler {
 
   protected final Path tempFilePath;
-  protected final RandomAccessFile targetFile;
+  protected final FileChannel targetFile;
   protected final Callback writeCompleteHandler;
-  protected final Lock lock = new ReentrantLock(true);
+  protected final BitSet writtenFileParts = new BitSet();
 
-  protected int writtenFileParts = -1;
-  protected Integer expectedFileParts;
+  protected volatile int expectedFileParts = -1;
 
   /**
    * Creates the session handler initially. Sessions should be manged by some sort of handler which is responsible for
@@ -81,16 +86,11 @@ public DefaultFileChunkedPacketHandler(
     // general information
     this.tempFilePath = tempFilePath;
     this.writeCompleteHandler = completeHandler;
-    // open the temp file raf access
+    // open the temp file channel, creating the file if needed
     try {
-      // create the file
-      if (Files.notExists(tempFilePath)) {
-        Files.createFile(tempFilePath);
-      }
-      // open the file
-      this.targetFile = new RandomAccessFile(this.tempFilePath.toFile(), "rwd");
+      this.targetFile = FileChannel.open(tempFilePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
     } catch (IOException exception) {
-      throw new AssertionError("Unable to open raf to temp file, this should not happen", exception);
+      throw new AssertionError("Unable to open channel to temp file, this should not happen", exception);
     }
   }
 
@@ -109,18 +109,19 @@ public boolean handleChunkPart(int chunkPosition, @NonNull DataBuf dataBuf) {
     var isFinalPacket = dataBuf.readBoolean();
     if (isFinalPacket) {
       this.expectedFileParts = dataBuf.readInt();
+      this.expectedChunks = this.expectedFileParts + 1;
     }
     // execute the write operation with the content of the packet
     try {
-      // we can only perform one write operation at a time
-      this.lock.lock();
-      // execute
-      this.writePacketContent(chunkPosition, dataBuf);
-      // update the data transfer status
-      this.updateStatus();
-      // check if the expected ending is reached
-      if (this.transferStatus == TransferStatus.SUCCESS) {
-        // the file was written completely
+      // execute, positional writes allow multiple chunks to be written at the same time. If the chunk content is
+      // corrupted it's not recorded as written and the sender needs to send it again
+      if (!this.writePacketContent(chunkPosition, dataBuf)) {
+        return false;
+      }
+      // update the data transfer status and check if the expected ending was reached by this write
+      if (this.updateStatus()) {
+        // the file was written completely, flush it to the disk once and close it
+        this.targetFile.force(true);
         this.targetFile.close();
         // post the result to the complete handler
         if (this.writeCompleteHandler == null) {
@@ -137,9 +138,8 @@ public boolean handleChunkPart(int chunkPosition, @NonNull DataBuf dataBuf) {
       return false;
     } catch (IOException exception) {
       this.transferStatus = TransferStatus.FAILURE;
+      this.closeTargetFile();
       throw new IllegalStateException("Unexpected exception handling chunk part", exception);
-    } finally {
-      this.lock.unlock();
     }
   }
 
@@ -152,22 +152,73 @@ public boolean handleChunkPart(int chunkPosition, @NonNull DataBuf dataBuf) {
   }
 
   /**
-   * Writes the content of a chunk part to the backing file, increasing the amount of written bytes by one.
+   * {@inheritDoc}
+   */
+  @Override
+  public synchronized @NonNull BitSet receivedChunks() {
+    return (BitSet) this.writtenFileParts.clone();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void abort() {
+    synchronized (this) {
+      // the temp file is owned by someone else once the transfer completed
+      if (this.transferStatus == TransferStatus.SUCCESS) {
+        return;
+      }
+
+      this.transferStatus = TransferStatus.FAILURE;
+    }
+
+    this.closeTargetFile();
+    FileUtil.delete(this.tempFilePath);
+  }
+
+  /**
+   * Writes the content of a chunk part to the backing file and records the chunk as written if the content matches the
+   * checksum sent with the chunk. Chunks of senders which don't send a checksum are recorded without validation.
    *
    * @param chunkPosition the index of the chunk to write.
-   * @param dataBuf       the buf transferred to this handler, the next content should be the actual chunk data.
+   * @param dataBuf       the buf transferred to this handler, the next content should be the chunk content.
+   * @return true if the chunk content was valid and recorded as written, false otherwise.
    * @throws IOException          if an i/o error occurs during the chunk write.
    * @throws NullPointerException if the given buffer is null.
    */
-  protected void writePacketContent(int chunkPosition, @NonNull DataBuf dataBuf) throws IOException {
-    // calculate the index of to which we need to sink in order to write
-    var targetIndex = chunkPosition * this.chunkSessionInformation.chunkSize();
-    // sink to the index of the chunk position we need to write to
-    this.targetFile.seek(targetIndex);
-    // write the content into the file at the current offset we sunk to
-    this.targetFile.write(dataBuf.readByteArray());
-    // notify our index about the write operation
-    this.writtenFileParts++;
+  protected boolean writePacketContent(int chunkPosition, @NonNull DataBuf dataBuf) throws IOException {
+    // calculate the index to which we need to write
+    var targetIndex = (long) chunkPosition * this.chunkSessionInformation.chunkSize();
+    // write the content into the file at the target index, without copying the chunk into an array first
+    var checksum = new CRC32C();
+    var chunkLength = dataBuf.readByteArray(this.targetFile, targetIndex, checksum);
+    // the checksum follows the content, older senders are not sending it
+    if (dataBuf.readableBytes() >= Integer.BYTES && dataBuf.readInt() != (int) checksum.getValue()) {
+      return false;
+    }
+
+    // notify our index about the write operation, ignore chunks which were received before (for example on resume)
+    synchronized (this) {
+      if (this.writtenFileParts.get(chunkPosition)) {
+        return true;
+      }
+
+      this.writtenFileParts.set(chunkPosition);
+    }
+
+    this.recordTransferredChunk(chunkLength);
+    return true;
+  }
+
+  /**
+   * Closes the target file channel, ignoring all exceptions during the close.
+   */
+  protected void closeTargetFile() {
+    try {
+      this.targetFile.close();
+    } catch (IOException ignored) {
+    }
   }
 
   /**
@@ -175,16 +226,21 @@ protected void writePacketContent(int chunkPosition, @NonNull DataBuf dataBuf) t
    * <ol>
    *   <li>The current status is {@code RUNNING}.
    *   <li>The amount of chunk parts of the transfer is known.
-   *   <li>The amount of written chunk parts matches the amount of expected chunk parts.
+   *   <li>All chunk parts of the transfer were written.
    * </ol>
+   *
+   * @return true if the status was changed to completed by this call, false otherwise.
    */
-  protected void updateStatus() {
+  protected synchronized boolean updateStatus() {
     // we only need to update the status when the transfer is running but the whole content was written
     if (this.transferStatus == TransferStatus.RUNNING
-      && this.expectedFileParts != null
-      && this.expectedFileParts == this.writtenFileParts
+      && this.expectedFileParts != -1
+      && this.expectedFileParts + 1 == this.writtenFileParts.cardinality()
     ) {
       this.transferStatus = TransferStatus.SUCCESS;
+      return true;
     }
+
+    return false;
   }
 }
@@ -27,6 +27,7 @@
 import java.util.Collection;
 import java.util.UUID;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import lombok.NonNull;
 
 /**
@@ -101,6 +102,16 @@ public abstract class DefaultChunkedPacketSenderBuilder implements ChunkedPacket
     return this.packetSplitter(new NetworkChannelsPacketSplitter(channels));
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull ChunkedPacketSender.Builder toChannels(
+    @NonNull Supplier<? extends Collection<NetworkChannel>> channelResolver
+  ) {
+    return this.packetSplitter(new NetworkChannelsPacketSplitter(channelResolver));
+  }
+
   /**
    * {@inheritDoc}
    */
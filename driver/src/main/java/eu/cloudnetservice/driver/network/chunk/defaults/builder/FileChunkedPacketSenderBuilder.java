@@ -16,12 +16,16 @@
 
 package eu.cloudnetservice.driver.network.chunk.defaults.builder;
 
+import com.google.common.base.Preconditions;
 import eu.cloudnetservice.driver.network.chunk.ChunkedPacketSender;
 import eu.cloudnetservice.driver.network.chunk.data.ChunkSessionInformation;
 import eu.cloudnetservice.driver.network.chunk.defaults.DefaultFileChunkPacketSender;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import lombok.NonNull;
 
 /**
@@ -33,33 +37,87 @@
  */
 public class FileChunkedPacketSenderBuilder extends DefaultChunkedPacketSenderBuilder {
 
+  protected FileChannel sourceChannel;
+  protected int inFlightChunks = DefaultFileChunkPacketSender.DEFAULT_IN_FLIGHT_CHUNKS;
+  protected int resumeAttempts = DefaultFileChunkPacketSender.DEFAULT_RESUME_ATTEMPTS;
+
   /**
-   * Sets the file to transfer in the session. The file path must exist.
+   * Sets the file to transfer in the session. The file path must exist. The chunks of the file are read directly from
+   * the file into the packet buffers.
    *
    * @param path the path to the file to transfer.
    * @return the same builder instance as used to call the method, for chaining.
-   * @throws AssertionError       if an i/o error occurs while opening the file stream.
+   * @throws AssertionError       if an i/o error occurs while opening the file channel.
    * @throws NullPointerException if the given file path is null.
    */
   public @NonNull FileChunkedPacketSenderBuilder forFile(@NonNull Path path) {
     try {
-      this.source(Files.newInputStream(path));
+      var channel = FileChannel.open(path, StandardOpenOption.READ);
+      this.source(Channels.newInputStream(channel));
+      this.sourceChannel = channel;
       return this;
     } catch (IOException exception) {
-      throw new AssertionError("Unexpected exception opening file stream", exception);
+      throw new AssertionError("Unexpected exception opening file channel", exception);
     }
   }
 
+  /**
+   * Sets the maximum amount of chunks which are passed to the packet splitter concurrently. Defaults to the value of
+   * the {@code cloudnet.chunked-transfer.in-flight-chunks} system property, or 3 if not set. Each chunk in flight holds
+   * a buffer of the chunk size in memory.
+   *
+   * @param inFlightChunks the maximum amount of chunks to send concurrently.
+   * @return the same builder instance as used to call the method, for chaining.
+   * @throws IllegalArgumentException if the given amount of chunks is less than one.
+   */
+  public @NonNull FileChunkedPacketSenderBuilder inFlightChunks(int inFlightChunks) {
+    Preconditions.checkArgument(inFlightChunks > 0, "in flight chunks must be more than 0");
+    this.inFlightChunks = inFlightChunks;
+    return this;
+  }
+
+  /**
+   * Sets the amount of times a failed transfer of a file given via {@link #forFile(Path)} is resumed, only sending the
+   * chunks which weren't received by the targets yet. Defaults to the value of the
+   * {@code cloudnet.chunked-transfer.resume-attempts} system property, or 3 if not set. Transfers from a stream cannot
+   * be resumed.
+   *
+   * @param resumeAttempts the amount of times to resume a failed transfer, 0 to not resume failed transfers.
+   * @return the same builder instance as used to call the method, for chaining.
+   * @throws IllegalArgumentException if the given amount of attempts is negative.
+   */
+  public @NonNull FileChunkedPacketSenderBuilder resumeAttempts(int resumeAttempts) {
+    Preconditions.checkArgument(resumeAttempts >= 0, "resume attempts must not be negative");
+    this.resumeAttempts = resumeAttempts;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull ChunkedPacketSender.Builder source(@NonNull InputStream source) {
+    // a stream given explicitly replaces the channel given by a previous file call
+    this.sourceChannel = null;
+    return super.source(source);
+  }
+
   /**
    * {@inheritDoc}
    */
   @Override
   protected @NonNull ChunkedPacketSender doBuild() {
-    return new DefaultFileChunkPacketSender(new ChunkSessionInformation(
+    var sessionInformation = new ChunkSessionInformation(
       this.chunkSize,
       this.sessionUniqueId,
       this.transferChannel,
-      this.transferInformation
-    ), this.source, this.packetSplitter);
+      this.transferInformation);
+    return new DefaultFileChunkPacketSender(
+      sessionInformation,
+      this.source,
+      this.sourceChannel,
+      this.inFlightChunks,
+      this.resumeAttempts,
+      this.packetSplitter);
   }
 }
@@ -19,15 +19,64 @@
 import eu.cloudnetservice.driver.network.NetworkChannel;
 import eu.cloudnetservice.driver.network.protocol.Packet;
 import java.util.Collection;
+import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import lombok.NonNull;
 
 /**
  * A default implementation of a chunked packet splitter, splitting each packet chunk to multiple channels.
+ * <p>
+ * The target channels can be given as a resolver, which allows a resumed transfer to resolve the channels to the
+ * targets again, for example after a target reconnected through a new channel.
  *
  * @since 4.0
  */
-public record NetworkChannelsPacketSplitter(@NonNull Collection<NetworkChannel> channels) implements Consumer<Packet> {
+public final class NetworkChannelsPacketSplitter implements Consumer<Packet> {
+
+  private final Supplier<? extends Collection<NetworkChannel>> channelResolver;
+  private volatile Collection<NetworkChannel> channels;
+
+  /**
+   * Constructs a new splitter which always sends the packets to the given channels.
+   *
+   * @param channels the channels to send the packets to.
+   * @throws NullPointerException if the given channel collection is null.
+   */
+  public NetworkChannelsPacketSplitter(@NonNull Collection<NetworkChannel> channels) {
+    this.channelResolver = () -> channels;
+    this.channels = List.copyOf(channels);
+  }
+
+  /**
+   * Constructs a new splitter which sends the packets to the channels returned by the given resolver. The resolver is
+   * called once initially and each time the channels are resolved again using {@link #resolveChannels()}.
+   *
+   * @param channelResolver the resolver for the channels to send the packets to.
+   * @throws NullPointerException if the given resolver is null.
+   */
+  public NetworkChannelsPacketSplitter(@NonNull Supplier<? extends Collection<NetworkChannel>> channelResolver) {
+    this.channelResolver = channelResolver;
+    this.channels = List.copyOf(channelResolver.get());
+  }
+
+  /**
+   * Get the channels the packets are currently sent to.
+   *
+   * @return the channels the packets are currently sent to.
+   */
+  public @NonNull Collection<NetworkChannel> channels() {
+    return this.channels;
+  }
+
+  /**
+   * Resolves the channels to send the packets to again, replacing the current channels of this splitter.
+   *
+   * @return the newly resolved channels the packets will be sent to.
+   */
+  public @NonNull Collection<NetworkChannel> resolveChannels() {
+    return this.channels = List.copyOf(this.channelResolver.get());
+  }
 
   /**
    * Sends the given packet safely to all listening components of the chunked data transfer.
@@ -20,12 +20,23 @@
 import eu.cloudnetservice.driver.network.chunk.data.ChunkSessionInformation;
 import eu.cloudnetservice.driver.network.def.NetworkConstants;
 import eu.cloudnetservice.driver.network.protocol.BasePacket;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.util.zip.CRC32C;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * A chunked packet which gets transferred from the sender to the target each time holding necessary information for
  * packet processing on the other side.
+ * <p>
+ * A chunk packet contains the session information, the chunk index, the final chunk flag (followed by the chunk amount
+ * if set), the content of the chunk and the CRC32C checksum of the content. The checksum is written after the content,
+ * components which are not aware of it ignore it, and chunks without a checksum are accepted without validation.
+ * <p>
+ * Resume requests on the other hand would be handled as a chunk by older components, they must only be sent through
+ * channels of which the remote component announced that it supports them, see {@link
+ * eu.cloudnetservice.driver.network.NetworkChannel#resumableChunks()}.
  *
  * @since 4.0
  */
@@ -96,6 +107,64 @@ public ChunkedPacket(@NonNull DataBuf dataBuf) {
       dataBuf.writeInt(chunkAmount);
     }
     // write the actual content of the chunk
-    return new ChunkedPacket(dataBuf.writeByteArray(data, dataLength));
+    dataBuf.writeByteArray(data, dataLength);
+    // write the checksum of the chunk content, allowing the receiver to validate the content
+    var checksum = new CRC32C();
+    checksum.update(data, 0, dataLength);
+    return new ChunkedPacket(dataBuf.writeInt((int) checksum.getValue()));
+  }
+
+  /**
+   * Creates a new chunk part based on the given information, reading the chunk content directly from the given file
+   * channel into the packet buffer. The resulting packet has the same format as the packets created by
+   * {@link #createChunk(ChunkSessionInformation, Integer, int, int, byte[])}.
+   *
+   * @param information the session information this chunk belongs to.
+   * @param chunkAmount the amount of chunks of the transfer, null if this chunk is not the final chunk.
+   * @param chunkIndex  the index of the written chunk.
+   * @param source      the file channel to read the chunk content from.
+   * @param position    the position in the source file at which the chunk content starts.
+   * @param dataLength  the amount of bytes in the current packet chunk.
+   * @return the created chunk packet based on the information.
+   * @throws IOException          if an i/o error occurs while reading the chunk content.
+   * @throws NullPointerException if the given chunk information or source channel is null.
+   */
+  public static @NonNull ChunkedPacket createChunk(
+    @NonNull ChunkSessionInformation information,
+    @Nullable Integer chunkAmount,
+    int chunkIndex,
+    @NonNull FileChannel source,
+    long position,
+    int dataLength
+  ) throws IOException {
+    var dataBuf = DataBuf.empty()
+      .writeObject(information)
+      .writeInt(chunkIndex)
+      .writeBoolean(chunkAmount != null);
+    if (chunkAmount != null) {
+      dataBuf.writeInt(chunkAmount);
+    }
+
+    // map the chunk region to calculate the checksum without copying the content onto the heap
+    var checksum = new CRC32C();
+    if (dataLength > 0) {
+      checksum.update(source.map(FileChannel.MapMode.READ_ONLY, position, dataLength));
+    }
+
+    dataBuf.writeByteArray(source, position, dataLength);
+    return new ChunkedPacket(dataBuf.writeInt((int) checksum.getValue()));
+  }
+
+  /**
+   * Creates a new resume request for the given chunked session. The request must be sent as a query, the receiver
+   * responds with the indexes of all chunks it received and validated successfully for the session, encoded as a byte
+   * array of a bit set. An empty byte array is returned if the receiver doesn't know the session.
+   *
+   * @param information the session information of the session to resume.
+   * @return the created resume request packet.
+   * @throws NullPointerException if the given session information is null.
+   */
+  public static @NonNull ChunkedPacket createResumeRequest(@NonNull ChunkSessionInformation information) {
+    return new ChunkedPacket(DataBuf.empty().writeObject(information));
   }
 }
@@ -16,25 +16,51 @@
 
 package eu.cloudnetservice.driver.network.chunk.network;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import eu.cloudnetservice.driver.event.EventManager;
+import eu.cloudnetservice.driver.event.events.chunk.ChunkedPacketSessionProgressEvent;
 import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.network.chunk.ChunkedPacketHandler;
+import eu.cloudnetservice.driver.network.chunk.TransferStatus;
 import eu.cloudnetservice.driver.network.chunk.data.ChunkSessionInformation;
 import eu.cloudnetservice.driver.network.protocol.Packet;
 import eu.cloudnetservice.driver.network.protocol.PacketListener;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.time.Duration;
 import java.util.function.Function;
 import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
- * A listener for chunked packets, opening the chunked pocket sessions.
+ * A listener for chunked packets, opening the chunked pocket sessions. Chunked packets sent as a query are resume
+ * requests, which are answered with the indexes of the chunks the session received so far.
+ * <p>
+ * The running sessions are bound to the listener instance, a listener registered to multiple channels allows a sender
+ * to resume a session through another channel after a reconnect. Sessions which failed, or which didn't receive a chunk
+ * or resume request for {@link #SESSION_TIMEOUT_MINUTES} minutes, are aborted and removed.
  *
  * @since 4.0
  */
 public class ChunkedPacketListener implements PacketListener {
 
+  public static final long SESSION_TIMEOUT_MINUTES = Long.getLong("cloudnet.chunked-transfer.session-timeout", 10);
+
   private final Function<ChunkSessionInformation, ChunkedPacketHandler> handlerFactory;
-  private final Map<ChunkSessionInformation, ChunkedPacketHandler> runningSessions = new ConcurrentHashMap<>();
+  private final Cache<ChunkSessionInformation, ChunkedPacketHandler> runningSessions = Caffeine.newBuilder()
+    .expireAfterAccess(Duration.ofMinutes(SESSION_TIMEOUT_MINUTES))
+    .scheduler(Scheduler.systemScheduler())
+    .removalListener((ChunkSessionInformation $, ChunkedPacketHandler handler, RemovalCause cause) -> {
+      // sessions which are removed explicitly are either completed or aborted already
+      if (handler != null && cause.wasEvicted()) {
+        handler.abort();
+      }
+    })
+    .build();
+
+  private final EventManager eventManager;
 
   /**
    * Creates a new packet listener instance.
@@ -43,7 +69,22 @@ public class ChunkedPacketListener implements PacketListener {
    * @throws NullPointerException if the given factory is null.
    */
   public ChunkedPacketListener(@NonNull Function<ChunkSessionInformation, ChunkedPacketHandler> handlerFactory) {
+    this(handlerFactory, null);
+  }
+
+  /**
+   * Creates a new packet listener instance which calls a progress event for every handled chunk.
+   *
+   * @param handlerFactory the factory to create the chunked packet handlers when receiving the initial request.
+   * @param eventManager   the event manager to call the progress events in, null to not call progress events.
+   * @throws NullPointerException if the given factory is null.
+   */
+  public ChunkedPacketListener(
+    @NonNull Function<ChunkSessionInformation, ChunkedPacketHandler> handlerFactory,
+    @Nullable EventManager eventManager
+  ) {
     this.handlerFactory = handlerFactory;
+    this.eventManager = eventManager;
   }
 
   /**
@@ -53,14 +94,49 @@ public ChunkedPacketListener(@NonNull Function<ChunkSessionInformation, ChunkedP
   public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) throws Exception {
     // read the chunk information from the buffer
     var information = packet.content().readObject(ChunkSessionInformation.class);
+    // check if the packet is a resume request of the sender
+    if (packet.uniqueId() != null) {
+      var session = this.runningSessions.getIfPresent(information);
+      var receivedChunks = session == null ? new byte[0] : session.receivedChunks().toByteArray();
+      channel.sendPacket(packet.constructResponse(DataBuf.empty().writeByteArray(receivedChunks)));
+      return;
+    }
     // read the chunk index
     var chunkIndex = packet.content().readInt();
     // get or create the session associated with the packet
-    var handler = this.runningSessions.computeIfAbsent(information, this.handlerFactory);
+    var handler = this.runningSessions.get(information, this.handlerFactory);
     // post the packet and check if the session is done
-    if (handler.handleChunkPart(chunkIndex, packet.content())) {
+    boolean completed;
+    try {
+      completed = handler.handleChunkPart(chunkIndex, packet.content());
+    } catch (Exception exception) {
+      // the session is unable to recover from an unexpected exception
+      this.abortSession(information, handler);
+      throw exception;
+    }
+
+    if (completed) {
       // done, remove the session
-      this.runningSessions.remove(information);
+      this.runningSessions.asMap().remove(information, handler);
+    } else if (handler.transferStatus() == TransferStatus.FAILURE) {
+      // the session failed and will not accept any further chunks
+      this.abortSession(information, handler);
     }
+    // notify the listeners about the progress of the transfer
+    if (this.eventManager != null && this.eventManager.hasListeners(ChunkedPacketSessionProgressEvent.class)) {
+      this.eventManager.callEvent(new ChunkedPacketSessionProgressEvent(handler, handler.transferProgress()));
+    }
+  }
+
+  /**
+   * Removes the given session handler from the running sessions and aborts it.
+   *
+   * @param information the information of the session to abort.
+   * @param handler     the handler of the session to abort.
+   * @throws NullPointerException if the given information or handler is null.
+   */
+  private void abortSession(@NonNull ChunkSessionInformation information, @NonNull ChunkedPacketHandler handler) {
+    this.runningSessions.asMap().remove(information, handler);
+    handler.abort();
   }
 }
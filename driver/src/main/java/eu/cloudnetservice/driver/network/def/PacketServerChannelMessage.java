@@ -18,6 +18,7 @@
 
 import eu.cloudnetservice.driver.channel.ChannelMessage;
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
 import eu.cloudnetservice.driver.network.protocol.BasePacket;
 import lombok.NonNull;
 
@@ -41,6 +42,18 @@ public PacketServerChannelMessage(@NonNull ChannelMessage message, boolean wrapp
     super(
       NetworkConstants.CHANNEL_MESSAGING_CHANNEL,
       message.prioritized(),
-      DataBuf.empty().writeBoolean(wrapper).writeObject(message));
+      DataBufFactory.defaultFactory().createEmpty(message.channel()).writeBoolean(wrapper).writeObject(message));
+  }
+
+  /**
+   * Constructs a new channel message packet instance from the content of an already serialized channel message packet.
+   * This allows sending a channel message to multiple components while only serializing it once.
+   *
+   * @param content     the content of a serialized channel message packet.
+   * @param prioritized if the channel message is prioritized.
+   * @throws NullPointerException if the given content is null.
+   */
+  public PacketServerChannelMessage(@NonNull DataBuf content, boolean prioritized) {
+    super(NetworkConstants.CHANNEL_MESSAGING_CHANNEL, prioritized, content);
   }
 }
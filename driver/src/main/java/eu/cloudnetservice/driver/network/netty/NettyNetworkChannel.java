@@ -16,6 +16,7 @@
 
 package eu.cloudnetservice.driver.network.netty;
 
+import eu.cloudnetservice.common.concurrent.Task;
 import eu.cloudnetservice.driver.event.EventManager;
 import eu.cloudnetservice.driver.event.events.network.NetworkChannelPacketSendEvent;
 import eu.cloudnetservice.driver.network.DefaultNetworkChannel;
@@ -26,20 +27,33 @@
 import eu.cloudnetservice.driver.network.protocol.PacketListenerRegistry;
 import io.netty5.channel.Channel;
 import io.netty5.util.concurrent.Future;
+import java.util.ArrayList;
 import lombok.NonNull;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * The default netty based implementation of a network channel.
+ * <p>
+ * When write batching is enabled using the {@code cloudnet.network.batch-writes} system property, packets sent using
+ * {@link #sendPacket(Packet)} or {@link #sendPacket(Packet...)} are queued and written on the event loop of the
+ * channel, flushing once per drain or once {@code cloudnet.network.batch-max-packets} packets or
+ * {@code cloudnet.network.batch-max-bytes} content bytes were written. Packets sent synchronously or asynchronously are
+ * queued as well and the caller is notified once the packet was written, which keeps all packets in the order in which
+ * they were sent.
  *
  * @since 4.0
  */
 @ApiStatus.Internal
 public final class NettyNetworkChannel extends DefaultNetworkChannel implements NetworkChannel {
 
+  private static final boolean BATCH_WRITES = Boolean.getBoolean("cloudnet.network.batch-writes");
+  private static final int BATCH_MAX_PACKETS = Integer.getInteger("cloudnet.network.batch-max-packets", 64);
+  private static final long BATCH_MAX_BYTES = Long.getLong("cloudnet.network.batch-max-bytes", 64 * 1024);
+
   private final Channel channel;
   private final EventManager eventManager;
+  private final NettyPacketWriteBatcher writeBatcher;
 
   /**
    * Constructs a new netty network channel instance.
@@ -65,6 +79,17 @@ public NettyNetworkChannel(
     super(packetRegistry, serverAddress, clientAddress, clientProvidedChannel, handler);
     this.channel = channel;
     this.eventManager = eventManager;
+
+    // only construct the write batcher if batching is actually enabled
+    if (BATCH_WRITES) {
+      this.writeBatcher = new NettyPacketWriteBatcher(
+        channel,
+        packet -> this.writePacket(packet, false),
+        BATCH_MAX_PACKETS,
+        BATCH_MAX_BYTES);
+    } else {
+      this.writeBatcher = null;
+    }
   }
 
   /**
@@ -72,6 +97,13 @@ public NettyNetworkChannel(
    */
   @Override
   public void sendPacket(@NonNull Packet... packets) {
+    if (this.writeBatcher != null) {
+      for (var packet : packets) {
+        this.writeBatcher.enqueue(packet);
+      }
+      return;
+    }
+
     for (var packet : packets) {
       this.writePacket(packet, false);
     }
@@ -83,6 +115,17 @@ public void sendPacket(@NonNull Packet... packets) {
    */
   @Override
   public void sendPacketSync(@NonNull Packet... packets) {
+    if (this.writeBatcher != null && !this.channel.executor().inEventLoop()) {
+      // enqueue all packets before waiting for the first write, allowing them to be written in one drain
+      var results = new ArrayList<Task<Void>>(packets.length);
+      for (var packet : packets) {
+        results.add(this.writeBatcher.enqueueTracked(packet));
+      }
+      results.forEach(Task::join);
+      return;
+    }
+
+    this.drainPendingPackets();
     for (var packet : packets) {
       var future = this.writePacket(packet, false);
       if (future != null) {
@@ -97,18 +140,45 @@ public void sendPacketSync(@NonNull Packet... packets) {
    */
   @Override
   public void sendPacket(@NonNull Packet packet) {
-    if (this.channel.executor().inEventLoop()) {
+    if (this.writeBatcher != null) {
+      this.writeBatcher.enqueue(packet);
+    } else if (this.channel.executor().inEventLoop()) {
       this.writePacket(packet, true);
     } else {
       this.channel.executor().execute(() -> this.writePacket(packet, true));
     }
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Task<Void> sendPacketAsync(@NonNull Packet packet) {
+    if (this.writeBatcher != null) {
+      return this.writeBatcher.enqueueTracked(packet);
+    }
+
+    Task<Void> result = new Task<>();
+    if (this.channel.executor().inEventLoop()) {
+      this.writePacketInto(packet, result);
+    } else {
+      this.channel.executor().execute(() -> this.writePacketInto(packet, result));
+    }
+    return result;
+  }
+
   /**
    * {@inheritDoc}
    */
   @Override
   public void sendPacketSync(@NonNull Packet packet) {
+    if (this.writeBatcher != null && !this.channel.executor().inEventLoop()) {
+      // queue the packet behind the pending packets instead of overtaking them
+      this.writeBatcher.enqueueTracked(packet).join();
+      return;
+    }
+
+    this.drainPendingPackets();
     var future = this.writePacket(packet, true);
     if (future != null) {
       NettyUtil.awaitFuture(future);
@@ -139,9 +209,53 @@ public void close() {
     this.channel.close();
   }
 
+  /**
+   * Get the write batcher of this channel, null if write batching is disabled. The batcher can be used to obtain
+   * statistics about the amount of packets written per flush.
+   *
+   * @return the write batcher of this channel, null if write batching is disabled.
+   */
+  public @Nullable NettyPacketWriteBatcher writeBatcher() {
+    return this.writeBatcher;
+  }
+
+  /**
+   * Writes all packets which are pending in the write batcher into the channel, if write batching is enabled. This is
+   * required before writing a packet directly on the event loop, waiting for the batcher to drain the packet would
+   * block the event loop which is responsible for draining it.
+   */
+  private void drainPendingPackets() {
+    if (this.writeBatcher != null) {
+      this.writeBatcher.drainNow();
+    }
+  }
+
+  /**
+   * Writes and flushes the given packet into the channel, completing the given task once the write operation is done.
+   *
+   * @param packet the packet to write.
+   * @param result the task to complete once the write operation is done.
+   * @throws NullPointerException if the given packet or task is null.
+   */
+  private void writePacketInto(@NonNull Packet packet, @NonNull Task<Void> result) {
+    var future = this.writePacket(packet, true);
+    if (future == null) {
+      // the send event was cancelled, there is nothing to wait for
+      result.complete(null);
+    } else {
+      future.addListener(writeFuture -> {
+        if (writeFuture.isSuccess()) {
+          result.complete(null);
+        } else {
+          result.completeExceptionally(writeFuture.cause());
+        }
+      });
+    }
+  }
+
   /**
    * Writes the given packet into the channel, calling the packet send event beforehand and not writing when the event
-   * gets cancelled by a module/plugin.
+   * gets cancelled by a module/plugin. The event is not constructed at all if nobody is listening to it.
    *
    * @param packet     the packet to write if the send operation is not cancelled.
    * @param flushAfter if the send queue should be flushed directly after the write process.
@@ -149,8 +263,8 @@ public void close() {
    * @throws NullPointerException if the given packet is null.
    */
   private @Nullable Future<Void> writePacket(@NonNull Packet packet, boolean flushAfter) {
-    var event = this.eventManager.callEvent(new NetworkChannelPacketSendEvent(this, packet));
-    if (!event.cancelled()) {
+    if (!this.eventManager.hasListeners(NetworkChannelPacketSendEvent.class)
+      || !this.eventManager.callEvent(new NetworkChannelPacketSendEvent(this, packet)).cancelled()) {
       return flushAfter ? this.channel.writeAndFlush(packet) : this.channel.write(packet);
     } else {
       return null;
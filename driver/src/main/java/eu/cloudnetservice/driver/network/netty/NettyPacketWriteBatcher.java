@@ -0,0 +1,243 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.netty;
+
+import eu.cloudnetservice.common.concurrent.Task;
+import eu.cloudnetservice.driver.network.protocol.Packet;
+import io.netty5.channel.Channel;
+import io.netty5.util.concurrent.Future;
+import java.nio.channels.ClosedChannelException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A per-channel queue of packets which are written in batches. Packets can be enqueued from any thread and are drained
+ * on the event loop of the channel, flushing the channel once per drain or once one of the configured thresholds was
+ * reached. This reduces the amount of write syscalls when many packets are sent in a short period of time. There is no
+ * flush timer, each drain flushes all packets it wrote before returning. Packets which are still pending when the
+ * channel gets closed are released without being written.
+ * <p>
+ * The result of the write of a single packet can be tracked by enqueuing it using {@link #enqueueTracked(Packet)}, the
+ * returned task is completed once the packet was written and flushed or the write failed.
+ *
+ * @since 4.0
+ */
+@ApiStatus.Internal
+public final class NettyPacketWriteBatcher {
+
+  private final Channel channel;
+  private final Function<Packet, Future<Void>> packetWriter;
+
+  private final int maxPacketsPerFlush;
+  private final long maxBytesPerFlush;
+
+  private final Queue<PendingWrite> pendingWrites = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+  // flush statistics
+  private final LongAdder flushCount = new LongAdder();
+  private final LongAdder flushedPacketCount = new LongAdder();
+
+  /**
+   * Constructs a new write batcher instance.
+   *
+   * @param channel            the channel to write the packets to.
+   * @param packetWriter       the writer for a single packet, returning the write future or null if not written.
+   * @param maxPacketsPerFlush the maximum amount of packets to write before flushing the channel.
+   * @param maxBytesPerFlush   the maximum amount of content bytes to write before flushing the channel.
+   * @throws NullPointerException if the given channel or packet writer is null.
+   */
+  public NettyPacketWriteBatcher(
+    @NonNull Channel channel,
+    @NonNull Function<Packet, Future<Void>> packetWriter,
+    int maxPacketsPerFlush,
+    long maxBytesPerFlush
+  ) {
+    this.channel = channel;
+    this.packetWriter = packetWriter;
+    this.maxPacketsPerFlush = maxPacketsPerFlush;
+    this.maxBytesPerFlush = maxBytesPerFlush;
+  }
+
+  /**
+   * Enqueues the given packet for writing, scheduling a drain of the queue on the event loop of the channel if there is
+   * no drain scheduled yet.
+   *
+   * @param packet the packet to enqueue.
+   * @throws NullPointerException if the given packet is null.
+   */
+  public void enqueue(@NonNull Packet packet) {
+    this.enqueue(new PendingWrite(packet, null));
+  }
+
+  /**
+   * Enqueues the given packet for writing like {@link #enqueue(Packet)}, returning a task which is completed once the
+   * packet was written into the channel. The task is completed exceptionally if the write failed or the channel was
+   * closed before the packet was written, and completed with null if the packet was not written as the send event was
+   * cancelled.
+   *
+   * @param packet the packet to enqueue.
+   * @return a task completed once the write of the given packet is done.
+   * @throws NullPointerException if the given packet is null.
+   */
+  public @NonNull Task<Void> enqueueTracked(@NonNull Packet packet) {
+    Task<Void> result = new Task<>();
+    this.enqueue(new PendingWrite(packet, result));
+    return result;
+  }
+
+  /**
+   * Writes all pending packets into the channel right away. This method must be called on the event loop of the channel
+   * and allows to write a packet directly into the channel without overtaking the pending packets.
+   */
+  public void drainNow() {
+    this.drain();
+  }
+
+  /**
+   * Get the amount of flushes that were done by this batcher.
+   *
+   * @return the amount of flushes done by this batcher.
+   */
+  public long flushCount() {
+    return this.flushCount.sum();
+  }
+
+  /**
+   * Get the amount of packets that were flushed by this batcher.
+   *
+   * @return the amount of packets flushed by this batcher.
+   */
+  public long flushedPacketCount() {
+    return this.flushedPacketCount.sum();
+  }
+
+  /**
+   * Get the average amount of packets that were written into the channel per flush.
+   *
+   * @return the average amount of packets per flush, 0 if no flush was done yet.
+   */
+  public double averagePacketsPerFlush() {
+    var flushes = this.flushCount.sum();
+    return flushes == 0 ? 0 : (double) this.flushedPacketCount.sum() / flushes;
+  }
+
+  /**
+   * Writes all pending packets into the channel. This method must be called on the event loop of the channel.
+   */
+  private void drain() {
+    // reset the scheduled state first, packets enqueued while draining will schedule a new drain
+    this.drainScheduled.set(false);
+
+    var writtenPackets = 0;
+    var writtenBytes = 0L;
+
+    PendingWrite pendingWrite;
+    while ((pendingWrite = this.pendingWrites.poll()) != null) {
+      var packet = pendingWrite.packet();
+      var result = pendingWrite.result();
+
+      // the channel was closed since the packet was enqueued, release the packets which can no longer be written
+      if (!this.channel.isActive()) {
+        packet.content().release();
+        if (result != null) {
+          result.completeExceptionally(new ClosedChannelException());
+        }
+        continue;
+      }
+
+      // get the content size before writing, the content is released once encoded
+      var contentSize = packet.content().readableBytes();
+      var future = this.packetWriter.apply(packet);
+      if (future == null) {
+        // the send event was cancelled, there is nothing to wait for
+        if (result != null) {
+          result.complete(null);
+        }
+      } else {
+        // complete the result once the packet was flushed
+        if (result != null) {
+          future.addListener(writeFuture -> {
+            if (writeFuture.isSuccess()) {
+              result.complete(null);
+            } else {
+              result.completeExceptionally(writeFuture.cause());
+            }
+          });
+        }
+
+        writtenPackets++;
+        writtenBytes += contentSize;
+
+        // flush early if one of the thresholds was reached
+        if (writtenPackets >= this.maxPacketsPerFlush || writtenBytes >= this.maxBytesPerFlush) {
+          this.flush(writtenPackets);
+          writtenPackets = 0;
+          writtenBytes = 0;
+        }
+      }
+    }
+
+    // flush the remaining packets
+    if (writtenPackets > 0) {
+      this.flush(writtenPackets);
+    }
+  }
+
+  /**
+   * Adds the given pending write to the queue, scheduling a drain of the queue on the event loop of the channel if
+   * there is no drain scheduled yet.
+   *
+   * @param pendingWrite the pending write to enqueue.
+   * @throws NullPointerException if the given pending write is null.
+   */
+  private void enqueue(@NonNull PendingWrite pendingWrite) {
+    this.pendingWrites.offer(pendingWrite);
+    if (this.drainScheduled.compareAndSet(false, true)) {
+      this.channel.executor().execute(this::drain);
+    }
+  }
+
+  /**
+   * Flushes the channel and records the given amount of packets as flushed.
+   *
+   * @param packets the amount of packets written since the last flush.
+   */
+  private void flush(int packets) {
+    this.channel.flush();
+
+    this.flushCount.increment();
+    this.flushedPacketCount.add(packets);
+  }
+
+  /**
+   * A packet which is waiting to be written into the channel.
+   *
+   * @param packet the packet to write.
+   * @param result the task to complete once the packet was written, null if the write is not tracked.
+   * @since 4.0
+   */
+  private record PendingWrite(@NonNull Packet packet, @Nullable Task<Void> result) {
+
+  }
+}
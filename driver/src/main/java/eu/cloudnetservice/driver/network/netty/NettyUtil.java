@@ -16,8 +16,8 @@
 
 package eu.cloudnetservice.driver.network.netty;
 
+import eu.cloudnetservice.common.concurrent.ExecutorServiceUtil;
 import eu.cloudnetservice.driver.DriverEnvironment;
-import eu.cloudnetservice.driver.util.ExecutorServiceUtil;
 import io.netty5.buffer.Buffer;
 import io.netty5.buffer.BufferUtil;
 import io.netty5.channel.Channel;
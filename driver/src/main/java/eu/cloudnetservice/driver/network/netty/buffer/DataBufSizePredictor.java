@@ -0,0 +1,125 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.netty.buffer;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Predicts the size of buffers based on the sizes of the buffers which were previously written for the same key, for
+ * example a packet channel or a message type. Buffers allocated with a prediction start near their final size instead
+ * of growing by reallocation while being written.
+ * <p>
+ * The prediction follows an increase in size immediately, but only decays slowly when smaller buffers are written, as
+ * a too small buffer is more expensive (reallocation and copy of the content) than a slightly too large one.
+ *
+ * @since 4.0
+ */
+@ApiStatus.Internal
+final class DataBufSizePredictor {
+
+  // do not pre-allocate more than 1 MB, larger buffers are rare and should grow on demand
+  private static final int MAX_PREDICTED_SIZE = 1 << 20;
+
+  private final LongAdder predictions = new LongAdder();
+  private final LongAdder underestimates = new LongAdder();
+  private final Cache<Object, AtomicInteger> sizes = Caffeine.newBuilder().maximumSize(1024).build();
+
+  /**
+   * Predicts the size of the next buffer which gets written for the given key. The returned prediction must be
+   * completed with the final size of the buffer once all data was written to it.
+   *
+   * @param sizeKey the key to predict the buffer size for.
+   * @return the prediction for the next buffer written for the given key.
+   * @throws NullPointerException if the given key is null.
+   */
+  @NonNull Prediction predict(@NonNull Object sizeKey) {
+    this.predictions.increment();
+    var size = this.sizes.get(sizeKey, $ -> new AtomicInteger());
+    return new Prediction(size, size.get());
+  }
+
+  /**
+   * Get the amount of buffers which were allocated based on a prediction.
+   *
+   * @return the amount of buffers which were allocated based on a prediction.
+   */
+  long predictions() {
+    return this.predictions.sum();
+  }
+
+  /**
+   * Get the amount of predicted buffers which had to grow beyond the predicted size.
+   *
+   * @return the amount of predicted buffers which had to grow beyond the predicted size.
+   */
+  long underestimates() {
+    return this.underestimates.sum();
+  }
+
+  /**
+   * Get the amount of keys for which buffer sizes are currently tracked.
+   *
+   * @return the amount of keys for which buffer sizes are currently tracked.
+   */
+  long trackedKeys() {
+    return this.sizes.estimatedSize();
+  }
+
+  /**
+   * A size prediction for a single buffer.
+   *
+   * @since 4.0
+   */
+  final class Prediction {
+
+    private final AtomicInteger size;
+    private final int predictedSize;
+
+    private Prediction(@NonNull AtomicInteger size, int predictedSize) {
+      this.size = size;
+      this.predictedSize = predictedSize;
+    }
+
+    /**
+     * Get the predicted size of the buffer.
+     *
+     * @return the predicted size of the buffer.
+     */
+    int predictedSize() {
+      return this.predictedSize;
+    }
+
+    /**
+     * Records the final size of the buffer this prediction was made for.
+     *
+     * @param actualSize the amount of bytes which were written to the buffer.
+     */
+    void complete(int actualSize) {
+      if (actualSize > this.predictedSize) {
+        DataBufSizePredictor.this.underestimates.increment();
+      }
+
+      var target = Math.min(actualSize, MAX_PREDICTED_SIZE);
+      this.size.getAndUpdate(current -> target >= current ? target : current - ((current - target) >> 2));
+    }
+  }
+}
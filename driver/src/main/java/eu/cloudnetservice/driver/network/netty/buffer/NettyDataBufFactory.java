@@ -22,11 +22,16 @@
 import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
 import io.netty5.buffer.BufferAllocator;
 import io.netty5.buffer.DefaultBufferAllocators;
+import io.netty5.buffer.pool.BufferAllocatorMetricProvider;
 import jakarta.inject.Singleton;
 import lombok.NonNull;
 
 /**
  * An implementation (and currently the default one) of a data buf factory wrapping netty byte buffers.
+ * <p>
+ * Buffers are allocated unpooled by default. Setting the {@code cloudnet.network.pooled-buffers} system property to
+ * true switches to a pooled allocator, which avoids allocating and zeroing new off-heap memory for each buffer but
+ * keeps the pooled memory reserved for the lifetime of the process.
  *
  * @see DataBufFactory#defaultFactory()
  * @since 4.0
@@ -36,8 +41,14 @@
 public class NettyDataBufFactory implements DataBufFactory {
 
   public static final NettyDataBufFactory INSTANCE = new NettyDataBufFactory();
+
+  protected static final boolean POOLED_BUFFERS = Boolean.getBoolean("cloudnet.network.pooled-buffers");
   // we always use off-heap as this is the preferred allocator on Java 9+ (and we required Java 17)
-  protected static final BufferAllocator ALLOCATOR = DefaultBufferAllocators.offHeapAllocator();
+  protected static final BufferAllocator ALLOCATOR = POOLED_BUFFERS
+    ? BufferAllocator.offHeapPooled()
+    : DefaultBufferAllocators.offHeapAllocator();
+
+  private final DataBufSizePredictor sizePredictor = new DataBufSizePredictor();
 
   /**
    * Creates a new instance of this factory. This method is protected to allow developers to create their own variant of
@@ -55,6 +66,15 @@ protected NettyDataBufFactory() {
     return new NettyMutableDataBuf(ALLOCATOR.allocate(0));
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull DataBuf.Mutable createEmpty(@NonNull Object sizeKey) {
+    var prediction = this.sizePredictor.predict(sizeKey);
+    return new NettyMutableDataBuf(ALLOCATOR.allocate(prediction.predictedSize()), prediction);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -87,6 +107,24 @@ protected NettyDataBufFactory() {
     return new NettyMutableDataBuf(buffer.copy(0, buffer.readableBytes()));
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull DataBuf[] sharedCopiesOf(@NonNull DataBuf dataBuf, int amount) {
+    Preconditions.checkArgument(dataBuf instanceof NettyImmutableDataBuf, "Factory only supports netty data buf copy");
+
+    // read-only copies of a read-only buffer share the memory of the buffer, which is freed once all copies are closed
+    var buffer = ((NettyImmutableDataBuf) dataBuf).buffer().makeReadOnly();
+    var copies = new DataBuf[amount];
+    for (var i = 0; i < amount; i++) {
+      copies[i] = new NettyImmutableDataBuf(buffer.copy(buffer.readerOffset(), buffer.readableBytes(), true));
+    }
+
+    dataBuf.release();
+    return copies;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -94,4 +132,39 @@ protected NettyDataBufFactory() {
   public @NonNull DataBuf.Mutable createWithExpectedSize(int byteSize) {
     return new NettyMutableDataBuf(ALLOCATOR.allocate(byteSize));
   }
+
+  /**
+   * Get a snapshot of the statistics of the allocator used by this factory and of the buffer size predictions.
+   *
+   * @return a snapshot of the allocation statistics of this factory.
+   */
+  public @NonNull AllocatorStatistics allocatorStatistics() {
+    var usedMemory = ALLOCATOR instanceof BufferAllocatorMetricProvider provider ? provider.metric().usedMemory() : -1;
+    return new AllocatorStatistics(
+      POOLED_BUFFERS,
+      usedMemory,
+      this.sizePredictor.trackedKeys(),
+      this.sizePredictor.predictions(),
+      this.sizePredictor.underestimates());
+  }
+
+  /**
+   * A snapshot of the allocation statistics of a netty data buf factory.
+   *
+   * @param pooled                if the factory allocates pooled buffers.
+   * @param usedMemory            the memory used by the allocator in bytes, -1 if the allocator provides no metrics.
+   * @param trackedSizeKeys       the amount of keys for which buffer sizes are predicted.
+   * @param predictedAllocations  the amount of buffers allocated with a predicted size.
+   * @param underestimatedBuffers the amount of predicted buffers which had to grow beyond the predicted size.
+   * @since 4.0
+   */
+  public record AllocatorStatistics(
+    boolean pooled,
+    long usedMemory,
+    long trackedSizeKeys,
+    long predictedAllocations,
+    long underestimatedBuffers
+  ) {
+
+  }
 }
@@ -20,10 +20,15 @@
 import eu.cloudnetservice.driver.network.netty.NettyUtil;
 import eu.cloudnetservice.driver.network.rpc.defaults.object.DefaultObjectMapper;
 import io.netty5.buffer.Buffer;
+import java.io.IOException;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 import java.util.function.Function;
+import java.util.zip.Checksum;
 import lombok.NonNull;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
@@ -130,6 +135,32 @@ public byte[] readByteArray() {
     });
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int readByteArray(
+    @NonNull FileChannel target,
+    long position,
+    @Nullable Checksum checksum
+  ) throws IOException {
+    var length = NettyUtil.readVarInt(this.buffer);
+    var targetChannel = new PositionalWriteChannel(target, position, checksum);
+
+    // transfer the bytes directly from the backing buffer into the file
+    var remaining = length;
+    while (remaining > 0) {
+      remaining -= this.buffer.transferTo(targetChannel, remaining);
+    }
+
+    // same as a hot read: release the buffer once the end was reached
+    if (this.buffer.readableBytes() <= 0) {
+      this.release();
+    }
+
+    return length;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -342,4 +373,64 @@ public void close() {
     // return the read result
     return result;
   }
+
+  /**
+   * A channel which writes into a file channel at a fixed position, without modifying the position of the channel. The
+   * optional checksum is updated with every byte written into the channel.
+   *
+   * @since 4.0
+   */
+  private static final class PositionalWriteChannel implements WritableByteChannel {
+
+    private final FileChannel target;
+    private final Checksum checksum;
+    private long position;
+
+    /**
+     * Constructs a new positional write channel.
+     *
+     * @param target   the file channel to write to.
+     * @param position the position in the file to start writing at.
+     * @param checksum the checksum to update with the written bytes, can be null.
+     * @throws NullPointerException if the given target channel is null.
+     */
+    private PositionalWriteChannel(@NonNull FileChannel target, long position, @Nullable Checksum checksum) {
+      this.target = target;
+      this.checksum = checksum;
+      this.position = position;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int write(@NonNull ByteBuffer src) throws IOException {
+      var start = src.position();
+      var written = this.target.write(src, this.position);
+      this.position += written;
+
+      // update the checksum with exactly the bytes that were written
+      if (this.checksum != null && written > 0) {
+        this.checksum.update(src.duplicate().position(start).limit(start + written));
+      }
+
+      return written;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isOpen() {
+      return this.target.isOpen();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+      // the target channel is owned by the caller
+    }
+  }
 }
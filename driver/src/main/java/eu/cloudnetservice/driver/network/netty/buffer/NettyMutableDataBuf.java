@@ -21,6 +21,9 @@
 import eu.cloudnetservice.driver.network.netty.NettyUtil;
 import eu.cloudnetservice.driver.network.rpc.defaults.object.DefaultObjectMapper;
 import io.netty5.buffer.Buffer;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 import java.util.function.BiConsumer;
@@ -34,6 +37,8 @@
  */
 public class NettyMutableDataBuf extends NettyImmutableDataBuf implements DataBuf.Mutable {
 
+  private DataBufSizePredictor.Prediction sizePrediction;
+
   /**
    * Constructs a new mutable data buf instance.
    *
@@ -44,6 +49,19 @@ public NettyMutableDataBuf(@NonNull Buffer buffer) {
     super(buffer);
   }
 
+  /**
+   * Constructs a new mutable data buf instance which reports its final size to the given prediction once it gets
+   * released or converted to an immutable buffer.
+   *
+   * @param buffer         the netty buffer to wrap.
+   * @param sizePrediction the prediction to complete with the final size of this buffer.
+   * @throws NullPointerException if the given buffer or prediction is null.
+   */
+  NettyMutableDataBuf(@NonNull Buffer buffer, @NonNull DataBufSizePredictor.Prediction sizePrediction) {
+    super(buffer);
+    this.sizePrediction = sizePrediction;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -134,6 +152,31 @@ public NettyMutableDataBuf(@NonNull Buffer buffer) {
     return this;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull DataBuf.Mutable writeByteArray(
+    @NonNull FileChannel source,
+    long position,
+    int amount
+  ) throws IOException {
+    NettyUtil.writeVarInt(this.buffer, amount);
+    this.buffer.ensureWritable(amount);
+
+    // read the bytes directly from the file into the backing buffer
+    var transferred = 0;
+    while (transferred < amount) {
+      var read = this.buffer.transferFrom(source, position + transferred, amount - transferred);
+      if (read == -1) {
+        throw new EOFException("Reached end of file after " + transferred + " of " + amount + " bytes");
+      }
+      transferred += read;
+    }
+
+    return this;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -195,6 +238,37 @@ public NettyMutableDataBuf(@NonNull Buffer buffer) {
    */
   @Override
   public @NonNull DataBuf asImmutable() {
+    this.completeSizePrediction();
     return new NettyImmutableDataBuf(this.buffer);
   }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void release() {
+    this.completeSizePrediction();
+    super.release();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void forceRelease() {
+    this.completeSizePrediction();
+    super.forceRelease();
+  }
+
+  /**
+   * Reports the amount of bytes written to this buffer to the size prediction this buffer was allocated with, if any.
+   * The size is only reported once, as no more data is written to the buffer after it was released.
+   */
+  private void completeSizePrediction() {
+    var sizePrediction = this.sizePrediction;
+    if (sizePrediction != null && this.buffer.isAccessible()) {
+      this.sizePrediction = null;
+      sizePrediction.complete(this.buffer.writerOffset());
+    }
+  }
 }
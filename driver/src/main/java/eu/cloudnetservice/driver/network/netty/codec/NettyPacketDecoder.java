@@ -24,7 +24,6 @@
 import io.netty5.buffer.Buffer;
 import io.netty5.channel.ChannelHandlerContext;
 import io.netty5.handler.codec.ByteToMessageDecoder;
-import java.util.UUID;
 import lombok.NonNull;
 import org.jetbrains.annotations.ApiStatus;
 
@@ -36,9 +35,14 @@
  * A packet always contains the following data:
  * <ol>
  *   <li>The numeric id of the channel being sent to, by default a var int.
- *   <li>An optional query unique id if the packet is a query.
+ *   <li>An optional query unique id if the packet is a query, either as two longs or compact as a var int.
  *   <li>The data transferred to this component, might be empty.
  * </ol>
+ * <p>
+ * By default the body of each packet is copied into a new buffer. When splitting is enabled (either explicitly or by
+ * setting the {@code cloudnet.network.split-packet-bodies} system property to true) the body is instead split off the
+ * frame buffer and made read-only, sharing the memory with the inbound frame. The memory is freed once the packet
+ * content is released.
  *
  * @since 4.0
  */
@@ -46,6 +50,26 @@
 public final class NettyPacketDecoder extends ByteToMessageDecoder {
 
   private static final Logger LOGGER = LogManager.logger(NettyPacketDecoder.class);
+  private static final boolean SPLIT_PACKET_BODIES = Boolean.getBoolean("cloudnet.network.split-packet-bodies");
+
+  private final boolean splitBodies;
+
+  /**
+   * Constructs a new packet decoder instance, splitting the packet bodies off the frame buffer if the
+   * {@code cloudnet.network.split-packet-bodies} system property is set to true.
+   */
+  public NettyPacketDecoder() {
+    this(SPLIT_PACKET_BODIES);
+  }
+
+  /**
+   * Constructs a new packet decoder instance.
+   *
+   * @param splitBodies true if packet bodies should be split off the frame buffer, false if they should be copied.
+   */
+  public NettyPacketDecoder(boolean splitBodies) {
+    this.splitBodies = splitBodies;
+  }
 
   /**
    * {@inheritDoc}
@@ -62,12 +86,11 @@ protected void decode(@NonNull ChannelHandlerContext ctx, @NonNull Buffer in) {
       // read the required base data from the buffer
       var channel = NettyUtil.readVarInt(in);
       var prioritized = in.readBoolean();
-      var queryUniqueId = in.readBoolean() ? new UUID(in.readLong(), in.readLong()) : null;
+      var queryUniqueId = QueryIdCodec.read(in);
 
       // extract the body
       var bodyLength = NettyUtil.readVarInt(in);
-      var body = new NettyImmutableDataBuf(in.copy(in.readerOffset(), bodyLength, true));
-      in.skipReadableBytes(bodyLength);
+      var body = new NettyImmutableDataBuf(this.extractBody(in, bodyLength));
 
       // construct the packet
       var packet = new BasePacket(channel, prioritized, body);
@@ -79,4 +102,23 @@ protected void decode(@NonNull ChannelHandlerContext ctx, @NonNull Buffer in) {
       LOGGER.severe("Exception while decoding packet", exception);
     }
   }
+
+  /**
+   * Extracts the body of the packet from the given buffer, moving the reader offset of the buffer past the body.
+   *
+   * @param in         the buffer to extract the body from.
+   * @param bodyLength the length of the body to extract.
+   * @return a read-only buffer which contains the body of the packet.
+   * @throws NullPointerException if the given buffer is null.
+   */
+  private @NonNull Buffer extractBody(@NonNull Buffer in, int bodyLength) {
+    if (this.splitBodies) {
+      // split the body off the frame, the memory is shared and freed once both parts are closed
+      return in.readSplit(bodyLength).makeReadOnly();
+    } else {
+      var body = in.copy(in.readerOffset(), bodyLength, true);
+      in.skipReadableBytes(bodyLength);
+      return body;
+    }
+  }
 }
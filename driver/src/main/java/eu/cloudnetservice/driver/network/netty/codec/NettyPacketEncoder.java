@@ -31,7 +31,7 @@
  * A packet always contains the following data:
  * <ol>
  *   <li>The numeric id of the channel being sent to, by default a var int.
- *   <li>An optional query unique id if the packet is a query.
+ *   <li>An optional query unique id if the packet is a query, either as two longs or compact as a var int.
  *   <li>The data transferred to this component, might be empty.
  * </ol>
  *
@@ -47,15 +47,12 @@ public final class NettyPacketEncoder extends MessageToByteEncoder<Packet> {
    */
   @Override
   protected Buffer allocateBuffer(@NonNull ChannelHandlerContext ctx, @NonNull Packet msg) {
-    // we allocate 2 booleans (prioritized and isQuery) + content length + channel in advance
-    var bufferLength = 2
+    // we allocate 1 boolean (prioritized) + query id + content length + channel in advance
+    var bufferLength = 1
+      + QueryIdCodec.encodedLength(msg.uniqueId())
       + msg.content().readableBytes()
       + NettyUtil.varIntBytes(msg.channel())
       + NettyUtil.varIntBytes(msg.content().readableBytes());
-    // if the given packet has a query unique id we need two longs for that unique id as well
-    if (msg.uniqueId() != null) {
-      bufferLength += 16;
-    }
 
     // allocate the buffer
     return ctx.bufferAllocator().allocate(bufferLength);
@@ -71,13 +68,7 @@ protected void encode(@NonNull ChannelHandlerContext ctx, @NonNull Packet msg, @
     // packet priority
     out.writeBoolean(msg.prioritized());
     // query id (if present)
-    var queryUniqueId = msg.uniqueId();
-    out.writeBoolean(queryUniqueId != null);
-    if (queryUniqueId != null) {
-      out
-        .writeLong(queryUniqueId.getMostSignificantBits())
-        .writeLong(queryUniqueId.getLeastSignificantBits());
-    }
+    QueryIdCodec.write(out, msg.uniqueId());
     // body
     // we only support netty buf
     var content = ((NettyImmutableDataBuf) msg.content()).buffer();
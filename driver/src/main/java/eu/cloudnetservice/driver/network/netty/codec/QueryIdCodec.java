@@ -0,0 +1,114 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.netty.codec;
+
+import static eu.cloudnetservice.driver.network.protocol.defaults.DefaultQueryPacketManager.LOCAL_COMPACT_QUERY_ID;
+import static eu.cloudnetservice.driver.network.protocol.defaults.DefaultQueryPacketManager.REMOTE_COMPACT_QUERY_ID;
+
+import eu.cloudnetservice.driver.network.netty.NettyUtil;
+import io.netty5.buffer.Buffer;
+import java.util.UUID;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An internal codec for the query unique id of packets. The id is prefixed by a type byte, the types without and with
+ * a full unique id are written as false and true, which keeps the format compatible with older components.
+ * <p>
+ * Compact query ids are written as a var int. The type byte tells the receiver which side created the id, so the
+ * receiver swaps the local and remote prefix when decoding: a query id created by the sender is a remote id for the
+ * receiver and vice versa. This way a response sent back with the id of the query resolves to the waiting handler of
+ * the component which sent the query.
+ *
+ * @since 4.0
+ */
+@ApiStatus.Internal
+final class QueryIdCodec {
+
+  private static final byte NO_QUERY_ID = 0;
+  private static final byte FULL_QUERY_ID = 1;
+  private static final byte SENDER_COMPACT_QUERY_ID = 2;
+  private static final byte RECEIVER_COMPACT_QUERY_ID = 3;
+
+  private QueryIdCodec() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Get the number of bytes the given query id takes when written to a buffer.
+   *
+   * @param queryUniqueId the query id to get the encoded length of, can be null.
+   * @return the number of bytes the given query id takes when written to a buffer.
+   */
+  static int encodedLength(@Nullable UUID queryUniqueId) {
+    if (queryUniqueId == null) {
+      return 1;
+    }
+
+    return isCompact(queryUniqueId)
+      ? 1 + NettyUtil.varIntBytes((int) queryUniqueId.getLeastSignificantBits())
+      : 17;
+  }
+
+  /**
+   * Writes the given query id into the given buffer.
+   *
+   * @param out           the buffer to write the query id to.
+   * @param queryUniqueId the query id to write, can be null.
+   * @throws NullPointerException if the given buffer is null.
+   */
+  static void write(@NonNull Buffer out, @Nullable UUID queryUniqueId) {
+    if (queryUniqueId == null) {
+      out.writeByte(NO_QUERY_ID);
+    } else if (isCompact(queryUniqueId)) {
+      var local = queryUniqueId.getMostSignificantBits() == LOCAL_COMPACT_QUERY_ID;
+      out.writeByte(local ? SENDER_COMPACT_QUERY_ID : RECEIVER_COMPACT_QUERY_ID);
+      NettyUtil.writeVarInt(out, (int) queryUniqueId.getLeastSignificantBits());
+    } else {
+      out
+        .writeByte(FULL_QUERY_ID)
+        .writeLong(queryUniqueId.getMostSignificantBits())
+        .writeLong(queryUniqueId.getLeastSignificantBits());
+    }
+  }
+
+  /**
+   * Reads a query id from the given buffer.
+   *
+   * @param in the buffer to read the query id from.
+   * @return the query id read from the buffer, null if the packet has no query id.
+   * @throws NullPointerException     if the given buffer is null.
+   * @throws IllegalArgumentException if the type of the query id is unknown.
+   */
+  static @Nullable UUID read(@NonNull Buffer in) {
+    var type = in.readByte();
+    return switch (type) {
+      case NO_QUERY_ID -> null;
+      case FULL_QUERY_ID -> new UUID(in.readLong(), in.readLong());
+      case SENDER_COMPACT_QUERY_ID -> new UUID(REMOTE_COMPACT_QUERY_ID, NettyUtil.readVarInt(in) & 0xFFFFFFFFL);
+      case RECEIVER_COMPACT_QUERY_ID -> new UUID(LOCAL_COMPACT_QUERY_ID, NettyUtil.readVarInt(in) & 0xFFFFFFFFL);
+      default -> throw new IllegalArgumentException("Unknown query id type " + type);
+    };
+  }
+
+  private static boolean isCompact(@NonNull UUID queryUniqueId) {
+    var mostSignificantBits = queryUniqueId.getMostSignificantBits();
+    return (mostSignificantBits == LOCAL_COMPACT_QUERY_ID || mostSignificantBits == REMOTE_COMPACT_QUERY_ID)
+      && (queryUniqueId.getLeastSignificantBits() >>> 32) == 0;
+  }
+}
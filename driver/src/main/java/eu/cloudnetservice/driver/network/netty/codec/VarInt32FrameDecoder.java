@@ -26,6 +26,27 @@
 @ApiStatus.Internal
 public final class VarInt32FrameDecoder extends ByteToMessageDecoder {
 
+  private static final boolean SPLIT_FRAMES = Boolean.getBoolean("cloudnet.network.split-packet-bodies");
+
+  private final boolean splitFrames;
+
+  /**
+   * Constructs a new frame decoder instance, splitting the frames off the cumulation buffer if the
+   * {@code cloudnet.network.split-packet-bodies} system property is set to true.
+   */
+  public VarInt32FrameDecoder() {
+    this(SPLIT_FRAMES);
+  }
+
+  /**
+   * Constructs a new frame decoder instance.
+   *
+   * @param splitFrames true if frames should be split off the cumulation buffer, false if they should be copied.
+   */
+  public VarInt32FrameDecoder(boolean splitFrames) {
+    this.splitFrames = splitFrames;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -57,8 +78,12 @@ protected void decode(@NonNull ChannelHandlerContext ctx, @NonNull Buffer in) {
     // check if the packet data supplied in the buffer is actually at least the transmitted size
     if (in.readableBytes() >= length) {
       // fire the channel read
-      ctx.fireChannelRead(in.copy(in.readerOffset(), length, true));
-      in.skipReadableBytes(length);
+      if (this.splitFrames) {
+        ctx.fireChannelRead(in.readSplit(length));
+      } else {
+        ctx.fireChannelRead(in.copy(in.readerOffset(), length, true));
+        in.skipReadableBytes(length);
+      }
     } else {
       // reset the reader index, there is still data missing
       in.readerOffset(readerIndex);
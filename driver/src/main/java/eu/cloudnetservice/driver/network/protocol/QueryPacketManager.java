@@ -86,8 +86,8 @@ public interface QueryPacketManager {
 
   /**
    * Sends a query packet to the associated network channel, automatically selecting a query id for the packet and
-   * setting it. Equivalent to {@code manager.sendQueryPacket(packet, UUID.randomUUID()}. An existing query unique id in
-   * the packet will get overridden.
+   * setting it. The selected id is unique for the queries of this manager. An existing query unique id in the packet
+   * will get overridden.
    *
    * @param packet the packet to convert to a query packet and send to the channel.
    * @return a future completed with either the response to the packet or an empty packet if the waiting time expires.
@@ -97,7 +97,8 @@ public interface QueryPacketManager {
 
   /**
    * Sends a query packet to the associated network channel, automatically setting the id in the packet. An existing
-   * query unique id in the packet will get overridden.
+   * query unique id in the packet will get overridden. The given unique id should not be reused within the query
+   * timeout, as the timeout of the previous query might complete the new query.
    *
    * @param packet        the packet to convert to a query packet and send to the channel.
    * @param queryUniqueId the unique id to use when sending the packet.
@@ -16,10 +16,6 @@
 
 package eu.cloudnetservice.driver.network.protocol.defaults;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.RemovalListener;
-import com.github.benmanes.caffeine.cache.Scheduler;
 import eu.cloudnetservice.common.concurrent.Task;
 import eu.cloudnetservice.driver.network.NetworkChannel;
 import eu.cloudnetservice.driver.network.protocol.Packet;
@@ -28,23 +24,47 @@
 import java.util.Collections;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnmodifiableView;
 
 /**
  * The default implementation of the query manager.
+ * <p>
+ * Query ids are taken from a counter of each manager, prefixed with a random value chosen when creating the manager.
+ * When the {@code cloudnet.network.compact-query-ids} system property is set to true, the prefix is replaced by
+ * {@link #LOCAL_COMPACT_QUERY_ID}, which allows the packet encoder to write the id as a var int rather than as two
+ * longs. The compact form can only be decoded by components of this version or newer. Queries are sent without waiting
+ * for the write to complete, unless the {@code cloudnet.network.sync-query-sends} system property is set to true.
  *
  * @since 4.0
  */
 public class DefaultQueryPacketManager implements QueryPacketManager {
 
+  /**
+   * The most significant bits of compact query ids which were created by the local component.
+   */
+  public static final long LOCAL_COMPACT_QUERY_ID = 0x434E_5155_4552_594CL;
+  /**
+   * The most significant bits of compact query ids which were created by the remote component.
+   */
+  public static final long REMOTE_COMPACT_QUERY_ID = 0x434E_5155_4552_5952L;
+
   private static final Duration DEFAULT_TIMEOUT_DURATION = Duration.ofSeconds(30);
+  private static final boolean COMPACT_QUERY_IDS = Boolean.getBoolean("cloudnet.network.compact-query-ids");
+  private static final boolean SYNC_QUERY_SENDS = Boolean.getBoolean("cloudnet.network.sync-query-sends");
 
   private final Duration queryTimeout;
   private final NetworkChannel networkChannel;
-  private final Cache<UUID, Task<Packet>> waitingHandlers;
+  private final Map<UUID, Task<Packet>> waitingHandlers = new ConcurrentHashMap<>();
+
+  private final long queryIdPrefix;
+  private final AtomicLong queryIdCounter = new AtomicLong();
 
   /**
    * Constructs a new query manager for the given network channel and a timeout of 30 seconds for each query.
@@ -66,12 +86,7 @@ public DefaultQueryPacketManager(@NonNull NetworkChannel networkChannel) {
   public DefaultQueryPacketManager(@NonNull NetworkChannel networkChannel, @NonNull Duration queryTimeout) {
     this.networkChannel = networkChannel;
     this.queryTimeout = queryTimeout;
-    // construct the cache based on the given information
-    this.waitingHandlers = Caffeine.newBuilder()
-      .expireAfterWrite(queryTimeout)
-      .scheduler(Scheduler.systemScheduler())
-      .removalListener(this.newRemovalListener())
-      .build();
+    this.queryIdPrefix = COMPACT_QUERY_IDS ? LOCAL_COMPACT_QUERY_ID : ThreadLocalRandom.current().nextLong();
   }
 
   /**
@@ -95,7 +110,7 @@ public DefaultQueryPacketManager(@NonNull NetworkChannel networkChannel, @NonNul
    */
   @Override
   public @NonNull @UnmodifiableView Map<UUID, Task<Packet>> waitingHandlers() {
-    return Collections.unmodifiableMap(this.waitingHandlers.asMap());
+    return Collections.unmodifiableMap(this.waitingHandlers);
   }
 
   /**
@@ -103,7 +118,7 @@ public DefaultQueryPacketManager(@NonNull NetworkChannel networkChannel, @NonNul
    */
   @Override
   public boolean hasWaitingHandler(@NonNull UUID queryUniqueId) {
-    return this.waitingHandlers.getIfPresent(queryUniqueId) != null;
+    return this.waitingHandlers.containsKey(queryUniqueId);
   }
 
   /**
@@ -111,7 +126,7 @@ public boolean hasWaitingHandler(@NonNull UUID queryUniqueId) {
    */
   @Override
   public boolean unregisterWaitingHandler(@NonNull UUID queryUniqueId) {
-    this.waitingHandlers.invalidate(queryUniqueId);
+    this.waitingHandlers.remove(queryUniqueId);
     return true;
   }
 
@@ -120,11 +135,7 @@ public boolean unregisterWaitingHandler(@NonNull UUID queryUniqueId) {
    */
   @Override
   public @Nullable Task<Packet> waitingHandler(@NonNull UUID queryUniqueId) {
-    var task = this.waitingHandlers.getIfPresent(queryUniqueId);
-    if (task != null) {
-      this.waitingHandlers.invalidate(queryUniqueId);
-    }
-    return task;
+    return this.waitingHandlers.remove(queryUniqueId);
   }
 
   /**
@@ -132,7 +143,7 @@ public boolean unregisterWaitingHandler(@NonNull UUID queryUniqueId) {
    */
   @Override
   public @NonNull Task<Packet> sendQueryPacket(@NonNull Packet packet) {
-    return this.sendQueryPacket(packet, UUID.randomUUID());
+    return this.sendQueryPacket(packet, this.nextQueryUniqueId());
   }
 
   /**
@@ -143,24 +154,62 @@ public boolean unregisterWaitingHandler(@NonNull UUID queryUniqueId) {
     // create & register the result handler
     var task = new Task<Packet>();
     this.waitingHandlers.put(queryUniqueId, task);
-    // set the unique id of the packet and send
+    // the timeout is no longer needed once the query completed, for example because the response arrived
+    var timeout = QueryTimeoutWheel.INSTANCE.schedule(this, queryUniqueId, this.queryTimeout);
+    task.whenComplete(($, exception) -> timeout.cancel());
+    // set the unique id of the packet and send, there will be no response if the packet could not be written
     packet.uniqueId(queryUniqueId);
-    this.networkChannel.sendPacketSync(packet);
+    if (SYNC_QUERY_SENDS) {
+      try {
+        this.networkChannel.sendPacketSync(packet);
+      } catch (RuntimeException exception) {
+        this.failQuery(queryUniqueId, exception);
+      }
+    } else {
+      this.networkChannel.sendPacketAsync(packet).whenComplete(($, exception) -> {
+        if (exception != null) {
+          this.failQuery(queryUniqueId, exception);
+        }
+      });
+    }
     // return the created handler
     return task;
   }
 
   /**
-   * Constructs a new removal listener for the cache, completing the future of a query packet with a timeout exception
-   * when evicted from the cache.
+   * Creates the unique id for the next query sent by this manager. The ids are unique for the queries of this manager
+   * until the counter wraps around, compact ids wrap around after 2^32 queries.
    *
-   * @return a new removal listeners for unanswered packet future completion.
+   * @return the unique id for the next query.
    */
-  protected @NonNull RemovalListener<UUID, Task<Packet>> newRemovalListener() {
-    return ($, value, cause) -> {
-      if (cause.wasEvicted() && value != null) {
-        value.completeExceptionally(new TimeoutException());
-      }
-    };
+  protected @NonNull UUID nextQueryUniqueId() {
+    var queryId = this.queryIdCounter.incrementAndGet();
+    return new UUID(this.queryIdPrefix, COMPACT_QUERY_IDS ? queryId & 0xFFFFFFFFL : queryId);
+  }
+
+  /**
+   * Completes the query with the given unique id with a timeout exception if it is still waiting for a response.
+   *
+   * @param queryUniqueId the unique id of the query which timed out.
+   * @throws NullPointerException if the given unique id is null.
+   */
+  void timeoutQuery(@NonNull UUID queryUniqueId) {
+    this.failQuery(queryUniqueId, new TimeoutException());
+  }
+
+  /**
+   * Completes the query with the given unique id exceptionally if it is still waiting for a response. The task is
+   * completed asynchronously to not block the calling thread (the timeout wheel or an event loop) with the callbacks of
+   * the task.
+   *
+   * @param queryUniqueId the unique id of the query which failed.
+   * @param cause         the cause of the failure.
+   * @throws NullPointerException if the given unique id or cause is null.
+   */
+  private void failQuery(@NonNull UUID queryUniqueId, @NonNull Throwable cause) {
+    var task = this.waitingHandlers.remove(queryUniqueId);
+    if (task != null) {
+      ForkJoinPool.commonPool().execute(() -> task.completeExceptionally(cause));
+    }
   }
 }
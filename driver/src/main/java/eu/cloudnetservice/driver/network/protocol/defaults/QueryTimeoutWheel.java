@@ -0,0 +1,166 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.protocol.defaults;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+import lombok.NonNull;
+
+/**
+ * A hashed timing wheel which times out the queries of all query managers which were not answered in time. A single
+ * wheel is shared between all query managers and advanced by one daemon thread.
+ * <p>
+ * Scheduling a timeout is lock-free. A timeout is cancelled once the associated query completes, a cancelled timeout
+ * stays in the wheel until its slot is visited the next time and is dropped then.
+ *
+ * @since 4.0
+ */
+final class QueryTimeoutWheel {
+
+  static final QueryTimeoutWheel INSTANCE = new QueryTimeoutWheel(Duration.ofMillis(100), 512);
+
+  private final long tickNanos;
+  private final long startNanos;
+  private final int slotMask;
+  private final Queue<Timeout>[] slots;
+
+  /**
+   * Constructs a new timing wheel and starts the thread advancing it.
+   *
+   * @param tickDuration the duration of one tick of the wheel.
+   * @param slotCount    the amount of slots of the wheel, must be a power of two.
+   * @throws NullPointerException if the given tick duration is null.
+   */
+  @SuppressWarnings("unchecked")
+  private QueryTimeoutWheel(@NonNull Duration tickDuration, int slotCount) {
+    this.tickNanos = tickDuration.toNanos();
+    this.startNanos = System.nanoTime();
+    this.slotMask = slotCount - 1;
+    this.slots = new Queue[slotCount];
+    for (var i = 0; i < slotCount; i++) {
+      this.slots[i] = new ConcurrentLinkedQueue<>();
+    }
+
+    var thread = new Thread(this::advance, "CloudNet-Query-Timeout");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /**
+   * Schedules the timeout of the query with the given unique id. The timeout is never triggered before the given
+   * duration passed, but usually within one tick after it.
+   *
+   * @param manager       the query manager which sent the query.
+   * @param queryUniqueId the unique id of the query.
+   * @param timeout       the time to wait for the query to be answered.
+   * @return the scheduled timeout, which can be cancelled once the query completed.
+   * @throws NullPointerException if the given manager, unique id or timeout is null.
+   */
+  @NonNull Timeout schedule(
+    @NonNull DefaultQueryPacketManager manager,
+    @NonNull UUID queryUniqueId,
+    @NonNull Duration timeout
+  ) {
+    var deadline = this.tickOf(System.nanoTime() + timeout.toNanos()) + 1;
+    var scheduledTimeout = new Timeout(deadline, manager, queryUniqueId);
+    this.slots[(int) (deadline & this.slotMask)].add(scheduledTimeout);
+    return scheduledTimeout;
+  }
+
+  private long tickOf(long nanos) {
+    return (nanos - this.startNanos) / this.tickNanos;
+  }
+
+  private void advance() {
+    var nextTick = 0L;
+    while (true) {
+      // also expire the slots of ticks which were skipped because the thread woke up late
+      var currentTick = this.tickOf(System.nanoTime());
+      for (; nextTick <= currentTick; nextTick++) {
+        this.expire(nextTick);
+      }
+
+      LockSupport.parkNanos(this.startNanos + nextTick * this.tickNanos - System.nanoTime());
+    }
+  }
+
+  private void expire(long tick) {
+    var slot = this.slots[(int) (tick & this.slotMask)];
+
+    // timeouts which are due in a later rotation of the wheel are put back into the slot after draining it
+    List<Timeout> pending = null;
+    Timeout timeout;
+    while ((timeout = slot.poll()) != null) {
+      if (timeout.cancelled) {
+        continue;
+      }
+
+      if (timeout.deadline <= tick) {
+        timeout.manager.timeoutQuery(timeout.queryUniqueId);
+      } else {
+        if (pending == null) {
+          pending = new ArrayList<>();
+        }
+        pending.add(timeout);
+      }
+    }
+
+    if (pending != null) {
+      slot.addAll(pending);
+    }
+  }
+
+  /**
+   * A scheduled timeout of a query.
+   *
+   * @since 4.0
+   */
+  static final class Timeout {
+
+    private final long deadline;
+    private final DefaultQueryPacketManager manager;
+    private final UUID queryUniqueId;
+
+    private volatile boolean cancelled;
+
+    /**
+     * Constructs a new timeout instance.
+     *
+     * @param deadline      the tick in which the query times out.
+     * @param manager       the query manager which sent the query.
+     * @param queryUniqueId the unique id of the query.
+     * @throws NullPointerException if the given manager or unique id is null.
+     */
+    private Timeout(long deadline, @NonNull DefaultQueryPacketManager manager, @NonNull UUID queryUniqueId) {
+      this.deadline = deadline;
+      this.manager = manager;
+      this.queryUniqueId = queryUniqueId;
+    }
+
+    /**
+     * Cancels this timeout, the query will not be timed out by the wheel anymore.
+     */
+    void cancel() {
+      this.cancelled = true;
+    }
+  }
+}
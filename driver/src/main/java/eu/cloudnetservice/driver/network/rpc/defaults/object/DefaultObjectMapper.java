@@ -16,6 +16,7 @@
 
 package eu.cloudnetservice.driver.network.rpc.defaults.object;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.github.benmanes.caffeine.cache.Scheduler;
@@ -62,6 +63,7 @@
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -80,6 +82,7 @@
 import java.util.concurrent.ConcurrentNavigableMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
@@ -185,6 +188,13 @@ public class DefaultObjectMapper implements ObjectMapper {
       }
       return types;
     });
+  // the serializers which are candidates to handle a type, resolved from the registered serializers. the version is
+  // increased on each binding change to invalidate the resolved entries, even if they are currently being resolved
+  private final AtomicLong bindingsVersion = new AtomicLong();
+  private final Cache<Type, ResolvedSerializers> resolvedSerializerCache = Caffeine.newBuilder()
+    .expireAfterAccess(Duration.ofDays(1))
+    .scheduler(Scheduler.systemScheduler())
+    .build();
 
   /**
    * Constructs a new default object mapper instance with all default object serializers already registered. This call
@@ -221,6 +231,7 @@ public DefaultObjectMapper(boolean registerDefaultSerializers) {
       // we don't need to unregister the subtypes of the type, skip the lookup
       this.registeredSerializers.remove(type);
     }
+    this.bindingsChanged();
     return this;
   }
 
@@ -234,6 +245,7 @@ public DefaultObjectMapper(boolean registerDefaultSerializers) {
         this.registeredSerializers.remove(entry.getKey(), entry.getValue());
       }
     }
+    this.bindingsChanged();
     // for chaining
     return this;
   }
@@ -258,6 +270,7 @@ public DefaultObjectMapper(boolean registerDefaultSerializers) {
       // we don't need to register the subtypes of the type, skip the lookup
       this.registeredSerializers.putIfAbsent(type, serializer);
     }
+    this.bindingsChanged();
     return this;
   }
 
@@ -265,24 +278,20 @@ public DefaultObjectMapper(boolean registerDefaultSerializers) {
    * {@inheritDoc}
    */
   @Override
+  @SuppressWarnings("unchecked")
   public @NonNull <T> DataBuf.Mutable writeObject(@NonNull DataBuf.Mutable dataBuf, @Nullable T object) {
     return dataBuf.writeNullable(object, (buffer, obj) -> {
-      // Get the type token of the type
-      var subTypes = this.typeCache.get(obj.getClass());
-      // get the registered serializer for the type
-      ObjectSerializer<T> serializer = null;
-      for (var subType : subTypes) {
-        serializer = this.serializerForType(subType);
-        if (serializer != null && serializer.preWriteCheckAccepts(obj, this)) {
-          break;
+      // get the first serializer candidate for the type which accepts the object
+      for (var candidate : this.resolveSerializers(obj.getClass())) {
+        var serializer = (ObjectSerializer<T>) candidate;
+        if (serializer.preWriteCheckAccepts(obj, this)) {
+          // serialize the object into the buffer
+          serializer.write(buffer, obj, obj.getClass(), this);
+          return;
         }
       }
-      // check if a serializer was found
-      if (serializer == null || !serializer.preWriteCheckAccepts(obj, this)) {
-        throw new MissingObjectSerializerException(obj.getClass());
-      }
-      // serialize the object into the buffer
-      serializer.write(buffer, obj, obj.getClass(), this);
+      // no serializer accepted the object
+      throw new MissingObjectSerializerException(obj.getClass());
     });
   }
 
@@ -293,25 +302,57 @@ public DefaultObjectMapper(boolean registerDefaultSerializers) {
   @SuppressWarnings("unchecked")
   public <T> @Nullable T readObject(@NonNull DataBuf dataBuf, @NonNull Type type) {
     return dataBuf.readNullable(buffer -> {
-      // Get the type token of the type
-      var subTypes = this.typeCache.get(type);
-      // get the registered serializer for the type
-      ObjectSerializer<?> serializer = null;
-      for (var subType : subTypes) {
-        serializer = this.serializerForType(subType);
-        if (serializer != null && serializer.preReadCheckAccepts(type, this)) {
-          break;
+      // get the first serializer candidate for the type which accepts the type
+      for (var serializer : this.resolveSerializers(type)) {
+        if (serializer.preReadCheckAccepts(type, this)) {
+          // read the object from the buffer
+          return (T) serializer.read(buffer, type, this);
         }
       }
-      // check if a serializer was found
-      if (serializer == null || !serializer.preReadCheckAccepts(type, this)) {
-        throw new MissingObjectSerializerException(type);
-      }
-      // read the object from the buffer
-      return (T) serializer.read(buffer, type, this);
+      // no serializer accepted the type
+      throw new MissingObjectSerializerException(type);
     });
   }
 
+  /**
+   * Resolves all serializers which are registered for the given type or one of its super types, in the order in which
+   * they should be checked for handling the type. The result is cached until the registered bindings change.
+   *
+   * @param type the type to resolve the serializer candidates of.
+   * @return the serializer candidates for the given type, in the order in which they should be checked.
+   * @throws NullPointerException if the given type is null.
+   */
+  protected @NonNull ObjectSerializer<?>[] resolveSerializers(@NonNull Type type) {
+    var version = this.bindingsVersion.get();
+    var resolved = this.resolvedSerializerCache.getIfPresent(type);
+    if (resolved != null && resolved.version() == version) {
+      return resolved.serializers();
+    }
+
+    // collect the serializers of all sub types, ignoring duplicates
+    Set<ObjectSerializer<?>> serializers = new LinkedHashSet<>();
+    for (var subType : this.typeCache.get(type)) {
+      ObjectSerializer<?> serializer = this.serializerForType(subType);
+      if (serializer != null) {
+        serializers.add(serializer);
+      }
+    }
+
+    // cache the resolved serializers, if the bindings were changed during the resolve the entry gets
+    // re-resolved on the next access as the version will not match anymore
+    var resolvedSerializers = serializers.toArray(ObjectSerializer<?>[]::new);
+    this.resolvedSerializerCache.put(type, new ResolvedSerializers(version, resolvedSerializers));
+    return resolvedSerializers;
+  }
+
+  /**
+   * Invalidates all resolved serializers, called after the registered bindings of this mapper were changed.
+   */
+  protected void bindingsChanged() {
+    this.bindingsVersion.incrementAndGet();
+    this.resolvedSerializerCache.invalidateAll();
+  }
+
   /**
    * Finds the best matching serializer for the given type. The method first tries to get the serializer by the exact
    * type of the supplied type token, then by the raw type.
@@ -326,4 +367,15 @@ public DefaultObjectMapper(boolean registerDefaultSerializers) {
     var byType = (ObjectSerializer<T>) this.registeredSerializers.get(typePair.first());
     return byType == null ? (ObjectSerializer<T>) this.registeredSerializers.get(typePair.second()) : byType;
   }
+
+  /**
+   * The serializers resolved for a type.
+   *
+   * @param version     the version of the bindings the serializers were resolved from.
+   * @param serializers the resolved serializers, in the order in which they should be checked.
+   * @since 4.0
+   */
+  private record ResolvedSerializers(long version, @NonNull ObjectSerializer<?>[] serializers) {
+
+  }
 }
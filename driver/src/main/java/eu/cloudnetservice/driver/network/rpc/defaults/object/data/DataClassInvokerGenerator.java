@@ -20,15 +20,23 @@
 import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACONST_NULL;
 import static org.objectweb.asm.Opcodes.ALOAD;
 import static org.objectweb.asm.Opcodes.ARETURN;
+import static org.objectweb.asm.Opcodes.ASTORE;
 import static org.objectweb.asm.Opcodes.CHECKCAST;
 import static org.objectweb.asm.Opcodes.DUP;
 import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.GOTO;
+import static org.objectweb.asm.Opcodes.ICONST_0;
+import static org.objectweb.asm.Opcodes.ICONST_1;
+import static org.objectweb.asm.Opcodes.IFEQ;
+import static org.objectweb.asm.Opcodes.IFNULL;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
 import static org.objectweb.asm.Opcodes.NEW;
+import static org.objectweb.asm.Opcodes.POP;
 import static org.objectweb.asm.Opcodes.PUTFIELD;
 import static org.objectweb.asm.Opcodes.RETURN;
 import static org.objectweb.asm.Opcodes.V1_8;
@@ -55,6 +63,7 @@
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Type;
 
@@ -91,6 +100,21 @@ public final class DataClassInvokerGenerator {
     Type.getType(DataBuf.Mutable.class),
     Type.getType(DataBuf.Mutable.class),
     Type.getType(Object.class));
+  // DataBuf related stuff, primitives and strings are read and written directly using the buffer
+  private static final String DATA_BUF_INTERNAL_NAME = Type.getInternalName(DataBuf.class);
+  private static final String MUTABLE_DATA_BUF_INTERNAL_NAME = Type.getInternalName(DataBuf.Mutable.class);
+  private static final String MUTABLE_DATA_BUF_DESC = Type.getDescriptor(DataBuf.Mutable.class);
+  private static final String WRITE_BOOLEAN_DESC = "(Z)" + MUTABLE_DATA_BUF_DESC;
+  private static final Map<Class<?>, String> DIRECT_ACCESS_NAMES = Map.of(
+    boolean.class, "Boolean",
+    byte.class, "Byte",
+    short.class, "Short",
+    int.class, "Int",
+    long.class, "Long",
+    float.class, "Float",
+    double.class, "Double",
+    char.class, "Char",
+    String.class, "String");
   // Related stuff to generated classes
   private static final String INSTANCE_CREATOR_NAME_FORMAT = "%s$InstanceCreator";
   private static final String INFORMATION_WRITE_NAME_FORMAT = "%s$InformationWriter";
@@ -102,6 +126,9 @@ private DataClassInvokerGenerator() {
   /**
    * Generates an instance creator for the given class using the constructor with the given types. The constrcutor must
    * exist, no further checks will be made.
+   * <p>
+   * Primitive and string arguments are read directly from the buffer, all other arguments are read using the object
+   * mapper. The format of the directly read arguments is the same as the one of the default object mapper serializers.
    *
    * @param clazz the class to generate for.
    * @param types the arguments of the constructor to generate the invoker for.
@@ -149,6 +176,13 @@ private DataClassInvokerGenerator() {
         for (var i = 0; i < types.length; i++) {
           // extract the raw type of the given type
           var rawType = GenericTypeReflector.erase(types[i]);
+          parameters[i] = Type.getType(rawType);
+          // read primitives and strings directly from the buffer
+          var directAccessName = DIRECT_ACCESS_NAMES.get(rawType);
+          if (directAccessName != null) {
+            visitDirectRead(mv, rawType, directAccessName);
+            continue;
+          }
           // load the mapper, the data buf and the current class to the stack
           mv.visitVarInsn(ALOAD, 2);
           mv.visitVarInsn(ALOAD, 1);
@@ -160,15 +194,8 @@ private DataClassInvokerGenerator() {
           mv.visitInsn(AALOAD);
           // invoke the read method of the ObjectMapper
           mv.visitMethodInsn(INVOKEINTERFACE, DATA_BUF_NAME, "readObject", READ_OBJECT_DESC, true);
-          // check if the raw type is primitive
-          if (rawType.isPrimitive()) {
-            AsmHelper.wrapperToPrimitive(mv, rawType);
-          } else {
-            // cast to the type
-            mv.visitTypeInsn(CHECKCAST, Type.getInternalName(rawType));
-          }
-          // store the type of the parameter
-          parameters[i] = Type.getType(rawType);
+          // cast to the type
+          mv.visitTypeInsn(CHECKCAST, Type.getInternalName(rawType));
         }
         // invoke the init (constructor) method
         mv.visitMethodInsn(
@@ -201,7 +228,8 @@ private DataClassInvokerGenerator() {
 
   /**
    * Creates an instance writer for the given data class writing all values of all fields provided to this methods to
-   * the buffer.
+   * the buffer. Primitive and string values are written directly into the buffer, all other values are written using
+   * the object mapper.
    *
    * @param clazz  the data class to generate the writer for.
    * @param fields the fields to include during writing.
@@ -276,41 +304,20 @@ private DataClassInvokerGenerator() {
         }
         // create the method body
         for (var field : fields) {
-          // initial work for the method instantiation
-          // load the arguments of the method to the stack
-          mv.visitVarInsn(ALOAD, 3);
-          mv.visitVarInsn(ALOAD, 1);
-          mv.visitVarInsn(ALOAD, 2);
-          // get the raw type of the field
-          Class<?> rawType;
-          // get the associated getter method of the field
+          // get the associated getter method of the field and the raw type of the value
           var getter = fieldGetters.get(field);
-          if (getter != null) {
-            // extract all needed information from the method
-            rawType = GenericTypeReflector.erase(getter.getGenericReturnType());
-            var declaring = Type.getInternalName(getter.getDeclaringClass());
-            // cast the object argument to the declaring class of the method
-            mv.visitTypeInsn(CHECKCAST, declaring);
-            // get the value of the method
-            mv.visitMethodInsn(
-              INVOKEVIRTUAL,
-              declaring,
-              getter.getName(),
-              Type.getMethodDescriptor(getter),
-              getter.getDeclaringClass().isInterface());
-          } else {
-            // extract all needed information from the field
-            rawType = GenericTypeReflector.erase(field.getGenericType());
-            var declaring = Type.getInternalName(field.getDeclaringClass());
-            // cast the object argument to the declaring class of the field
-            mv.visitTypeInsn(CHECKCAST, declaring);
-            // get the value of the field
-            mv.visitFieldInsn(GETFIELD, declaring, field.getName(), Type.getDescriptor(field.getType()));
-          }
-          // check if the type of the method or field is primitive
-          if (rawType.isPrimitive()) {
-            AsmHelper.primitiveToWrapper(mv, rawType);
+          var genericType = getter != null ? getter.getGenericReturnType() : field.getGenericType();
+          var rawType = GenericTypeReflector.erase(genericType);
+          // write primitives and strings directly into the buffer
+          var directAccessName = DIRECT_ACCESS_NAMES.get(rawType);
+          if (directAccessName != null) {
+            visitDirectWrite(mv, field, getter, rawType, directAccessName);
+            continue;
           }
+          // load the mapper, the data buf and the value to the stack
+          mv.visitVarInsn(ALOAD, 3);
+          mv.visitVarInsn(ALOAD, 1);
+          visitValueLoad(mv, field, getter);
           // invoke the write method in the object mapper
           mv.visitMethodInsn(INVOKEINTERFACE, DATA_BUF_NAME, "writeObject", WRITE_OBJECT_DESC, true);
         }
@@ -336,6 +343,126 @@ private DataClassInvokerGenerator() {
     }
   }
 
+  /**
+   * Visits the load of the value of the given field from the object passed to the information writer. The value is
+   * either loaded by calling the given getter or, if no getter is given, by reading the field directly.
+   *
+   * @param mv     the method visitor of the information writer method.
+   * @param field  the field to load the value of.
+   * @param getter the getter method associated with the field, null if the field should be read directly.
+   * @throws NullPointerException if the given method visitor or field is null.
+   */
+  private static void visitValueLoad(@NonNull MethodVisitor mv, @NonNull Field field, @Nullable Method getter) {
+    mv.visitVarInsn(ALOAD, 2);
+    if (getter != null) {
+      // cast the object argument to the declaring class of the method & get the value of the method
+      var declaring = Type.getInternalName(getter.getDeclaringClass());
+      mv.visitTypeInsn(CHECKCAST, declaring);
+      mv.visitMethodInsn(
+        INVOKEVIRTUAL,
+        declaring,
+        getter.getName(),
+        Type.getMethodDescriptor(getter),
+        getter.getDeclaringClass().isInterface());
+    } else {
+      // cast the object argument to the declaring class of the field & get the value of the field
+      var declaring = Type.getInternalName(field.getDeclaringClass());
+      mv.visitTypeInsn(CHECKCAST, declaring);
+      mv.visitFieldInsn(GETFIELD, declaring, field.getName(), Type.getDescriptor(field.getType()));
+    }
+  }
+
+  /**
+   * Visits a direct write of the given primitive or string field value into the buffer. Like the object mapper, the
+   * value is prefixed with a boolean indicating if the value is present.
+   *
+   * @param mv         the method visitor of the information writer method.
+   * @param field      the field to write the value of.
+   * @param getter     the getter method associated with the field, null if the field should be read directly.
+   * @param rawType    the raw type of the value to write.
+   * @param accessName the name of the type in the write method of the buffer.
+   * @throws NullPointerException if the given method visitor, field, type or access name is null.
+   */
+  private static void visitDirectWrite(
+    @NonNull MethodVisitor mv,
+    @NonNull Field field,
+    @Nullable Method getter,
+    @NonNull Class<?> rawType,
+    @NonNull String accessName
+  ) {
+    var writeDescriptor = "(" + Type.getDescriptor(rawType) + ")" + MUTABLE_DATA_BUF_DESC;
+    if (rawType.isPrimitive()) {
+      // primitives are never null
+      mv.visitVarInsn(ALOAD, 1);
+      mv.visitInsn(ICONST_1);
+      mv.visitMethodInsn(INVOKEINTERFACE, MUTABLE_DATA_BUF_INTERNAL_NAME, "writeBoolean", WRITE_BOOLEAN_DESC, true);
+      visitValueLoad(mv, field, getter);
+      mv.visitMethodInsn(INVOKEINTERFACE, MUTABLE_DATA_BUF_INTERNAL_NAME, "write" + accessName, writeDescriptor, true);
+      mv.visitInsn(POP);
+    } else {
+      // store the value to check if it's present
+      visitValueLoad(mv, field, getter);
+      mv.visitVarInsn(ASTORE, 4);
+
+      var nullValue = new Label();
+      var end = new Label();
+      mv.visitVarInsn(ALOAD, 4);
+      mv.visitJumpInsn(IFNULL, nullValue);
+      // the value is present, write it
+      mv.visitVarInsn(ALOAD, 1);
+      mv.visitInsn(ICONST_1);
+      mv.visitMethodInsn(INVOKEINTERFACE, MUTABLE_DATA_BUF_INTERNAL_NAME, "writeBoolean", WRITE_BOOLEAN_DESC, true);
+      mv.visitVarInsn(ALOAD, 4);
+      mv.visitMethodInsn(INVOKEINTERFACE, MUTABLE_DATA_BUF_INTERNAL_NAME, "write" + accessName, writeDescriptor, true);
+      mv.visitInsn(POP);
+      mv.visitJumpInsn(GOTO, end);
+      // the value is absent, only write the marker
+      mv.visitLabel(nullValue);
+      mv.visitVarInsn(ALOAD, 1);
+      mv.visitInsn(ICONST_0);
+      mv.visitMethodInsn(INVOKEINTERFACE, MUTABLE_DATA_BUF_INTERNAL_NAME, "writeBoolean", WRITE_BOOLEAN_DESC, true);
+      mv.visitInsn(POP);
+      mv.visitLabel(end);
+    }
+  }
+
+  /**
+   * Visits a direct read of a primitive or string constructor argument from the buffer, in the format written by
+   * {@link #visitDirectWrite(MethodVisitor, Field, Method, Class, String)}.
+   *
+   * @param mv         the method visitor of the instance creator method.
+   * @param rawType    the raw type of the value to read.
+   * @param accessName the name of the type in the read method of the buffer.
+   * @throws NullPointerException if the given method visitor, type or access name is null.
+   */
+  private static void visitDirectRead(
+    @NonNull MethodVisitor mv,
+    @NonNull Class<?> rawType,
+    @NonNull String accessName
+  ) {
+    var readDescriptor = "()" + Type.getDescriptor(rawType);
+    mv.visitVarInsn(ALOAD, 1);
+    mv.visitMethodInsn(INVOKEINTERFACE, DATA_BUF_INTERNAL_NAME, "readBoolean", "()Z", true);
+    if (rawType.isPrimitive()) {
+      // primitives are never null, skip the presence marker
+      mv.visitInsn(POP);
+      mv.visitVarInsn(ALOAD, 1);
+      mv.visitMethodInsn(INVOKEINTERFACE, DATA_BUF_INTERNAL_NAME, "read" + accessName, readDescriptor, true);
+    } else {
+      var nullValue = new Label();
+      var end = new Label();
+      mv.visitJumpInsn(IFEQ, nullValue);
+      // the value is present, read it
+      mv.visitVarInsn(ALOAD, 1);
+      mv.visitMethodInsn(INVOKEINTERFACE, DATA_BUF_INTERNAL_NAME, "read" + accessName, readDescriptor, true);
+      mv.visitJumpInsn(GOTO, end);
+      // the value is absent
+      mv.visitLabel(nullValue);
+      mv.visitInsn(ACONST_NULL);
+      mv.visitLabel(end);
+    }
+  }
+
   /**
    * Finds the best matching getter method for the given field. Null is returned when no method is matching the filter
    * based on the field information and the provided extra filter. Always the method with the shortest name matching the
@@ -18,6 +18,7 @@
 
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.document.DocumentFactoryRegistry;
+import eu.cloudnetservice.driver.document.send.BinaryDocumentCodec;
 import eu.cloudnetservice.driver.inject.InjectionLayer;
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.network.rpc.object.ObjectMapper;
@@ -28,11 +29,43 @@
 
 /**
  * An object serializer which can write and read a json document to/from the buffer.
+ * <p>
+ * Documents are written in their json form by default. Once all peers this component is connected to have announced
+ * that they support binary documents, the {@link BinaryDocumentCodec} is used instead. Binary encoded documents are
+ * marked by prefixing the factory name with a null character, which allows to read both formats at all times.
  *
  * @since 4.0
  */
 public class DocumentObjectSerializer implements ObjectSerializer<Document> {
 
+  /**
+   * Whether this component should announce support for binary encoded documents to its peers.
+   */
+  public static final boolean BINARY_DOCUMENTS = Boolean.getBoolean("cloudnet.network.binary-documents");
+
+  private static final String BINARY_FACTORY_NAME_PREFIX = "\0";
+
+  private static volatile boolean binaryEncoding;
+
+  /**
+   * Get whether documents are currently written using the binary document encoding.
+   *
+   * @return true if documents are currently written binary encoded, false otherwise.
+   */
+  public static boolean binaryEncoding() {
+    return binaryEncoding;
+  }
+
+  /**
+   * Sets whether documents should be written using the binary document encoding. This must only be enabled if all
+   * peers of this component are able to read binary encoded documents.
+   *
+   * @param binaryEncoding true if documents should be written binary encoded, false otherwise.
+   */
+  public static void binaryEncoding(boolean binaryEncoding) {
+    DocumentObjectSerializer.binaryEncoding = binaryEncoding;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -45,6 +78,13 @@ public class DocumentObjectSerializer implements ObjectSerializer<Document> {
     var documentFactoryName = source.readString();
     var documentFactoryRegistry = InjectionLayer.boot().instance(DocumentFactoryRegistry.class);
 
+    // check if the document was written binary encoded
+    if (documentFactoryName.startsWith(BINARY_FACTORY_NAME_PREFIX)) {
+      var factoryName = documentFactoryName.substring(BINARY_FACTORY_NAME_PREFIX.length());
+      var documentFactory = documentFactoryRegistry.documentFactory(factoryName);
+      return BinaryDocumentCodec.readDocument(source).into(documentFactory);
+    }
+
     // get the document factory for the document and construct the document
     var documentFactory = documentFactoryRegistry.documentFactory(documentFactoryName);
     return documentFactory.parse(source);
@@ -60,7 +100,13 @@ public void write(
     @NonNull Type type,
     @NonNull ObjectMapper caller
   ) {
-    dataBuf.writeString(object.factoryName());
-    object.writeTo(dataBuf);
+    // empty documents are not worth to be binary encoded, their json form is shorter
+    if (binaryEncoding && !object.empty()) {
+      dataBuf.writeString(BINARY_FACTORY_NAME_PREFIX + object.factoryName());
+      BinaryDocumentCodec.writeDocument(dataBuf, object.send());
+    } else {
+      dataBuf.writeString(object.factoryName());
+      object.writeTo(dataBuf);
+    }
   }
 }
@@ -202,8 +202,8 @@ public void fireAndForget(@NonNull NetworkChannel component) {
    */
   @Override
   public @NonNull <T> Task<T> fire(@NonNull NetworkChannel component) {
-    // write the default needed information we need
-    var dataBuf = this.dataBufFactory.createEmpty()
+    // write the default needed information we need, the buffer size is predicted from previous calls of the method
+    var dataBuf = this.dataBufFactory.createEmpty(new SizeKey(this.className, this.methodName))
       .writeBoolean(false) // not a method chain
       .writeString(this.className)
       .writeString(this.methodName)
@@ -225,4 +225,15 @@ public void fireAndForget(@NonNull NetworkChannel component) {
       return Task.completedTask(null);
     }
   }
+
+  /**
+   * The key used to predict the size of the buffers of rpc requests, unique for each target method.
+   *
+   * @param className  the name of the class which declares the target method.
+   * @param methodName the name of the target method.
+   * @since 4.0
+   */
+  record SizeKey(@NonNull String className, @NonNull String methodName) {
+
+  }
 }
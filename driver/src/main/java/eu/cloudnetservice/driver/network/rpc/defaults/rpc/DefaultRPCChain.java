@@ -166,7 +166,8 @@ public void fireAndForget(@NonNull NetworkChannel component) {
   @Override
   public @NonNull <T> Task<T> fire(@NonNull NetworkChannel component) {
     // information about the root invocation
-    var dataBuf = this.dataBufFactory.createEmpty()
+    var sizeKey = new DefaultRPC.SizeKey(this.headRPC.className(), this.headRPC.methodName());
+    var dataBuf = this.dataBufFactory.createEmpty(sizeKey)
       .writeBoolean(true) // method chain
       .writeInt(this.rpcChain.size() + 1); // chain length (+1 because the root chain is not included)
     // write the root rpc first
@@ -164,8 +164,9 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) thro
           .writeBoolean(true) // was successful
           .writeBoolean(false);
       } else if (result.wasSuccessful()) {
-        // successful - write the result of the invocation
-        return objectMapper.writeObject(dataBufFactory.createEmpty().writeBoolean(true), result.invocationResult());
+        // successful - write the result of the invocation, the buffer size is predicted from previous results
+        var dataBuf = dataBufFactory.createEmpty(result.targetMethodInformation());
+        return objectMapper.writeObject(dataBuf.writeBoolean(true), result.invocationResult());
       } else {
         // not successful - send some basic information about the result
         var throwable = (Throwable) result.invocationResult();
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.permission;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The permissions of a permissible, including the permissions of all inherited groups, compiled into a structure that
+ * can be evaluated without collecting and scanning all permissions on each check. The result of the evaluation is the
+ * same as {@link DefaultPermissionManagement#findHighestPermission(Collection, Permission)} for the permissions this
+ * structure was compiled from.
+ * <p>
+ * Exact permissions are indexed by their lower case name. Wildcard permissions match if the checked permission name
+ * contains the wildcard permission name without the stars, therefore they are kept in a list ordered by the absolute
+ * potency and checked until the first match. The results of the evaluations are cached as well, the compiled structure
+ * must therefore be dropped when the permissions of the permissible or any inherited group change. To detect changes
+ * made directly to the permissible, the structure is bound to a hash of the own permissions and groups of the
+ * permissible it was compiled for.
+ *
+ * @since 4.0
+ */
+final class CompiledPermissions {
+
+  // limit the amount of cached results to not run out of memory when checking random permissions
+  private static final int MAX_CACHED_RESULTS = 4096;
+
+  private static final Comparator<Entry> ENTRY_ORDER = Comparator
+    .comparingInt(Entry::absolutePotency)
+    .thenComparingInt(Entry::index)
+    .reversed();
+
+  private final long version;
+  private final int fingerprint;
+
+  private final Map<String, Entry> exactPermissions;
+  private final Entry[] wildcardPermissions;
+  private final Map<Permission, PermissionCheckResult> results = new ConcurrentHashMap<>();
+
+  private CompiledPermissions(
+    long version,
+    int fingerprint,
+    @NonNull Map<String, Entry> exactPermissions,
+    @NonNull Entry[] wildcardPermissions
+  ) {
+    this.version = version;
+    this.fingerprint = fingerprint;
+    this.exactPermissions = exactPermissions;
+    this.wildcardPermissions = wildcardPermissions;
+  }
+
+  /**
+   * Compiles the given permissions. If multiple permissions match a checked permission with the same absolute potency,
+   * the permission which comes last in the iteration order of the given collection wins.
+   *
+   * @param permissions the permissions to compile.
+   * @param version     the version of the permission management when the permissions were collected.
+   * @param fingerprint the hash of the own permissions and groups of the permissible the permissions were collected of.
+   * @return the compiled permissions.
+   * @throws NullPointerException if the given permission collection is null.
+   */
+  static @NonNull CompiledPermissions compile(
+    @NonNull Collection<Permission> permissions,
+    long version,
+    int fingerprint
+  ) {
+    Map<String, Entry> exactPermissions = new HashMap<>();
+    var wildcardPermissions = new ArrayList<Entry>();
+
+    var index = 0;
+    for (var permission : permissions) {
+      var entry = new Entry(permission, permission.name().replace("*", ""), index++);
+      // keep the permission which would win when scanning all permissions with the same name
+      exactPermissions.merge(
+        permission.name().toLowerCase(Locale.ROOT),
+        entry,
+        (current, next) -> next.absolutePotency() >= current.absolutePotency() ? next : current);
+      if (permission.name().endsWith("*")) {
+        wildcardPermissions.add(entry);
+      }
+    }
+
+    wildcardPermissions.sort(ENTRY_ORDER);
+    return new CompiledPermissions(version, fingerprint, exactPermissions, wildcardPermissions.toArray(Entry[]::new));
+  }
+
+  /**
+   * Checks if this structure was compiled in the given version of the permission management for the given state of the
+   * permissible.
+   *
+   * @param version     the current version of the permission management.
+   * @param fingerprint the hash of the current own permissions and groups of the permissible.
+   * @return true if this structure can be used for the given version and permissible state, false otherwise.
+   */
+  boolean compiledFor(long version, int fingerprint) {
+    return this.version == version && this.fingerprint == fingerprint;
+  }
+
+  /**
+   * Evaluates the given permission against the compiled permissions.
+   *
+   * @param permission the permission to check.
+   * @return the result of the permission check.
+   * @throws NullPointerException if the given permission is null.
+   */
+  @NonNull PermissionCheckResult permissionResult(@NonNull Permission permission) {
+    var result = this.results.get(permission);
+    if (result == null) {
+      result = PermissionCheckResult.fromPermission(this.findHighestPermission(permission));
+      if (this.results.size() < MAX_CACHED_RESULTS) {
+        this.results.put(permission, result);
+      }
+    }
+
+    return result;
+  }
+
+  private @Nullable Permission findHighestPermission(@NonNull Permission permission) {
+    var best = this.exactPermissions.get(permission.name().toLowerCase(Locale.ROOT));
+    for (var wildcard : this.wildcardPermissions) {
+      // the wildcards are ordered, all following wildcards lose against the current best match
+      if (best != null && ENTRY_ORDER.compare(wildcard, best) > 0) {
+        break;
+      }
+
+      if (permission.name().contains(wildcard.match())) {
+        best = wildcard;
+        break;
+      }
+    }
+
+    // only permissions with at least the potency of the checked permission are taken into account
+    return best == null || best.permission().compareTo(permission) < 0 ? null : best.permission();
+  }
+
+  /**
+   * A compiled permission.
+   *
+   * @param permission the permission.
+   * @param match      the name of the permission without stars, contained in the names matched by a wildcard.
+   * @param index      the position of the permission in the compiled collection, used to break potency ties.
+   * @since 4.0
+   */
+  private record Entry(@NonNull Permission permission, @NonNull String match, int index) {
+
+    public int absolutePotency() {
+      return Math.abs(this.permission.potency());
+    }
+  }
+}
@@ -16,12 +16,19 @@
 
 package eu.cloudnetservice.driver.permission;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 import lombok.NonNull;
@@ -31,12 +38,38 @@
  * This abstract default permission management represents the implementation for the permission management. Methods
  * doing the calculation for permissions and their result are already implemented and there is no need to implement
  * those yourself.
+ * <p>
+ * The permissions of a permissible and all inherited groups are compiled once and cached for the permissible, the
+ * compiled permissions also cache the results of the checks. Implementations must call
+ * {@link #invalidateCompiledPermissions()} when a group changes and {@link #invalidateCompiledPermissions(UUID)} when
+ * a user changes.
+ * <p>
+ * Changes made directly to the checked permissible instance (for example adding a permission or group without updating
+ * the permissible through the management afterwards) are detected on the next check, as the compiled permissions are
+ * bound to a hash of the own permissions and groups of the permissible. Changes made directly to an instance of an
+ * inherited group are not detected, they become visible once the group is updated through the management.
  *
  * @see PermissionManagement
  * @since 4.0
  */
 public abstract class DefaultPermissionManagement implements PermissionManagement {
 
+  // the key for the compiled permissions which include no group permissions
+  private static final Object NO_GROUPS_KEY = new Object();
+  // the maximum amount of group combinations for which the permissions of a single permissible are compiled
+  private static final int MAX_COMPILED_GROUP_COMBINATIONS = 32;
+
+  // users are indexed by their unique id to allow them to be invalidated directly, all other permissibles (mostly
+  // groups) by their instance. the values are the compiled permissions of the permissible mapped by the checked groups
+  private final Cache<UUID, Map<Object, CompiledPermissions>> compiledUserPermissions = Caffeine.newBuilder()
+    .expireAfterAccess(5, TimeUnit.MINUTES)
+    .build();
+  private final Cache<Permissible, Map<Object, CompiledPermissions>> compiledPermissions = Caffeine.newBuilder()
+    .weakKeys()
+    .expireAfterAccess(5, TimeUnit.MINUTES)
+    .build();
+  private final AtomicLong compiledPermissionsVersion = new AtomicLong();
+
   /**
    * Gets the child permission management. The default implementation does not allow a child permission management,
    * therefore it's always null.
@@ -99,6 +132,17 @@ public boolean testPermissible(@Nullable Permissible permissible) {
       result |= entry.getValue().removeIf(tester);
     }
 
+    // the permissions of a group are compiled into the permissions of all permissibles inheriting from it
+    if (result) {
+      if (permissible instanceof PermissionGroup) {
+        this.invalidateCompiledPermissions();
+      } else if (permissible instanceof PermissionUser user) {
+        this.invalidateCompiledPermissions(user.uniqueId());
+      } else {
+        this.compiledPermissions.invalidate(permissible);
+      }
+    }
+
     return result;
   }
 
@@ -135,8 +179,7 @@ public boolean testPermissible(@Nullable Permissible permissible) {
     @NonNull Permissible permissible,
     @NonNull Permission permission
   ) {
-    return PermissionCheckResult.fromPermission(
-      this.findHighestPermission(this.collectAllPermissions(permissible, null), permission));
+    return this.compiledPermissions(permissible, null).permissionResult(permission);
   }
 
   /**
@@ -158,8 +201,77 @@ public boolean testPermissible(@Nullable Permissible permissible) {
   public @NonNull PermissionCheckResult groupsPermissionResult(@NonNull Permissible permissible,
     @NonNull String[] groups,
     @NonNull Permission permission) {
-    return PermissionCheckResult
-      .fromPermission(this.findHighestPermission(this.collectAllPermissions(permissible, groups), permission));
+    return this.compiledPermissions(permissible, groups).permissionResult(permission);
+  }
+
+  /**
+   * Invalidates the compiled permissions of all permissibles. This method must be called when a group was added,
+   * updated or removed, as the permissions of all inherited groups are compiled into the permissions of a permissible.
+   */
+  public void invalidateCompiledPermissions() {
+    this.compiledPermissionsVersion.incrementAndGet();
+    this.compiledUserPermissions.invalidateAll();
+    this.compiledPermissions.invalidateAll();
+  }
+
+  /**
+   * Invalidates the compiled permissions of the user with the given unique id. This method must be called when the
+   * user was updated or removed.
+   *
+   * @param uniqueId the unique id of the user to invalidate the compiled permissions of.
+   * @throws NullPointerException if the given unique id is null.
+   */
+  public void invalidateCompiledPermissions(@NonNull UUID uniqueId) {
+    this.compiledUserPermissions.invalidate(uniqueId);
+  }
+
+  /**
+   * Gets the compiled permissions of the given permissible, compiling them if the permissions were not compiled yet or
+   * were invalidated since.
+   *
+   * @param permissible the permissible to get the compiled permissions of.
+   * @param groups      the groups to include the group permissions of, null to include no group permissions.
+   * @return the compiled permissions of the given permissible.
+   * @throws NullPointerException if the given permissible is null.
+   */
+  private @NonNull CompiledPermissions compiledPermissions(
+    @NonNull Permissible permissible,
+    @Nullable String[] groups
+  ) {
+    var compiledByGroups = permissible instanceof PermissionUser user
+      ? this.compiledUserPermissions.get(user.uniqueId(), $ -> new ConcurrentHashMap<>())
+      : this.compiledPermissions.get(permissible, $ -> new ConcurrentHashMap<>());
+
+    // get the version before collecting the permissions, a concurrent invalidation causes a compile on the next check
+    var version = this.compiledPermissionsVersion.get();
+    var fingerprint = fingerprint(permissible);
+    var groupsKey = groups == null ? NO_GROUPS_KEY : List.of(groups);
+
+    var compiled = compiledByGroups.get(groupsKey);
+    if (compiled == null || !compiled.compiledFor(version, fingerprint)) {
+      compiled = CompiledPermissions.compile(this.collectAllPermissions(permissible, groups), version, fingerprint);
+      // prevent an unbounded growth when the permissible is checked for a lot of different group combinations
+      if (compiledByGroups.size() >= MAX_COMPILED_GROUP_COMBINATIONS) {
+        compiledByGroups.clear();
+      }
+
+      compiledByGroups.put(groupsKey, compiled);
+    }
+
+    return compiled;
+  }
+
+  /**
+   * Calculates a hash of the own permissions and groups of the given permissible, used to detect changes made directly
+   * to the permissible instead of through this management.
+   *
+   * @param permissible the permissible to calculate the hash of.
+   * @return a hash of the own permissions and groups of the given permissible.
+   * @throws NullPointerException if the given permissible is null.
+   */
+  private static int fingerprint(@NonNull Permissible permissible) {
+    var groups = permissible instanceof PermissionUser user ? user.groups() : permissible.groupNames();
+    return Objects.hash(permissible.permissions(), permissible.groupPermissions(), groups);
   }
 
   /**
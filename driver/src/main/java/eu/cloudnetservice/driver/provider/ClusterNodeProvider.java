@@ -21,6 +21,7 @@
 import eu.cloudnetservice.driver.cluster.NodeInfoSnapshot;
 import eu.cloudnetservice.driver.command.CommandInfo;
 import eu.cloudnetservice.driver.network.rpc.annotation.RPCValidation;
+import eu.cloudnetservice.driver.service.ThreadSnapshot;
 import java.util.Collection;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
@@ -155,6 +156,20 @@ public interface ClusterNodeProvider {
    */
   @Nullable NodeInfoSnapshot nodeInfoSnapshot(@NonNull String uniqueId);
 
+  /**
+   * Requests a snapshot of all threads which are currently known to the process of the node with the given unique id.
+   * The snapshots are created by the node when requested, which makes this method suitable to inspect the threads of a
+   * node when the published process snapshot of the node does not contain the thread snapshots.
+   * <p>
+   * This method returns an empty collection either if no node with the given unique id exists or the node is currently
+   * not connected.
+   *
+   * @param uniqueId the unique id of the node to get the thread snapshots of.
+   * @return a snapshot of all threads of the node process, empty if the node is not registered or connected.
+   * @throws NullPointerException if the given node unique id is null.
+   */
+  @NonNull Collection<ThreadSnapshot> threadSnapshots(@NonNull String uniqueId);
+
   /**
    * Get all commands which are registered on the current node. Additions and removals to the returned collection are
    * not possible and will not have any effect. There is no way to register a command from this provider because remote
@@ -287,4 +302,20 @@ public interface ClusterNodeProvider {
   default @NonNull Task<NodeInfoSnapshot> nodeInfoSnapshotAsync(@NonNull String uniqueId) {
     return Task.supply(() -> this.nodeInfoSnapshot(uniqueId));
   }
+
+  /**
+   * Requests a snapshot of all threads which are currently known to the process of the node with the given unique id.
+   * The snapshots are created by the node when requested, which makes this method suitable to inspect the threads of a
+   * node when the published process snapshot of the node does not contain the thread snapshots.
+   * <p>
+   * The returned task is completed with an empty collection either if no node with the given unique id exists or the
+   * node is currently not connected.
+   *
+   * @param uniqueId the unique id of the node to get the thread snapshots of.
+   * @return a task completed with a snapshot of all threads of the node process.
+   * @throws NullPointerException if the given node unique id is null.
+   */
+  default @NonNull Task<Collection<ThreadSnapshot>> threadSnapshotsAsync(@NonNull String uniqueId) {
+    return Task.supply(() -> this.threadSnapshots(uniqueId));
+  }
 }
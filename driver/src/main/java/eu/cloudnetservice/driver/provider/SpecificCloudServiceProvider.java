@@ -25,6 +25,7 @@
 import eu.cloudnetservice.driver.service.ServiceLifeCycle;
 import eu.cloudnetservice.driver.service.ServiceRemoteInclusion;
 import eu.cloudnetservice.driver.service.ServiceTemplate;
+import eu.cloudnetservice.driver.service.ThreadSnapshot;
 import java.util.Collection;
 import java.util.Queue;
 import lombok.NonNull;
@@ -133,6 +134,18 @@ public interface SpecificCloudServiceProvider {
    */
   @NonNull Queue<String> cachedLogMessages();
 
+  /**
+   * Requests a snapshot of all threads which are currently known to the process of the service. The snapshots are
+   * created by the service when requested, which makes this method suitable to inspect the threads of a service when
+   * the published process snapshot of the service does not contain the thread snapshots.
+   * <p>
+   * This method never returns null but returns an empty collection if the underlying service does not exist. If the
+   * service is not connected, the thread snapshots of the last reported process snapshot are returned instead.
+   *
+   * @return a snapshot of all threads of the service process.
+   */
+  @NonNull Collection<ThreadSnapshot> threadSnapshots();
+
   /**
    * Enables or disabled the screen event handling. When the log events get enabled an event will be called on the given
    * sender of the request holding information about the log line. The provided channel represents the event channel to
@@ -405,6 +418,20 @@ default void removeAndExecuteDeployments() {
     return Task.supply(this::cachedLogMessages);
   }
 
+  /**
+   * Requests a snapshot of all threads which are currently known to the process of the service. The snapshots are
+   * created by the service when requested, which makes this method suitable to inspect the threads of a service when
+   * the published process snapshot of the service does not contain the thread snapshots.
+   * <p>
+   * This method never returns null but returns an empty collection if the underlying service does not exist. If the
+   * service is not connected, the thread snapshots of the last reported process snapshot are returned instead.
+   *
+   * @return a task completed with a snapshot of all threads of the service process.
+   */
+  default @NonNull Task<Collection<ThreadSnapshot>> threadSnapshotsAsync() {
+    return Task.supply(this::threadSnapshots);
+  }
+
   /**
    * Enables or disabled the screen event handling. When the log events get enabled an event will be called on the given
    * sender of the request holding information about the log line. The provided channel represents the event channel to
@@ -24,12 +24,18 @@
 import java.lang.management.ThreadMXBean;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import lombok.NonNull;
 
 /**
  * A snapshot of the process resources at a specific time. It holds the most useful information for displaying or
  * storing statistics about a service / node (or anything else).
+ * <p>
+ * The snapshots which are periodically published into the cluster don't contain the snapshots of the process threads
+ * when the {@code cloudnet.compact-process-snapshots} system property is set to true, the format of the snapshot stays
+ * the same in both modes. The thread snapshots can be requested on demand from the component which created the process
+ * snapshot.
  *
  * @param pid                     the process id of the component which created the snapshot.
  * @param cpuUsage                the recent usage (in percent) of the cpu usage associated with the component process.
@@ -40,7 +46,8 @@
  * @param unloadedClassCount      the amount of classes the associated process unloaded since starting.
  * @param totalLoadedClassCount   the amount of classes which were loaded since the associated process was started.
  * @param currentLoadedClassCount the amount of classes which are currently loaded by the associated process.
- * @param threads                 a snapshot of all threads which are currently known to the associated process.
+ * @param threads                 a snapshot of all threads which are currently known to the associated process, empty
+ *                                if the snapshot was created without thread snapshots.
  * @since 4.0
  */
 public record ProcessSnapshot(
@@ -63,6 +70,7 @@ public record ProcessSnapshot(
   public static final OperatingSystemMXBean OS_BEAN = ManagementFactory.getPlatformMXBean(OperatingSystemMXBean.class);
 
   private static final long OWN_PID = ProcessHandle.current().pid();
+  private static final boolean COMPACT_SNAPSHOTS = Boolean.getBoolean("cloudnet.compact-process-snapshots");
   private static final ProcessSnapshot EMPTY = new ProcessSnapshot(
     -1, -1, -1, -1, -1, -1, -1, -1, -1, Set.of());
 
@@ -81,6 +89,26 @@ public record ProcessSnapshot(
    * @return a process snapshot holding information about the current process.
    */
   public static @NonNull ProcessSnapshot self() {
+    return self(true);
+  }
+
+  /**
+   * Creates a new process snapshot which is periodically published into the cluster. The snapshot only contains the
+   * snapshots of the threads of the current process if compact process snapshots are disabled.
+   *
+   * @return a process snapshot holding information about the current process.
+   */
+  public static @NonNull ProcessSnapshot periodic() {
+    return self(!COMPACT_SNAPSHOTS);
+  }
+
+  /**
+   * Creates a new process snapshot info filled with information about the current process.
+   *
+   * @param includeThreads if the snapshots of all threads of the current process should be included.
+   * @return a process snapshot holding information about the current process.
+   */
+  public static @NonNull ProcessSnapshot self(boolean includeThreads) {
     return new ProcessSnapshot(
       ownPID(),
       CpuUsageResolver.processCpuLoad(),
@@ -91,7 +119,16 @@ public record ProcessSnapshot(
       CLASS_LOADING_MX_BEAN.getUnloadedClassCount(),
       CLASS_LOADING_MX_BEAN.getTotalLoadedClassCount(),
       CLASS_LOADING_MX_BEAN.getLoadedClassCount(),
-      Arrays.stream(THREAD_MX_BEAN.dumpAllThreads(false, false, 0)).map(ThreadSnapshot::from).toList());
+      includeThreads ? threadSnapshots() : List.of());
+  }
+
+  /**
+   * Creates a snapshot of all threads which are currently known to the current process.
+   *
+   * @return a snapshot of all threads of the current process.
+   */
+  public static @NonNull Collection<ThreadSnapshot> threadSnapshots() {
+    return Arrays.stream(THREAD_MX_BEAN.dumpAllThreads(false, false, 0)).map(ThreadSnapshot::from).toList();
   }
 
   /**
@@ -103,6 +140,16 @@ public static long ownPID() {
     return ProcessSnapshot.OWN_PID;
   }
 
+  /**
+   * Get the amount of threads which were known to the associated process when this snapshot was created. The count is
+   * derived from the thread snapshots, therefore it is unknown for snapshots created without thread snapshots.
+   *
+   * @return the amount of threads of the associated process, -1 if the snapshot holds no thread snapshots.
+   */
+  public int threadCount() {
+    return this.threads.isEmpty() ? -1 : this.threads.size();
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -102,7 +102,7 @@ public boolean deploy(@NonNull ServiceTemplate target, @NonNull InputStream inpu
       .source(inputStream)
       .transferChannel("deploy_service_template")
       .withExtraData(DataBuf.empty().writeString(this.name).writeObject(target).writeBoolean(true))
-      .toChannels(this.networkClient.firstChannel())
+      .toChannels(this.networkClient::channels)
       .build()
       .transferChunkedData()
       .get(5, TimeUnit.MINUTES, TransferStatus.FAILURE) == TransferStatus.SUCCESS;
@@ -175,7 +175,7 @@ public boolean deploy(@NonNull ServiceTemplate target, @NonNull InputStream inpu
       $ -> ChunkedPacketSender.forFileTransfer()
         .forFile(localPath)
         .transferChannel("deploy_single_file")
-        .toChannels(this.networkClient.firstChannel())
+        .toChannels(this.networkClient::channels)
         .withExtraData(
           DataBuf.empty().writeString(this.name).writeObject(template).writeString(path).writeBoolean(append))
         .build()
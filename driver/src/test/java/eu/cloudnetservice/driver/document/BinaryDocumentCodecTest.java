@@ -0,0 +1,66 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.document;
+
+import eu.cloudnetservice.driver.document.send.BinaryDocumentCodec;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class BinaryDocumentCodecTest {
+
+  @Test
+  void testDocumentRoundTrip() {
+    var document = Document.newJsonDocument()
+      .append("boolean", true)
+      .append("int", 123456789)
+      .append("long", 123456789123L)
+      .append("double", 123456789.123D)
+      .append("string", "Hello World!")
+      .appendNull("null")
+      .append("list", List.of("a", "b", "c"))
+      .append("nested", Document.newJsonDocument().append("world", 1234));
+
+    var encoded = BinaryDocumentCodec.encode(document);
+    Assertions.assertTrue(BinaryDocumentCodec.isBinaryEncoded(encoded));
+
+    var decoded = BinaryDocumentCodec.decode(DocumentFactory.json(), encoded);
+    Assertions.assertEquals(document, decoded);
+    Assertions.assertEquals(123456789123L, decoded.getLong("long"));
+    Assertions.assertEquals("Hello World!", decoded.getString("string"));
+    Assertions.assertEquals(1234, decoded.readDocument("nested").getInt("world"));
+  }
+
+  @Test
+  void testParsedJsonDocumentRoundTrip() {
+    // numbers of parsed json documents are lazily parsed and have no concrete type
+    var json = "{\"int\":1234,\"decimal\":12.5,\"big\":123456789123456789123456789}";
+    var document = DocumentFactory.json().parse(json);
+
+    var decoded = BinaryDocumentCodec.decode(DocumentFactory.json(), BinaryDocumentCodec.encode(document));
+    Assertions.assertEquals(1234, decoded.getInt("int"));
+    Assertions.assertEquals(12.5D, decoded.getDouble("decimal"));
+    Assertions.assertEquals(document.getString("big"), decoded.getString("big"));
+  }
+
+  @Test
+  void testJsonIsNotDetectedAsBinary() {
+    var json = Document.newJsonDocument().append("hello", "world").toString().getBytes(StandardCharsets.UTF_8);
+    Assertions.assertFalse(BinaryDocumentCodec.isBinaryEncoded(json));
+  }
+}
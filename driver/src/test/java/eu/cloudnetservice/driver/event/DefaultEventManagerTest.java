@@ -18,6 +18,10 @@
 
 import com.google.common.collect.Iterables;
 import eu.cloudnetservice.driver.event.events.service.CloudServiceLifecycleChangeEvent;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Order;
@@ -69,6 +73,68 @@ void testEventCall() {
     var event = new TestEvent(123);
     Assertions.assertSame(event, eventManager.callEvent(event));
     Assertions.assertEquals(5678, event.number);
+
+    for (var listener : eventManager.registeredListeners()) {
+      var expectedInvocations = listener.eventClass() == TestEvent.class ? 1 : 0;
+      Assertions.assertEquals(expectedInvocations, listener.invocationCount());
+    }
+  }
+
+  @Test
+  @Order(15)
+  void testSuperTypeEventCall() {
+    EventManager eventManager = new DefaultEventManager();
+    eventManager.registerListener(SuperTypeListener.INSTANCE);
+
+    var event = new TestEvent(123);
+    eventManager.callEvent(event);
+    Assertions.assertEquals(1, event.counter);
+
+    // the listener is only listening to the default channel
+    eventManager.callEvent("123", event);
+    Assertions.assertEquals(1, event.counter);
+
+    // unregistering must invalidate the baked listeners
+    eventManager.unregisterListener(SuperTypeListener.INSTANCE);
+    eventManager.callEvent(event);
+    Assertions.assertEquals(1, event.counter);
+  }
+
+  @Test
+  @Order(18)
+  void testHasListeners() {
+    EventManager eventManager = new DefaultEventManager();
+    Assertions.assertFalse(eventManager.hasListeners(TestEvent.class));
+
+    // super type listeners are listening to the event as well
+    eventManager.registerListener(SuperTypeListener.INSTANCE);
+    Assertions.assertTrue(eventManager.hasListeners(TestEvent.class));
+    Assertions.assertFalse(eventManager.hasListeners("123", TestEvent.class));
+
+    eventManager.unregisterListener(SuperTypeListener.INSTANCE);
+    Assertions.assertFalse(eventManager.hasListeners(TestEvent.class));
+  }
+
+  @Test
+  @Order(16)
+  void testAsyncEventCall() throws InterruptedException {
+    var listener = new AsyncListener();
+    var eventManager = new DefaultEventManager();
+    eventManager.registerListener(listener);
+
+    // the executor is only created once an asynchronous listener gets called
+    Assertions.assertNull(eventManager.asyncListenerExecutor);
+    try {
+      for (var i = 0; i < 10; i++) {
+        eventManager.callEvent(new TestEvent(i));
+      }
+
+      // the events must be delivered in the order they were called
+      Assertions.assertTrue(listener.latch.await(5, TimeUnit.SECONDS));
+      Assertions.assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), listener.receivedNumbers);
+    } finally {
+      eventManager.close();
+    }
   }
 
   @Test
@@ -132,6 +198,30 @@ public boolean equals(Object obj) {
     }
   }
 
+  private static final class SuperTypeListener {
+
+    private static final SuperTypeListener INSTANCE = new SuperTypeListener();
+
+    @EventListener
+    public void handleEvent(Event event) {
+      if (event instanceof TestEvent testEvent) {
+        testEvent.counter++;
+      }
+    }
+  }
+
+  private static final class AsyncListener {
+
+    private final CountDownLatch latch = new CountDownLatch(10);
+    private final List<Integer> receivedNumbers = new CopyOnWriteArrayList<>();
+
+    @EventListener(async = true)
+    public void handleEvent(TestEvent event) {
+      this.receivedNumbers.add(event.number);
+      this.latch.countDown();
+    }
+  }
+
   private static final class TestEvent extends Event {
 
     private int number;
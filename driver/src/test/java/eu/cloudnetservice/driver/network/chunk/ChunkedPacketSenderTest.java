@@ -16,25 +16,38 @@
 
 package eu.cloudnetservice.driver.network.chunk;
 
+import eu.cloudnetservice.common.concurrent.Task;
 import eu.cloudnetservice.driver.network.NetworkChannel;
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.network.chunk.data.ChunkSessionInformation;
+import eu.cloudnetservice.driver.network.chunk.defaults.DefaultFileChunkedPacketHandler;
 import eu.cloudnetservice.driver.network.chunk.defaults.splitter.NetworkChannelsPacketSplitter;
+import eu.cloudnetservice.driver.network.chunk.network.ChunkedPacket;
+import eu.cloudnetservice.driver.network.chunk.network.ChunkedPacketListener;
 import eu.cloudnetservice.driver.network.protocol.Packet;
 import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.zip.CRC32C;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -51,6 +64,7 @@ void testChunkPacketSender() throws Exception {
     DataBuf dataBuf = DataBuf.empty().writeString("hello").writeInt(10).writeString("world");
 
     Assertions.assertEquals(TransferStatus.SUCCESS, ChunkedPacketSender.forFileTransfer()
+      .inFlightChunks(1)
       .chunkSize(256)
       .withExtraData(dataBuf)
       .sessionUniqueId(sessionId)
@@ -81,6 +95,7 @@ void testNetworkChannelSplitter() throws Exception {
       .collect(Collectors.toList()));
 
     Assertions.assertEquals(TransferStatus.SUCCESS, ChunkedPacketSender.forFileTransfer()
+      .inFlightChunks(1)
       .chunkSize(256)
       .withExtraData(dataBuf)
       .sessionUniqueId(sessionId)
@@ -95,6 +110,317 @@ void testNetworkChannelSplitter() throws Exception {
       .get());
   }
 
+  @Test
+  @Order(20)
+  @Timeout(20)
+  void testConcurrentFileTransfer(@TempDir Path tempDir) throws Exception {
+    var chunkData = new byte[4096 + 100];
+    ThreadLocalRandom.current().nextBytes(chunkData);
+
+    var sourceFile = tempDir.resolve("source");
+    Files.write(sourceFile, chunkData);
+
+    var receivedData = new CompletableFuture<byte[]>();
+    var sessionInformation = new ChunkSessionInformation(256, UUID.randomUUID(), "hello_world", DataBuf.empty());
+    var handler = new DefaultFileChunkedPacketHandler(
+      sessionInformation,
+      (information, dataInput) -> receivedData.complete(dataInput.readAllBytes()),
+      tempDir.resolve("target"));
+
+    Assertions.assertEquals(TransferStatus.SUCCESS, ChunkedPacketSender.forFileTransfer()
+      .inFlightChunks(4)
+      .forFile(sourceFile)
+      .chunkSize(256)
+      .sessionUniqueId(sessionInformation.sessionUniqueId())
+      .transferChannel("hello_world")
+      .packetSplitter(packet -> {
+        packet.content().readObject(ChunkSessionInformation.class);
+        handler.handleChunkPart(packet.content().readInt(), packet.content());
+      })
+      .build()
+      .transferChunkedData()
+      .get());
+
+    Assertions.assertEquals(TransferStatus.SUCCESS, handler.transferStatus());
+    Assertions.assertArrayEquals(chunkData, receivedData.get());
+  }
+
+  @Test
+  @Order(30)
+  @Timeout(20)
+  void testResumeFailedFileTransfer(@TempDir Path tempDir) throws Exception {
+    var chunkData = new byte[4096 + 100];
+    ThreadLocalRandom.current().nextBytes(chunkData);
+
+    var sourceFile = tempDir.resolve("source");
+    Files.write(sourceFile, chunkData);
+
+    var receivedData = new CompletableFuture<byte[]>();
+    var listener = new ChunkedPacketListener(information -> new DefaultFileChunkedPacketHandler(
+      information,
+      ($, dataInput) -> receivedData.complete(dataInput.readAllBytes()),
+      tempDir.resolve("target")));
+
+    // the first attempt to send the chunk 7 fails, all other chunks are delivered to the listener
+    var failedOnce = new AtomicBoolean();
+    var deliveredChunks = new AtomicInteger();
+    var queryResponse = new AtomicReference<Packet>();
+
+    var channel = Mockito.mock(NetworkChannel.class);
+    Mockito.when(channel.resumableChunks()).thenReturn(true);
+    Mockito
+      .doAnswer(invocation -> {
+        Packet packet = invocation.getArgument(0);
+        packet.content().startTransaction().readObject(ChunkSessionInformation.class);
+        var chunkIndex = packet.content().readInt();
+        packet.content().redoTransaction();
+
+        if (chunkIndex == 7 && failedOnce.compareAndSet(false, true)) {
+          throw new IllegalStateException("connection reset");
+        }
+
+        deliveredChunks.incrementAndGet();
+        listener.handle(channel, packet);
+        return null;
+      })
+      .when(channel)
+      .sendPacketSync(Mockito.any(Packet.class));
+    Mockito
+      .doAnswer(invocation -> {
+        queryResponse.set(invocation.getArgument(0));
+        return null;
+      })
+      .when(channel)
+      .sendPacket(Mockito.any(Packet.class));
+    Mockito
+      .doAnswer(invocation -> {
+        Packet packet = invocation.getArgument(0);
+        packet.uniqueId(UUID.randomUUID());
+        listener.handle(channel, packet);
+        return Task.completedTask(queryResponse.get());
+      })
+      .when(channel)
+      .sendQueryAsync(Mockito.any(Packet.class));
+
+    var sender = ChunkedPacketSender.forFileTransfer()
+      .inFlightChunks(4)
+      .resumeAttempts(1)
+      .forFile(sourceFile)
+      .chunkSize(256)
+      .transferChannel("hello_world")
+      .toChannels(channel)
+      .build();
+
+    Assertions.assertEquals(TransferStatus.SUCCESS, sender.transferChunkedData().get());
+    Assertions.assertArrayEquals(chunkData, receivedData.get());
+
+    // each chunk was only delivered once, the resumed transfer skipped all chunks which were received before
+    Assertions.assertEquals(4096 / 256 + 1, deliveredChunks.get());
+    Assertions.assertEquals(1D, sender.transferProgress().completion());
+  }
+
+  @Test
+  @Order(35)
+  @Timeout(20)
+  void testResumeFileTransferThroughNewChannel(@TempDir Path tempDir) throws Exception {
+    var chunkData = new byte[4096 + 100];
+    ThreadLocalRandom.current().nextBytes(chunkData);
+
+    var sourceFile = tempDir.resolve("source");
+    Files.write(sourceFile, chunkData);
+
+    var receivedData = new CompletableFuture<byte[]>();
+    var listener = new ChunkedPacketListener(information -> new DefaultFileChunkedPacketHandler(
+      information,
+      ($, dataInput) -> receivedData.complete(dataInput.readAllBytes()),
+      tempDir.resolve("target")));
+
+    // the old channel gets closed when sending the chunk 7, the transfer must be resumed through the new channel
+    var oldChannelClosed = new AtomicBoolean();
+    var oldChannelChunks = new AtomicInteger();
+    var newChannelChunks = new AtomicInteger();
+    var oldChannel = this.mockListenerChannel(listener, oldChannelChunks, 7, oldChannelClosed);
+    var newChannel = this.mockListenerChannel(listener, newChannelChunks, -1, new AtomicBoolean());
+
+    var sender = ChunkedPacketSender.forFileTransfer()
+      .inFlightChunks(4)
+      .resumeAttempts(1)
+      .forFile(sourceFile)
+      .chunkSize(256)
+      .transferChannel("hello_world")
+      .toChannels(() -> List.of(oldChannelClosed.get() ? newChannel : oldChannel))
+      .build();
+
+    Assertions.assertEquals(TransferStatus.SUCCESS, sender.transferChunkedData().get());
+    Assertions.assertArrayEquals(chunkData, receivedData.get());
+
+    // the new channel only received the chunks which were not delivered through the old channel
+    Assertions.assertTrue(newChannelChunks.get() > 0);
+    Assertions.assertEquals(4096 / 256 + 1, oldChannelChunks.get() + newChannelChunks.get());
+  }
+
+  @Test
+  @Order(37)
+  @Timeout(20)
+  void testTransferToLegacyChannelIsNotResumed(@TempDir Path tempDir) throws Exception {
+    var chunkData = new byte[4096 + 100];
+    ThreadLocalRandom.current().nextBytes(chunkData);
+
+    var sourceFile = tempDir.resolve("source");
+    Files.write(sourceFile, chunkData);
+
+    // the channel did not announce that it supports resume requests, the sender must not send them
+    var channel = Mockito.mock(NetworkChannel.class);
+    Mockito
+      .doThrow(new IllegalStateException("connection reset"))
+      .when(channel)
+      .sendPacketSync(Mockito.any(Packet.class));
+
+    var sender = ChunkedPacketSender.forFileTransfer()
+      .resumeAttempts(1)
+      .forFile(sourceFile)
+      .chunkSize(256)
+      .transferChannel("hello_world")
+      .toChannels(channel)
+      .build();
+
+    Assertions.assertEquals(TransferStatus.FAILURE, sender.transferChunkedData().get());
+    Mockito.verify(channel, Mockito.never()).sendQueryAsync(Mockito.any(Packet.class));
+  }
+
+  @Test
+  @Order(38)
+  void testChunkWithoutChecksumIsAccepted(@TempDir Path tempDir) throws Exception {
+    var chunkData = new byte[100];
+    ThreadLocalRandom.current().nextBytes(chunkData);
+
+    var receivedData = new CompletableFuture<byte[]>();
+    var sessionInformation = new ChunkSessionInformation(256, UUID.randomUUID(), "hello_world", DataBuf.empty());
+    var handler = new DefaultFileChunkedPacketHandler(
+      sessionInformation,
+      (information, dataInput) -> receivedData.complete(dataInput.readAllBytes()),
+      tempDir.resolve("target"));
+
+    // chunks of older senders have no checksum after the content
+    var legacyChunk = DataBuf.empty().writeBoolean(true).writeInt(0).writeByteArray(chunkData);
+    Assertions.assertTrue(handler.handleChunkPart(0, legacyChunk));
+    Assertions.assertArrayEquals(chunkData, receivedData.get());
+  }
+
+  @Test
+  @Order(39)
+  void testChunkWithInvalidChecksumIsRejected(@TempDir Path tempDir) throws Exception {
+    var sessionInformation = new ChunkSessionInformation(256, UUID.randomUUID(), "hello_world", DataBuf.empty());
+    var handler = new DefaultFileChunkedPacketHandler(sessionInformation, null, tempDir.resolve("target"));
+
+    var corruptedChunk = DataBuf.empty().writeBoolean(true).writeInt(0).writeByteArray(new byte[100]).writeInt(1);
+    Assertions.assertFalse(handler.handleChunkPart(0, corruptedChunk));
+    Assertions.assertTrue(handler.receivedChunks().isEmpty());
+    handler.abort();
+  }
+
+  @Test
+  @Order(40)
+  void testFailedSessionIsAborted() throws Exception {
+    var handler = Mockito.mock(ChunkedPacketHandler.class);
+    Mockito.when(handler.receivedChunks()).thenReturn(BitSet.valueOf(new long[]{0b111}));
+    Mockito
+      .when(handler.handleChunkPart(Mockito.anyInt(), Mockito.any(DataBuf.class)))
+      .thenReturn(false)
+      .thenThrow(new IllegalStateException("disk full"));
+
+    var listener = new ChunkedPacketListener($ -> handler);
+    var sessionInformation = new ChunkSessionInformation(256, UUID.randomUUID(), "hello_world", DataBuf.empty());
+
+    var queryResponse = new AtomicReference<Packet>();
+    var channel = Mockito.mock(NetworkChannel.class);
+    Mockito
+      .doAnswer(invocation -> {
+        queryResponse.set(invocation.getArgument(0));
+        return null;
+      })
+      .when(channel)
+      .sendPacket(Mockito.any(Packet.class));
+
+    // the first chunk opens the session, which is reported to the sender on resume
+    listener.handle(channel, ChunkedPacket.createChunk(sessionInformation, 0, new byte[256]));
+    listener.handle(channel, this.resumeRequest(sessionInformation));
+    Assertions.assertEquals(BitSet.valueOf(new long[]{0b111}), this.receivedChunks(queryResponse.get()));
+
+    // the second chunk fails, the session must be aborted and removed
+    Assertions.assertThrows(
+      IllegalStateException.class,
+      () -> listener.handle(channel, ChunkedPacket.createChunk(sessionInformation, 1, new byte[256])));
+    Mockito.verify(handler).abort();
+
+    listener.handle(channel, this.resumeRequest(sessionInformation));
+    Assertions.assertTrue(this.receivedChunks(queryResponse.get()).isEmpty());
+  }
+
+  private NetworkChannel mockListenerChannel(
+    ChunkedPacketListener listener,
+    AtomicInteger deliveredChunks,
+    int closeAtChunk,
+    AtomicBoolean closed
+  ) {
+    var queryResponse = new AtomicReference<Packet>();
+    var channel = Mockito.mock(NetworkChannel.class);
+    Mockito.when(channel.resumableChunks()).thenReturn(true);
+    Mockito
+      .doAnswer(invocation -> {
+        Packet packet = invocation.getArgument(0);
+        packet.content().startTransaction().readObject(ChunkSessionInformation.class);
+        var chunkIndex = packet.content().readInt();
+        packet.content().redoTransaction();
+
+        if (chunkIndex == closeAtChunk) {
+          closed.set(true);
+        }
+
+        if (closed.get()) {
+          throw new IllegalStateException("channel closed");
+        }
+
+        deliveredChunks.incrementAndGet();
+        listener.handle(channel, packet);
+        return null;
+      })
+      .when(channel)
+      .sendPacketSync(Mockito.any(Packet.class));
+    Mockito
+      .doAnswer(invocation -> {
+        queryResponse.set(invocation.getArgument(0));
+        return null;
+      })
+      .when(channel)
+      .sendPacket(Mockito.any(Packet.class));
+    Mockito
+      .doAnswer(invocation -> {
+        if (closed.get()) {
+          return Task.completedTask(new IllegalStateException("channel closed"));
+        }
+
+        Packet packet = invocation.getArgument(0);
+        packet.uniqueId(UUID.randomUUID());
+        listener.handle(channel, packet);
+        return Task.completedTask(queryResponse.get());
+      })
+      .when(channel)
+      .sendQueryAsync(Mockito.any(Packet.class));
+
+    return channel;
+  }
+
+  private Packet resumeRequest(ChunkSessionInformation information) {
+    var packet = ChunkedPacket.createResumeRequest(information);
+    packet.uniqueId(UUID.randomUUID());
+    return packet;
+  }
+
+  private BitSet receivedChunks(Packet response) {
+    return BitSet.valueOf(response.content().readByteArray());
+  }
+
   private byte[] generateRandomChunkData() {
     var data = new byte[4096];
     ThreadLocalRandom.current().nextBytes(data);
@@ -131,6 +457,10 @@ private void validatePacket(Packet packet, UUID sessionId, AtomicInteger splits,
     Assertions.assertArrayEquals(
       contentAtPosition,
       packet.content().readByteArray());
+
+    var checksum = new CRC32C();
+    checksum.update(contentAtPosition);
+    Assertions.assertEquals((int) checksum.getValue(), packet.content().readInt());
   }
 
   private NetworkChannel mockNetworkChannel(Consumer<Packet> packetSyncSendHandler) {
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.netty;
+
+import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
+import eu.cloudnetservice.driver.network.protocol.BasePacket;
+import eu.cloudnetservice.driver.network.protocol.Packet;
+import io.netty5.channel.Channel;
+import io.netty5.util.concurrent.Future;
+import io.netty5.util.concurrent.ImmediateEventExecutor;
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class NettyPacketWriteBatcherTest {
+
+  private Channel channel;
+  private List<Runnable> scheduledTasks;
+  private List<Packet> writtenPackets;
+
+  private static Packet packet(int contentSize) {
+    return new BasePacket(1, DataBufFactory.defaultFactory().createEmpty().writeByteArray(new byte[contentSize]));
+  }
+
+  @BeforeEach
+  void setupChannel() {
+    this.scheduledTasks = new ArrayList<>();
+    this.writtenPackets = new ArrayList<>();
+
+    // tasks submitted to the event loop are only run when requested by the test
+    this.channel = Mockito.mock(Channel.class, Mockito.RETURNS_DEEP_STUBS);
+    Mockito.when(this.channel.isActive()).thenReturn(true);
+    Mockito.doAnswer(invocation -> this.scheduledTasks.add(invocation.getArgument(0)))
+      .when(this.channel.executor())
+      .execute(Mockito.any());
+  }
+
+  @Test
+  void testFlushAtPacketThreshold() {
+    var batcher = new NettyPacketWriteBatcher(this.channel, this::writePacket, 2, Long.MAX_VALUE);
+    for (var i = 0; i < 5; i++) {
+      batcher.enqueue(packet(1));
+    }
+
+    // all packets are drained at once, the channel is flushed every two packets and once for the last packet
+    Assertions.assertEquals(1, this.scheduledTasks.size());
+    this.runScheduledTasks();
+
+    Assertions.assertEquals(5, this.writtenPackets.size());
+    Mockito.verify(this.channel, Mockito.times(3)).flush();
+    Assertions.assertEquals(3, batcher.flushCount());
+    Assertions.assertEquals(5, batcher.flushedPacketCount());
+    Assertions.assertEquals(5 / 3D, batcher.averagePacketsPerFlush());
+    this.releaseWrittenPackets();
+  }
+
+  @Test
+  void testFlushAtByteThreshold() {
+    var batcher = new NettyPacketWriteBatcher(this.channel, this::writePacket, Integer.MAX_VALUE, 100);
+    batcher.enqueue(packet(60));
+    batcher.enqueue(packet(60));
+    batcher.enqueue(packet(10));
+    this.runScheduledTasks();
+
+    // the first two packets reached the byte threshold, the last packet is flushed at the end of the drain
+    Assertions.assertEquals(3, this.writtenPackets.size());
+    Mockito.verify(this.channel, Mockito.times(2)).flush();
+    Assertions.assertEquals(2, batcher.flushCount());
+    this.releaseWrittenPackets();
+  }
+
+  @Test
+  void testFlushAtEndOfEveryDrain() {
+    var batcher = new NettyPacketWriteBatcher(this.channel, this::writePacket, 64, Long.MAX_VALUE);
+    batcher.enqueue(packet(1));
+    this.runScheduledTasks();
+
+    // packets below the thresholds are not held back until more packets arrive
+    Assertions.assertEquals(1, this.writtenPackets.size());
+    Mockito.verify(this.channel, Mockito.times(1)).flush();
+
+    // a packet enqueued after a drain schedules a new drain which flushes again
+    batcher.enqueue(packet(1));
+    Assertions.assertEquals(1, this.scheduledTasks.size());
+    this.runScheduledTasks();
+
+    Assertions.assertEquals(2, this.writtenPackets.size());
+    Mockito.verify(this.channel, Mockito.times(2)).flush();
+    this.releaseWrittenPackets();
+  }
+
+  @Test
+  void testPendingPacketsAreReleasedOnClose() {
+    var batcher = new NettyPacketWriteBatcher(this.channel, this::writePacket, 64, Long.MAX_VALUE);
+    var first = packet(1);
+    var second = packet(1);
+    batcher.enqueue(first);
+    batcher.enqueue(second);
+
+    // the channel is closed before the packets were drained
+    Mockito.when(this.channel.isActive()).thenReturn(false);
+    this.runScheduledTasks();
+
+    Assertions.assertTrue(this.writtenPackets.isEmpty());
+    Assertions.assertFalse(first.content().accessible());
+    Assertions.assertFalse(second.content().accessible());
+    Mockito.verify(this.channel, Mockito.never()).flush();
+    Assertions.assertEquals(0, batcher.flushCount());
+  }
+
+  @Test
+  void testTrackedWriteIsCompletedAfterWrite() {
+    var batcher = new NettyPacketWriteBatcher(this.channel, this::writePacket, 64, Long.MAX_VALUE);
+    batcher.enqueue(packet(1));
+    var result = batcher.enqueueTracked(packet(1));
+
+    // the task is only completed once the packet was actually written
+    Assertions.assertFalse(result.isDone());
+    this.runScheduledTasks();
+
+    Assertions.assertEquals(2, this.writtenPackets.size());
+    Assertions.assertTrue(result.isDone());
+    Assertions.assertFalse(result.isCompletedExceptionally());
+    this.releaseWrittenPackets();
+  }
+
+  @Test
+  void testTrackedWriteFailsWhenWriteFails() {
+    var failure = new IllegalStateException("connection reset");
+    var batcher = new NettyPacketWriteBatcher(
+      this.channel,
+      packet -> {
+        this.writtenPackets.add(packet);
+        return ImmediateEventExecutor.INSTANCE.newFailedFuture(failure);
+      },
+      64,
+      Long.MAX_VALUE);
+    var result = batcher.enqueueTracked(packet(1));
+    this.runScheduledTasks();
+
+    var exception = Assertions.assertThrows(ExecutionException.class, result::get);
+    Assertions.assertSame(failure, exception.getCause());
+    this.releaseWrittenPackets();
+  }
+
+  @Test
+  void testTrackedWriteFailsOnClose() {
+    var batcher = new NettyPacketWriteBatcher(this.channel, this::writePacket, 64, Long.MAX_VALUE);
+    var result = batcher.enqueueTracked(packet(1));
+
+    Mockito.when(this.channel.isActive()).thenReturn(false);
+    this.runScheduledTasks();
+
+    var exception = Assertions.assertThrows(ExecutionException.class, result::get);
+    Assertions.assertInstanceOf(ClosedChannelException.class, exception.getCause());
+  }
+
+  @Test
+  void testDrainNowWritesPendingPackets() {
+    var batcher = new NettyPacketWriteBatcher(this.channel, this::writePacket, 64, Long.MAX_VALUE);
+    var pending = packet(1);
+    batcher.enqueue(pending);
+
+    // packets written directly after draining cannot overtake the pending packets
+    batcher.drainNow();
+    Assertions.assertEquals(List.of(pending), this.writtenPackets);
+    Mockito.verify(this.channel, Mockito.times(1)).flush();
+
+    // the drain which was scheduled before has nothing left to write
+    this.runScheduledTasks();
+    Assertions.assertEquals(1, this.writtenPackets.size());
+    Mockito.verify(this.channel, Mockito.times(1)).flush();
+    this.releaseWrittenPackets();
+  }
+
+  private Future<Void> writePacket(Packet packet) {
+    this.writtenPackets.add(packet);
+    return ImmediateEventExecutor.INSTANCE.newSucceededFuture(null);
+  }
+
+  private void runScheduledTasks() {
+    var tasks = List.copyOf(this.scheduledTasks);
+    this.scheduledTasks.clear();
+    tasks.forEach(Runnable::run);
+  }
+
+  private void releaseWrittenPackets() {
+    this.writtenPackets.forEach(packet -> packet.content().release());
+  }
+}
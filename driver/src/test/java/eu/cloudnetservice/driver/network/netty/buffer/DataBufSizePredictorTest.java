@@ -0,0 +1,55 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.netty.buffer;
+
+import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class DataBufSizePredictorTest {
+
+  @Test
+  void testPredictionFollowsWrittenSizes() {
+    var predictor = new DataBufSizePredictor();
+    Assertions.assertEquals(0, predictor.predict("test").predictedSize());
+
+    // an increase is followed immediately
+    predictor.predict("test").complete(1000);
+    Assertions.assertEquals(1000, predictor.predict("test").predictedSize());
+
+    // a decrease only decays the prediction
+    predictor.predict("test").complete(200);
+    var prediction = predictor.predict("test").predictedSize();
+    Assertions.assertTrue(prediction > 200 && prediction < 1000);
+
+    // other keys are not affected
+    Assertions.assertEquals(0, predictor.predict("other").predictedSize());
+    Assertions.assertEquals(2, predictor.trackedKeys());
+    Assertions.assertEquals(1, predictor.underestimates());
+  }
+
+  @Test
+  void testBufferReportsSizeOnRelease() {
+    var factory = (NettyDataBufFactory) DataBufFactory.defaultFactory();
+    var buffer = factory.createEmpty(DataBufSizePredictorTest.class).writeLong(1).writeLong(2);
+    buffer.release();
+
+    var predicted = factory.createEmpty(DataBufSizePredictorTest.class);
+    Assertions.assertTrue(((NettyMutableDataBuf) predicted).buffer().capacity() >= Long.BYTES * 2);
+    predicted.release();
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.netty.buffer;
+
+import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class NettyDataBufFactoryTest {
+
+  @Test
+  void testSharedCopiesOf() {
+    var source = DataBufFactory.defaultFactory().createEmpty().writeInt(0).writeInt(1).writeInt(2);
+    Assertions.assertEquals(0, source.readInt());
+
+    // the source is released, the copies only contain the readable content of it
+    var copies = DataBufFactory.defaultFactory().sharedCopiesOf(source, 3);
+    Assertions.assertFalse(source.accessible());
+    Assertions.assertEquals(3, copies.length);
+
+    // each copy has its own reader offset
+    Assertions.assertEquals(1, copies[0].readInt());
+    Assertions.assertEquals(1, copies[1].readInt());
+    Assertions.assertEquals(2, copies[0].readInt());
+
+    // reading the end of the first copy released it, the shared memory must still be readable through the others
+    Assertions.assertFalse(copies[0].accessible());
+    Assertions.assertEquals(2, copies[1].readInt());
+    Assertions.assertFalse(copies[1].accessible());
+
+    Assertions.assertTrue(copies[2].accessible());
+    Assertions.assertEquals(1, copies[2].readInt());
+    Assertions.assertEquals(2, copies[2].readInt());
+    Assertions.assertFalse(copies[2].accessible());
+  }
+
+  @Test
+  void testSharedCopiesOfClosedOutOfOrder() {
+    var source = DataBufFactory.defaultFactory().createEmpty().writeString("Hello World");
+    var copies = DataBufFactory.defaultFactory().sharedCopiesOf(source, 2);
+
+    // closing a copy does not affect the other copy
+    copies[0].close();
+    Assertions.assertFalse(copies[0].accessible());
+    Assertions.assertTrue(copies[1].accessible());
+    Assertions.assertEquals("Hello World", copies[1].readString());
+    Assertions.assertFalse(copies[1].accessible());
+  }
+}
@@ -26,13 +26,15 @@
 import io.netty5.channel.ChannelHandlerContext;
 import java.util.concurrent.ThreadLocalRandom;
 import org.junit.jupiter.api.Assertions;
-import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mockito;
 
 public class NettyPacketCodecTest {
 
-  @Test
-  void testNettyPacketCodec() {
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void testNettyPacketCodec(boolean splitBodies) {
     // dummy write
     var packetChannel = ThreadLocalRandom.current().nextInt();
     DataBuf dataBuf = DataBufFactory.defaultFactory().createEmpty()
@@ -61,12 +63,15 @@ void testNettyPacketCodec() {
         Assertions.assertEquals(1234, packet.content().readInt());
         Assertions.assertEquals(5D, packet.content().readDouble());
 
+        // the body must be released once all data was read
+        Assertions.assertFalse(packet.content().accessible());
+
         // whatever
         return null;
       });
 
       // decode the packet again
-      var decoder = new NettyPacketDecoder();
+      var decoder = new NettyPacketDecoder(splitBodies);
       decoder.decode(inCtx, buffer);
 
       // whatever
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.netty.codec;
+
+import eu.cloudnetservice.driver.network.protocol.defaults.DefaultQueryPacketManager;
+import io.netty5.buffer.DefaultBufferAllocators;
+import java.util.UUID;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class QueryIdCodecTest {
+
+  private static @Nullable UUID roundTrip(@Nullable UUID queryUniqueId) {
+    try (var buffer = DefaultBufferAllocators.onHeapAllocator().allocate(32)) {
+      QueryIdCodec.write(buffer, queryUniqueId);
+      Assertions.assertEquals(QueryIdCodec.encodedLength(queryUniqueId), buffer.readableBytes());
+
+      var result = QueryIdCodec.read(buffer);
+      Assertions.assertEquals(0, buffer.readableBytes());
+      return result;
+    }
+  }
+
+  @Test
+  void testAbsentQueryId() {
+    Assertions.assertNull(roundTrip(null));
+  }
+
+  @Test
+  void testFullQueryId() {
+    var queryUniqueId = UUID.randomUUID();
+    Assertions.assertEquals(queryUniqueId, roundTrip(queryUniqueId));
+  }
+
+  @Test
+  void testCompactQueryIdSwapsOrigin() {
+    var local = new UUID(DefaultQueryPacketManager.LOCAL_COMPACT_QUERY_ID, 0xFFFFFFFFL);
+    var remote = new UUID(DefaultQueryPacketManager.REMOTE_COMPACT_QUERY_ID, 0xFFFFFFFFL);
+    Assertions.assertEquals(6, QueryIdCodec.encodedLength(local));
+
+    // a query created by the sender is a remote query for the receiver and vice versa
+    Assertions.assertEquals(remote, roundTrip(local));
+    Assertions.assertEquals(local, roundTrip(remote));
+  }
+
+  @Test
+  void testCompactPrefixWithLargeIdIsWrittenFully() {
+    var queryUniqueId = new UUID(DefaultQueryPacketManager.LOCAL_COMPACT_QUERY_ID, 1L << 32);
+    Assertions.assertEquals(17, QueryIdCodec.encodedLength(queryUniqueId));
+    Assertions.assertEquals(queryUniqueId, roundTrip(queryUniqueId));
+  }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package eu.cloudnetservice.driver.network.netty.communication;
+
+import eu.cloudnetservice.common.concurrent.Task;
+import eu.cloudnetservice.driver.ComponentInfo;
+import eu.cloudnetservice.driver.DriverEnvironment;
+import eu.cloudnetservice.driver.event.DefaultEventManager;
+import eu.cloudnetservice.driver.event.EventListener;
+import eu.cloudnetservice.driver.event.events.network.NetworkChannelPacketSendEvent;
+import eu.cloudnetservice.driver.network.HostAndPort;
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.NetworkChannelHandler;
+import eu.cloudnetservice.driver.network.NetworkTestCase;
+import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
+import eu.cloudnetservice.driver.network.netty.NettyNetworkChannel;
+import eu.cloudnetservice.driver.network.netty.client.NettyNetworkClient;
+import eu.cloudnetservice.driver.network.netty.server.NettyNetworkServer;
+import eu.cloudnetservice.driver.network.protocol.BasePacket;
+import eu.cloudnetservice.driver.network.protocol.Packet;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.NonNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Measures the packet send paths over a loopback connection. The test only asserts that all packets arrived, the
+ * measured times are printed to the test output. The optional send path settings are read once per jvm, therefore they
+ * are compared by running the test once without and once with the setting enabled:
+ * <pre>
+ * ./gradlew :driver:test --tests '*NettySendPathMeasurementTest' --rerun -i
+ * ./gradlew :driver:test --tests '*NettySendPathMeasurementTest' --rerun -i -Dcloudnet.network.batch-writes=true
+ * </pre>
+ * The settings of interest are {@code cloudnet.network.batch-writes}, {@code cloudnet.network.pooled-buffers} and
+ * {@code cloudnet.network.compact-query-ids}. The effect of skipping the packet send event when nobody listens is
+ * measured in every run. The amount of packets sent per round can be changed using
+ * {@code cloudnet.test.measured-packets}.
+ */
+public class NettySendPathMeasurementTest extends NetworkTestCase {
+
+  private static final int PACKETS = Integer.getInteger("cloudnet.test.measured-packets", 20_000);
+  private static final int PAYLOAD_SIZE = 128;
+
+  private final AtomicReference<CountDownLatch> receivedPackets = new AtomicReference<>(new CountDownLatch(0));
+
+  @Test
+  void measureSendPaths() throws Exception {
+    var networkPort = randomFreePort();
+
+    var eventManager = new DefaultEventManager();
+    var componentInfo = new ComponentInfo(DriverEnvironment.WRAPPER, "Testing", "Testing-Node");
+
+    var server = new NettyNetworkServer(eventManager, componentInfo, CountingHandler::new);
+    var client = new NettyNetworkClient(eventManager, componentInfo, () -> Mockito.mock(NetworkChannelHandler.class));
+    try {
+      server.addListener(networkPort).join();
+      client.connect(HostAndPort.fromSocketAddress(
+        new InetSocketAddress(InetAddress.getLoopbackAddress(), networkPort))).join();
+      var channel = client.firstChannel();
+
+      // the first rounds warm up the jit and the buffer size prediction
+      this.sendPackets(channel);
+      this.sendQueries(channel);
+
+      var sendNanos = this.sendPackets(channel);
+      var queryNanos = this.sendQueries(channel);
+
+      // the send event is only created and called when a listener is registered
+      eventManager.registerListener(PacketSendListener.INSTANCE);
+      var listenedSendNanos = this.sendPackets(channel);
+      eventManager.unregisterListener(PacketSendListener.INSTANCE);
+
+      System.out.printf(
+        "Send path measurement (%d packets of %d bytes; batch-writes=%s, pooled-buffers=%s, compact-query-ids=%s)%n",
+        PACKETS,
+        PAYLOAD_SIZE,
+        Boolean.getBoolean("cloudnet.network.batch-writes"),
+        Boolean.getBoolean("cloudnet.network.pooled-buffers"),
+        Boolean.getBoolean("cloudnet.network.compact-query-ids"));
+      printRound("sendPacket", sendNanos);
+      printRound("sendPacket with send listener", listenedSendNanos);
+      printRound("sendQueryAsync round trip", queryNanos);
+
+      if (channel instanceof NettyNetworkChannel nettyChannel && nettyChannel.writeBatcher() != null) {
+        System.out.printf(
+          " - average packets per flush: %.2f%n",
+          nettyChannel.writeBatcher().averagePacketsPerFlush());
+      }
+    } finally {
+      client.close();
+      server.close();
+      eventManager.close();
+    }
+  }
+
+  private static void printRound(@NonNull String name, long nanos) {
+    System.out.printf(
+      " - %s: %.2f ms, %.0f packets/s%n",
+      name,
+      nanos / 1_000_000D,
+      PACKETS / (nanos / 1_000_000_000D));
+  }
+
+  private static @NonNull Packet newPacket() {
+    return new BasePacket(1, DataBufFactory.defaultFactory().createEmpty().writeByteArray(new byte[PAYLOAD_SIZE]));
+  }
+
+  private long sendPackets(@NonNull NetworkChannel channel) throws InterruptedException {
+    var latch = new CountDownLatch(PACKETS);
+    this.receivedPackets.set(latch);
+
+    var start = System.nanoTime();
+    for (var i = 0; i < PACKETS; i++) {
+      channel.sendPacket(newPacket());
+    }
+
+    Assertions.assertTrue(latch.await(1, TimeUnit.MINUTES), "Not all packets were received");
+    return System.nanoTime() - start;
+  }
+
+  private long sendQueries(@NonNull NetworkChannel channel) {
+    var start = System.nanoTime();
+    var results = new ArrayList<Task<Packet>>(PACKETS);
+    for (var i = 0; i < PACKETS; i++) {
+      results.add(channel.sendQueryAsync(newPacket()));
+    }
+
+    for (var result : results) {
+      var response = result.getOrNull();
+      Assertions.assertNotNull(response, "Query was not answered");
+      response.content().release();
+    }
+    return System.nanoTime() - start;
+  }
+
+  private static final class PacketSendListener {
+
+    private static final PacketSendListener INSTANCE = new PacketSendListener();
+
+    @EventListener
+    public void handlePacketSend(NetworkChannelPacketSendEvent event) {
+    }
+  }
+
+  private final class CountingHandler implements NetworkChannelHandler {
+
+    @Override
+    public void handleChannelInitialize(@NonNull NetworkChannel channel) {
+    }
+
+    @Override
+    public boolean handlePacketReceive(@NonNull NetworkChannel channel, @NonNull Packet packet) {
+      if (packet.uniqueId() != null) {
+        // answer queries, the content of the received packet is released by the caller
+        channel.sendPacket(packet.constructResponse(DataBufFactory.defaultFactory().createEmpty()));
+      } else {
+        NettySendPathMeasurementTest.this.receivedPackets.get().countDown();
+      }
+      return false;
+    }
+
+    @Override
+    public void handleChannelClose(@NonNull NetworkChannel channel) {
+    }
+  }
+}
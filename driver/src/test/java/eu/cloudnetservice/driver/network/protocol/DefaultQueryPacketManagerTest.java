@@ -16,11 +16,15 @@
 
 package eu.cloudnetservice.driver.network.protocol;
 
+import eu.cloudnetservice.common.concurrent.Task;
 import eu.cloudnetservice.common.tuple.Tuple2;
 import eu.cloudnetservice.driver.network.NetworkChannel;
 import eu.cloudnetservice.driver.network.protocol.defaults.DefaultQueryPacketManager;
 import java.time.Duration;
+import java.io.IOException;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -32,7 +36,7 @@ public class DefaultQueryPacketManagerTest {
   @Test
   void testSendQueryPacket() {
     var mockedPacket = this.mockUniqueIdAblePacket();
-    QueryPacketManager manager = new DefaultQueryPacketManager(Mockito.mock(NetworkChannel.class));
+    QueryPacketManager manager = new DefaultQueryPacketManager(this.mockChannel());
 
     manager.sendQueryPacket(mockedPacket.first());
 
@@ -47,7 +51,7 @@ void testSendQueryPacket() {
   void testSendQueryPacketWithFixedId() {
     var uniqueId = UUID.randomUUID();
     var mockedPacket = this.mockUniqueIdAblePacket();
-    QueryPacketManager manager = new DefaultQueryPacketManager(Mockito.mock(NetworkChannel.class));
+    QueryPacketManager manager = new DefaultQueryPacketManager(this.mockChannel());
 
     manager.sendQueryPacket(mockedPacket.first(), uniqueId);
 
@@ -62,7 +66,7 @@ void testSendQueryPacketWithFixedId() {
   @Test
   void testGetAndRemoveHandler() {
     var mockedPacket = this.mockUniqueIdAblePacket();
-    QueryPacketManager manager = new DefaultQueryPacketManager(Mockito.mock(NetworkChannel.class));
+    QueryPacketManager manager = new DefaultQueryPacketManager(this.mockChannel());
 
     var task = manager.sendQueryPacket(mockedPacket.first());
 
@@ -74,9 +78,7 @@ void testGetAndRemoveHandler() {
   @Timeout(10)
   void testHandlerTimeout() throws InterruptedException {
     var mockedPacket = this.mockUniqueIdAblePacket();
-    QueryPacketManager manager = new DefaultQueryPacketManager(
-      Mockito.mock(NetworkChannel.class),
-      Duration.ofSeconds(2));
+    QueryPacketManager manager = new DefaultQueryPacketManager(this.mockChannel(), Duration.ofSeconds(2));
 
     var task = manager.sendQueryPacket(mockedPacket.first());
     Assertions.assertTrue(manager.hasWaitingHandler(mockedPacket.second().get()));
@@ -89,6 +91,27 @@ void testHandlerTimeout() throws InterruptedException {
     Assertions.assertTrue(task.isDone());
   }
 
+  @Test
+  @Timeout(10)
+  void testFailedWriteFailsQuery() {
+    var mockedPacket = this.mockUniqueIdAblePacket();
+    var channel = Mockito.mock(NetworkChannel.class);
+    Mockito.when(channel.sendPacketAsync(Mockito.any())).thenReturn(Task.completedTask(new IOException("closed")));
+    QueryPacketManager manager = new DefaultQueryPacketManager(channel, Duration.ofMinutes(1));
+
+    // the query is failed right away instead of waiting for the timeout
+    var task = manager.sendQueryPacket(mockedPacket.first());
+    var exception = Assertions.assertThrows(ExecutionException.class, () -> task.get(5, TimeUnit.SECONDS));
+    Assertions.assertInstanceOf(IOException.class, exception.getCause());
+    Assertions.assertFalse(manager.hasWaitingHandler(mockedPacket.second().get()));
+  }
+
+  private NetworkChannel mockChannel() {
+    var channel = Mockito.mock(NetworkChannel.class);
+    Mockito.when(channel.sendPacketAsync(Mockito.any())).thenReturn(Task.completedTask(null));
+    return channel;
+  }
+
   private Tuple2<Packet, AtomicReference<UUID>> mockUniqueIdAblePacket() {
     var reference = new AtomicReference<UUID>();
 
@@ -23,6 +23,8 @@
 import eu.cloudnetservice.driver.network.HostAndPort;
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.network.rpc.defaults.object.DefaultObjectMapper;
+import eu.cloudnetservice.driver.network.rpc.defaults.object.serializers.DocumentObjectSerializer;
+import eu.cloudnetservice.driver.network.rpc.defaults.object.serializers.FunctionalObjectSerializer;
 import eu.cloudnetservice.driver.service.ProcessSnapshot;
 import eu.cloudnetservice.driver.service.ServiceConfiguration;
 import eu.cloudnetservice.driver.service.ServiceEnvironmentType;
@@ -52,6 +54,7 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Assertions;
@@ -135,6 +138,7 @@ static Stream<Arguments> dataClassProvider() {
     return Stream.of(
       Arguments.of(new AllPrimitiveTypesDataClass()),
       Arguments.of(ThreadSnapshot.from(Thread.currentThread())),
+      Arguments.of(ProcessSnapshot.self(false)),
       Arguments.of(ServiceId.builder()
         .taskName("Lobby")
         .nameSplitter("hello")
@@ -344,6 +348,77 @@ void testDataClassSerialization(Object o) {
     Assertions.assertEquals(o, result);
   }
 
+  @Test
+  @Order(65)
+  void testDataClassPrimitiveFormat() {
+    // primitives and strings of data classes are written directly, the format must match the one of the mapper
+    var mapper = new DefaultObjectMapper();
+    var buf = DataBuf.empty();
+    var dataClass = new AllPrimitiveTypesDataClass();
+
+    mapper.writeObject(buf, dataClass);
+
+    Assertions.assertTrue(buf.readBoolean());
+    Assertions.assertEquals(dataClass.b(), (byte) mapper.readObject(buf, byte.class));
+    Assertions.assertEquals(dataClass.s(), (short) mapper.readObject(buf, short.class));
+    Assertions.assertEquals(dataClass.i(), (int) mapper.readObject(buf, int.class));
+    Assertions.assertEquals(dataClass.l(), (long) mapper.readObject(buf, long.class));
+    Assertions.assertEquals(dataClass.f(), (float) mapper.readObject(buf, float.class));
+    Assertions.assertEquals(dataClass.d(), (double) mapper.readObject(buf, double.class));
+    Assertions.assertEquals(dataClass.c(), (char) mapper.readObject(buf, char.class));
+    Assertions.assertEquals(dataClass.string(), mapper.readObject(buf, String.class));
+    Assertions.assertEquals(dataClass.bol(), (boolean) mapper.readObject(buf, boolean.class));
+  }
+
+  @Test
+  @Order(66)
+  void testBindingChangeAfterResolve() {
+    var mapper = new DefaultObjectMapper();
+    var uniqueId = UUID.randomUUID();
+
+    // resolve the serializer of the type once
+    mapper.writeObject(DataBuf.empty(), uniqueId);
+
+    // replace the binding, the new serializer must be used from now on
+    mapper.unregisterBinding(UUID.class, false);
+    mapper.registerBinding(
+      UUID.class,
+      FunctionalObjectSerializer.of(
+        buf -> UUID.fromString(buf.readString()),
+        (buf, id) -> buf.writeString(id.toString())),
+      false);
+
+    var buf = DataBuf.empty();
+    mapper.writeObject(buf, uniqueId);
+
+    Assertions.assertTrue(buf.readBoolean());
+    Assertions.assertEquals(uniqueId.toString(), buf.readString());
+  }
+
+  @Test
+  @Order(67)
+  void testBinaryDocumentSerialization() {
+    var mapper = new DefaultObjectMapper();
+    var buf = DataBuf.empty();
+    var document = Document.newJsonDocument()
+      .append("name", "Lobby-1")
+      .append("onlineCount", 25)
+      .append("motd", List.of("Hello", "World"))
+      .append("nested", Document.newJsonDocument().append("enabled", true));
+
+    DocumentObjectSerializer.binaryEncoding(true);
+    try {
+      mapper.writeObject(buf, document);
+    } finally {
+      DocumentObjectSerializer.binaryEncoding(false);
+    }
+    mapper.writeObject(buf, document);
+
+    // both the binary and the json encoded document must be readable
+    Assertions.assertEquals(document, mapper.readObject(buf, Document.class));
+    Assertions.assertEquals(document, mapper.readObject(buf, Document.class));
+  }
+
   @Test
   @Order(70)
   void testByteArrayWriting() {
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.permission;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class CompiledPermissionsTest {
+
+  private static final List<String> NAMES = List.of(
+    "*", "cloudnet.*", "cloudnet.command.*", "cloudnet.command.tasks", "CloudNet.Command.Tasks", "command.*",
+    "cloudnet.command.service", "other.permission", "other.*", "tasks*");
+
+  @Test
+  void testCompiledPermissionsMatchLinearScan() {
+    var management = Mockito.mock(DefaultPermissionManagement.class, Mockito.CALLS_REAL_METHODS);
+    var random = new Random(1234);
+
+    for (var run = 0; run < 500; run++) {
+      Set<Permission> permissions = new HashSet<>();
+      for (var i = random.nextInt(NAMES.size()); i >= 0; i--) {
+        var name = NAMES.get(random.nextInt(NAMES.size()));
+        permissions.add(Permission.builder().name(name).potency(random.nextInt(7) - 3).build());
+      }
+
+      var compiled = CompiledPermissions.compile(permissions, 0, 0);
+      for (var name : NAMES) {
+        for (var checkedName : List.of(name, name.replace("*", "test"), name.toUpperCase())) {
+          var permission = Permission.builder().name(checkedName).potency(random.nextInt(3) - 1).build();
+          var highest = management.findHighestPermission(permissions, permission);
+          var expected = PermissionCheckResult.fromPermission(highest);
+          Assertions.assertEquals(expected, compiled.permissionResult(permission), permissions + " " + permission);
+          // the second check is served from the result cache
+          Assertions.assertEquals(expected, compiled.permissionResult(permission));
+        }
+      }
+    }
+  }
+
+  @Test
+  void testCompiledFor() {
+    var compiled = CompiledPermissions.compile(Set.of(), 5, 1234);
+
+    Assertions.assertTrue(compiled.compiledFor(5, 1234));
+    Assertions.assertFalse(compiled.compiledFor(6, 1234));
+    Assertions.assertFalse(compiled.compiledFor(5, 4321));
+  }
+
+  @Test
+  void testCompiledPermissionsOfPermissibles() {
+    var management = Mockito.mock(
+      DefaultPermissionManagement.class,
+      Mockito.withSettings().useConstructor().defaultAnswer(Mockito.CALLS_REAL_METHODS));
+    var user = PermissionUser.builder().name("derklaro").uniqueId(UUID.randomUUID()).build();
+    user.addPermission("Lobby", Permission.of("cloudnet.lobby"));
+
+    // the permissions are compiled once per group combination, alternating checks re-use them
+    var permission = Permission.of("cloudnet.lobby");
+    for (var i = 0; i < 3; i++) {
+      Assertions.assertEquals(
+        PermissionCheckResult.ALLOWED,
+        management.groupsPermissionResult(user, new String[]{"Lobby"}, permission));
+      Assertions.assertEquals(
+        PermissionCheckResult.DENIED,
+        management.groupsPermissionResult(user, new String[]{"Proxy"}, permission));
+    }
+    Mockito.verify(management, Mockito.times(2)).collectAllPermissions(Mockito.eq(user), Mockito.any());
+
+    // changes made directly to the user are detected
+    Assertions.assertEquals(PermissionCheckResult.DENIED, management.permissionResult(user, permission));
+    user.addPermission(Permission.of("cloudnet.lobby"));
+    Assertions.assertEquals(PermissionCheckResult.ALLOWED, management.permissionResult(user, permission));
+    user.removePermission("cloudnet.lobby");
+    Assertions.assertEquals(PermissionCheckResult.DENIED, management.permissionResult(user, permission));
+
+    // an invalidation of the user compiles the permissions again
+    Mockito.clearInvocations(management);
+    management.invalidateCompiledPermissions(user.uniqueId());
+    Assertions.assertEquals(PermissionCheckResult.DENIED, management.permissionResult(user, permission));
+    Mockito.verify(management).collectAllPermissions(Mockito.eq(user), Mockito.any());
+  }
+}
@@ -79,7 +79,7 @@ public void convertOldDatabaseEntries(
     // read the first player from the database - if the first player is valid we don't need to take a look at the other
     // players in the database as they were already converted
     var playerDb = databaseProvider.database(BRIDGE_PLAYER_DB_NAME);
-    var first = playerDb.readChunk(0, 1);
+    var first = playerDb.readChunkAfter(null, 1);
     if (first != null && !first.isEmpty()) {
       // validate the offline player
       var document = Iterables.getOnlyElement(first.values());
@@ -91,9 +91,13 @@ public void convertOldDatabaseEntries(
 
         // invalid player data - convert the database
         var convertedPlayers = 0;
+        String lastConvertedKey = null;
         Map<String, Document> chunkData;
-        while ((chunkData = playerDb.readChunk(convertedPlayers, 100)) != null) {
+        while ((chunkData = playerDb.readChunkAfter(lastConvertedKey, 100)) != null) {
+          Map<String, Document> convertedChunk = new HashMap<>();
           for (var entry : chunkData.entrySet()) {
+            lastConvertedKey = entry.getKey();
+
             // get all the required path
             var valueCopy = entry.getValue().mutableCopy();
             var lastProxyInfo = valueCopy.readMutableDocument("lastNetworkConnectionInfo");
@@ -124,9 +128,12 @@ public void convertOldDatabaseEntries(
             valueCopy.remove("lastNetworkConnectionInfo");
 
             // update the entry
-            playerDb.insert(entry.getKey(), valueCopy);
+            convertedChunk.put(entry.getKey(), valueCopy);
           }
 
+          // write all converted entries of the chunk at once
+          playerDb.insertAll(convertedChunk);
+
           // check if the chunk size was exactly 100 players - if not we just completed the last chunk
           convertedPlayers += chunkData.size();
           if (chunkData.size() != 100) {
@@ -303,7 +303,10 @@ public void pushOnlinePlayerCache(@NonNull CloudPlayer cloudPlayer) {
   }
 
   protected @NonNull LocalDatabase database() {
-    return this.nodeDatabaseProvider.database(this.databaseName);
+    var database = this.nodeDatabaseProvider.database(this.databaseName);
+    // offline players are looked up by their name, databases only create the index on the first call
+    database.createIndex("name");
+    return database;
   }
 
   public @NonNull Map<UUID, CloudPlayer> players() {
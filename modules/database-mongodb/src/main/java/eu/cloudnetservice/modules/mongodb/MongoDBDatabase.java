@@ -17,9 +17,12 @@
 package eu.cloudnetservice.modules.mongodb;
 
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.IndexOptions;
 import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.UpdateOptions;
 import com.mongodb.client.model.Updates;
 import eu.cloudnetservice.driver.document.Document;
@@ -29,8 +32,11 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import lombok.NonNull;
 import org.bson.conversions.Bson;
@@ -43,8 +49,10 @@ public class MongoDBDatabase extends AbstractDatabase {
 
   protected static final IndexOptions UNIQUE_KEY_OPTIONS = new IndexOptions().unique(true);
   protected static final UpdateOptions INSERT_OR_REPLACE_OPTIONS = new UpdateOptions().upsert(true);
+  protected static final BulkWriteOptions UNORDERED_BULK_WRITE_OPTIONS = new BulkWriteOptions().ordered(false);
 
   protected final MongoCollection<org.bson.Document> collection;
+  protected final Set<String> indexedFields = ConcurrentHashMap.newKeySet();
 
   protected MongoDBDatabase(
     @NonNull String name,
@@ -62,17 +70,39 @@ public boolean insert(@NonNull String key, @NonNull Document document) {
     return this.insertOrUpdate(key, document);
   }
 
+  @Override
+  public boolean insertAll(@NonNull Map<String, Document> entries) {
+    if (entries.isEmpty()) {
+      return true;
+    }
+
+    List<UpdateOneModel<org.bson.Document>> writes = new ArrayList<>(entries.size());
+    for (var entry : entries.entrySet()) {
+      writes.add(new UpdateOneModel<>(
+        Filters.eq(KEY_NAME, entry.getKey()),
+        this.insertOrUpdateOperation(entry.getKey(), entry.getValue()),
+        INSERT_OR_REPLACE_OPTIONS));
+    }
+
+    // the order of the writes doesn't matter as each key is only present once
+    var result = this.collection.bulkWrite(writes, UNORDERED_BULK_WRITE_OPTIONS);
+    return result.getMatchedCount() + result.getUpserts().size() == entries.size();
+  }
+
   protected boolean insertOrUpdate(String key, Document document) {
     var result = this.collection.updateOne(
       Filters.eq(KEY_NAME, key),
-      Updates.combine(
-        Updates.setOnInsert(new org.bson.Document(KEY_NAME, key)),
-        Updates.set(VALUE_NAME, org.bson.Document.parse(this.serializeDocumentToJsonString(document)))
-      ),
+      this.insertOrUpdateOperation(key, document),
       INSERT_OR_REPLACE_OPTIONS);
     return result.getUpsertedId() != null || result.getMatchedCount() > 0;
   }
 
+  protected @NonNull Bson insertOrUpdateOperation(@NonNull String key, @NonNull Document document) {
+    return Updates.combine(
+      Updates.setOnInsert(new org.bson.Document(KEY_NAME, key)),
+      Updates.set(VALUE_NAME, org.bson.Document.parse(this.serializeDocumentToJsonString(document))));
+  }
+
   @Override
   public boolean contains(@NonNull String key) {
     return this.collection.find(Filters.eq(KEY_NAME, key)).first() != null;
@@ -83,6 +113,15 @@ public boolean delete(@NonNull String key) {
     return this.collection.deleteOne(Filters.eq(KEY_NAME, key)).getDeletedCount() > 0;
   }
 
+  @Override
+  public int deleteAll(@NonNull Collection<String> keys) {
+    if (keys.isEmpty()) {
+      return 0;
+    }
+
+    return (int) this.collection.deleteMany(Filters.in(KEY_NAME, keys)).getDeletedCount();
+  }
+
   @Override
   public @Nullable Document get(@NonNull String key) {
     var document = this.collection.find(Filters.eq(KEY_NAME, key)).first();
@@ -126,6 +165,20 @@ public boolean delete(@NonNull String key) {
     return documents;
   }
 
+  @Override
+  public void createIndex(@NonNull String fieldName) {
+    // each call to mongodb is a round trip to the server, even if the index exists already
+    if (this.indexedFields.add(fieldName)) {
+      try {
+        this.collection.createIndex(Indexes.ascending(VALUE_NAME + '.' + fieldName));
+      } catch (RuntimeException exception) {
+        // allow the index creation to be retried
+        this.indexedFields.remove(fieldName);
+        throw exception;
+      }
+    }
+  }
+
   @Override
   public @NonNull Collection<String> keys() {
     Collection<String> keys = new ArrayList<>();
@@ -171,7 +224,15 @@ public boolean delete(@NonNull String key) {
 
   @Override
   public void iterate(@NonNull BiConsumer<String, Document> consumer) {
-    this.entries().forEach(consumer);
+    try (var cursor = this.collection.find().iterator()) {
+      while (cursor.hasNext()) {
+        var document = cursor.next();
+        var parsedDocument = this.parseDocumentValue(document);
+        if (parsedDocument != null) {
+          consumer.accept(document.getString(KEY_NAME), parsedDocument);
+        }
+      }
+    }
   }
 
   @Override
@@ -206,6 +267,27 @@ public boolean synced() {
     return result.isEmpty() ? null : result;
   }
 
+  @Override
+  public @Nullable Map<String, Document> readChunkAfter(@Nullable String lastKey, int chunkSize) {
+    // the unique key index is used for both the range filter and the sorting
+    var filter = lastKey == null ? new org.bson.Document() : Filters.gt(KEY_NAME, lastKey);
+    var query = this.collection.find(filter).sort(Sorts.ascending(KEY_NAME)).limit(chunkSize);
+
+    Map<String, Document> result = new LinkedHashMap<>();
+    try (var cursor = query.iterator()) {
+      while (cursor.hasNext()) {
+        var document = cursor.next();
+        var parsedDocument = this.parseDocumentValue(document);
+        if (parsedDocument != null) {
+          var entryKey = document.getString(KEY_NAME);
+          result.put(entryKey, parsedDocument);
+        }
+      }
+    }
+
+    return result.isEmpty() ? null : result;
+  }
+
   @Override
   public void close() {
   }
@@ -20,10 +20,12 @@
 import eu.cloudnetservice.driver.document.DocumentFactory;
 import eu.cloudnetservice.node.database.sql.SQLDatabase;
 import eu.cloudnetservice.node.database.sql.SQLDatabaseProvider;
+import io.vavr.CheckedFunction1;
 import java.sql.ResultSet;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -64,6 +66,28 @@ public boolean insert(@NonNull String key, @NonNull Document document) {
       key, serializedDocument, serializedDocument) > 0;
   }
 
+  @Override
+  public boolean insertAll(@NonNull Map<String, Document> entries) {
+    if (entries.isEmpty()) {
+      return true;
+    }
+
+    List<Object[]> batchParameters = new ArrayList<>(entries.size());
+    for (var entry : entries.entrySet()) {
+      var serializedDocument = this.serializeDocumentToJsonString(entry.getValue());
+      batchParameters.add(new Object[]{entry.getKey(), serializedDocument, serializedDocument});
+    }
+
+    return this.databaseProvider.executeBatchUpdate(
+      String.format(
+        "INSERT INTO `%s` (%s, %s) VALUES (?, ?) ON DUPLICATE KEY UPDATE %s = ?;",
+        this.name,
+        TABLE_COLUMN_KEY,
+        TABLE_COLUMN_VAL,
+        TABLE_COLUMN_VAL),
+      batchParameters) != -1;
+  }
+
   @Override
   public boolean contains(@NonNull String key) {
     return this.databaseProvider.executeQuery(
@@ -80,6 +104,23 @@ public boolean delete(@NonNull String key) {
       key) > 0;
   }
 
+  @Override
+  public int deleteAll(@NonNull Collection<String> keys) {
+    if (keys.isEmpty()) {
+      return 0;
+    }
+
+    List<Object[]> batchParameters = new ArrayList<>(keys.size());
+    for (var key : keys) {
+      batchParameters.add(new Object[]{key});
+    }
+
+    var deleted = this.databaseProvider.executeBatchUpdate(
+      String.format("DELETE FROM %s WHERE `%s` = ?;", this.name, TABLE_COLUMN_KEY),
+      batchParameters);
+    return Math.max(deleted, 0);
+  }
+
   @Override
   public @Nullable Document get(@NonNull String key) {
     return this.databaseProvider.executeQuery(
@@ -239,6 +280,39 @@ public void iterate(@NonNull BiConsumer<String, Document> consumer) {
       }, null, chunkSize, beginIndex);
   }
 
+  @Override
+  public @Nullable Map<String, Document> readChunkAfter(@Nullable String lastKey, int chunkSize) {
+    CheckedFunction1<ResultSet, Map<String, Document>> resultMapper = resultSet -> {
+      Map<String, Document> result = new LinkedHashMap<>();
+      while (resultSet.next()) {
+        var key = resultSet.getString(TABLE_COLUMN_KEY);
+        var document = DocumentFactory.json().parse(resultSet.getString(TABLE_COLUMN_VAL));
+        result.put(key, document);
+      }
+
+      return result.isEmpty() ? null : result;
+    };
+
+    // the key column is the primary key, the index is used for both the range filter and the ordering
+    if (lastKey == null) {
+      return this.databaseProvider.executeQuery(
+        String.format("SELECT * FROM `%s` ORDER BY `%s` LIMIT ?;", this.name, TABLE_COLUMN_KEY),
+        resultMapper,
+        null,
+        chunkSize);
+    } else {
+      return this.databaseProvider.executeQuery(
+        String.format(
+          "SELECT * FROM `%s` WHERE `%s` > ? ORDER BY `%s` LIMIT ?;",
+          this.name,
+          TABLE_COLUMN_KEY,
+          TABLE_COLUMN_KEY),
+        resultMapper,
+        null,
+        lastKey, chunkSize);
+    }
+  }
+
   @Override
   public void close() {
   }
@@ -25,6 +25,7 @@
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Objects;
@@ -143,6 +144,40 @@ public int executeUpdate(@NonNull String query, @NonNull Object... objects) {
     }
   }
 
+  @Override
+  public int executeBatchUpdate(@NonNull String query, @NonNull Collection<Object[]> batchParameters) {
+    try (var con = this.connection(); var statement = con.prepareStatement(query)) {
+      // execute the whole batch in one transaction
+      con.setAutoCommit(false);
+      try {
+        for (var objects : batchParameters) {
+          for (var i = 0; i < objects.length; i++) {
+            statement.setString(i + 1, Objects.toString(objects[i]));
+          }
+
+          statement.addBatch();
+        }
+
+        // rewritten batches report SUCCESS_NO_INFO as the update count of each statement
+        var updatedRows = 0;
+        for (var updateCount : statement.executeBatch()) {
+          updatedRows += updateCount == Statement.SUCCESS_NO_INFO ? 1 : Math.max(updateCount, 0);
+        }
+
+        con.commit();
+        return updatedRows;
+      } catch (SQLException exception) {
+        con.rollback();
+        throw exception;
+      } finally {
+        con.setAutoCommit(true);
+      }
+    } catch (SQLException exception) {
+      LOGGER.severe("Exception while executing database batch update", exception);
+      return -1;
+    }
+  }
+
   @Override
   public <T> @UnknownNullability T executeQuery(
     @NonNull String query,
@@ -25,6 +25,7 @@
 import eu.cloudnetservice.node.service.CloudService;
 import eu.cloudnetservice.node.service.CloudServiceManager;
 import eu.cloudnetservice.node.service.defaults.factory.BaseLocalCloudServiceFactory;
+import eu.cloudnetservice.node.template.TemplateStorageCache;
 import eu.cloudnetservice.node.version.ServiceVersionProvider;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
@@ -38,6 +39,7 @@ public class DockerizedLocalCloudServiceFactory extends BaseLocalCloudServiceFac
   protected final DockerClient dockerClient;
   protected final DockerConfiguration dockerConfiguration;
   protected final CloudServiceManager cloudServiceManager;
+  protected final TemplateStorageCache templateStorageCache;
 
   @Inject
   public DockerizedLocalCloudServiceFactory(
@@ -46,6 +48,7 @@ public DockerizedLocalCloudServiceFactory(
     @NonNull CloudServiceManager cloudServiceManager,
     @NonNull EventManager eventManager,
     @NonNull ServiceVersionProvider versionProvider,
+    @NonNull TemplateStorageCache templateStorageCache,
     @NonNull DockerClient dockerClient,
     @NonNull DockerConfiguration configuration
   ) {
@@ -53,6 +56,7 @@ public DockerizedLocalCloudServiceFactory(
     this.mainThread = tickLoop;
     this.eventManager = eventManager;
     this.cloudServiceManager = cloudServiceManager;
+    this.templateStorageCache = templateStorageCache;
     this.dockerClient = dockerClient;
     this.dockerConfiguration = configuration;
   }
@@ -75,6 +79,7 @@ public DockerizedLocalCloudServiceFactory(
       this.eventManager,
       this.versionProvider,
       preparer,
+      this.templateStorageCache,
       this.dockerClient,
       this.dockerConfiguration);
   }
@@ -44,6 +44,7 @@
 import eu.cloudnetservice.node.service.CloudServiceManager;
 import eu.cloudnetservice.node.service.ServiceConfigurationPreparer;
 import eu.cloudnetservice.node.service.defaults.JVMService;
+import eu.cloudnetservice.node.template.TemplateStorageCache;
 import eu.cloudnetservice.node.version.ServiceVersionProvider;
 import java.io.IOException;
 import java.io.PipedInputStream;
@@ -101,10 +102,19 @@ protected DockerizedService(
     @NonNull EventManager eventManager,
     @NonNull ServiceVersionProvider versionProvider,
     @NonNull ServiceConfigurationPreparer serviceConfigurationPreparer,
+    @NonNull TemplateStorageCache templateStorageCache,
     @NonNull DockerClient dockerClient,
     @NonNull DockerConfiguration dockerConfiguration
   ) {
-    super(tickLoop, nodeConfig, configuration, manager, eventManager, versionProvider, serviceConfigurationPreparer);
+    super(
+      tickLoop,
+      nodeConfig,
+      configuration,
+      manager,
+      eventManager,
+      versionProvider,
+      serviceConfigurationPreparer,
+      templateStorageCache);
 
     this.dockerClient = dockerClient;
     this.configuration = dockerConfiguration;
@@ -16,14 +16,15 @@
 
 package eu.cloudnetservice.modules.rest.v2;
 
-import eu.cloudnetservice.driver.database.DatabaseProvider;
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.network.http.HttpContext;
 import eu.cloudnetservice.driver.network.http.annotation.FirstRequestQueryParam;
 import eu.cloudnetservice.driver.network.http.annotation.HttpRequestHandler;
+import eu.cloudnetservice.driver.network.http.annotation.Optional;
 import eu.cloudnetservice.driver.network.http.annotation.RequestBody;
 import eu.cloudnetservice.driver.network.http.annotation.RequestPathParam;
 import eu.cloudnetservice.node.config.Configuration;
+import eu.cloudnetservice.node.database.NodeDatabaseProvider;
 import eu.cloudnetservice.node.http.V2HttpHandler;
 import eu.cloudnetservice.node.http.annotation.BearerAuth;
 import eu.cloudnetservice.node.http.annotation.HandlerPermission;
@@ -34,17 +35,19 @@
 import java.util.Map;
 import java.util.function.BiConsumer;
 import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
 
 @Singleton
 @HandlerPermission("http.v2.database")
 public final class V2HttpHandlerDatabase extends V2HttpHandler {
 
   private static final Type MAP_TYPE = TypeFactory.parameterizedClass(Map.class, String.class, String.class);
+  private static final int MAX_CHUNK_SIZE = 1000;
 
-  private final DatabaseProvider databaseProvider;
+  private final NodeDatabaseProvider databaseProvider;
 
   @Inject
-  public V2HttpHandlerDatabase(@NonNull Configuration config, @NonNull DatabaseProvider databaseProvider) {
+  public V2HttpHandlerDatabase(@NonNull Configuration config, @NonNull NodeDatabaseProvider databaseProvider) {
     super(config.restConfiguration());
     this.databaseProvider = databaseProvider;
   }
@@ -108,6 +111,46 @@ private void handleCountRequest(@NonNull HttpContext context, @NonNull @RequestP
       .cancelNext(true);
   }
 
+  @BearerAuth
+  @HttpRequestHandler(paths = "/api/v2/database/{name}/entries")
+  private void handleEntriesRequest(
+    @NonNull HttpContext context,
+    @NonNull @RequestPathParam("name") String name,
+    @Nullable @Optional @FirstRequestQueryParam("after") String after,
+    @NonNull @Optional @FirstRequestQueryParam(value = "limit", def = "100") String limit
+  ) {
+    var chunkSize = this.parseChunkSize(limit);
+    if (chunkSize <= 0 || chunkSize > MAX_CHUNK_SIZE) {
+      this.badRequest(context)
+        .body(this.failure().append("reason", "Limit must be between 1 and " + MAX_CHUNK_SIZE).toString())
+        .context()
+        .closeAfter(true)
+        .cancelNext(true);
+      return;
+    }
+
+    // read the entries after the given key, the last key of the chunk can be used to request the next chunk
+    var database = this.databaseProvider.database(name);
+    var entries = database.readChunkAfter(after, chunkSize);
+    if (entries == null) {
+      entries = Map.of();
+    }
+
+    // the entries are ordered by their key, the last key is the key to continue the iteration with
+    String nextKey = null;
+    if (entries.size() == chunkSize) {
+      for (var key : entries.keySet()) {
+        nextKey = key;
+      }
+    }
+
+    this.ok(context)
+      .body(this.success().append("entries", entries).append("nextKey", nextKey).toString())
+      .context()
+      .closeAfter(true)
+      .cancelNext(true);
+  }
+
   @BearerAuth
   @HttpRequestHandler(paths = "/api/v2/database/{name}", methods = "POST")
   private void handleInsertRequest(
@@ -188,6 +231,14 @@ private void handleDeleteRequest(
     }
   }
 
+  private int parseChunkSize(@NonNull String limit) {
+    try {
+      return Integer.parseInt(limit);
+    } catch (NumberFormatException exception) {
+      return -1;
+    }
+  }
+
   private void withContextData(
     @NonNull HttpContext context,
     @NonNull Document body,
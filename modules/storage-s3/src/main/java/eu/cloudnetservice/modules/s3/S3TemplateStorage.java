@@ -16,6 +16,7 @@
 
 package eu.cloudnetservice.modules.s3;
 
+import eu.cloudnetservice.common.concurrent.ExecutorServiceUtil;
 import eu.cloudnetservice.common.io.FileUtil;
 import eu.cloudnetservice.common.io.ListenableOutputStream;
 import eu.cloudnetservice.common.io.ZipUtil;
@@ -31,14 +32,27 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.function.Predicate;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
@@ -47,9 +61,14 @@
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.BucketAlreadyExistsException;
 import software.amazon.awssdk.services.s3.model.BucketAlreadyOwnedByYouException;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
@@ -62,6 +81,7 @@
 import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 
 public class S3TemplateStorage implements TemplateStorage {
 
@@ -70,8 +90,14 @@ public class S3TemplateStorage implements TemplateStorage {
   private final S3Client client;
   private final S3TemplateStorageModule module;
 
+  private final Semaphore transferPermits;
+  private final ExecutorService transferExecutor = ExecutorServiceUtil.newVirtualThreadExecutor(
+    "S3-Transfer-",
+    Executors::newCachedThreadPool);
+
   public S3TemplateStorage(@NonNull S3TemplateStorageModule module) {
     this.module = module;
+    this.transferPermits = new Semaphore(this.config().resolveConcurrentTransfers());
     this.client = S3Client.builder()
       .region(Region.of(this.config().region()))
       .endpointOverride(this.config().resolveEndpointOverride())
@@ -111,98 +137,112 @@ public boolean deployDirectory(
     @NonNull Path directory,
     @Nullable Predicate<Path> filter
   ) {
-    var result = new AtomicBoolean(true);
+    List<CompletableFuture<?>> uploads = new ArrayList<>();
     // walk down the file tree
     FileUtil.walkFileTree(directory, ($, file) -> {
       if (!Files.isDirectory(file)) {
-        try {
-          var request = PutObjectRequest.builder()
-            .bucket(this.config().bucket())
-            .key(this.getBucketPath(target, directory, file))
-            .contentType(this.getContentType(file))
-            .contentLength(Files.size(file))
-            .build();
-          this.client.putObject(request, RequestBody.fromFile(file));
-        } catch (Exception exception) {
-          LOGGER.severe("Exception putting file %s into s3 bucket %s",
-            exception,
-            file.toAbsolutePath(),
-            this.config().bucket());
-          result.set(false);
-        }
+        uploads.add(this.uploadFile(this.getBucketPath(target, directory, file), file));
       }
     }, true, filter == null ? path -> true : filter::test);
-    return result.get();
+    return this.awaitTransfers(uploads);
   }
 
   @Override
   public boolean deploy(@NonNull ServiceTemplate target, @NonNull InputStream inputStream) {
-    var temp = ZipUtil.extract(inputStream, FileUtil.createTempFile());
-    if (temp != null) {
-      try {
-        return this.deployDirectory(target, temp, null);
-      } finally {
-        FileUtil.delete(temp);
+    List<CompletableFuture<?>> uploads = new ArrayList<>();
+    // upload the entries directly from the zip stream, without extracting them first
+    try (var zipStream = new ZipInputStream(inputStream)) {
+      ZipEntry entry;
+      while ((entry = zipStream.getNextEntry()) != null) {
+        if (!entry.isDirectory()) {
+          ZipUtil.ensureSafeZipEntryName(entry.getName());
+          uploads.add(this.uploadStream(
+            this.getBucketPath(target, entry.getName()),
+            this.getContentType(Path.of(entry.getName())),
+            zipStream));
+        }
+        zipStream.closeEntry();
       }
+    } catch (IOException | IllegalStateException exception) {
+      LOGGER.severe("Exception deploying zip stream into s3 bucket %s", exception, this.config().bucket());
+      this.awaitTransfers(uploads);
+      return false;
     }
-    return false;
+    return this.awaitTransfers(uploads);
   }
 
   @Override
   public boolean pull(@NonNull ServiceTemplate template, @NonNull Path directory) {
-    try {
-      // get the repo path
-      var templatePath = this.getBucketPath(template);
-      // list all files
-      return this.listAllObjects(templatePath, null, content -> {
-        // filter the content key
-        var target = directory.resolve(content.key().substring(templatePath.length() + 1));
-
-        // this prevents accidental exceptions created due to dum s3 guis which are creating "directories". As we all
-        // know s3 has no directories but the guis just create an object on the s3 and put further objects on the
-        // storage by just setting the file as an object. This results in responses like:
-        //   - Lobby/default/plugins
-        //   - Lobby/default/plugins/ProtocolLib.jar
-        // As all objects are handled as files, and the first call would create a new file this will result in an
-        // exception when pulling the ProtocolLib jar file as we would try to put it "into" a file.
-        // This check technically might break some structures as it will prioritize directories over files, but it's the
-        // best solution we have... Aside from just uploading files correctly :)
-        if (Files.exists(target) && Files.isDirectory(target)) {
-          return;
-        }
+    // get the repo path
+    var templatePath = this.getBucketPath(template);
+
+    // list all files and remember the "directories" in which they are located
+    Set<String> directories = new HashSet<>();
+    List<S3Object> objects = new ArrayList<>();
+    var listed = this.listAllObjects(templatePath, null, object -> {
+      objects.add(object);
+      var key = object.key();
+      for (var i = key.indexOf('/', templatePath.length() + 1); i != -1; i = key.indexOf('/', i + 1)) {
+        directories.add(key.substring(0, i));
+      }
+    });
+    if (!listed) {
+      return false;
+    }
 
-        // check if the parent file already exists and is not a directory
-        var parent = target.getParent();
-        if (parent != null && Files.exists(parent) && !Files.isDirectory(parent)) {
-          FileUtil.delete(parent);
-        }
+    List<CompletableFuture<?>> downloads = new ArrayList<>();
+    for (var object : objects) {
+      // this prevents accidental exceptions created due to dum s3 guis which are creating "directories". As we all
+      // know s3 has no directories but the guis just create an object on the s3 and put further objects on the
+      // storage by just setting the file as an object. This results in responses like:
+      //   - Lobby/default/plugins
+      //   - Lobby/default/plugins/ProtocolLib.jar
+      // As all objects are handled as files, the first object would be created as a file and the download of the
+      // ProtocolLib jar file would fail as we would try to put it "into" a file. Therefore, objects which are used as
+      // a directory by other objects are skipped.
+      var target = directory.resolve(object.key().substring(templatePath.length() + 1));
+      if (directories.contains(object.key()) || Files.isDirectory(target)) {
+        continue;
+      }
 
-        // now we can just create the parent as a directory (if we need to)
-        FileUtil.createDirectory(parent);
+      // check if the parent file already exists and is not a directory
+      var parent = target.getParent();
+      if (parent != null && Files.exists(parent) && !Files.isDirectory(parent)) {
+        FileUtil.delete(parent);
+      }
 
-        // get the file
-        var req = GetObjectRequest.builder()
-          .key(content.key())
-          .bucket(this.config().bucket())
-          .build();
-        try (InputStream stream = this.client.getObject(req); var out = Files.newOutputStream(target)) {
-          FileUtil.copy(stream, out);
-        }
-      });
-    } catch (Exception exception) {
-      LOGGER.severe("Exception requesting object list from bucket for downloading", exception);
-      return false;
+      // now we can just create the parent as a directory (if we need to)
+      FileUtil.createDirectory(parent);
+      downloads.add(this.downloadObject(object, target));
     }
+    return this.awaitTransfers(downloads);
   }
 
   @Override
   public @Nullable InputStream zipTemplate(@NonNull ServiceTemplate template) {
-    var localTarget = FileUtil.createTempFile();
-    if (this.pull(template, localTarget)) {
-      return ZipUtil.zipToStream(localTarget);
-    } else {
+    if (!this.contains(template)) {
       return null;
     }
+
+    // download the objects directly into the zip stream
+    var templatePath = this.getBucketPath(template);
+    return ZipUtil.zipToStream(out -> {
+      var listed = this.listAllObjects(templatePath, null, object -> {
+        // skip "directories" created by s3 guis, see pull
+        if (!object.key().endsWith("/")) {
+          var request = GetObjectRequest.builder()
+            .key(object.key())
+            .bucket(this.config().bucket())
+            .build();
+          try (InputStream stream = this.client.getObject(request)) {
+            ZipUtil.writeEntry(out, object.key().substring(templatePath.length() + 1), stream);
+          }
+        }
+      });
+      if (!listed) {
+        throw new IOException("Unable to zip all objects of template " + template);
+      }
+    });
   }
 
   @Override
@@ -434,9 +474,234 @@ public boolean deleteFile(@NonNull ServiceTemplate template, @NonNull String pat
 
   @Override
   public void close() {
+    this.transferExecutor.shutdownNow();
     this.client.close();
   }
 
+  protected @NonNull CompletableFuture<?> uploadFile(@NonNull String key, @NonNull Path file) {
+    try {
+      // large files are uploaded in multiple parts
+      var contentType = this.getContentType(file);
+      if (this.config().multipartTransfersEnabled() && Files.size(file) >= this.config().resolveMultipartThreshold()) {
+        try (var stream = Files.newInputStream(file)) {
+          return this.uploadStream(key, contentType, stream);
+        }
+      }
+
+      var request = PutObjectRequest.builder()
+        .bucket(this.config().bucket())
+        .key(key)
+        .contentType(contentType)
+        .contentLength(Files.size(file))
+        .build();
+      this.transferPermits.acquireUninterruptibly();
+      return this.submitTransfer(() -> this.client.putObject(request, RequestBody.fromFile(file)));
+    } catch (IOException exception) {
+      return CompletableFuture.failedFuture(exception);
+    }
+  }
+
+  protected @NonNull CompletableFuture<?> uploadStream(
+    @NonNull String key,
+    @Nullable String contentType,
+    @NonNull InputStream stream
+  ) throws IOException {
+    // the stream is read in parts, a transfer permit must be acquired before reading a part to limit the memory usage
+    var partSize = (int) this.config().resolvePartSize();
+    this.transferPermits.acquireUninterruptibly();
+    var part = this.readPart(stream, partSize);
+
+    // the content fits into a single part, there is no need for a multipart upload
+    if (part.length < partSize) {
+      var content = part;
+      var request = PutObjectRequest.builder()
+        .bucket(this.config().bucket())
+        .key(key)
+        .contentType(contentType)
+        .contentLength((long) content.length)
+        .build();
+      return this.submitTransfer(() -> this.client.putObject(request, RequestBody.fromBytes(content)));
+    }
+
+    String uploadId;
+    try {
+      uploadId = this.client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+        .bucket(this.config().bucket())
+        .key(key)
+        .contentType(contentType)
+        .build()).uploadId();
+    } catch (RuntimeException exception) {
+      this.transferPermits.release();
+      throw exception;
+    }
+
+    List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+    try {
+      // upload all parts concurrently while reading the next part from the stream
+      for (var partNumber = 1; part.length > 0; partNumber++) {
+        var request = UploadPartRequest.builder()
+          .bucket(this.config().bucket())
+          .key(key)
+          .uploadId(uploadId)
+          .partNumber(partNumber)
+          .contentLength((long) part.length)
+          .build();
+        var content = part;
+        parts.add(this.submitTransfer(() -> {
+          var response = this.client.uploadPart(request, RequestBody.fromBytes(content));
+          return CompletedPart.builder().partNumber(request.partNumber()).eTag(response.eTag()).build();
+        }));
+
+        this.transferPermits.acquireUninterruptibly();
+        part = this.readPart(stream, partSize);
+      }
+
+      // the last read returned no data, release the permit that was acquired for it
+      this.transferPermits.release();
+    } catch (IOException | RuntimeException exception) {
+      // abort the upload once all parts which were already submitted are done
+      CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new))
+        .whenComplete(($, partException) -> this.abortMultipartUpload(key, uploadId));
+      throw exception;
+    }
+
+    var upload = CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new)).thenApply($ -> {
+      var completedUpload = CompletedMultipartUpload.builder()
+        .parts(parts.stream().map(CompletableFuture::join).toList())
+        .build();
+      return this.client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+        .bucket(this.config().bucket())
+        .key(key)
+        .uploadId(uploadId)
+        .multipartUpload(completedUpload)
+        .build());
+    });
+    return upload.whenComplete(($, exception) -> {
+      if (exception != null) {
+        this.abortMultipartUpload(key, uploadId);
+      }
+    });
+  }
+
+  protected @NonNull CompletableFuture<?> downloadObject(@NonNull S3Object object, @NonNull Path target) {
+    // small objects are downloaded in a single request
+    if (!this.config().multipartTransfersEnabled() || object.size() < this.config().resolveMultipartThreshold()) {
+      var request = GetObjectRequest.builder()
+        .key(object.key())
+        .bucket(this.config().bucket())
+        .build();
+      this.transferPermits.acquireUninterruptibly();
+      return this.submitTransfer(() -> {
+        try (InputStream stream = this.client.getObject(request); var out = Files.newOutputStream(target)) {
+          FileUtil.copy(stream, out);
+        }
+        return null;
+      });
+    }
+
+    // large objects are downloaded in ranges which are written concurrently into the target file
+    FileChannel channel;
+    try {
+      channel = FileChannel.open(
+        target,
+        StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE,
+        StandardOpenOption.TRUNCATE_EXISTING);
+    } catch (IOException exception) {
+      return CompletableFuture.failedFuture(exception);
+    }
+
+    var partSize = this.config().resolvePartSize();
+    List<CompletableFuture<?>> ranges = new ArrayList<>();
+    for (long start = 0; start < object.size(); start += partSize) {
+      // only accept ranges of the same object version
+      var request = GetObjectRequest.builder()
+        .key(object.key())
+        .bucket(this.config().bucket())
+        .ifMatch(object.eTag())
+        .range(String.format("bytes=%d-%d", start, Math.min(start + partSize, object.size()) - 1))
+        .build();
+      var position = start;
+      this.transferPermits.acquireUninterruptibly();
+      ranges.add(this.submitTransfer(() -> {
+        try (InputStream stream = this.client.getObject(request)) {
+          this.writeRange(stream, channel, position);
+        }
+        return null;
+      }));
+    }
+
+    return CompletableFuture.allOf(ranges.toArray(CompletableFuture[]::new)).whenComplete(($, exception) -> {
+      try {
+        channel.close();
+      } catch (IOException ignored) {
+      }
+    });
+  }
+
+  private byte[] readPart(@NonNull InputStream stream, int partSize) throws IOException {
+    try {
+      return stream.readNBytes(partSize);
+    } catch (IOException exception) {
+      this.transferPermits.release();
+      throw exception;
+    }
+  }
+
+  private void writeRange(@NonNull InputStream stream, @NonNull FileChannel channel, long position) throws IOException {
+    var buffer = new byte[8192];
+    int read;
+    while ((read = stream.read(buffer)) != -1) {
+      var content = ByteBuffer.wrap(buffer, 0, read);
+      while (content.hasRemaining()) {
+        position += channel.write(content, position);
+      }
+    }
+  }
+
+  private void abortMultipartUpload(@NonNull String key, @NonNull String uploadId) {
+    try {
+      this.client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+        .bucket(this.config().bucket())
+        .key(key)
+        .uploadId(uploadId)
+        .build());
+    } catch (Exception exception) {
+      LOGGER.severe("Exception aborting multipart upload of %s", exception, key);
+    }
+  }
+
+  // runs the given transfer on the transfer executor, the caller must have acquired a transfer permit before
+  private @NonNull <T> CompletableFuture<T> submitTransfer(@NonNull Callable<T> transfer) {
+    try {
+      return CompletableFuture.supplyAsync(() -> {
+        try {
+          return transfer.call();
+        } catch (Exception exception) {
+          throw new CompletionException(exception);
+        } finally {
+          this.transferPermits.release();
+        }
+      }, this.transferExecutor);
+    } catch (RejectedExecutionException exception) {
+      this.transferPermits.release();
+      return CompletableFuture.failedFuture(exception);
+    }
+  }
+
+  private boolean awaitTransfers(@NonNull Collection<CompletableFuture<?>> transfers) {
+    var result = true;
+    for (var transfer : transfers) {
+      try {
+        transfer.join();
+      } catch (CompletionException | CancellationException exception) {
+        LOGGER.severe("Exception transferring file from/to s3 bucket %s", exception, this.config().bucket());
+        result = false;
+      }
+    }
+    return result;
+  }
+
   protected boolean listAllObjects(
     @NonNull String prefix,
     @Nullable String marker,
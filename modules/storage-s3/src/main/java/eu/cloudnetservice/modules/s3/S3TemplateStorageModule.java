@@ -50,7 +50,9 @@ public void handleInit(@NonNull ServiceRegistry serviceRegistry, @NonNull DataSy
         false,
         true,
         true,
-        false),
+        false,
+        S3TemplateStorageConfig.DEFAULT_CONCURRENT_TRANSFERS,
+        S3TemplateStorageConfig.DEFAULT_MULTIPART_THRESHOLD),
       DocumentFactory.json());
     // init the storage
     this.storage = new S3TemplateStorage(this);
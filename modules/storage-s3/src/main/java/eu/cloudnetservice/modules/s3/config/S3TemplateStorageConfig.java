@@ -33,11 +33,37 @@ public record S3TemplateStorageConfig(
   boolean pathStyleAccess,
   boolean chunkedEncoding,
   boolean checksumValidation,
-  boolean dualstackEndpointEnabled
+  boolean dualstackEndpointEnabled,
+  int concurrentTransfers,
+  long multipartThreshold
 ) {
 
+  public static final int DEFAULT_CONCURRENT_TRANSFERS = 8;
+  public static final long DEFAULT_MULTIPART_THRESHOLD = 16 * 1024 * 1024;
+
   private static final Logger LOGGER = LogManager.logger(S3TemplateStorageConfig.class);
 
+  // the minimum size of a part in a multipart upload, except for the last part
+  private static final long MIN_PART_SIZE = 5 * 1024 * 1024;
+
+  public int resolveConcurrentTransfers() {
+    // configurations written before the option existed don't contain it, use the default in that case
+    return this.concurrentTransfers <= 0 ? DEFAULT_CONCURRENT_TRANSFERS : this.concurrentTransfers;
+  }
+
+  public boolean multipartTransfersEnabled() {
+    // a negative threshold disables multipart transfers, 0 means that the option is missing in the configuration
+    return this.multipartThreshold >= 0;
+  }
+
+  public long resolveMultipartThreshold() {
+    return this.multipartThreshold == 0 ? DEFAULT_MULTIPART_THRESHOLD : this.multipartThreshold;
+  }
+
+  public long resolvePartSize() {
+    return Math.max(MIN_PART_SIZE, this.resolveMultipartThreshold());
+  }
+
   public @Nullable URI resolveEndpointOverride() {
     if (this.endpointOverride != null) {
       try {
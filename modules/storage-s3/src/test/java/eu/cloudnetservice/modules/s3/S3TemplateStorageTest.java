@@ -18,10 +18,17 @@
 
 import eu.cloudnetservice.driver.service.ServiceTemplate;
 import eu.cloudnetservice.modules.s3.config.S3TemplateStorageConfig;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -29,6 +36,7 @@
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.containers.wait.strategy.Wait;
@@ -46,6 +54,14 @@ class S3TemplateStorageTest {
     .name("proxy")
     .storage("s3")
     .build();
+  private static final ServiceTemplate TRANSFER_TEMPLATE = ServiceTemplate.builder()
+    .prefix("global")
+    .name("lobby")
+    .storage("s3")
+    .build();
+
+  // the smallest part size allowed by s3, objects larger than this are transferred in multiple parts
+  private static final int PART_SIZE = 5 * 1024 * 1024;
 
   @Container
   private static final GenericContainer<?> S3 = new GenericContainer<>("localstack/localstack:latest")
@@ -72,7 +88,9 @@ static void setupServer() throws UnknownHostException {
       false,
       true,
       true,
-      false));
+      false,
+      8,
+      PART_SIZE));
 
     storage = new S3TemplateStorage(module);
   }
@@ -215,4 +233,69 @@ void testTemplateDelete() {
     Assertions.assertFalse(storage.contains(TEMPLATE));
     Assertions.assertFalse(storage.hasFile(TEMPLATE, "test.txt"));
   }
+
+  @Test
+  @Order(120)
+  void testMultipartDeployAndConcurrentPull(@TempDir Path tempDir) throws IOException {
+    var random = new Random();
+    var sourceDir = tempDir.resolve("source");
+    Files.createDirectories(sourceDir.resolve("plugins"));
+
+    // one file that is transferred in three parts and a lot of small files that are transferred concurrently
+    var largeContent = new byte[PART_SIZE * 2 + 1234];
+    random.nextBytes(largeContent);
+    Files.write(sourceDir.resolve("server.jar"), largeContent);
+    for (var i = 0; i < 32; i++) {
+      Files.writeString(sourceDir.resolve("plugins/plugin-" + i + ".yml"), "plugin: " + i);
+    }
+
+    Assertions.assertTrue(storage.deployDirectory(TRANSFER_TEMPLATE, sourceDir, null));
+    var info = storage.fileInfo(TRANSFER_TEMPLATE, "server.jar");
+    Assertions.assertNotNull(info);
+    Assertions.assertEquals(largeContent.length, info.size());
+
+    var targetDir = tempDir.resolve("target");
+    Assertions.assertTrue(storage.pull(TRANSFER_TEMPLATE, targetDir));
+    Assertions.assertArrayEquals(largeContent, Files.readAllBytes(targetDir.resolve("server.jar")));
+    for (var i = 0; i < 32; i++) {
+      Assertions.assertEquals("plugin: " + i, Files.readString(targetDir.resolve("plugins/plugin-" + i + ".yml")));
+    }
+  }
+
+  @Test
+  @Order(130)
+  void testDeployZipStream() throws IOException {
+    var largeContent = new byte[PART_SIZE + 1];
+    new Random().nextBytes(largeContent);
+
+    var zipContent = new ByteArrayOutputStream();
+    try (var out = new ZipOutputStream(zipContent)) {
+      out.putNextEntry(new ZipEntry("config/"));
+      out.closeEntry();
+      out.putNextEntry(new ZipEntry("config/server.properties"));
+      out.write("online-mode=false".getBytes(StandardCharsets.UTF_8));
+      out.closeEntry();
+      out.putNextEntry(new ZipEntry("world.dat"));
+      out.write(largeContent);
+      out.closeEntry();
+    }
+
+    // the large entry is uploaded in multiple parts directly from the zip stream
+    Assertions.assertTrue(storage.deploy(TRANSFER_TEMPLATE, new ByteArrayInputStream(zipContent.toByteArray())));
+    try (var stream = storage.newInputStream(TRANSFER_TEMPLATE, "config/server.properties")) {
+      Assertions.assertNotNull(stream);
+      Assertions.assertEquals("online-mode=false", new String(stream.readAllBytes(), StandardCharsets.UTF_8));
+    }
+    try (var stream = storage.newInputStream(TRANSFER_TEMPLATE, "world.dat")) {
+      Assertions.assertNotNull(stream);
+      Assertions.assertArrayEquals(largeContent, stream.readAllBytes());
+    }
+  }
+
+  @Test
+  @Order(140)
+  void testTransferTemplateDelete() {
+    Assertions.assertTrue(storage.delete(TRANSFER_TEMPLATE));
+    Assertions.assertFalse(storage.contains(TRANSFER_TEMPLATE));
+  }
 }
@@ -38,6 +38,7 @@
 import java.util.HashSet;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.zip.ZipOutputStream;
 import lombok.NonNull;
 import net.schmizz.sshj.Config;
 import net.schmizz.sshj.DefaultConfig;
@@ -156,14 +157,34 @@ public boolean pull(@NonNull ServiceTemplate template, @NonNull Path directory)
 
   @Override
   public @Nullable InputStream zipTemplate(@NonNull ServiceTemplate template) {
-    return this.executeWithClient(client -> {
-      var localTarget = FileUtil.createTempFile();
-      if (this.pull(template, localTarget)) {
-        return ZipUtil.zipToStream(localTarget);
+    if (!this.contains(template)) {
+      return null;
+    }
+
+    // download the files directly into the zip stream
+    return ZipUtil.zipToStream(out -> {
+      try (var client = this.pool.takeClient()) {
+        this.zipDir(client, out, this.constructRemotePath(template), "");
+      }
+    });
+  }
+
+  protected void zipDir(
+    @NonNull SFTPClient client,
+    @NonNull ZipOutputStream out,
+    @NonNull String dir,
+    @NonNull String entryPrefix
+  ) throws IOException {
+    for (var info : client.ls(dir)) {
+      var entryName = entryPrefix + info.getName();
+      if (info.isDirectory()) {
+        this.zipDir(client, out, info.getPath(), entryName + "/");
       } else {
-        return null;
+        try (var file = client.open(info.getPath()); var stream = file.new RemoteFileInputStream()) {
+          ZipUtil.writeEntry(out, entryName, stream);
+        }
       }
-    }, null);
+    }
   }
 
   @Override
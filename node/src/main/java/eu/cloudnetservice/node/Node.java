@@ -18,6 +18,7 @@
 
 import dev.derklaro.aerogel.Order;
 import dev.derklaro.aerogel.binding.BindingBuilder;
+import eu.cloudnetservice.common.concurrent.ExecutorServiceUtil;
 import eu.cloudnetservice.common.language.I18n;
 import eu.cloudnetservice.common.log.LogManager;
 import eu.cloudnetservice.common.log.Logger;
@@ -43,7 +44,6 @@
 import eu.cloudnetservice.driver.registry.ServiceRegistry;
 import eu.cloudnetservice.driver.registry.injection.Service;
 import eu.cloudnetservice.driver.template.TemplateStorage;
-import eu.cloudnetservice.driver.util.ExecutorServiceUtil;
 import eu.cloudnetservice.node.cluster.NodeServerProvider;
 import eu.cloudnetservice.node.cluster.NodeServerState;
 import eu.cloudnetservice.node.cluster.task.LocalNodeUpdateTask;
@@ -202,7 +202,7 @@ private void convertDatabase(
         var xodusDatabase = xodusProvider.database(databaseName);
         // insert the data of the h2 database into the xodus database
         // in chunks of 100 documents to prevent oom
-        h2Database.iterate(xodusDatabase::insert, 100);
+        h2Database.iterateChunks(xodusDatabase::insertAll, 100);
       }
 
       // close the database provider as they are not needed anymore
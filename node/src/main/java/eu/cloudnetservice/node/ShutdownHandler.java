@@ -20,6 +20,8 @@
 import eu.cloudnetservice.common.language.I18n;
 import eu.cloudnetservice.common.log.LogManager;
 import eu.cloudnetservice.common.log.Logger;
+import eu.cloudnetservice.driver.event.DefaultEventManager;
+import eu.cloudnetservice.driver.event.EventManager;
 import eu.cloudnetservice.driver.module.ModuleProvider;
 import eu.cloudnetservice.driver.network.NetworkClient;
 import eu.cloudnetservice.driver.network.NetworkServer;
@@ -43,6 +45,7 @@ public final class ShutdownHandler {
   private static final Logger LOGGER = LogManager.logger(ShutdownHandler.class);
 
   private final Console console;
+  private final EventManager eventManager;
   private final ModuleProvider moduleProvider;
   private final CloudServiceManager serviceManager;
   private final NodeServerProvider nodeServerProvider;
@@ -61,6 +64,7 @@ public final class ShutdownHandler {
   @Inject
   public ShutdownHandler(
     @NonNull Console console,
+    @NonNull EventManager eventManager,
     @NonNull ModuleProvider moduleProvider,
     @NonNull CloudServiceManager serviceManager,
     @NonNull NodeServerProvider nodeServerProvider,
@@ -73,6 +77,7 @@ public ShutdownHandler(
     @NonNull PermissionManagement permissionManagement
   ) {
     this.console = console;
+    this.eventManager = eventManager;
     this.moduleProvider = moduleProvider;
     this.serviceManager = serviceManager;
     this.nodeServerProvider = nodeServerProvider;
@@ -117,6 +122,11 @@ public void shutdown() {
         this.moduleProvider.stopAll();
         this.moduleProvider.unloadAll();
 
+        // stop calling asynchronous event listeners
+        if (this.eventManager instanceof DefaultEventManager defaultEventManager) {
+          defaultEventManager.close();
+        }
+
         // remove temp directory
         LOGGER.info(I18n.trans("stop-delete-temp"));
         FileUtil.delete(FileUtil.TEMP_DIR);
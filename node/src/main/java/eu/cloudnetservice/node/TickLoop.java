@@ -31,6 +31,7 @@
 import jakarta.inject.Inject;
 import jakarta.inject.Provider;
 import jakarta.inject.Singleton;
+import java.util.ArrayDeque;
 import java.util.Queue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -38,7 +39,9 @@
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import lombok.NonNull;
+import org.jetbrains.annotations.VisibleForTesting;
 
 @Singleton
 public final class TickLoop {
@@ -46,6 +49,12 @@ public final class TickLoop {
   public static final int TPS = 10;
   public static final int MILLIS_BETWEEN_TICKS = 1000 / TPS;
 
+  // the amount of slots in the timing wheel, must be a power of two. tasks which are scheduled further in the future
+  // than the wheel size are visited once per wheel rotation (every 51.2 seconds) until they are due
+  private static final int WHEEL_SIZE = 512;
+  private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+  private static final long NANOS_BETWEEN_TICKS = TimeUnit.MILLISECONDS.toNanos(MILLIS_BETWEEN_TICKS);
+
   // exposed to the package for internal use
   static final AtomicBoolean RUNNING = new AtomicBoolean(true);
 
@@ -63,7 +72,17 @@ public final class TickLoop {
   private final CloudNetTickServiceStartEvent serviceTickStartEvent = new CloudNetTickServiceStartEvent(this);
 
   private final AtomicLong currentTick = new AtomicLong();
-  private final Queue<ScheduledTask<?>> processQueue = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger scheduledTaskCount = new AtomicInteger();
+  private final Queue<ScheduledTask<?>> pendingTasks = new ConcurrentLinkedQueue<>();
+  // only accessed by the ticking thread
+  @SuppressWarnings("unchecked")
+  private final Queue<ScheduledTask<?>>[] wheel = new Queue[WHEEL_SIZE];
+  private long lastProcessedTick;
+
+  private final LongAdder overrunTicks = new LongAdder();
+  private volatile long lastTickLag;
+  private volatile long lastTickDuration;
+  private volatile int lastTickExecutedTasks;
 
   @Inject
   public TickLoop(
@@ -78,6 +97,10 @@ public TickLoop(
     this.serviceManager = serviceManager;
     this.nodeServerProvider = nodeServerProvider;
     this.shutdownHandlerProvider = shutdownHandlerProvider;
+
+    for (var slot = 0; slot < WHEEL_SIZE; slot++) {
+      this.wheel[slot] = new ArrayDeque<>();
+    }
   }
 
   public @NonNull Task<Void> runTask(@NonNull Runnable runnable) {
@@ -89,7 +112,7 @@ public TickLoop(
 
   public @NonNull <T> Task<T> runTask(@NonNull Callable<T> callable) {
     var task = new ScheduledTask<>(callable, 0, 1, this.currentTick.get() + 1);
-    this.processQueue.offer(task);
+    this.enqueue(task);
     return task;
   }
 
@@ -106,7 +129,7 @@ public TickLoop(
       0,
       1,
       this.currentTick.get() + (timeUnit.toMillis(delay) / MILLIS_BETWEEN_TICKS));
-    this.processQueue.offer(task);
+    this.enqueue(task);
     return task;
   }
 
@@ -120,7 +143,7 @@ public TickLoop(
       delay,
       maxExecutions,
       this.currentTick.get() + delay);
-    this.processQueue.offer(task);
+    this.enqueue(task);
     return task;
   }
 
@@ -136,6 +159,55 @@ public long currentTick() {
     return this.currentTick.get();
   }
 
+  /**
+   * Get the number of tasks which are currently scheduled and were not executed for the last time. Cancelled tasks are
+   * removed lazily, therefore they are included in the count until the tick loop reaches the tick they were scheduled
+   * for.
+   *
+   * @return the number of currently scheduled tasks.
+   */
+  public int scheduledTaskCount() {
+    return this.scheduledTaskCount.get();
+  }
+
+  /**
+   * Get the number of tasks which were executed during the last tick.
+   *
+   * @return the number of tasks executed in the last tick.
+   */
+  public int lastTickExecutedTasks() {
+    return this.lastTickExecutedTasks;
+  }
+
+  /**
+   * Get the time in nanoseconds it took to process the last tick, including the execution of the scheduled tasks and
+   * the tick event listeners.
+   *
+   * @return the processing time of the last tick in nanoseconds.
+   */
+  public long lastTickDuration() {
+    return this.lastTickDuration;
+  }
+
+  /**
+   * Get the time in milliseconds the last tick started later than planned, for example because the previous tick took
+   * longer than the time between two ticks.
+   *
+   * @return the delay of the last tick start in milliseconds.
+   */
+  public long lastTickLag() {
+    return this.lastTickLag;
+  }
+
+  /**
+   * Get the number of ticks whose processing took longer than the time between two ticks since the tick loop started.
+   *
+   * @return the number of ticks which overran their time budget.
+   */
+  public long overrunTickCount() {
+    return this.overrunTicks.sum();
+  }
+
   public void start() {
     long tick;
     long lastTickLength;
@@ -157,16 +229,16 @@ public void start() {
         }
 
         // update the last tick time
-        lastTick = System.currentTimeMillis();
+        var tickStart = System.currentTimeMillis();
+        this.lastTickLag = Math.max(0, tickStart - lastTick - MILLIS_BETWEEN_TICKS);
+        lastTick = tickStart;
 
         // check if ticking is currently disabled
         if (this.tickPauseRequests.get() <= 0) {
+          var tickStartNanos = System.nanoTime();
+
           // execute all scheduled tasks for this tick
-          for (var task : this.processQueue) {
-            if (task.isCancelled() || task.execute(tick)) {
-              this.processQueue.remove(task);
-            }
-          }
+          this.lastTickExecutedTasks = this.processTasks(tick);
 
           // check if the node is marked for draining
           if (this.nodeServerProvider.localNode().draining()) {
@@ -190,6 +262,13 @@ public void start() {
           }
 
           this.eventManager.callEvent(this.tickEvent);
+
+          // record the time it took to process the tick
+          var tickDuration = System.nanoTime() - tickStartNanos;
+          this.lastTickDuration = tickDuration;
+          if (tickDuration > NANOS_BETWEEN_TICKS) {
+            this.overrunTicks.increment();
+          }
         }
       } catch (Exception exception) {
         LOGGER.severe("Exception while ticking", exception);
@@ -197,6 +276,60 @@ public void start() {
     }
   }
 
+  private void enqueue(@NonNull ScheduledTask<?> task) {
+    this.scheduledTaskCount.incrementAndGet();
+    this.pendingTasks.offer(task);
+  }
+
+  @VisibleForTesting
+  int processTasks(long tick) {
+    // move all newly scheduled tasks into the wheel, tasks which are already due are executed in this tick
+    ScheduledTask<?> pendingTask;
+    while ((pendingTask = this.pendingTasks.poll()) != null) {
+      this.wheel[(int) (Math.max(pendingTask.nextScheduledTick, tick) & WHEEL_MASK)].offer(pendingTask);
+    }
+
+    // visit the slots of all ticks since the last processed tick, ticks might have been skipped while paused
+    var executedTasks = 0;
+    var firstTick = Math.max(this.lastProcessedTick + 1, tick - WHEEL_MASK);
+    for (var slotTick = firstTick; slotTick <= tick; slotTick++) {
+      executedTasks += this.processSlot(this.wheel[(int) (slotTick & WHEEL_MASK)], tick);
+    }
+
+    this.lastProcessedTick = tick;
+    return executedTasks;
+  }
+
+  private int processSlot(@NonNull Queue<ScheduledTask<?>> slot, long tick) {
+    // tasks in the slot which are scheduled for a later wheel rotation are kept. the size is captured before
+    // visiting the slot, tasks which are re-added to the slot are visited in the next rotation
+    var executedTasks = 0;
+    for (int i = 0, slotSize = slot.size(); i < slotSize; i++) {
+      var task = slot.poll();
+      if (task.isCancelled()) {
+        // cancelled tasks are removed lazily when their slot is reached
+        this.scheduledTaskCount.decrementAndGet();
+        continue;
+      }
+
+      if (task.nextScheduledTick > tick) {
+        slot.offer(task);
+        continue;
+      }
+
+      executedTasks++;
+      if (task.execute(tick)) {
+        this.scheduledTaskCount.decrementAndGet();
+      } else {
+        // reschedule the task, periodic tasks run at most once per tick
+        task.nextScheduledTick = Math.max(task.nextScheduledTick, tick + 1);
+        this.wheel[(int) (task.nextScheduledTick & WHEEL_MASK)].offer(task);
+      }
+    }
+
+    return executedTasks;
+  }
+
   private void startService() {
     for (var task : this.taskProvider.serviceTasks()) {
       if (!task.maintenance()) {
@@ -242,26 +375,24 @@ public ScheduledTask(@NonNull Callable<T> callable, long tickPeriod, long execut
     }
 
     /**
-     * Executes this task and resets the future to prepare for the next execution.
+     * Executes this task and resets the future to prepare for the next execution. The caller must ensure that the task
+     * is due in the given tick.
      *
      * @param currentTick the current tick number.
      * @return true if this task terminated and should be unregistered after the execution, false otherwise.
      */
     private boolean execute(long currentTick) {
-      // check if the task is scheduled to run in this tick
-      if (this.nextScheduledTick <= currentTick) {
-        // check if the execution limit is reached
-        if (this.executionTimes != -1 && ++this.executionCounter >= this.executionTimes) {
-          // execute the task one last time - no reset
-          super.run(true);
-          return true;
-        }
-        // execute the task and reset
-        super.run(false);
-        // set the next scheduled tick
-        this.nextScheduledTick = currentTick + this.tickPeriod;
+      // check if the execution limit is reached
+      if (this.executionTimes != -1 && ++this.executionCounter >= this.executionTimes) {
+        // execute the task one last time - no reset
+        super.run(true);
+        return true;
       }
-      // runs again or later
+      // execute the task and reset
+      super.run(false);
+      // set the next scheduled tick
+      this.nextScheduledTick = currentTick + this.tickPeriod;
+      // runs again later
       return false;
     }
   }
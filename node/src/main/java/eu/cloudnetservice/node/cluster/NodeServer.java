@@ -23,6 +23,7 @@
 import eu.cloudnetservice.driver.network.NetworkChannel;
 import eu.cloudnetservice.driver.provider.CloudServiceFactory;
 import eu.cloudnetservice.driver.provider.SpecificCloudServiceProvider;
+import eu.cloudnetservice.driver.service.ThreadSnapshot;
 import java.io.Closeable;
 import java.time.Instant;
 import java.util.Collection;
@@ -61,6 +62,10 @@ public interface NodeServer extends Named, Closeable {
 
   void channel(@Nullable NetworkChannel channel);
 
+  boolean binaryDocuments();
+
+  void binaryDocuments(boolean binaryDocuments);
+
   @UnknownNullability NodeInfoSnapshot nodeInfoSnapshot();
 
   @UnknownNullability NodeInfoSnapshot lastNodeInfoSnapshot();
@@ -75,6 +80,8 @@ public interface NodeServer extends Named, Closeable {
 
   @NonNull Collection<String> sendCommandLine(@NonNull String commandLine);
 
+  @NonNull Collection<ThreadSnapshot> threadSnapshots();
+
   @Override
   void close();
 }
@@ -55,11 +55,15 @@ public interface NodeServerProvider extends PacketSender, Closeable {
 
   void selectHeadNode();
 
+  void selectDocumentEncoding();
+
   @NonNull Task<TransferStatus> deployTemplateToCluster(
     @NonNull ServiceTemplate template,
     @NonNull InputStream stream,
     boolean overwrite);
 
+  @NonNull Task<TransferStatus> syncTemplateToCluster(@NonNull ServiceTemplate template);
+
   @NonNull Task<TransferStatus> deployStaticServiceToCluster(
     @NonNull String name,
     @NonNull InputStream stream,
@@ -27,9 +27,11 @@
 import eu.cloudnetservice.driver.module.ModuleProvider;
 import eu.cloudnetservice.driver.module.ModuleWrapper;
 import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.rpc.defaults.object.serializers.DocumentObjectSerializer;
 import eu.cloudnetservice.driver.provider.CloudServiceFactory;
 import eu.cloudnetservice.driver.provider.SpecificCloudServiceProvider;
 import eu.cloudnetservice.driver.service.ProcessSnapshot;
+import eu.cloudnetservice.driver.service.ThreadSnapshot;
 import eu.cloudnetservice.node.ShutdownHandler;
 import eu.cloudnetservice.node.cluster.LocalNodeServer;
 import eu.cloudnetservice.node.cluster.NodeServerProvider;
@@ -177,6 +179,16 @@ public void channel(@Nullable NetworkChannel channel) {
     // no-op
   }
 
+  @Override
+  public boolean binaryDocuments() {
+    return DocumentObjectSerializer.BINARY_DOCUMENTS;
+  }
+
+  @Override
+  public void binaryDocuments(boolean binaryDocuments) {
+    // no-op
+  }
+
   @Override
   public @UnknownNullability NodeInfoSnapshot nodeInfoSnapshot() {
     return this.currentSnapshot;
@@ -218,6 +230,11 @@ public void updateNodeInfoSnapshot(@Nullable NodeInfoSnapshot snapshot) {
     return sender.messages();
   }
 
+  @Override
+  public @NonNull Collection<ThreadSnapshot> threadSnapshots() {
+    return ProcessSnapshot.threadSnapshots();
+  }
+
   @Override
   public void close() {
     // if someone requests to close the local node just shutdown the node
@@ -236,7 +253,7 @@ public void updateLocalSnapshot() {
       this.draining,
       this.info(),
       this.version,
-      ProcessSnapshot.self(),
+      ProcessSnapshot.periodic(),
       this.configuration.maxCPUUsageToStartServices(),
       this.moduleProvider.modules().stream()
         .map(ModuleWrapper::moduleConfiguration)
@@ -19,6 +19,7 @@
 import dev.derklaro.aerogel.auto.Provides;
 import eu.cloudnetservice.common.concurrent.Task;
 import eu.cloudnetservice.driver.channel.ChannelMessage;
+import eu.cloudnetservice.driver.channel.ChannelMessageTarget;
 import eu.cloudnetservice.driver.cluster.NetworkCluster;
 import eu.cloudnetservice.driver.cluster.NetworkClusterNode;
 import eu.cloudnetservice.driver.event.EventManager;
@@ -29,20 +30,30 @@
 import eu.cloudnetservice.driver.network.chunk.TransferStatus;
 import eu.cloudnetservice.driver.network.def.NetworkConstants;
 import eu.cloudnetservice.driver.network.protocol.Packet;
+import eu.cloudnetservice.driver.network.rpc.defaults.object.serializers.DocumentObjectSerializer;
 import eu.cloudnetservice.driver.service.ServiceTemplate;
+import eu.cloudnetservice.driver.template.TemplateStorageProvider;
 import eu.cloudnetservice.node.cluster.LocalNodeServer;
 import eu.cloudnetservice.node.cluster.NodeServer;
 import eu.cloudnetservice.node.cluster.NodeServerProvider;
+import eu.cloudnetservice.node.cluster.NodeServerState;
 import eu.cloudnetservice.node.cluster.sync.DataSyncRegistry;
 import eu.cloudnetservice.node.network.listener.message.NodeChannelMessageListener;
+import eu.cloudnetservice.node.service.CloudServiceManager;
+import eu.cloudnetservice.node.template.LocalTemplateStorage;
+import eu.cloudnetservice.node.template.TemplateManifest;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -127,6 +138,7 @@ public void registerNodes(@NonNull NetworkCluster cluster) {
     // remove all remote node servers
     this.nodeServers.removeIf(server -> !(server instanceof LocalNodeServer));
     cluster.nodes().forEach(this::registerNode);
+    this.selectDocumentEncoding();
   }
 
   @Override
@@ -146,6 +158,7 @@ public void unregisterNode(@NonNull String uniqueId) {
       .ifPresent(server -> {
         server.close();
         this.nodeServers.remove(server);
+        this.selectDocumentEncoding();
       });
   }
 
@@ -157,6 +170,36 @@ public void selectHeadNode() {
       .orElseThrow();
   }
 
+  @Override
+  public synchronized void selectDocumentEncoding() {
+    // documents can only be written binary encoded if all nodes which might receive them are able to read them. this
+    // includes disconnected nodes, as packets to these are queued until they reconnect, and nodes which are currently
+    // authorizing, as packets can be sent to them as soon as their channel is attached
+    var binaryEncoding = DocumentObjectSerializer.BINARY_DOCUMENTS && this.nodeServers.stream()
+      .filter(server -> server != this.localNode)
+      .allMatch(server -> server.binaryDocuments()
+        || (server.state() == NodeServerState.UNAVAILABLE && server.channel() == null));
+    if (DocumentObjectSerializer.binaryEncoding() == binaryEncoding) {
+      return;
+    }
+
+    DocumentObjectSerializer.binaryEncoding(binaryEncoding);
+    // the wrappers write documents the same way as their node, as they might be forwarded into the cluster. wrappers
+    // which are connecting later receive the current encoding with their authorization response
+    var localServices = InjectionLayer.boot().instance(CloudServiceManager.class).localCloudServices();
+    if (!localServices.isEmpty()) {
+      var message = ChannelMessage.builder()
+        .message("update_document_encoding")
+        .channel(NetworkConstants.INTERNAL_MSG_CHANNEL)
+        .buffer(DataBuf.empty().writeBoolean(binaryEncoding));
+      for (var service : localServices) {
+        message.target(ChannelMessageTarget.Type.SERVICE, service.serviceId().name());
+      }
+
+      message.build().send();
+    }
+  }
+
   @Override
   public @NonNull Task<TransferStatus> deployTemplateToCluster(
     @NonNull ServiceTemplate template,
@@ -171,7 +214,7 @@ public void selectHeadNode() {
         .transferChannel("deploy_service_template")
         .withExtraData(
           DataBuf.empty().writeString(template.storageName()).writeObject(template).writeBoolean(overwrite))
-        .toChannels(channels)
+        .toChannels(this::connectedNodeChannels)
         .source(stream)
         .build()
         .transferChunkedData();
@@ -180,6 +223,103 @@ public void selectHeadNode() {
     return Task.completedTask(TransferStatus.SUCCESS);
   }
 
+  @Override
+  public @NonNull Task<TransferStatus> syncTemplateToCluster(@NonNull ServiceTemplate template) {
+    // manifests are only available for templates stored in the local storage
+    var storageProvider = InjectionLayer.boot().instance(TemplateStorageProvider.class);
+    if (!(storageProvider.templateStorage(template.storageName()) instanceof LocalTemplateStorage storage)) {
+      return Task.completedTask(TransferStatus.FAILURE);
+    }
+
+    return Task.supply(() -> {
+      // fails the sync if a file of the template is unreadable, the file would be removed from the other nodes otherwise
+      var manifest = storage.manifest(template);
+      if (manifest == null) {
+        return TransferStatus.FAILURE;
+      }
+
+      // sync the template to each node separately, as each node might have a different state of the template
+      var status = TransferStatus.SUCCESS;
+      for (var server : this.nodeServers) {
+        if (server != this.localNode && server.channel() != null) {
+          var nodeStatus = this.syncTemplateToNode(storage, template, manifest, server);
+          if (nodeStatus != TransferStatus.SUCCESS) {
+            status = TransferStatus.FAILURE;
+          }
+        }
+      }
+      return status;
+    });
+  }
+
+  private @NonNull TransferStatus syncTemplateToNode(
+    @NonNull LocalTemplateStorage storage,
+    @NonNull ServiceTemplate template,
+    @NonNull TemplateManifest manifest,
+    @NonNull NodeServer server
+  ) throws IOException {
+    // resolve the channel of the node again when resuming a transfer, the node might have reconnected in the meantime
+    Supplier<Collection<NetworkChannel>> channelResolver = () -> {
+      var channel = server.channel();
+      return channel == null ? List.of() : List.of(channel);
+    };
+
+    // request the manifest of the template from the target node
+    var response = ChannelMessage.builder()
+      .message("remote_templates_template_manifest")
+      .channel(NetworkConstants.INTERNAL_MSG_CHANNEL)
+      .targetNode(server.name())
+      .buffer(DataBuf.empty().writeString(template.storageName()).writeObject(template))
+      .build()
+      .sendSingleQuery();
+    if (response == null || !response.content().readBoolean()) {
+      // the target node is unable to provide a manifest, transfer the whole template
+      try (var stream = storage.zipTemplate(template)) {
+        return stream == null ? TransferStatus.FAILURE : ChunkedPacketSender.forFileTransfer()
+          .transferChannel("deploy_service_template")
+          .withExtraData(DataBuf.empty().writeString(template.storageName()).writeObject(template).writeBoolean(true))
+          .toChannels(channelResolver)
+          .source(stream)
+          .build()
+          .transferChunkedData()
+          .get(5, TimeUnit.MINUTES, TransferStatus.FAILURE);
+      }
+    }
+
+    // check which files need to be transferred or removed from the target node
+    var remoteManifest = TemplateManifest.readFrom(response.content());
+    var changedFiles = manifest.changedFiles(remoteManifest);
+    var removedFiles = manifest.removedFiles(remoteManifest);
+    if (changedFiles.isEmpty() && removedFiles.isEmpty()) {
+      return TransferStatus.SUCCESS;
+    }
+
+    var extraData = DataBuf.empty()
+      .writeString(template.storageName())
+      .writeObject(template)
+      .writeInt(removedFiles.size());
+    for (var removedFile : removedFiles) {
+      extraData.writeString(removedFile);
+    }
+
+    // only transfer the files which are missing or changed on the target node
+    try (var stream = storage.zipTemplateFiles(template, changedFiles)) {
+      if (stream == null) {
+        extraData.release();
+        return TransferStatus.FAILURE;
+      }
+
+      return ChunkedPacketSender.forFileTransfer()
+        .transferChannel("deploy_service_template_delta")
+        .withExtraData(extraData)
+        .toChannels(channelResolver)
+        .source(stream)
+        .build()
+        .transferChunkedData()
+        .get(5, TimeUnit.MINUTES, TransferStatus.FAILURE);
+    }
+  }
+
   @Override
   public @NonNull Task<TransferStatus> deployStaticServiceToCluster(
     @NonNull String name,
@@ -193,7 +333,7 @@ public void selectHeadNode() {
       return ChunkedPacketSender.forFileTransfer()
         .transferChannel("deploy_static_service")
         .withExtraData(DataBuf.empty().writeString(name).writeBoolean(overwrite))
-        .toChannels(channels)
+        .toChannels(this::connectedNodeChannels)
         .source(stream)
         .build()
         .transferChunkedData();
@@ -29,6 +29,7 @@
 import eu.cloudnetservice.driver.provider.CloudServiceFactory;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.provider.SpecificCloudServiceProvider;
+import eu.cloudnetservice.driver.service.ThreadSnapshot;
 import eu.cloudnetservice.node.cluster.NodeServer;
 import eu.cloudnetservice.node.cluster.NodeServerProvider;
 import eu.cloudnetservice.node.cluster.NodeServerState;
@@ -39,6 +40,7 @@
 import java.lang.reflect.Type;
 import java.time.Instant;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
@@ -49,6 +51,7 @@
 public class RemoteNodeServer implements NodeServer {
 
   private static final Type COLLECTION_STRING = TypeFactory.parameterizedClass(Set.class, String.class);
+  private static final Type THREAD_SNAPSHOTS = TypeFactory.parameterizedClass(List.class, ThreadSnapshot.class);
 
   private final NetworkClient networkClient;
   private final DataSyncRegistry dataSyncRegistry;
@@ -62,6 +65,7 @@ public class RemoteNodeServer implements NodeServer {
   private volatile NetworkChannel channel;
   private volatile Instant lastStateChange = Instant.now();
   private volatile NodeServerState state = NodeServerState.UNAVAILABLE;
+  private volatile boolean binaryDocuments;
 
   private volatile NodeInfoSnapshot currentSnapshot;
   private volatile NodeInfoSnapshot lastSnapshot;
@@ -173,6 +177,11 @@ public void syncClusterData(boolean force) {
   public void state(@NonNull NodeServerState state) {
     this.state = state;
     this.lastStateChange = Instant.now();
+    // the node might run another version when it connects again, forget the announced document support
+    if (state == NodeServerState.DISCONNECTED || state == NodeServerState.UNAVAILABLE) {
+      this.binaryDocuments = false;
+    }
+    this.provider.selectDocumentEncoding();
   }
 
   @Override
@@ -188,6 +197,18 @@ public void state(@NonNull NodeServerState state) {
   @Override
   public void channel(@Nullable NetworkChannel channel) {
     this.channel = channel;
+    this.provider.selectDocumentEncoding();
+  }
+
+  @Override
+  public boolean binaryDocuments() {
+    return this.binaryDocuments;
+  }
+
+  @Override
+  public void binaryDocuments(boolean binaryDocuments) {
+    this.binaryDocuments = binaryDocuments;
+    this.provider.selectDocumentEncoding();
   }
 
   @Override
@@ -249,6 +270,19 @@ public void updateNodeInfoSnapshot(@Nullable NodeInfoSnapshot snapshot) {
       .join();
   }
 
+  @Override
+  public @NonNull Collection<ThreadSnapshot> threadSnapshots() {
+    return ChannelMessage.builder()
+      .message("request_thread_snapshots")
+      .targetNode(this.info.uniqueId())
+      .channel(NetworkConstants.INTERNAL_MSG_CHANNEL)
+      .build()
+      .sendSingleQueryAsync()
+      .thenApply(message -> message.content().<Collection<ThreadSnapshot>>readObject(THREAD_SNAPSHOTS))
+      .exceptionally($ -> List.of())
+      .join();
+  }
+
   @Override
   public void close() {
     // disconnect the node from the network
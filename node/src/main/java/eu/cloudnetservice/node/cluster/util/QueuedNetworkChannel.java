@@ -93,6 +93,16 @@ public boolean active() {
     return false;
   }
 
+  @Override
+  public boolean resumableChunks() {
+    return this.wrappedChannel.resumableChunks();
+  }
+
+  @Override
+  public void resumableChunks(boolean resumableChunks) {
+    this.wrappedChannel.resumableChunks(resumableChunks);
+  }
+
   @Override
   public void close() {
     this.wrappedChannel.close();
@@ -26,6 +26,7 @@
 import com.google.common.collect.Lists;
 import eu.cloudnetservice.common.column.ColumnFormatter;
 import eu.cloudnetservice.common.column.RowedFormatter;
+import eu.cloudnetservice.common.concurrent.Task;
 import eu.cloudnetservice.common.io.ZipUtil;
 import eu.cloudnetservice.common.language.I18n;
 import eu.cloudnetservice.common.log.LogManager;
@@ -47,6 +48,7 @@
 import eu.cloudnetservice.node.command.source.ConsoleCommandSource;
 import eu.cloudnetservice.node.config.Configuration;
 import eu.cloudnetservice.node.service.CloudServiceManager;
+import eu.cloudnetservice.node.template.LocalTemplateStorage;
 import eu.cloudnetservice.node.util.NetworkUtil;
 import jakarta.inject.Inject;
 import jakarta.inject.Provider;
@@ -349,28 +351,30 @@ private void pushStaticService(
 
   private void pushTemplate(@NonNull CommandSource source, @NonNull ServiceTemplate template) {
     var templateName = template.toString();
+    var storage = template.storage();
+    // templates of the local storage are synced, only transferring the files which changed on the other nodes
+    if (storage instanceof LocalTemplateStorage) {
+      if (storage.contains(template)) {
+        source.sendMessage(I18n.trans("command-cluster-push-template-compress", templateName));
+        this.handlePushTemplateResult(source, template, this.nodeServerProvider.syncTemplateToCluster(template));
+      } else {
+        source.sendMessage(I18n.trans("command-template-not-found", templateName));
+      }
+      return;
+    }
+
     try {
       source.sendMessage(
         I18n.trans("command-cluster-push-template-compress", templateName));
       // compress the template and create an InputStream
-      var inputStream = template.storage().zipTemplate(template);
+      var inputStream = storage.zipTemplate(template);
       // check if the template really exists in the given storage
       if (inputStream != null) {
         // deploy the template into the cluster
-        this.nodeServerProvider.deployTemplateToCluster(template, inputStream, true).whenComplete((status, ex) -> {
-          if (ex != null || status == TransferStatus.FAILURE) {
-            // the transfer failed
-            source.sendMessage(I18n.trans("command-cluster-push-template-failed", templateName));
-
-            // print the detailed exception, if available
-            if (ex != null) {
-              LOGGER.severe("Unable to push template %s to cluster", ex, template);
-            }
-          } else {
-            // the transfer was successful
-            source.sendMessage(I18n.trans("command-cluster-push-template-success", templateName));
-          }
-        });
+        this.handlePushTemplateResult(
+          source,
+          template,
+          this.nodeServerProvider.deployTemplateToCluster(template, inputStream, true));
       } else {
         source.sendMessage(I18n.trans("command-template-not-found", templateName));
       }
@@ -379,6 +383,28 @@ private void pushTemplate(@NonNull CommandSource source, @NonNull ServiceTemplat
     }
   }
 
+  private void handlePushTemplateResult(
+    @NonNull CommandSource source,
+    @NonNull ServiceTemplate template,
+    @NonNull Task<TransferStatus> transferTask
+  ) {
+    var templateName = template.toString();
+    transferTask.whenComplete((status, ex) -> {
+      if (ex != null || status == TransferStatus.FAILURE) {
+        // the transfer failed
+        source.sendMessage(I18n.trans("command-cluster-push-template-failed", templateName));
+
+        // print the detailed exception, if available
+        if (ex != null) {
+          LOGGER.severe("Unable to push template %s to cluster", ex, template);
+        }
+      } else {
+        // the transfer was successful
+        source.sendMessage(I18n.trans("command-cluster-push-template-success", templateName));
+      }
+    });
+  }
+
   private @NonNull List<String> resolveAllStaticServices() {
     try {
       // walk through the static service directory
@@ -426,7 +452,7 @@ private void displayNode(@NonNull CommandSource source, @NonNull NodeServer node
           node.nodeInfoSnapshot().processSnapshot().cpuUsage()) + "%",
         "CPU usage system: " + ResourceFormatter.formatTwoDigitPrecision(
           node.nodeInfoSnapshot().processSnapshot().systemCpuUsage()) + "%",
-        "Threads: " + node.nodeInfoSnapshot().processSnapshot().threads().size(),
+        "Threads: " + node.nodeInfoSnapshot().processSnapshot().threadCount(),
         "Heap usage: " + (node.nodeInfoSnapshot().processSnapshot().heapUsageMemory() / (1024 * 1024)) + "/" +
           (node.nodeInfoSnapshot().processSnapshot().maxHeapMemory() / (1024 * 1024)) + "MB",
         " "
@@ -19,11 +19,19 @@
 import cloud.commandframework.annotations.CommandMethod;
 import cloud.commandframework.annotations.CommandPermission;
 import cloud.commandframework.annotations.Flag;
+import com.google.common.collect.Iterables;
 import eu.cloudnetservice.common.resource.CpuUsageResolver;
 import eu.cloudnetservice.common.resource.ResourceFormatter;
 import eu.cloudnetservice.driver.CloudNetVersion;
+import eu.cloudnetservice.driver.event.EventManager;
+import eu.cloudnetservice.driver.event.RegisteredEventListener;
+import eu.cloudnetservice.driver.network.NetworkClient;
+import eu.cloudnetservice.driver.network.NetworkServer;
+import eu.cloudnetservice.driver.network.netty.NettyNetworkChannel;
+import eu.cloudnetservice.driver.network.netty.buffer.NettyDataBufFactory;
 import eu.cloudnetservice.driver.service.ProcessSnapshot;
 import eu.cloudnetservice.node.Node;
+import eu.cloudnetservice.node.TickLoop;
 import eu.cloudnetservice.node.cluster.NodeServerProvider;
 import eu.cloudnetservice.node.command.annotation.CommandAlias;
 import eu.cloudnetservice.node.command.annotation.Description;
@@ -33,7 +41,10 @@
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
 import java.lang.management.RuntimeMXBean;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 import lombok.NonNull;
 
@@ -44,6 +55,7 @@
 public final class MeCommand {
 
   private static final Pattern UUID_REPLACE_PATTERN = Pattern.compile("-\\w{4}-");
+  private static final int SLOWEST_EVENT_LISTENERS = 3;
 
   private static final MemoryMXBean MEMORY_MX_BEAN = ManagementFactory.getMemoryMXBean();
   private static final RuntimeMXBean RUNTIME_MX_BEAN = ManagementFactory.getRuntimeMXBean();
@@ -54,11 +66,16 @@ public final class MeCommand {
   @CommandMethod("me|info")
   public void me(
     @NonNull CloudNetVersion version,
+    @NonNull TickLoop tickLoop,
     @NonNull Configuration configuration,
     @NonNull NodeServerProvider nodeServerProvider,
+    @NonNull NetworkServer networkServer,
+    @NonNull NetworkClient networkClient,
+    @NonNull EventManager eventManager,
     @NonNull CommandSource source,
     @Flag("showClusterId") boolean showFullClusterId) {
     var nodeInfoSnapshot = nodeServerProvider.localNode().nodeInfoSnapshot();
+    var bufferStatistics = NettyDataBufFactory.INSTANCE.allocatorStatistics();
 
     // hide the middle parts of the uuid if not explicitly requested to show them
     var clusterId = configuration.clusterConfig().clusterId().toString();
@@ -67,7 +84,7 @@ public void me(
       clusterId = matcher.replaceAll("-****-");
     }
 
-    source.sendMessage(List.of(
+    List<String> messages = new ArrayList<>(List.of(
       " ",
       version.toString(),
       "Discord: <https://discord.cloudnetservice.eu/>",
@@ -87,11 +104,27 @@ public void me(
         + "/"
         + nodeInfoSnapshot.maxMemory() + " MB",
       "Threads: " + ProcessSnapshot.THREAD_MX_BEAN.getThreadCount(),
+      "Tick loop (Tasks/Duration/Lag/Overruns): "
+        + tickLoop.scheduledTaskCount()
+        + "/"
+        + TimeUnit.NANOSECONDS.toMillis(tickLoop.lastTickDuration())
+        + "ms/"
+        + tickLoop.lastTickLag()
+        + "ms/"
+        + tickLoop.overrunTickCount(),
       "Heap usage: "
         + (MEMORY_MX_BEAN.getHeapMemoryUsage().getUsed() / (1024 * 1024))
         + "/"
         + (MEMORY_MX_BEAN.getHeapMemoryUsage().getMax() / (1024 * 1024))
         + "MB",
+      "Network buffers (Used/Predicted/Underestimated): "
+        + (bufferStatistics.usedMemory() < 0 ? "-" : bufferStatistics.usedMemory() / (1024 * 1024) + "MB")
+        + "/"
+        + bufferStatistics.predictedAllocations()
+        + "/"
+        + bufferStatistics.underestimatedBuffers()
+        + (bufferStatistics.pooled() ? " (pooled)" : ""),
+      "Write batching (Flushes/Packets per flush): " + formatWriteBatching(networkServer, networkClient),
       "JVM: "
         + RUNTIME_MX_BEAN.getVmVendor()
         + " "
@@ -105,7 +138,60 @@ public void me(
         + UPDATE_REPO
         + ", Update Branch: "
         + UPDATE_BRANCH
-        + (Node.DEV_MODE ? " (development mode)" : ""),
-      " "));
+        + (Node.DEV_MODE ? " (development mode)" : "")));
+    messages.addAll(formatSlowestEventListeners(eventManager));
+    messages.add(" ");
+    source.sendMessage(messages);
+  }
+
+  private static @NonNull List<String> formatSlowestEventListeners(@NonNull EventManager eventManager) {
+    // rank by the total time spent in the listener, a listener which is slightly slow but called often is
+    // blocking event callers for longer than a listener which was slow once
+    var slowestListeners = eventManager.registeredListeners().stream()
+      .filter(listener -> listener.invocationCount() > 0)
+      .sorted(Comparator.comparingLong(RegisteredEventListener::totalInvocationNanos).reversed())
+      .limit(SLOWEST_EVENT_LISTENERS)
+      .toList();
+    if (slowestListeners.isEmpty()) {
+      return List.of("Slowest event listeners (Calls/Avg/Max): -");
+    }
+
+    List<String> lines = new ArrayList<>();
+    lines.add("Slowest event listeners (Calls/Avg/Max):");
+    for (var listener : slowestListeners) {
+      var averageNanos = (double) listener.totalInvocationNanos() / listener.invocationCount();
+      lines.add(" - "
+        + listener.instance().getClass().getSimpleName()
+        + " ("
+        + listener.eventClass().getSimpleName()
+        + "): "
+        + listener.invocationCount()
+        + "/"
+        + ResourceFormatter.formatTwoDigitPrecision(averageNanos / TimeUnit.MILLISECONDS.toNanos(1))
+        + "ms/"
+        + TimeUnit.NANOSECONDS.toMillis(listener.maxInvocationNanos())
+        + "ms");
+    }
+
+    return lines;
+  }
+
+  private static @NonNull String formatWriteBatching(
+    @NonNull NetworkServer networkServer,
+    @NonNull NetworkClient networkClient
+  ) {
+    var flushes = 0L;
+    var flushedPackets = 0L;
+    // sum up the statistics of all connected channels which are batching their writes
+    for (var channel : Iterables.concat(networkServer.channels(), networkClient.channels())) {
+      if (channel instanceof NettyNetworkChannel nettyChannel && nettyChannel.writeBatcher() != null) {
+        flushes += nettyChannel.writeBatcher().flushCount();
+        flushedPackets += nettyChannel.writeBatcher().flushedPacketCount();
+      }
+    }
+
+    return flushes == 0
+      ? "-"
+      : flushes + "/" + ResourceFormatter.formatTwoDigitPrecision((double) flushedPackets / flushes);
   }
 }
@@ -108,7 +108,7 @@ public void migrateDatabase(
         var sourceDatabase = sourceDatabaseProvider.database(databaseName);
         var targetDatabase = targetDatabaseProvider.database(databaseName);
 
-        sourceDatabase.iterate(targetDatabase::insert, chunkSize);
+        sourceDatabase.iterateChunks(targetDatabase::insertAll, chunkSize);
       }
     } catch (Exception exception) {
       LOGGER.severe(I18n.trans("command-migrate-database-connection-failed"), exception);
@@ -19,7 +19,10 @@
 import eu.cloudnetservice.driver.database.Database;
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.document.StandardSerialisationStyle;
+import java.util.Collection;
+import java.util.Map;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import lombok.NonNull;
 
 public abstract class AbstractDatabase implements LocalDatabase, Database {
@@ -39,22 +42,55 @@ protected AbstractDatabase(@NonNull String name, @NonNull NodeDatabaseProvider d
 
   @Override
   public void iterate(@NonNull BiConsumer<String, Document> consumer, int chunkSize) {
-    var documentCount = this.documentCount();
-    if (documentCount != 0) {
-      long currentIndex = 0;
-      while (currentIndex < documentCount) {
-        var result = this.readChunk(currentIndex, chunkSize);
-        if (result != null) {
-          result.forEach(consumer);
-          currentIndex += chunkSize;
-          continue;
-        }
+    this.iterateChunks(chunk -> chunk.forEach(consumer), chunkSize);
+  }
+
+  @Override
+  public void iterateChunks(@NonNull Consumer<Map<String, Document>> consumer, int chunkSize) {
+    String lastKey = null;
+    Map<String, Document> chunk;
+    while ((chunk = this.readChunkAfter(lastKey, chunkSize)) != null) {
+      consumer.accept(chunk);
 
+      // a chunk which is not filled completely indicates that there are no more entries
+      if (chunk.size() < chunkSize) {
         break;
       }
+
+      // the entries are ordered by key, continue after the last key of the chunk
+      for (var key : chunk.keySet()) {
+        lastKey = key;
+      }
     }
   }
 
+  @Override
+  public boolean insertAll(@NonNull Map<String, Document> entries) {
+    var success = true;
+    for (var entry : entries.entrySet()) {
+      success &= this.insert(entry.getKey(), entry.getValue());
+    }
+
+    return success;
+  }
+
+  @Override
+  public int deleteAll(@NonNull Collection<String> keys) {
+    var deleted = 0;
+    for (var key : keys) {
+      if (this.delete(key)) {
+        deleted++;
+      }
+    }
+
+    return deleted;
+  }
+
+  @Override
+  public void createIndex(@NonNull String fieldName) {
+    // no-op by default, lookups are done without an index
+  }
+
   protected @NonNull String serializeDocumentToJsonString(@NonNull Document document) {
     // send the given document into a new json document
     var jsonDocument = Document.newJsonDocument();
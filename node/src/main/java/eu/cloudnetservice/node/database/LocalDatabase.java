@@ -20,6 +20,7 @@
 import eu.cloudnetservice.driver.document.Document;
 import java.util.Map;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -41,5 +42,47 @@ public interface LocalDatabase extends Database {
    */
   void iterate(@NonNull BiConsumer<String, Document> consumer, int chunkSize);
 
+  /**
+   * Iterates over all entries in the database in chunks of the given size. Each chunk is passed to the given consumer
+   * at once, which allows to process the entries in batches, for example by writing them into another database using
+   * {@link #insertAll(Map)}.
+   *
+   * @param consumer  the consumer to pass the chunks into.
+   * @param chunkSize the maximum size of each chunk.
+   * @throws NullPointerException if the given consumer is null.
+   */
+  void iterateChunks(@NonNull Consumer<Map<String, Document>> consumer, int chunkSize);
+
   @Nullable Map<String, Document> readChunk(long beginIndex, int chunkSize);
+
+  /**
+   * Reads the next chunk of entries from this database, ordered by their key. The chunk begins with the first entry
+   * whose key is greater than the given last key, or with the first entry of the database if the given key is null.
+   * Passing the last key of the returned chunk into the next call continues the iteration where the previous one
+   * stopped. Unlike {@link #readChunk(long, int)} the previous entries are not skipped one by one, which makes reading
+   * a whole database chunk by chunk possible in linear time.
+   * <p>
+   * Entries which are inserted or removed while iterating may or may not be included in one of the following chunks.
+   *
+   * @param lastKey   the last key of the previous chunk, null to start with the first entry of the database.
+   * @param chunkSize the maximum number of entries to read.
+   * @return the next entries in key order, null if there are no more entries after the given key.
+   */
+  @Nullable Map<String, Document> readChunkAfter(@Nullable String lastKey, int chunkSize);
+
+  /**
+   * Creates a secondary index on the given top level field of the documents in this database. The index is used to
+   * speed up lookups using {@link #find(String, String)} and {@link #find(Map)} which are filtering by the field, and
+   * is maintained when inserting or deleting documents. Creating an index which already exists has no effect.
+   * Implementations remember the indexes they created, so a repeated call does not access the underlying storage and
+   * this method can safely be called each time before accessing the database.
+   * <p>
+   * Databases which are not supporting secondary indexes are free to ignore this call, lookups will work as before in
+   * that case.
+   *
+   * @param fieldName the name of the top level field to index.
+   * @throws NullPointerException     if the given field name is null.
+   * @throws IllegalArgumentException if the given field name cannot be indexed by this database.
+   */
+  void createIndex(@NonNull String fieldName);
 }
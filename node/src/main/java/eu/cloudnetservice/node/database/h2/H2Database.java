@@ -20,21 +20,30 @@
 import eu.cloudnetservice.driver.document.DocumentFactory;
 import eu.cloudnetservice.node.database.sql.SQLDatabase;
 import eu.cloudnetservice.node.database.sql.SQLDatabaseProvider;
+import io.vavr.CheckedFunction1;
 import java.sql.ResultSet;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
+import java.util.regex.Pattern;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
 public final class H2Database extends SQLDatabase {
 
+  private static final String INDEX_COLUMN_PREFIX = "Index_";
+  private static final Pattern INDEXABLE_FIELD_PATTERN = Pattern.compile("[a-zA-Z0-9_]+");
+
+  private final Set<String> indexedFields = ConcurrentHashMap.newKeySet();
+
   public H2Database(@NonNull SQLDatabaseProvider provider, @NonNull String name) {
     super(provider, name);
 
@@ -44,6 +53,21 @@ public H2Database(@NonNull SQLDatabaseProvider provider, @NonNull String name) {
       name,
       TABLE_COLUMN_KEY,
       TABLE_COLUMN_VAL));
+
+    // load the fields which were indexed previously
+    provider.executeQuery(
+      String.format("SELECT * FROM `%s` LIMIT 0;", name),
+      resultSet -> {
+        var metaData = resultSet.getMetaData();
+        for (var column = 1; column <= metaData.getColumnCount(); column++) {
+          var columnName = metaData.getColumnName(column);
+          if (columnName.startsWith(INDEX_COLUMN_PREFIX)) {
+            this.indexedFields.add(columnName.substring(INDEX_COLUMN_PREFIX.length()));
+          }
+        }
+
+        return null;
+      }, null);
   }
 
   @Override
@@ -56,16 +80,51 @@ public boolean insert(@NonNull String key, @NonNull Document document) {
   }
 
   private boolean insert0(@NonNull String key, @NonNull Document document) {
+    if (this.indexedFields.isEmpty()) {
+      return this.databaseProvider.executeUpdate(
+        "INSERT INTO `" + this.name + "` (" + TABLE_COLUMN_KEY + "," + TABLE_COLUMN_VAL + ") VALUES (?, ?);",
+        key, this.serializeDocumentToJsonString(document)
+      ) != -1;
+    }
+
+    // insert the values of the indexed fields as well
+    var indexedFields = List.copyOf(this.indexedFields);
+    var columns = new StringBuilder(TABLE_COLUMN_KEY).append(',').append(TABLE_COLUMN_VAL);
+    var placeholders = new StringBuilder("?, ?");
+    List<Object> values = new ArrayList<>(List.of(key, this.serializeDocumentToJsonString(document)));
+    for (var indexedField : indexedFields) {
+      columns.append(",`").append(INDEX_COLUMN_PREFIX).append(indexedField).append('`');
+      placeholders.append(", ?");
+      values.add(document.getString(indexedField));
+    }
+
     return this.databaseProvider.executeUpdate(
-      "INSERT INTO `" + this.name + "` (" + TABLE_COLUMN_KEY + "," + TABLE_COLUMN_VAL + ") VALUES (?, ?);",
-      key, this.serializeDocumentToJsonString(document)
+      "INSERT INTO `" + this.name + "` (" + columns + ") VALUES (" + placeholders + ");",
+      values.toArray()
     ) != -1;
   }
 
   public boolean update0(String key, Document document) {
+    if (this.indexedFields.isEmpty()) {
+      return this.databaseProvider.executeUpdate(
+        "UPDATE `" + this.name + "` SET " + TABLE_COLUMN_VAL + "=? WHERE " + TABLE_COLUMN_KEY + "=?",
+        this.serializeDocumentToJsonString(document), key
+      ) != -1;
+    }
+
+    // update the values of the indexed fields as well
+    var indexedFields = List.copyOf(this.indexedFields);
+    var assignments = new StringBuilder(TABLE_COLUMN_VAL).append("=?");
+    List<Object> values = new ArrayList<>(List.of(this.serializeDocumentToJsonString(document)));
+    for (var indexedField : indexedFields) {
+      assignments.append(",`").append(INDEX_COLUMN_PREFIX).append(indexedField).append("`=?");
+      values.add(document.getString(indexedField));
+    }
+
+    values.add(key);
     return this.databaseProvider.executeUpdate(
-      "UPDATE `" + this.name + "` SET " + TABLE_COLUMN_VAL + "=? WHERE " + TABLE_COLUMN_KEY + "=?",
-      this.serializeDocumentToJsonString(document), key
+      "UPDATE `" + this.name + "` SET " + assignments + " WHERE " + TABLE_COLUMN_KEY + "=?",
+      values.toArray()
     ) != -1;
   }
 
@@ -73,6 +132,40 @@ public boolean insertOrUpdate(String key, Document document) {
     return this.contains(key) ? this.update0(key, document) : this.insert0(key, document);
   }
 
+  @Override
+  public boolean insertAll(@NonNull Map<String, Document> entries) {
+    if (entries.isEmpty()) {
+      return true;
+    }
+
+    // merge inserts or updates each entry based on the key, which allows to write all entries in one batch
+    var indexedFields = List.copyOf(this.indexedFields);
+    var columns = new StringBuilder(TABLE_COLUMN_KEY).append(',').append(TABLE_COLUMN_VAL);
+    var placeholders = new StringBuilder("?, ?");
+    for (var indexedField : indexedFields) {
+      columns.append(",`").append(INDEX_COLUMN_PREFIX).append(indexedField).append('`');
+      placeholders.append(", ?");
+    }
+
+    List<Object[]> batchParameters = new ArrayList<>(entries.size());
+    for (var entry : entries.entrySet()) {
+      var document = entry.getValue();
+      var values = new Object[indexedFields.size() + 2];
+      values[0] = entry.getKey();
+      values[1] = this.serializeDocumentToJsonString(document);
+      for (var i = 0; i < indexedFields.size(); i++) {
+        values[i + 2] = document.getString(indexedFields.get(i));
+      }
+
+      batchParameters.add(values);
+    }
+
+    return this.databaseProvider.executeBatchUpdate(
+      "MERGE INTO `" + this.name + "` (" + columns + ") KEY(" + TABLE_COLUMN_KEY + ") VALUES (" + placeholders + ");",
+      batchParameters
+    ) != -1;
+  }
+
   @Override
   public boolean contains(@NonNull String key) {
     return this.databaseProvider.executeQuery(
@@ -87,6 +180,23 @@ public boolean delete(@NonNull String key) {
     return this.delete0(key);
   }
 
+  @Override
+  public int deleteAll(@NonNull Collection<String> keys) {
+    if (keys.isEmpty()) {
+      return 0;
+    }
+
+    List<Object[]> batchParameters = new ArrayList<>(keys.size());
+    for (var key : keys) {
+      batchParameters.add(new Object[]{key});
+    }
+
+    var deleted = this.databaseProvider.executeBatchUpdate(
+      String.format("DELETE FROM `%s` WHERE %s = ?", this.name, TABLE_COLUMN_KEY),
+      batchParameters);
+    return Math.max(deleted, 0);
+  }
+
   public boolean delete0(String key) {
     return this.databaseProvider.executeUpdate(
       String.format("DELETE FROM `%s` WHERE %s = ?", this.name, TABLE_COLUMN_KEY),
@@ -106,6 +216,11 @@ public boolean delete0(String key) {
 
   @Override
   public @NonNull List<Document> find(@NonNull String fieldName, String fieldValue) {
+    // use the index column of the field if the field is indexed
+    if (fieldValue != null && this.indexedFields.contains(fieldName)) {
+      return this.find(Map.of(fieldName, fieldValue));
+    }
+
     return this.databaseProvider.executeQuery(
       String.format("SELECT %s FROM `%s` WHERE %s LIKE ? ESCAPE '$'", TABLE_COLUMN_VAL, this.name, TABLE_COLUMN_VAL),
       resultSet -> {
@@ -135,8 +250,15 @@ public boolean delete0(String key) {
       while (iterator.hasNext()) {
         var entry = iterator.next();
 
-        stringBuilder.append(TABLE_COLUMN_VAL).append(" LIKE ? ESCAPE '$'");
-        collection.add("%\"" + entry.getKey() + "\":\"" + entry.getValue().replaceAll("([_%])", "\\$$1") + "\"%");
+        if (this.indexedFields.contains(entry.getKey())) {
+          // compare the index column directly if the field is indexed
+          stringBuilder.append('`').append(INDEX_COLUMN_PREFIX).append(entry.getKey()).append("` = ?");
+          collection.add(entry.getValue());
+        } else {
+          stringBuilder.append(TABLE_COLUMN_VAL).append(" LIKE ? ESCAPE '$'");
+          var escapedValue = entry.getValue().replaceAll("([_%])", "\\$$1");
+          collection.add("%\"" + entry.getKey() + "\":\"" + escapedValue + "\"%");
+        }
 
         if (iterator.hasNext()) {
           stringBuilder.append(" and ");
@@ -159,6 +281,43 @@ public boolean delete0(String key) {
     );
   }
 
+  @Override
+  public void createIndex(@NonNull String fieldName) {
+    // check if the index exists already
+    if (this.indexedFields.contains(fieldName)) {
+      return;
+    }
+
+    // the field name is used as part of the column name
+    if (!INDEXABLE_FIELD_PATTERN.matcher(fieldName).matches()) {
+      throw new IllegalArgumentException("Field name " + fieldName + " cannot be indexed by h2");
+    }
+
+    // create the column & the index for the column
+    var columnName = INDEX_COLUMN_PREFIX + fieldName;
+    this.databaseProvider.executeUpdate(String.format(
+      "ALTER TABLE `%s` ADD COLUMN IF NOT EXISTS `%s` VARCHAR;",
+      this.name,
+      columnName));
+    this.databaseProvider.executeUpdate(String.format(
+      "CREATE INDEX IF NOT EXISTS `%s_%s` ON `%s` (`%s`);",
+      this.name,
+      columnName,
+      this.name,
+      columnName));
+
+    // fill the column with the values of the documents which are already in the database
+    Map<String, String> fieldValues = new HashMap<>();
+    this.iterate((key, document) -> fieldValues.put(key, document.getString(fieldName)));
+    for (var entry : fieldValues.entrySet()) {
+      this.databaseProvider.executeUpdate(
+        String.format("UPDATE `%s` SET `%s`=? WHERE %s=?", this.name, columnName, TABLE_COLUMN_KEY),
+        entry.getValue(), entry.getKey());
+    }
+
+    this.indexedFields.add(fieldName);
+  }
+
   @Override
   public @NonNull Collection<String> keys() {
     return this.databaseProvider.executeQuery(
@@ -256,4 +415,36 @@ public boolean synced() {
       beginIndex, chunkSize
     );
   }
+
+  @Override
+  public @Nullable Map<String, Document> readChunkAfter(@Nullable String lastKey, int chunkSize) {
+    CheckedFunction1<ResultSet, Map<String, Document>> resultMapper = resultSet -> {
+      Map<String, Document> result = new LinkedHashMap<>();
+      while (resultSet.next()) {
+        var key = resultSet.getString(TABLE_COLUMN_KEY);
+        var document = DocumentFactory.json().parse(resultSet.getString(TABLE_COLUMN_VAL));
+        result.put(key, document);
+      }
+
+      return result.isEmpty() ? null : result;
+    };
+
+    if (lastKey == null) {
+      return this.databaseProvider.executeQuery(
+        String.format("SELECT * FROM `%s` ORDER BY `%s` LIMIT ?;", this.name, TABLE_COLUMN_KEY),
+        resultMapper,
+        null,
+        chunkSize);
+    } else {
+      return this.databaseProvider.executeQuery(
+        String.format(
+          "SELECT * FROM `%s` WHERE `%s` > ? ORDER BY `%s` LIMIT ?;",
+          this.name,
+          TABLE_COLUMN_KEY,
+          TABLE_COLUMN_KEY),
+        resultMapper,
+        null,
+        lastKey, chunkSize);
+    }
+  }
 }
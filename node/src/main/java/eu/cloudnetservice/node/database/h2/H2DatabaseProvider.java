@@ -28,6 +28,7 @@
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Objects;
 import java.util.Set;
 import lombok.NonNull;
 import org.h2.Driver;
@@ -43,6 +44,8 @@ public final class H2DatabaseProvider extends SQLDatabaseProvider {
 
   private final Path h2dbFile;
   private Connection connection;
+  // batches run in transactions, which must not include the updates other threads run on the shared connection
+  private Connection batchConnection;
 
   public H2DatabaseProvider(@NonNull String h2File) {
     super(DEFAULT_REMOVAL_LISTENER);
@@ -53,8 +56,9 @@ public H2DatabaseProvider(@NonNull String h2File) {
   public boolean init() throws Exception {
     FileUtil.createDirectory(this.h2dbFile.getParent());
     this.connection = DriverManager.getConnection("jdbc:h2:" + this.h2dbFile.toAbsolutePath());
+    this.batchConnection = DriverManager.getConnection("jdbc:h2:" + this.h2dbFile.toAbsolutePath());
 
-    return this.connection != null;
+    return this.connection != null && this.batchConnection != null;
   }
 
   @Override
@@ -94,6 +98,10 @@ public void close() throws Exception {
     if (this.connection != null) {
       this.connection.close();
     }
+
+    if (this.batchConnection != null) {
+      this.batchConnection.close();
+    }
   }
 
   @Override
@@ -105,7 +113,8 @@ public void close() throws Exception {
   public int executeUpdate(@NonNull String query, @NonNull Object... objects) {
     try (var preparedStatement = this.connection().prepareStatement(query)) {
       for (var i = 0; i < objects.length; i++) {
-        preparedStatement.setString(i + 1, objects[i].toString());
+        // null values are allowed for index columns
+        preparedStatement.setString(i + 1, Objects.toString(objects[i], null));
       }
 
       return preparedStatement.executeUpdate();
@@ -115,6 +124,40 @@ public int executeUpdate(@NonNull String query, @NonNull Object... objects) {
     }
   }
 
+  @Override
+  public synchronized int executeBatchUpdate(@NonNull String query, @NonNull Collection<Object[]> batchParameters) {
+    var con = this.batchConnection;
+    try (var preparedStatement = con.prepareStatement(query)) {
+      // execute the whole batch in one transaction
+      con.setAutoCommit(false);
+      try {
+        for (var objects : batchParameters) {
+          for (var i = 0; i < objects.length; i++) {
+            preparedStatement.setString(i + 1, Objects.toString(objects[i], null));
+          }
+
+          preparedStatement.addBatch();
+        }
+
+        var updatedRows = 0;
+        for (var updateCount : preparedStatement.executeBatch()) {
+          updatedRows += Math.max(updateCount, 0);
+        }
+
+        con.commit();
+        return updatedRows;
+      } catch (SQLException exception) {
+        con.rollback();
+        throw exception;
+      } finally {
+        con.setAutoCommit(true);
+      }
+    } catch (SQLException exception) {
+      LOGGER.severe("Exception while executing database batch update", exception);
+      return -1;
+    }
+  }
+
   @Override
   public @UnknownNullability <T> T executeQuery(
     @NonNull String query,
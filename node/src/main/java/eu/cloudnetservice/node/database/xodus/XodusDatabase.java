@@ -18,43 +18,101 @@
 
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.document.DocumentFactory;
+import eu.cloudnetservice.driver.document.send.BinaryDocumentCodec;
 import eu.cloudnetservice.node.database.AbstractDatabase;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
+import java.util.function.Predicate;
 import jetbrains.exodus.ArrayByteIterable;
+import jetbrains.exodus.ByteIterable;
 import jetbrains.exodus.bindings.StringBinding;
 import jetbrains.exodus.env.Environment;
 import jetbrains.exodus.env.Store;
+import jetbrains.exodus.env.StoreConfig;
+import jetbrains.exodus.env.Transaction;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
 public class XodusDatabase extends AbstractDatabase {
 
+  // maps the name of each database to the names of its indexed fields
+  protected static final String INDEX_REGISTRY_STORE_NAME = "index#registry";
+  protected static final String INDEX_STORE_PREFIX = "index#";
+
   protected final Environment environment;
   protected final AtomicReference<Store> store;
+  protected final Map<String, Store> indexStores;
+  protected final boolean binaryDocuments;
+
+  protected final boolean groupCommit;
+  protected final Lock groupCommitLock = new ReentrantLock();
+  protected final Queue<PendingInsert> pendingInserts = new ConcurrentLinkedQueue<>();
 
-  protected XodusDatabase(@NonNull String name, @NonNull Store store, @NonNull XodusDatabaseProvider provider) {
+  protected XodusDatabase(
+    @NonNull String name,
+    @NonNull Store store,
+    @NonNull Map<String, Store> indexStores,
+    @NonNull XodusDatabaseProvider provider
+  ) {
     super(name, provider);
 
     this.environment = store.getEnvironment();
     this.store = new AtomicReference<>(store);
+    this.indexStores = indexStores;
+    this.binaryDocuments = provider.binaryDocuments;
+    this.groupCommit = provider.groupCommit;
+  }
+
+  protected static @NonNull String indexStoreName(@NonNull String databaseName, @NonNull String fieldName) {
+    // prefix the database name with its length, names containing a '#' would be ambiguous otherwise
+    return INDEX_STORE_PREFIX + databaseName.length() + '#' + databaseName + '#' + fieldName;
+  }
+
+  protected static @Nullable Store indexRegistry(
+    @NonNull Environment environment,
+    @NonNull Transaction txn,
+    boolean creationRequired
+  ) {
+    return environment.openStore(
+      INDEX_REGISTRY_STORE_NAME,
+      StoreConfig.WITH_DUPLICATES_WITH_PREFIXING,
+      txn,
+      creationRequired);
   }
 
   @Override
   public boolean insert(@NonNull String key, @NonNull Document document) {
-    return this.environment.computeInExclusiveTransaction(
-      txn -> this.store().put(
-        txn,
-        StringBinding.stringToEntry(key),
-        new ArrayByteIterable(this.serializeDocumentToJsonString(document).getBytes(StandardCharsets.UTF_8))));
+    if (this.groupCommit) {
+      return this.insertGrouped(key, document);
+    }
+
+    return this.environment.computeInExclusiveTransaction(txn -> this.insert0(txn, key, document));
+  }
+
+  @Override
+  public boolean insertAll(@NonNull Map<String, Document> entries) {
+    return this.environment.computeInExclusiveTransaction(txn -> {
+      var success = true;
+      for (var entry : entries.entrySet()) {
+        success &= this.insert0(txn, entry.getKey(), entry.getValue());
+      }
+
+      return success;
+    });
   }
 
   @Override
@@ -65,19 +123,40 @@ public boolean contains(@NonNull String key) {
 
   @Override
   public boolean delete(@NonNull String key) {
-    return this.environment.computeInTransaction(txn -> this.store().delete(txn, StringBinding.stringToEntry(key)));
+    return this.environment.computeInTransaction(txn -> this.delete0(txn, key));
+  }
+
+  @Override
+  public int deleteAll(@NonNull Collection<String> keys) {
+    return this.environment.computeInExclusiveTransaction(txn -> {
+      var deleted = 0;
+      for (var key : keys) {
+        if (this.delete0(txn, key)) {
+          deleted++;
+        }
+      }
+
+      return deleted;
+    });
   }
 
   @Override
   public @Nullable Document get(@NonNull String key) {
     return this.environment.computeInReadonlyTransaction(txn -> {
       var entry = this.store().get(txn, StringBinding.stringToEntry(key));
-      return entry == null ? null : DocumentFactory.json().parse(entry.getBytesUnsafe());
+      return entry == null ? null : this.parseDocument(entry);
     });
   }
 
   @Override
   public @NonNull List<Document> find(@NonNull String fieldName, @Nullable String fieldValue) {
+    // use the index of the field if one exists, documents without the field are not indexed
+    var indexStore = fieldValue == null ? null : this.indexStores.get(fieldName);
+    if (indexStore != null) {
+      return this.environment.computeInReadonlyTransaction(
+        txn -> this.findIndexed(txn, indexStore, fieldValue, $ -> true));
+    }
+
     return this.handleWithCursor(($, document) -> {
       if (Objects.equals(document.getString(fieldName), fieldValue)) {
         return document;
@@ -89,13 +168,60 @@ public boolean delete(@NonNull String key) {
   @Override
   public @NonNull List<Document> find(@NonNull Map<String, String> filters) {
     var entries = filters.entrySet();
-    return this.handleWithCursor(($, document) -> {
+    Predicate<Document> filter = document -> {
       for (var entry : entries) {
         if (!Objects.equals(document.getString(entry.getKey()), entry.getValue())) {
-          return null;
+          return false;
         }
       }
-      return document;
+      return true;
+    };
+
+    // use the index of the first indexed field to find the candidates, the other filters are applied to them
+    for (var entry : entries) {
+      var indexStore = entry.getValue() == null ? null : this.indexStores.get(entry.getKey());
+      if (indexStore != null) {
+        return this.environment.computeInReadonlyTransaction(
+          txn -> this.findIndexed(txn, indexStore, entry.getValue(), filter));
+      }
+    }
+
+    return this.handleWithCursor(($, document) -> filter.test(document) ? document : null);
+  }
+
+  @Override
+  public void createIndex(@NonNull String fieldName) {
+    // check if the index exists already
+    if (this.indexStores.containsKey(fieldName)) {
+      return;
+    }
+
+    this.environment.executeInExclusiveTransaction(txn -> {
+      // re-check, the index might have been created while waiting for the transaction
+      if (this.indexStores.containsKey(fieldName)) {
+        return;
+      }
+
+      var indexStore = this.environment.openStore(
+        indexStoreName(this.name, fieldName),
+        StoreConfig.WITH_DUPLICATES_WITH_PREFIXING,
+        txn);
+      Objects.requireNonNull(indexRegistry(this.environment, txn, true)).put(
+        txn,
+        StringBinding.stringToEntry(this.name),
+        StringBinding.stringToEntry(fieldName));
+
+      // index all documents which are already in the database
+      try (var cursor = this.store().openCursor(txn)) {
+        while (cursor.getNext()) {
+          var fieldValue = this.parseDocument(cursor.getValue()).getString(fieldName);
+          if (fieldValue != null) {
+            indexStore.put(txn, StringBinding.stringToEntry(fieldValue), cursor.getKey());
+          }
+        }
+      }
+
+      this.indexStores.put(fieldName, indexStore);
     });
   }
 
@@ -126,6 +252,13 @@ public void clear() {
     this.environment.executeInExclusiveTransaction(txn -> {
       this.environment.truncateStore(this.name, txn);
       this.store.set(this.environment.openStore(this.name, this.store().getConfig(), txn));
+
+      // truncate the index stores as well
+      for (var entry : this.indexStores.entrySet()) {
+        var indexStoreName = indexStoreName(this.name, entry.getKey());
+        this.environment.truncateStore(indexStoreName, txn);
+        entry.setValue(this.environment.openStore(indexStoreName, entry.getValue().getConfig(), txn));
+      }
     });
   }
 
@@ -160,7 +293,7 @@ protected void acceptWithCursor(@NonNull BiConsumer<String, Document> handler) {
         while (cursor.getNext()) {
           handler.accept(
             StringBinding.entryToString(cursor.getKey()),
-            DocumentFactory.json().parse(cursor.getValue().getBytesUnsafe()));
+            this.parseDocument(cursor.getValue()));
         }
       }
     });
@@ -183,7 +316,7 @@ protected void acceptWithCursor(@NonNull BiConsumer<String, Document> handler) {
         while (chunkSize > currentReadCount && cursor.getNext()) {
           result.put(
             StringBinding.entryToString(cursor.getKey()),
-            DocumentFactory.json().parse(cursor.getValue().getBytesUnsafe()));
+            this.parseDocument(cursor.getValue()));
           currentReadCount++;
         }
 
@@ -192,7 +325,184 @@ protected void acceptWithCursor(@NonNull BiConsumer<String, Document> handler) {
     });
   }
 
+  @Override
+  public @Nullable Map<String, Document> readChunkAfter(@Nullable String lastKey, int chunkSize) {
+    return this.environment.computeInReadonlyTransaction(txn -> {
+      try (var cursor = this.store().openCursor(txn)) {
+        // position the cursor at the first entry after the given key, the keys are stored in sorted order
+        boolean hasEntry;
+        if (lastKey == null) {
+          hasEntry = cursor.getNext();
+        } else {
+          hasEntry = cursor.getSearchKeyRange(StringBinding.stringToEntry(lastKey)) != null;
+          if (hasEntry && lastKey.equals(StringBinding.entryToString(cursor.getKey()))) {
+            hasEntry = cursor.getNext();
+          }
+        }
+
+        Map<String, Document> result = new LinkedHashMap<>();
+        while (hasEntry && result.size() < chunkSize) {
+          result.put(
+            StringBinding.entryToString(cursor.getKey()),
+            this.parseDocument(cursor.getValue()));
+          hasEntry = cursor.getNext();
+        }
+
+        return result.isEmpty() ? null : result;
+      }
+    });
+  }
+
+  protected boolean insert0(@NonNull Transaction txn, @NonNull String key, @NonNull Document document) {
+    var keyEntry = StringBinding.stringToEntry(key);
+    if (!this.indexStores.isEmpty()) {
+      // replace the index entries of the previous document with the entries of the new document
+      this.removeIndexEntries(txn, keyEntry);
+      this.putIndexEntries(txn, keyEntry, document);
+    }
+
+    return this.store().put(txn, keyEntry, this.serializeDocument(document));
+  }
+
+  protected boolean delete0(@NonNull Transaction txn, @NonNull String key) {
+    var keyEntry = StringBinding.stringToEntry(key);
+    if (!this.indexStores.isEmpty()) {
+      this.removeIndexEntries(txn, keyEntry);
+    }
+
+    return this.store().delete(txn, keyEntry);
+  }
+
+  protected boolean insertGrouped(@NonNull String key, @NonNull Document document) {
+    var pendingInsert = new PendingInsert(key, document, new CompletableFuture<>());
+    this.pendingInserts.add(pendingInsert);
+
+    // the lock holder commits all inserts which were queued while the previous commit was running in one transaction.
+    // the insert might have been committed by the previous lock holder already, in that case there is nothing to do
+    this.groupCommitLock.lock();
+    try {
+      if (!pendingInsert.result().isDone()) {
+        this.commitPendingInserts();
+      }
+    } finally {
+      this.groupCommitLock.unlock();
+    }
+
+    return pendingInsert.result().join();
+  }
+
+  protected void commitPendingInserts() {
+    List<PendingInsert> inserts = new ArrayList<>();
+    PendingInsert pendingInsert;
+    while ((pendingInsert = this.pendingInserts.poll()) != null) {
+      inserts.add(pendingInsert);
+    }
+
+    try {
+      var results = this.environment.computeInExclusiveTransaction(txn -> {
+        var insertResults = new boolean[inserts.size()];
+        for (var i = 0; i < inserts.size(); i++) {
+          var insert = inserts.get(i);
+          insertResults[i] = this.insert0(txn, insert.key(), insert.document());
+        }
+
+        return insertResults;
+      });
+
+      for (var i = 0; i < inserts.size(); i++) {
+        inserts.get(i).result().complete(results[i]);
+      }
+    } catch (Throwable throwable) {
+      // the transaction failed, none of the inserts were written
+      for (var insert : inserts) {
+        insert.result().completeExceptionally(throwable);
+      }
+    }
+  }
+
+  protected @NonNull List<Document> findIndexed(
+    @NonNull Transaction txn,
+    @NonNull Store indexStore,
+    @NonNull String fieldValue,
+    @NonNull Predicate<Document> filter
+  ) {
+    List<Document> result = new ArrayList<>();
+    try (var cursor = indexStore.openCursor(txn)) {
+      // the index store maps the field value to the keys of all documents with that value
+      var documentKey = cursor.getSearchKey(StringBinding.stringToEntry(fieldValue));
+      while (documentKey != null) {
+        var entry = this.store().get(txn, documentKey);
+        if (entry != null) {
+          var document = this.parseDocument(entry);
+          if (filter.test(document)) {
+            result.add(document);
+          }
+        }
+
+        documentKey = cursor.getNextDup() ? cursor.getValue() : null;
+      }
+    }
+
+    return result;
+  }
+
+  protected void putIndexEntries(@NonNull Transaction txn, @NonNull ByteIterable key, @NonNull Document document) {
+    for (var entry : this.indexStores.entrySet()) {
+      var fieldValue = document.getString(entry.getKey());
+      if (fieldValue != null) {
+        entry.getValue().put(txn, StringBinding.stringToEntry(fieldValue), key);
+      }
+    }
+  }
+
+  protected void removeIndexEntries(@NonNull Transaction txn, @NonNull ByteIterable key) {
+    // get the current document, if there is none there are no index entries to remove
+    var currentEntry = this.store().get(txn, key);
+    if (currentEntry == null) {
+      return;
+    }
+
+    var document = this.parseDocument(currentEntry);
+    for (var entry : this.indexStores.entrySet()) {
+      var fieldValue = document.getString(entry.getKey());
+      if (fieldValue != null) {
+        try (var cursor = entry.getValue().openCursor(txn)) {
+          if (cursor.getSearchBoth(StringBinding.stringToEntry(fieldValue), key)) {
+            cursor.deleteCurrent();
+          }
+        }
+      }
+    }
+  }
+
+  protected @NonNull ByteIterable serializeDocument(@NonNull Document document) {
+    if (this.binaryDocuments) {
+      return new ArrayByteIterable(BinaryDocumentCodec.encode(document));
+    } else {
+      return new ArrayByteIterable(this.serializeDocumentToJsonString(document).getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  protected @NonNull Document parseDocument(@NonNull ByteIterable entry) {
+    // documents are decoded based on their header to support databases which contain both formats, for example after
+    // switching the storage format. json documents are rewritten in binary format when they get updated the next time
+    var data = entry.getBytesUnsafe();
+    if (BinaryDocumentCodec.isBinaryEncoded(data)) {
+      return BinaryDocumentCodec.decode(DocumentFactory.json(), data);
+    } else {
+      return DocumentFactory.json().parse(data);
+    }
+  }
+
   protected @NonNull Store store() {
     return this.store.get();
   }
+
+  protected record PendingInsert(
+    @NonNull String key,
+    @NonNull Document document,
+    @NonNull CompletableFuture<Boolean> result
+  ) {
+
+  }
 }
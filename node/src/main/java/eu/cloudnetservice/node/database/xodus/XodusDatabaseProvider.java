@@ -21,16 +21,27 @@
 import eu.cloudnetservice.node.database.NodeDatabaseProvider;
 import eu.cloudnetservice.node.database.util.LocalDatabaseUtil;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import jetbrains.exodus.bindings.StringBinding;
 import jetbrains.exodus.env.Environment;
 import jetbrains.exodus.env.EnvironmentConfig;
 import jetbrains.exodus.env.Environments;
+import jetbrains.exodus.env.Store;
 import jetbrains.exodus.env.StoreConfig;
+import jetbrains.exodus.env.Transaction;
 import lombok.NonNull;
 
 public class XodusDatabaseProvider extends NodeDatabaseProvider {
 
   protected final boolean runsInCluster;
+  protected final boolean binaryDocuments;
+  protected final boolean groupCommit;
   protected final File databaseDirectory;
 
   protected final EnvironmentConfig environmentConfig;
@@ -38,9 +49,28 @@ public class XodusDatabaseProvider extends NodeDatabaseProvider {
   protected Environment environment;
 
   public XodusDatabaseProvider(@NonNull File databaseDirectory, boolean runsInCluster) {
+    this(databaseDirectory, runsInCluster, Boolean.getBoolean("cloudnet.database.xodus.binary-documents"));
+  }
+
+  public XodusDatabaseProvider(@NonNull File databaseDirectory, boolean runsInCluster, boolean binaryDocuments) {
+    this(
+      databaseDirectory,
+      runsInCluster,
+      binaryDocuments,
+      Boolean.getBoolean("cloudnet.database.xodus.group-commit"));
+  }
+
+  public XodusDatabaseProvider(
+    @NonNull File databaseDirectory,
+    boolean runsInCluster,
+    boolean binaryDocuments,
+    boolean groupCommit
+  ) {
     super(DEFAULT_REMOVAL_LISTENER);
 
     this.runsInCluster = runsInCluster;
+    this.binaryDocuments = binaryDocuments;
+    this.groupCommit = groupCommit;
     this.databaseDirectory = databaseDirectory;
 
     this.environmentConfig = new EnvironmentConfig()
@@ -64,7 +94,18 @@ public boolean init() {
   public @NonNull LocalDatabase database(@NonNull String name) {
     return this.databaseCache.get(name, $ -> this.environment.computeInTransaction(txn -> {
       var store = this.environment.openStore(name, StoreConfig.WITHOUT_DUPLICATES_WITH_PREFIXING, txn);
-      return new XodusDatabase(name, store, this);
+
+      // open all index stores which were created for the database
+      var indexStores = new ConcurrentHashMap<String, Store>();
+      for (var fieldName : this.indexedFields(txn, name)) {
+        var indexStore = this.environment.openStore(
+          XodusDatabase.indexStoreName(name, fieldName),
+          StoreConfig.WITH_DUPLICATES_WITH_PREFIXING,
+          txn);
+        indexStores.put(fieldName, indexStore);
+      }
+
+      return new XodusDatabase(name, store, indexStores, this);
     }));
   }
 
@@ -76,14 +117,66 @@ public boolean containsDatabase(@NonNull String name) {
   @Override
   public boolean deleteDatabase(@NonNull String name) {
     this.databaseCache.invalidate(name);
-    this.environment.executeInTransaction(txn -> this.environment.removeStore(name, txn));
+    this.environment.executeInTransaction(txn -> {
+      this.environment.removeStore(name, txn);
+
+      // remove the index stores of the database as well
+      var indexedFields = this.indexedFields(txn, name);
+      for (var fieldName : indexedFields) {
+        var indexStoreName = XodusDatabase.indexStoreName(name, fieldName);
+        if (this.environment.storeExists(indexStoreName, txn)) {
+          this.environment.removeStore(indexStoreName, txn);
+        }
+      }
+
+      if (!indexedFields.isEmpty()) {
+        Objects.requireNonNull(XodusDatabase.indexRegistry(this.environment, txn, false))
+          .delete(txn, StringBinding.stringToEntry(name));
+      }
+    });
 
     return true;
   }
 
   @Override
   public @NonNull Collection<String> databaseNames() {
-    return this.environment.computeInReadonlyTransaction(txn -> this.environment.getAllStoreNames(txn));
+    return this.environment.computeInReadonlyTransaction(txn -> {
+      // collect the names of all stores which are used internally
+      Set<String> internalStores = new HashSet<>();
+      var indexRegistry = XodusDatabase.indexRegistry(this.environment, txn, false);
+      if (indexRegistry != null) {
+        internalStores.add(XodusDatabase.INDEX_REGISTRY_STORE_NAME);
+        try (var cursor = indexRegistry.openCursor(txn)) {
+          while (cursor.getNext()) {
+            internalStores.add(XodusDatabase.indexStoreName(
+              StringBinding.entryToString(cursor.getKey()),
+              StringBinding.entryToString(cursor.getValue())));
+          }
+        }
+      }
+
+      return this.environment.getAllStoreNames(txn).stream()
+        .filter(storeName -> !internalStores.contains(storeName))
+        .toList();
+    });
+  }
+
+  protected @NonNull List<String> indexedFields(@NonNull Transaction txn, @NonNull String databaseName) {
+    var indexRegistry = XodusDatabase.indexRegistry(this.environment, txn, false);
+    if (indexRegistry == null) {
+      return List.of();
+    }
+
+    List<String> indexedFields = new ArrayList<>();
+    try (var cursor = indexRegistry.openCursor(txn)) {
+      if (cursor.getSearchKey(StringBinding.stringToEntry(databaseName)) != null) {
+        do {
+          indexedFields.add(StringBinding.entryToString(cursor.getValue()));
+        } while (cursor.getNextDup());
+      }
+    }
+
+    return indexedFields;
   }
 
   @Override
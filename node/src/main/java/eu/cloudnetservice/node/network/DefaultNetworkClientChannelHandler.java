@@ -29,6 +29,7 @@
 import eu.cloudnetservice.driver.network.def.NetworkConstants;
 import eu.cloudnetservice.driver.network.def.PacketClientAuthorization;
 import eu.cloudnetservice.driver.network.protocol.Packet;
+import eu.cloudnetservice.driver.network.rpc.defaults.object.serializers.DocumentObjectSerializer;
 import eu.cloudnetservice.node.cluster.NodeServerProvider;
 import eu.cloudnetservice.node.cluster.NodeServerState;
 import eu.cloudnetservice.node.config.Configuration;
@@ -74,7 +75,10 @@ public void handleChannelInitialize(@NonNull NetworkChannel channel) {
         PacketClientAuthorization.PacketAuthorizationType.NODE_TO_NODE,
         DataBuf.empty()
           .writeUniqueId(this.configuration.clusterConfig().clusterId())
-          .writeObject(this.configuration.identity())));
+          .writeObject(this.configuration.identity())
+          .writeBoolean(DocumentObjectSerializer.BINARY_DOCUMENTS)
+          // announce that resume requests of chunked transfers can be answered
+          .writeBoolean(true)));
 
       LOGGER.fine(I18n.trans("client-network-channel-init",
         channel.serverAddress(),
@@ -86,7 +90,9 @@ public void handleChannelInitialize(@NonNull NetworkChannel channel) {
 
   @Override
   public boolean handlePacketReceive(@NonNull NetworkChannel channel, @NonNull Packet packet) {
-    return !this.eventManager.callEvent(new NetworkChannelPacketReceiveEvent(channel, packet)).cancelled();
+    // skip the event construction when nobody is listening, this is called for every received packet
+    return !this.eventManager.hasListeners(NetworkChannelPacketReceiveEvent.class)
+      || !this.eventManager.callEvent(new NetworkChannelPacketReceiveEvent(channel, packet)).cancelled();
   }
 
   @Override
@@ -88,7 +88,9 @@ public void handleChannelInitialize(@NonNull NetworkChannel channel) {
 
   @Override
   public boolean handlePacketReceive(@NonNull NetworkChannel channel, @NonNull Packet packet) {
-    return !this.eventManager.callEvent(new NetworkChannelPacketReceiveEvent(channel, packet)).cancelled();
+    // skip the event construction when nobody is listening, this is called for every received packet
+    return !this.eventManager.hasListeners(NetworkChannelPacketReceiveEvent.class)
+      || !this.eventManager.callEvent(new NetworkChannelPacketReceiveEvent(channel, packet)).cancelled();
   }
 
   @Override
@@ -34,10 +34,15 @@
 public final class NodeNetworkUtil {
 
   private final EventManager eventManager;
+  // shared between all channels to allow chunked transfers to be resumed through a new channel
+  private final ChunkedPacketListener chunkedPacketListener;
 
   @Inject
   public NodeNetworkUtil(@NonNull EventManager eventManager) {
     this.eventManager = eventManager;
+    this.chunkedPacketListener = new ChunkedPacketListener(
+      EventChunkHandlerFactory.withEventManager(eventManager),
+      eventManager);
   }
 
   boolean shouldInitializeChannel(@NonNull NetworkChannel channel, @NonNull ChannelType type) {
@@ -47,8 +52,6 @@ boolean shouldInitializeChannel(@NonNull NetworkChannel channel, @NonNull Channe
   public void addDefaultPacketListeners(@NonNull PacketListenerRegistry registry) {
     registry.addListener(NetworkConstants.CHANNEL_MESSAGING_CHANNEL, PacketServerChannelMessageListener.class);
     registry.addListener(NetworkConstants.INTERNAL_RPC_COM_CHANNEL, RPCPacketListener.class);
-    registry.addListener(
-      NetworkConstants.CHUNKED_PACKET_COM_CHANNEL,
-      new ChunkedPacketListener(EventChunkHandlerFactory.withEventManager(this.eventManager)));
+    registry.addListener(NetworkConstants.CHUNKED_PACKET_COM_CHANNEL, this.chunkedPacketListener);
   }
 }
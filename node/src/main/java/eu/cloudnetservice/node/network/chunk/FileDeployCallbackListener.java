@@ -16,6 +16,8 @@
 
 package eu.cloudnetservice.node.network.chunk;
 
+import eu.cloudnetservice.common.log.LogManager;
+import eu.cloudnetservice.common.log.Logger;
 import eu.cloudnetservice.driver.event.EventListener;
 import eu.cloudnetservice.driver.event.events.channel.ChannelMessageReceiveEvent;
 import eu.cloudnetservice.driver.event.events.chunk.ChunkedPacketSessionOpenEvent;
@@ -27,9 +29,11 @@
 import eu.cloudnetservice.driver.service.ServiceTemplate;
 import eu.cloudnetservice.driver.template.TemplateStorage;
 import eu.cloudnetservice.driver.template.TemplateStorageProvider;
+import eu.cloudnetservice.node.template.LocalTemplateStorage;
 import io.vavr.CheckedFunction2;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.concurrent.TimeUnit;
 import lombok.NonNull;
@@ -37,7 +41,10 @@
 @Singleton
 public final class FileDeployCallbackListener {
 
+  private static final Logger LOGGER = LogManager.logger(FileDeployCallbackListener.class);
+
   private final TemplateDeployCallback templateDeployCallback;
+  private final TemplateDeltaDeployCallback templateDeltaDeployCallback;
   private final StaticServiceDeployCallback serviceDeployCallback;
   private final TemplateFileDeployCallback templateFileDeployCallback;
 
@@ -46,11 +53,13 @@ public final class FileDeployCallbackListener {
   @Inject
   public FileDeployCallbackListener(
     @NonNull TemplateDeployCallback templateDeployCallback,
+    @NonNull TemplateDeltaDeployCallback templateDeltaDeployCallback,
     @NonNull StaticServiceDeployCallback serviceDeployCallback,
     @NonNull TemplateFileDeployCallback templateFileDeployCallback,
     @NonNull TemplateStorageProvider templateStorageProvider
   ) {
     this.templateDeployCallback = templateDeployCallback;
+    this.templateDeltaDeployCallback = templateDeltaDeployCallback;
     this.serviceDeployCallback = serviceDeployCallback;
     this.templateFileDeployCallback = templateFileDeployCallback;
     this.templateStorageProvider = templateStorageProvider;
@@ -62,6 +71,9 @@ public void handle(@NonNull ChunkedPacketSessionOpenEvent event) {
       case "deploy_service_template" -> event.handler(new DefaultFileChunkedPacketHandler(
         event.session(),
         this.templateDeployCallback));
+      case "deploy_service_template_delta" -> event.handler(new DefaultFileChunkedPacketHandler(
+        event.session(),
+        this.templateDeltaDeployCallback));
       case "deploy_single_file" -> event.handler(new DefaultFileChunkedPacketHandler(
         event.session(),
         this.templateFileDeployCallback));
@@ -83,12 +95,35 @@ public void handle(@NonNull ChannelMessageReceiveEvent event) {
           var path = event.content().readString();
           this.handleInputRequest(event, (storage, template) -> storage.newInputStream(template, path));
         }
+        case "remote_templates_template_manifest" -> this.handleManifestRequest(event);
         default -> {
         }
       }
     }
   }
 
+  private void handleManifestRequest(@NonNull ChannelMessageReceiveEvent event) {
+    // read the information
+    var storageName = event.content().readString();
+    var template = event.content().readObject(ServiceTemplate.class);
+
+    // manifests are only supported by the local storage, the sender needs to transfer the full template otherwise
+    var storage = this.templateStorageProvider.templateStorage(storageName);
+    if (storage instanceof LocalTemplateStorage localStorage) {
+      try {
+        var manifest = localStorage.manifest(template);
+        var response = DataBuf.empty().writeBoolean(true);
+        event.binaryResponse(manifest == null ? response.writeInt(0) : manifest.writeTo(response));
+      } catch (IOException exception) {
+        // an incomplete manifest would cause the sender to skip files, let the sender transfer the full template
+        LOGGER.severe("Unable to build the manifest of template %s", exception, template);
+        event.binaryResponse(DataBuf.empty().writeBoolean(false));
+      }
+    } else {
+      event.binaryResponse(DataBuf.empty().writeBoolean(false));
+    }
+  }
+
   private void handleInputRequest(
     @NonNull ChannelMessageReceiveEvent event,
     @NonNull CheckedFunction2<TemplateStorage, ServiceTemplate, InputStream> streamOpener
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.network.chunk;
+
+import eu.cloudnetservice.driver.network.chunk.ChunkedPacketHandler;
+import eu.cloudnetservice.driver.network.chunk.data.ChunkSessionInformation;
+import eu.cloudnetservice.driver.service.ServiceTemplate;
+import eu.cloudnetservice.driver.template.TemplateStorageProvider;
+import eu.cloudnetservice.node.TickLoop;
+import eu.cloudnetservice.node.template.LocalTemplateStorage;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.io.InputStream;
+import lombok.NonNull;
+
+@Singleton
+final class TemplateDeltaDeployCallback implements ChunkedPacketHandler.Callback {
+
+  private final TickLoop mainThread;
+  private final TemplateStorageProvider templateStorageProvider;
+
+  @Inject
+  public TemplateDeltaDeployCallback(
+    @NonNull TickLoop mainThread,
+    @NonNull TemplateStorageProvider templateStorageProvider
+  ) {
+    this.mainThread = mainThread;
+    this.templateStorageProvider = templateStorageProvider;
+  }
+
+  @Override
+  public void handleSessionComplete(
+    @NonNull ChunkSessionInformation information,
+    @NonNull InputStream dataInput
+  ) {
+    // get the information for the deployment
+    var storageName = information.transferInformation().readString();
+    var template = information.transferInformation().readObject(ServiceTemplate.class);
+    var removedFileCount = information.transferInformation().readInt();
+
+    // get the storage of the template if present
+    var storage = this.templateStorageProvider.templateStorage(storageName);
+    if (storage != null) {
+      // pause the ticking of CloudNet before writing the files into the template
+      this.mainThread.pause();
+      try {
+        // delete the files and directories which were removed from the template. manifests are only provided by the
+        // local storage, therefore the directories can only be present in a local storage
+        for (var i = 0; i < removedFileCount; i++) {
+          var path = information.transferInformation().readString();
+          if (!path.endsWith("/")) {
+            storage.deleteFile(template, path);
+          } else if (storage instanceof LocalTemplateStorage localStorage) {
+            localStorage.deleteDirectory(template, path);
+          }
+        }
+        // deploy the changed files into the template, keeping all unchanged files
+        storage.deploy(template, dataInput);
+      } finally {
+        // resume the main thread execution
+        this.mainThread.resume();
+      }
+    }
+  }
+}
@@ -26,6 +26,7 @@
 import eu.cloudnetservice.driver.network.def.PacketClientAuthorization;
 import eu.cloudnetservice.driver.network.protocol.Packet;
 import eu.cloudnetservice.driver.network.protocol.PacketListener;
+import eu.cloudnetservice.driver.network.rpc.defaults.object.serializers.DocumentObjectSerializer;
 import eu.cloudnetservice.driver.service.ServiceId;
 import eu.cloudnetservice.node.cluster.NodeServerProvider;
 import eu.cloudnetservice.node.cluster.NodeServerState;
@@ -83,6 +84,10 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) {
           // read the required data for the node auth
           var clusterId = content.readUniqueId();
           var node = content.readObject(NetworkClusterNode.class);
+          // older nodes are not sending whether they support binary documents
+          var binaryDocuments = content.readableBytes() > 0 && content.readBoolean();
+          // older nodes are not able to answer resume requests of chunked transfers and are not sending the information
+          channel.resumableChunks(content.readableBytes() > 0 && content.readBoolean());
           // check if the cluster id matches
           if (!this.configuration.clusterConfig().clusterId().equals(clusterId)) {
             break;
@@ -98,6 +103,7 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) {
                 // respond with an auth success
                 var data = this.dataSyncRegistry.prepareClusterData(true, DataSyncHandler::alwaysForceApply);
                 channel.sendPacket(new PacketServerAuthorizationResponse(true, true, data));
+                server.binaryDocuments(binaryDocuments);
                 channel.packetRegistry().addListener(
                   NetworkConstants.INTERNAL_SERVICE_SYNC_ACK_CHANNEL,
                   PacketClientServiceSyncAckListener.class);
@@ -108,7 +114,9 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) {
               } else {
                 // reply with a default auth success
                 channel.sendPacket(new PacketServerAuthorizationResponse(true, false, null));
-                // set the state of the node for further handling
+                // set the state of the node for further handling, the document encoding must be selected before
+                // the channel is attached, as packets might be sent to the node as soon as the channel is present
+                server.binaryDocuments(binaryDocuments);
                 server.channel(channel);
                 server.state(NodeServerState.READY);
                 // call the auth success event
@@ -126,6 +134,8 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) {
           // read the required data for the wrapper auth
           var connectionKey = content.readString();
           var id = content.readObject(ServiceId.class);
+          // older wrappers are not able to answer resume requests of chunked transfers and don't send the information
+          channel.resumableChunks(content.readableBytes() > 0 && content.readBoolean());
           // get the cloud service associated with the service id
           var service = this.cloudServiceManager.localCloudService(id.uniqueId());
           // we can only accept the connection if the service is present, and the connection key is correct
@@ -137,8 +147,12 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) {
             // add the required packet listeners
             channel.packetRegistry().removeListeners(NetworkConstants.INTERNAL_AUTHORIZATION_CHANNEL);
             this.networkUtil.addDefaultPacketListeners(channel.packetRegistry());
-            // successful auth
-            channel.sendPacket(new PacketServerAuthorizationResponse(true, false, null));
+            // successful auth, the wrapper uses the document encoding selected for the whole cluster
+            channel.sendPacket(new PacketServerAuthorizationResponse(
+              true,
+              false,
+              null,
+              DocumentObjectSerializer.binaryEncoding()));
             // call the auth success event
             this.eventManager.callEvent(new NetworkServiceAuthSuccessEvent(service, channel));
             var serviceId = service.serviceId();
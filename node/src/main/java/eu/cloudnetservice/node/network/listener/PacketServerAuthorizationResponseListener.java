@@ -96,8 +96,17 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) {
           // little hack to prevent some disconnect handling firring in the channel if the state was not set before
           server.state(NodeServerState.DISCONNECTED);
           server.channel().close();
+        } else {
+          // skip the absent extra data
+          packet.content().readBoolean();
         }
-        // update the node status
+        // older nodes are not sending whether they support binary documents
+        var content = packet.content();
+        var binaryDocuments = content.readableBytes() > 0 && content.readBoolean();
+        // older nodes are not able to answer resume requests of chunked transfers and are not sending the information
+        channel.resumableChunks(content.readableBytes() > 0 && content.readBoolean());
+        // update the node status, select the document encoding before attaching the channel
+        server.binaryDocuments(binaryDocuments);
         server.channel(channel);
         server.state(NodeServerState.READY);
         // add the packet listeners
@@ -134,6 +134,10 @@ public void handleChannelMessage(@NonNull ChannelMessageReceiveEvent event) {
           event.binaryResponse(DataBuf.empty().writeObject(response));
         }
 
+        // on demand request of the snapshots of all threads of the local node
+        case "request_thread_snapshots" -> event.binaryResponse(DataBuf.empty()
+          .writeObject(this.nodeServerProvider.localNode().threadSnapshots()));
+
         // change the local draining state
         case "change_draining_state" -> this.nodeServerProvider.localNode().drain(event.content().readBoolean());
 
@@ -19,16 +19,29 @@
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.network.def.NetworkConstants;
 import eu.cloudnetservice.driver.network.protocol.BasePacket;
+import eu.cloudnetservice.driver.network.rpc.defaults.object.serializers.DocumentObjectSerializer;
 import org.jetbrains.annotations.Nullable;
 
 public final class PacketServerAuthorizationResponse extends BasePacket {
 
   public PacketServerAuthorizationResponse(boolean success, boolean reconnect, @Nullable DataBuf extraData) {
+    this(success, reconnect, extraData, DocumentObjectSerializer.BINARY_DOCUMENTS);
+  }
+
+  public PacketServerAuthorizationResponse(
+    boolean success,
+    boolean reconnect,
+    @Nullable DataBuf extraData,
+    boolean binaryDocuments
+  ) {
     super(
       NetworkConstants.INTERNAL_AUTHORIZATION_CHANNEL,
       DataBuf.empty()
         .writeBoolean(success)
         .writeBoolean(reconnect)
-        .writeObject(extraData));
+        .writeObject(extraData)
+        .writeBoolean(binaryDocuments)
+        // announce that resume requests of chunked transfers can be answered
+        .writeBoolean(true));
   }
 }
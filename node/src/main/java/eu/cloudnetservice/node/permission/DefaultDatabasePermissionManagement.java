@@ -136,6 +136,7 @@ public boolean reload() {
     // clear the cache & update
     this.groups.clear();
     this.loadGroups();
+    this.invalidateCompiledPermissions();
     // push to the handler
     this.handler.handleReloaded(this);
     // success
@@ -175,6 +176,7 @@ public PermissionGroup defaultPermissionGroup() {
   public void updateUser(@NonNull PermissionUser user) {
     // update in the database
     this.userDatabaseTable().insert(user.uniqueId().toString(), Document.newJsonDocument().appendTree(user));
+    this.invalidateCompiledPermissions(user.uniqueId());
     // notify the listener
     this.handler.handleUpdateUser(this, user);
   }
@@ -199,6 +201,7 @@ public boolean deleteUser(@NonNull String name) {
   @Override
   public boolean deletePermissionUser(@NonNull PermissionUser permissionUser) {
     if (this.userDatabaseTable().delete(permissionUser.uniqueId().toString())) {
+      this.invalidateCompiledPermissions(permissionUser.uniqueId());
       // notify the listener
       this.handler.handleDeleteUser(this, permissionUser);
       return true;
@@ -382,6 +385,7 @@ public void groups(@Nullable Collection<PermissionGroup> groups) {
   @Override
   public void addGroupSilently(@NonNull PermissionGroup permissionGroup) {
     this.groups.put(permissionGroup.name(), permissionGroup);
+    this.invalidateCompiledPermissions();
     // save the groups
     this.saveGroups();
   }
@@ -389,6 +393,7 @@ public void addGroupSilently(@NonNull PermissionGroup permissionGroup) {
   @Override
   public void updateGroupSilently(@NonNull PermissionGroup permissionGroup) {
     this.groups.put(permissionGroup.name(), permissionGroup);
+    this.invalidateCompiledPermissions();
     // save the groups
     this.saveGroups();
   }
@@ -396,6 +401,7 @@ public void updateGroupSilently(@NonNull PermissionGroup permissionGroup) {
   @Override
   public void deleteGroupSilently(@NonNull PermissionGroup permissionGroup) {
     this.groups.remove(permissionGroup.name());
+    this.invalidateCompiledPermissions();
     // save the groups
     this.saveGroups();
   }
@@ -403,6 +409,7 @@ public void deleteGroupSilently(@NonNull PermissionGroup permissionGroup) {
   @Override
   public void setGroupsSilently(@Nullable Collection<PermissionGroup> groups) {
     this.groups.clear();
+    this.invalidateCompiledPermissions();
     // set the provided groups
     if (groups != null) {
       for (var group : groups) {
@@ -424,7 +431,10 @@ public void permissionManagementHandler(@NonNull PermissionManagementHandler han
   }
 
   protected @NonNull LocalDatabase userDatabaseTable() {
-    return this.databaseProvider.database(USER_DB_NAME);
+    var database = this.databaseProvider.database(USER_DB_NAME);
+    // users are looked up by their name, databases only create the index on the first call
+    database.createIndex("name");
+    return database;
   }
 
   protected void saveGroups() {
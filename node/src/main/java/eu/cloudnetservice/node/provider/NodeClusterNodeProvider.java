@@ -26,6 +26,7 @@
 import eu.cloudnetservice.driver.network.rpc.RPCFactory;
 import eu.cloudnetservice.driver.network.rpc.RPCHandlerRegistry;
 import eu.cloudnetservice.driver.provider.ClusterNodeProvider;
+import eu.cloudnetservice.driver.service.ThreadSnapshot;
 import eu.cloudnetservice.node.cluster.NodeServer;
 import eu.cloudnetservice.node.cluster.NodeServerProvider;
 import eu.cloudnetservice.node.command.CommandProvider;
@@ -35,6 +36,7 @@
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
@@ -141,6 +143,12 @@ public boolean removeNode(@NonNull String uniqueId) {
       .orElse(null);
   }
 
+  @Override
+  public @NonNull Collection<ThreadSnapshot> threadSnapshots(@NonNull String uniqueId) {
+    var nodeServer = this.clusterNodeServerProvider.node(uniqueId);
+    return nodeServer == null ? List.of() : nodeServer.threadSnapshots();
+  }
+
   @Override
   public @NonNull Collection<String> sendCommandLine(@NonNull String commandLine) {
     var driverCommandSource = new DriverCommandSource();
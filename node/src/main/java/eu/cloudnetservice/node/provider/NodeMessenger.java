@@ -22,13 +22,18 @@
 import eu.cloudnetservice.common.concurrent.Task;
 import eu.cloudnetservice.driver.channel.ChannelMessage;
 import eu.cloudnetservice.driver.channel.ChannelMessageTarget;
+import eu.cloudnetservice.driver.event.EventListener;
+import eu.cloudnetservice.driver.event.EventManager;
+import eu.cloudnetservice.driver.event.events.network.NetworkChannelCloseEvent;
 import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
 import eu.cloudnetservice.driver.network.def.PacketServerChannelMessage;
+import eu.cloudnetservice.driver.network.protocol.Packet;
 import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.defaults.DefaultMessenger;
 import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
 import eu.cloudnetservice.node.cluster.NodeServerProvider;
-import eu.cloudnetservice.node.service.CloudService;
+import eu.cloudnetservice.node.event.network.NetworkServiceAuthSuccessEvent;
 import eu.cloudnetservice.node.service.CloudServiceManager;
 import io.leangen.geantyref.TypeFactory;
 import jakarta.inject.Inject;
@@ -37,9 +42,11 @@
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 
@@ -52,13 +59,30 @@ public class NodeMessenger extends DefaultMessenger implements CloudMessenger {
   protected final NodeServerProvider nodeServerProvider;
   protected final CloudServiceManager cloudServiceManager;
 
+  // the channels of all local services and connected nodes, rebuilt when a service connects or any channel closes
+  private final AtomicLong broadcastChannelsVersion = new AtomicLong();
+  private volatile BroadcastChannels localBroadcastChannels;
+  private volatile BroadcastChannels clusterBroadcastChannels;
+
   @Inject
   public NodeMessenger(
     @NonNull NodeServerProvider nodeServerProvider,
-    @NonNull CloudServiceManager cloudServiceManager
+    @NonNull CloudServiceManager cloudServiceManager,
+    @NonNull EventManager eventManager
   ) {
     this.nodeServerProvider = nodeServerProvider;
     this.cloudServiceManager = cloudServiceManager;
+    eventManager.registerListener(this);
+  }
+
+  @EventListener
+  public void handleServiceAuthSuccess(@NonNull NetworkServiceAuthSuccessEvent event) {
+    this.broadcastChannelsVersion.incrementAndGet();
+  }
+
+  @EventListener
+  public void handleChannelClose(@NonNull NetworkChannelCloseEvent event) {
+    this.broadcastChannelsVersion.incrementAndGet();
   }
 
   @Override
@@ -79,23 +103,27 @@ public void sendChannelMessage(@NonNull ChannelMessage message) {
   public void sendChannelMessage(@NonNull ChannelMessage message, boolean allowClusterRedirect) {
     // find the target channels to send the message to
     var channels = this.findChannels(message.targets(), allowClusterRedirect);
-    for (var channel : channels) {
-      // acquire the message content for each channel we're sending the message to
-      // when writing the message content to the target buffer, the message is released
-      // that means when the message was written to all channels it's released unless someone acquired it before
-      message.content().acquire();
-
-      // construct and send the packet
-      var packet = new PacketServerChannelMessage(message, false);
-      if (message.sendSync()) {
-        channel.sendPacketSync(packet);
-      } else {
-        channel.sendPacket(packet);
-      }
+    if (channels.isEmpty()) {
+      // no target channels found, release the message now
+      message.content().release();
+      return;
     }
 
-    // release the message now
-    message.content().release();
+    // send the packets, all of them share the content which was serialized once
+    var packets = this.channelMessagePackets(message, channels.size());
+    var packetIndex = 0;
+    try {
+      for (var channel : channels) {
+        var packet = packets[packetIndex++];
+        if (message.sendSync()) {
+          channel.sendPacketSync(packet);
+        } else {
+          channel.sendPacket(packet);
+        }
+      }
+    } finally {
+      releaseUnsentPackets(packets, packetIndex);
+    }
   }
 
   public @NonNull Task<Collection<ChannelMessage>> sendChannelMessageQueryAsync(
@@ -113,33 +141,107 @@ public void sendChannelMessage(@NonNull ChannelMessage message, boolean allowClu
       Set<ChannelMessage> result = new HashSet<>();
       var task = new CountingTask<Collection<ChannelMessage>>(result, channels.size());
 
-      // send the packet to each channel
-      for (var channel : channels) {
-        // acquire the message content for each channel we're sending the message to
-        // when writing the message content to the target buffer, the message is released
-        // that means when the message was written to all channels it's released unless someone acquired it before
-        message.content().acquire();
-
-        channel.sendQueryAsync(new PacketServerChannelMessage(message, false)).whenComplete((packet, th) -> {
-          // check if we got an actual result from the request
-          if (th == null && packet.readable()) {
-            // add all resulting messages we got
-            result.addAll(packet.content().readObject(COL_MSG));
-          }
+      // send the packet to each channel, all of them share the content which was serialized once
+      var packets = this.channelMessagePackets(message, channels.size());
+      var packetIndex = 0;
+      try {
+        for (var channel : channels) {
+          channel.sendQueryAsync(packets[packetIndex++]).whenComplete((packet, th) -> {
+            // check if we got an actual result from the request
+            if (th == null && packet.readable()) {
+              // add all resulting messages we got
+              result.addAll(packet.content().readObject(COL_MSG));
+            }
 
-          // count down - one channel responded
-          task.countDown();
-        });
+            // count down - one channel responded
+            task.countDown();
+          });
+        }
+      } finally {
+        releaseUnsentPackets(packets, packetIndex);
       }
 
-      // release the message now
-      message.content().release();
-
       // return the task on which the user can wait
       return task;
     }
   }
 
+  /**
+   * Serializes the given channel message once and creates the given amount of packets sharing the serialized content.
+   * Serializing the message releases the content of the message.
+   *
+   * @param message the channel message to create the packets for.
+   * @param amount  the amount of packets to create, one for each target channel.
+   * @return the packets to send, one for each target channel.
+   * @throws NullPointerException if the given message is null.
+   */
+  protected @NonNull Packet[] channelMessagePackets(@NonNull ChannelMessage message, int amount) {
+    var packet = new PacketServerChannelMessage(message, false);
+    if (amount == 1) {
+      return new Packet[]{packet};
+    }
+
+    var contents = DataBufFactory.defaultFactory().sharedCopiesOf(packet.content(), amount);
+    var packets = new Packet[amount];
+    for (var i = 0; i < amount; i++) {
+      packets[i] = new PacketServerChannelMessage(contents[i], message.prioritized());
+    }
+
+    return packets;
+  }
+
+  /**
+   * Releases the content of all packets starting at the given index. The packets before the index were handed to a
+   * channel which is responsible for releasing them, the other packets were not sent because sending a packet failed.
+   *
+   * @param packets the packets created for the target channels.
+   * @param sent    the amount of packets which were handed to a channel.
+   * @throws NullPointerException if the given packet array is null.
+   */
+  private static void releaseUnsentPackets(@NonNull Packet[] packets, int sent) {
+    for (var i = sent; i < packets.length; i++) {
+      packets[i].content().release();
+    }
+  }
+
+  /**
+   * Get the channels of all local services and, if cluster redirects are allowed, of all connected nodes. The result
+   * is cached until a service connects, any channel closes or the connected nodes change.
+   *
+   * @param allowClusterRedirect if the channels of the connected nodes should be included.
+   * @return the channels of all local services and connected nodes.
+   */
+  protected @NonNull Collection<NetworkChannel> broadcastChannels(boolean allowClusterRedirect) {
+    // get the version before collecting the channels, a concurrent change causes a rebuild on the next call
+    var version = this.broadcastChannelsVersion.get();
+    var nodeChannels = allowClusterRedirect
+      ? this.nodeServerProvider.connectedNodeChannels()
+      : List.<NetworkChannel>of();
+
+    var cached = allowClusterRedirect ? this.clusterBroadcastChannels : this.localBroadcastChannels;
+    if (cached != null && cached.version() == version && cached.nodeChannels().equals(nodeChannels)) {
+      return cached.channels();
+    }
+
+    Set<NetworkChannel> channels = new HashSet<>(nodeChannels);
+    for (var service : this.cloudServiceManager.localCloudServices()) {
+      // the channel of a service is reset after the close event was called, skip channels which were closed already
+      var channel = service.networkChannel();
+      if (channel != null && channel.active()) {
+        channels.add(channel);
+      }
+    }
+
+    var broadcastChannels = new BroadcastChannels(version, nodeChannels, Set.copyOf(channels));
+    if (allowClusterRedirect) {
+      this.clusterBroadcastChannels = broadcastChannels;
+    } else {
+      this.localBroadcastChannels = broadcastChannels;
+    }
+
+    return broadcastChannels.channels();
+  }
+
   protected @NonNull Collection<NetworkChannel> findChannels(
     @NonNull Collection<ChannelMessageTarget> targets,
     boolean allowClusterRedirect
@@ -163,17 +265,8 @@ public void sendChannelMessage(@NonNull ChannelMessage message, boolean allowClu
     switch (target.type()) {
       // just include all known channels
       case ALL -> {
-        Set<NetworkChannel> result = new HashSet<>();
-        // all local services
-        this.cloudServiceManager.localCloudServices().stream()
-          .map(CloudService::networkChannel)
-          .filter(Objects::nonNull)
-          .forEach(result::add);
-        // all connected nodes
-        if (allowClusterRedirect) {
-          result.addAll(this.nodeServerProvider.connectedNodeChannels());
-        }
-        return result;
+        // all local services and all connected nodes
+        return this.broadcastChannels(allowClusterRedirect);
       }
       case NODE -> {
         // search for the matching node server
@@ -195,17 +288,8 @@ public void sendChannelMessage(@NonNull ChannelMessage message, boolean allowClu
       case SERVICE -> {
         // check if a specific service was requested
         if (target.name() == null) {
-          // if no specific name is given just get all local channels
-          var channels = this.cloudServiceManager.localCloudServices().stream()
-            .map(CloudService::networkChannel)
-            .filter(Objects::nonNull)
-            .collect(Collectors.toSet());
-          // check if cluster redirect is allowed - add all connected node channels then
-          if (allowClusterRedirect) {
-            channels.addAll(this.nodeServerProvider.connectedNodeChannels());
-          }
-          // return here
-          return channels;
+          // if no specific name is given just get all local channels, including the node channels if allowed
+          return this.broadcastChannels(allowClusterRedirect);
         } else {
           // check if the service is running locally - use the known channel then
           var localService = this.cloudServiceManager.localCloudService(target.name());
@@ -279,4 +363,19 @@ public void sendChannelMessage(@NonNull ChannelMessage message, boolean allowClu
       .filter(Objects::nonNull)
       .collect(Collectors.toSet());
   }
+
+  /**
+   * The cached channels of all local services and connected nodes.
+   *
+   * @param version      the version of the local service channels when the channels were collected.
+   * @param nodeChannels the channels of the connected nodes when the channels were collected.
+   * @param channels     the channels of all local services and connected nodes.
+   */
+  private record BroadcastChannels(
+    long version,
+    @NonNull Collection<NetworkChannel> nodeChannels,
+    @NonNull Set<NetworkChannel> channels
+  ) {
+
+  }
 }
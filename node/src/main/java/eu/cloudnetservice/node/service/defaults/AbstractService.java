@@ -45,6 +45,7 @@
 import eu.cloudnetservice.driver.service.ServiceRemoteInclusion;
 import eu.cloudnetservice.driver.service.ServiceTask;
 import eu.cloudnetservice.driver.service.ServiceTemplate;
+import eu.cloudnetservice.driver.service.ThreadSnapshot;
 import eu.cloudnetservice.node.TickLoop;
 import eu.cloudnetservice.node.config.Configuration;
 import eu.cloudnetservice.node.event.service.CloudServiceCreateEvent;
@@ -59,7 +60,10 @@
 import eu.cloudnetservice.node.service.CloudServiceManager;
 import eu.cloudnetservice.node.service.ServiceConfigurationPreparer;
 import eu.cloudnetservice.node.service.ServiceConsoleLogCache;
+import eu.cloudnetservice.node.template.TemplateStorageCache;
 import eu.cloudnetservice.node.version.ServiceVersionProvider;
+import io.leangen.geantyref.TypeFactory;
+import java.lang.reflect.Type;
 import java.net.Inet6Address;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -92,6 +96,7 @@ public abstract class AbstractService implements CloudService {
   protected static final Path WRAPPER_CONFIG_PATH = Path.of(".wrapper", "wrapper.json");
   protected static final BiPredicate<String, Pattern> FILE_MATCHER_PREDICATE =
     (fileName, pattern) -> pattern.matcher(fileName).matches();
+  protected static final Type THREAD_SNAPSHOTS = TypeFactory.parameterizedClass(List.class, ThreadSnapshot.class);
 
   protected final String connectionKey;
   protected final Path pluginDirectory;
@@ -104,6 +109,7 @@ public abstract class AbstractService implements CloudService {
   protected final ServiceConfiguration serviceConfiguration;
   protected final ServiceVersionProvider serviceVersionProvider;
   protected final ServiceConfigurationPreparer serviceConfigurationPreparer;
+  protected final TemplateStorageCache templateStorageCache;
 
   protected final Lock lifecycleLock = new ReentrantLock(true);
   protected final Set<Tuple2<ChannelMessageTarget, String>> logTargets = ConcurrentHashMap.newKeySet();
@@ -131,7 +137,8 @@ protected AbstractService(
     @NonNull CloudServiceManager manager,
     @NonNull EventManager eventManager,
     @NonNull ServiceVersionProvider versionProvider,
-    @NonNull ServiceConfigurationPreparer serviceConfigurationPreparer
+    @NonNull ServiceConfigurationPreparer serviceConfigurationPreparer,
+    @NonNull TemplateStorageCache templateStorageCache
   ) {
     this.mainThread = tickLoop;
     this.configuration = nodeConfig;
@@ -140,6 +147,7 @@ protected AbstractService(
     this.serviceConfiguration = configuration;
     this.serviceVersionProvider = versionProvider;
     this.serviceConfigurationPreparer = serviceConfigurationPreparer;
+    this.templateStorageCache = templateStorageCache;
 
     this.connectionKey = StringUtil.generateRandomString(64);
     this.serviceDirectory = resolveServicePath(configuration.serviceId(), manager, configuration.staticService());
@@ -345,8 +353,8 @@ public void includeWaitingServiceTemplates(boolean force) {
         // check if we should load the template
         var storage = template.storage();
         if (!this.eventManager.callEvent(new CloudServiceTemplateLoadEvent(this, storage, template)).cancelled()) {
-          // the event is not cancelled - copy the template
-          storage.pull(template, this.serviceDirectory);
+          // the event is not cancelled - copy the template, remote templates are served from the local cache
+          this.templateStorageCache.pull(storage, template, this.serviceDirectory);
           // we've pulled the template
           this.installedTemplates.add(template);
         }
@@ -556,6 +564,25 @@ public void updateServiceInfoSnapshot(@NonNull ServiceInfoSnapshot serviceInfoSn
     return this.serviceConsoleLogCache().cachedLogMessages();
   }
 
+  @Override
+  public @NonNull Collection<ThreadSnapshot> threadSnapshots() {
+    // check if the service is able to serve the request
+    if (this.networkChannel != null) {
+      var response = ChannelMessage.builder()
+        .targetService(this.serviceId().name())
+        .message("request_thread_snapshots")
+        .channel(NetworkConstants.INTERNAL_MSG_CHANNEL)
+        .build()
+        .sendSingleQuery();
+      if (response != null) {
+        return response.content().readObject(THREAD_SNAPSHOTS);
+      }
+    }
+
+    // fall back to the threads of the last reported snapshot, which might have been created without threads
+    return this.currentServiceInfo.processSnapshot().threads();
+  }
+
   @Override
   public boolean toggleScreenEvents(@NonNull ChannelMessageSender channelMessageSender, @NonNull String channel) {
     var pair = new Tuple2<>(channelMessageSender.toTarget(), channel);
@@ -639,9 +666,11 @@ protected void pushServiceInfoSnapshotUpdate(
       this.connectionTimestamp,
       lifeCycle,
       Objects.requireNonNullElse(properties, this.lastServiceInfo.propertyHolder()));
-    // remove the service in the local manager if the service was deleted
+    // remove the service in the local manager if the service was deleted, update the indexed life cycle otherwise
     if (lifeCycle == ServiceLifeCycle.DELETED) {
       this.cloudServiceManager.unregisterLocalService(this);
+    } else {
+      this.cloudServiceManager.handleLocalServiceUpdate(this);
     }
 
     if (sendUpdate) {
@@ -63,6 +63,7 @@
 import jakarta.inject.Singleton;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -97,6 +98,7 @@ public class DefaultCloudServiceManager implements CloudServiceManager {
   protected final CloudServiceFactory cloudServiceFactory;
 
   protected final Map<UUID, SpecificCloudServiceProvider> knownServices = new ConcurrentHashMap<>();
+  private final ServiceIndex serviceIndex = new ServiceIndex();
   protected final Cache<UUID, CloudService> localUnacceptedServices = Caffeine.newBuilder()
     .expireAfterWrite(Duration.ofMinutes(1))
     .build();
@@ -178,13 +180,8 @@ private void registerDefaultServiceFactory() {
 
   @Override
   public @NonNull SpecificCloudServiceProvider serviceProviderByName(@NonNull String serviceName) {
-    return this.knownServices.values().stream()
-      .filter(provider -> {
-        var serviceInfo = provider.serviceInfo();
-        return serviceInfo != null && serviceInfo.serviceId().name().equals(serviceName);
-      })
-      .findFirst()
-      .orElse(EmptySpecificCloudServiceProvider.INSTANCE);
+    var provider = this.serviceIndex.serviceByName(serviceName);
+    return provider == null ? EmptySpecificCloudServiceProvider.INSTANCE : provider;
   }
 
   @Override
@@ -197,38 +194,22 @@ private void registerDefaultServiceFactory() {
 
   @Override
   public @UnmodifiableView @NonNull Collection<ServiceInfoSnapshot> runningServices() {
-    return this.knownServices.values().stream()
-      .map(SpecificCloudServiceProvider::serviceInfo)
-      .filter(Objects::nonNull)
-      .filter(snapshot -> snapshot.lifeCycle() == ServiceLifeCycle.RUNNING)
-      .toList();
+    return this.serviceSnapshots(this.serviceIndex.servicesByLifeCycle(ServiceLifeCycle.RUNNING));
   }
 
   @Override
   public @UnmodifiableView @NonNull Collection<ServiceInfoSnapshot> servicesByTask(@NonNull String taskName) {
-    return this.knownServices.values().stream()
-      .map(SpecificCloudServiceProvider::serviceInfo)
-      .filter(Objects::nonNull)
-      .filter(snapshot -> snapshot.serviceId().taskName().equals(taskName))
-      .toList();
+    return this.serviceSnapshots(this.serviceIndex.servicesByTask(taskName));
   }
 
   @Override
   public @UnmodifiableView @NonNull Collection<ServiceInfoSnapshot> servicesByEnvironment(@NonNull String environment) {
-    return this.knownServices.values().stream()
-      .map(SpecificCloudServiceProvider::serviceInfo)
-      .filter(Objects::nonNull)
-      .filter(snapshot -> snapshot.serviceId().environmentName().equals(environment))
-      .toList();
+    return this.serviceSnapshots(this.serviceIndex.servicesByEnvironment(environment));
   }
 
   @Override
   public @UnmodifiableView @NonNull Collection<ServiceInfoSnapshot> servicesByGroup(@NonNull String group) {
-    return this.knownServices.values().stream()
-      .map(SpecificCloudServiceProvider::serviceInfo)
-      .filter(Objects::nonNull)
-      .filter(snapshot -> snapshot.configuration().groups().contains(group))
-      .toList();
+    return this.serviceSnapshots(this.serviceIndex.servicesByGroup(group));
   }
 
   @Override
@@ -238,12 +219,12 @@ public int serviceCount() {
 
   @Override
   public int serviceCountByGroup(@NonNull String group) {
-    return this.servicesByGroup(group).size();
+    return this.serviceIndex.servicesByGroup(group).size();
   }
 
   @Override
   public int serviceCountByTask(@NonNull String taskName) {
-    return this.servicesByTask(taskName).size();
+    return this.serviceIndex.servicesByTask(taskName).size();
   }
 
   @Override
@@ -345,10 +326,7 @@ public void deleteAllCloudServices() {
 
   @Override
   public @NonNull @UnmodifiableView Collection<CloudService> localCloudServices() {
-    return this.knownServices.values().stream()
-      .filter(provider -> provider instanceof CloudService) // -> CloudService => local service
-      .map(provider -> (CloudService) provider)
-      .toList();
+    return List.copyOf(this.serviceIndex.localServices());
   }
 
   @Override
@@ -382,10 +360,7 @@ public int currentUsedHeapMemory() {
 
   @Override
   public int currentReservedMemory() {
-    return this.localCloudServices().stream()
-      .map(SpecificCloudServiceProvider::serviceInfo)
-      .mapToInt(snapshot -> snapshot.configuration().processConfig().maxHeapMemorySize())
-      .sum();
+    return this.serviceIndex.localReservedMemory();
   }
 
   @Override
@@ -436,12 +411,21 @@ public int currentReservedMemory() {
 
   @Override
   public void registerLocalService(@NonNull CloudService service) {
-    this.knownServices.putIfAbsent(service.serviceId().uniqueId(), service);
+    // index the service while holding the lock of the map entry, a concurrent removal would leave a stale index entry
+    this.knownServices.computeIfAbsent(service.serviceId().uniqueId(), $ -> {
+      this.serviceIndex.add(service, service.serviceInfo());
+      return service;
+    });
   }
 
   @Override
   public void unregisterLocalService(@NonNull CloudService service) {
-    this.knownServices.remove(service.serviceId().uniqueId());
+    this.removeKnownService(service.serviceId().uniqueId());
+  }
+
+  @Override
+  public void handleLocalServiceUpdate(@NonNull CloudService service) {
+    this.serviceIndex.updateLifeCycle(service.serviceId().uniqueId(), service.lifeCycle());
   }
 
   @Override
@@ -458,7 +442,7 @@ public void registerUnacceptedService(@NonNull CloudService service) {
 
   @Override
   public void forceRemoveRegisteredService(@NonNull UUID uniqueId) {
-    this.knownServices.remove(uniqueId);
+    this.removeKnownService(uniqueId);
   }
 
   @Override
@@ -481,15 +465,18 @@ public void forceRemoveRegisteredService(@NonNull UUID uniqueId) {
     ).newInstance(new Object[]{snapshot}, new Object[]{snapshot.serviceId().uniqueId()});
 
     // register the service and return the new provider, unless some other thread registered the service
-    var knownProvider = this.knownServices.putIfAbsent(serviceUniqueId, serviceProvider);
-    return knownProvider == null ? serviceProvider : null;
+    var knownProvider = this.knownServices.computeIfAbsent(serviceUniqueId, $ -> {
+      this.serviceIndex.add(serviceProvider, snapshot);
+      return serviceProvider;
+    });
+    return knownProvider == serviceProvider ? serviceProvider : null;
   }
 
   @Override
   public void handleServiceUpdate(@NonNull ServiceInfoSnapshot snapshot, @Nullable NetworkChannel source) {
     // deleted services were removed on the other node - remove it here too
     if (snapshot.lifeCycle() == ServiceLifeCycle.DELETED) {
-      this.knownServices.remove(snapshot.serviceId().uniqueId());
+      this.removeKnownService(snapshot.serviceId().uniqueId());
       LOGGER.fine("Deleted cloud service %s after lifecycle change to deleted", null, snapshot.serviceId());
     } else {
       // register the service if the provider is available
@@ -503,10 +490,12 @@ public void handleServiceUpdate(@NonNull ServiceInfoSnapshot snapshot, @Nullable
         // update the provider if possible - we need only to handle remote node providers as local providers will update
         // the snapshot directly "in" them
         remoteProvider.snapshot(snapshot);
+        this.serviceIndex.updateLifeCycle(snapshot.serviceId().uniqueId(), snapshot.lifeCycle());
         LOGGER.fine("Updated service snapshot of %s to %s", null, snapshot.serviceId(), snapshot);
       } else if (provider instanceof CloudService localService) {
         // just set the service information locally - no further processing
         localService.updateServiceInfoSnapshot(snapshot);
+        this.serviceIndex.updateLifeCycle(snapshot.serviceId().uniqueId(), snapshot.lifeCycle());
       }
     }
   }
@@ -581,12 +570,31 @@ public void handleServiceUpdate(@NonNull ServiceInfoSnapshot snapshot, @Nullable
   }
 
   protected int calculateReservedMemoryPercentage(@NonNull NodeServer server) {
-    // get the reserved memory on the given node based on the services which are running on it and sum it up
-    var reservedMemory = this.services().stream()
-      .filter(info -> info.serviceId().nodeUniqueId().equals(server.name()))
-      .mapToInt(info -> info.configuration().processConfig().maxHeapMemorySize())
-      .sum();
+    // get the reserved memory on the given node based on the services which are registered on it
+    var reservedMemory = this.serviceIndex.reservedMemory(server.name());
     // convert to a percentage
     return (reservedMemory * 100) / server.nodeInfoSnapshot().maxMemory();
   }
+
+  protected void removeKnownService(@NonNull UUID uniqueId) {
+    // remove the service from the index while holding the lock of the map entry, see registerLocalService
+    this.knownServices.computeIfPresent(uniqueId, ($, provider) -> {
+      this.serviceIndex.remove(uniqueId);
+      return null;
+    });
+  }
+
+  protected @NonNull List<ServiceInfoSnapshot> serviceSnapshots(
+    @NonNull Collection<SpecificCloudServiceProvider> providers
+  ) {
+    List<ServiceInfoSnapshot> snapshots = new ArrayList<>(providers.size());
+    for (var provider : providers) {
+      var snapshot = provider.serviceInfo();
+      if (snapshot != null) {
+        snapshots.add(snapshot);
+      }
+    }
+
+    return Collections.unmodifiableList(snapshots);
+  }
 }
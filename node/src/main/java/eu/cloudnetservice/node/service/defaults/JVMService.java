@@ -40,6 +40,7 @@
 import eu.cloudnetservice.node.service.CloudServiceManager;
 import eu.cloudnetservice.node.service.ServiceConfigurationPreparer;
 import eu.cloudnetservice.node.service.defaults.log.ProcessServiceLogCache;
+import eu.cloudnetservice.node.template.TemplateStorageCache;
 import eu.cloudnetservice.node.version.ServiceVersionProvider;
 import io.vavr.CheckedFunction1;
 import java.io.File;
@@ -83,9 +84,18 @@ public JVMService(
     @NonNull CloudServiceManager manager,
     @NonNull EventManager eventManager,
     @NonNull ServiceVersionProvider versionProvider,
-    @NonNull ServiceConfigurationPreparer serviceConfigurationPreparer
+    @NonNull ServiceConfigurationPreparer serviceConfigurationPreparer,
+    @NonNull TemplateStorageCache templateStorageCache
   ) {
-    super(tickLoop, nodeConfig, configuration, manager, eventManager, versionProvider, serviceConfigurationPreparer);
+    super(
+      tickLoop,
+      nodeConfig,
+      configuration,
+      manager,
+      eventManager,
+      versionProvider,
+      serviceConfigurationPreparer,
+      templateStorageCache);
     super.logCache = new ProcessServiceLogCache(() -> this.process, nodeConfig, this);
     this.initLogHandler();
   }
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.service.defaults;
+
+import eu.cloudnetservice.driver.provider.SpecificCloudServiceProvider;
+import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
+import eu.cloudnetservice.driver.service.ServiceLifeCycle;
+import eu.cloudnetservice.node.service.CloudService;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnmodifiableView;
+
+/**
+ * Secondary indexes over the services known to the service manager. The name, task, groups, environment, node and
+ * memory configuration of a service never change, therefore these are indexed once when the service gets registered.
+ * The life cycle of a service changes over time and must be updated explicitly.
+ * <p>
+ * Modifications are synchronized, as they only happen when services are registered or change their life cycle. Lookups
+ * are lock-free and return live views of the index buckets.
+ */
+final class ServiceIndex {
+
+  private final Map<UUID, IndexedService> services = new ConcurrentHashMap<>();
+
+  private final Map<String, SpecificCloudServiceProvider> servicesByName = new ConcurrentHashMap<>();
+  private final Map<String, Set<SpecificCloudServiceProvider>> servicesByTask = new ConcurrentHashMap<>();
+  private final Map<String, Set<SpecificCloudServiceProvider>> servicesByGroup = new ConcurrentHashMap<>();
+  private final Map<String, Set<SpecificCloudServiceProvider>> servicesByEnvironment = new ConcurrentHashMap<>();
+  private final Map<String, Set<SpecificCloudServiceProvider>> servicesByNode = new ConcurrentHashMap<>();
+  private final Map<ServiceLifeCycle, Set<SpecificCloudServiceProvider>> servicesByLifeCycle =
+    new ConcurrentHashMap<>();
+
+  private final Set<CloudService> localServices = ConcurrentHashMap.newKeySet();
+  private final AtomicInteger localReservedMemory = new AtomicInteger();
+  private final Map<String, AtomicInteger> reservedMemoryByNode = new ConcurrentHashMap<>();
+
+  private static <K> void addToBucket(
+    @NonNull Map<K, Set<SpecificCloudServiceProvider>> index,
+    @NonNull K key,
+    @NonNull SpecificCloudServiceProvider provider
+  ) {
+    index.computeIfAbsent(key, $ -> ConcurrentHashMap.newKeySet()).add(provider);
+  }
+
+  private static <K> void removeFromBucket(
+    @NonNull Map<K, Set<SpecificCloudServiceProvider>> index,
+    @NonNull K key,
+    @NonNull SpecificCloudServiceProvider provider
+  ) {
+    // remove the bucket once it's empty to not keep the keys of old tasks or groups forever
+    index.computeIfPresent(key, ($, bucket) -> bucket.remove(provider) && bucket.isEmpty() ? null : bucket);
+  }
+
+  public synchronized void add(@NonNull SpecificCloudServiceProvider provider, @NonNull ServiceInfoSnapshot snapshot) {
+    var serviceId = snapshot.serviceId();
+    var indexedService = new IndexedService(provider, snapshot, snapshot.lifeCycle());
+    if (this.services.putIfAbsent(serviceId.uniqueId(), indexedService) != null) {
+      return;
+    }
+
+    this.servicesByName.put(serviceId.name(), provider);
+    addToBucket(this.servicesByTask, serviceId.taskName(), provider);
+    addToBucket(this.servicesByEnvironment, serviceId.environmentName(), provider);
+    addToBucket(this.servicesByNode, serviceId.nodeUniqueId(), provider);
+    for (var group : snapshot.configuration().groups()) {
+      addToBucket(this.servicesByGroup, group, provider);
+    }
+
+    addToBucket(this.servicesByLifeCycle, snapshot.lifeCycle(), provider);
+
+    var reservedMemory = snapshot.configuration().processConfig().maxHeapMemorySize();
+    this.reservedMemoryByNode
+      .computeIfAbsent(serviceId.nodeUniqueId(), $ -> new AtomicInteger())
+      .addAndGet(reservedMemory);
+    if (provider instanceof CloudService localService) {
+      this.localServices.add(localService);
+      this.localReservedMemory.addAndGet(reservedMemory);
+    }
+  }
+
+  public synchronized void remove(@NonNull UUID uniqueId) {
+    var indexedService = this.services.remove(uniqueId);
+    if (indexedService == null) {
+      return;
+    }
+
+    var provider = indexedService.provider;
+    var snapshot = indexedService.snapshot;
+    var serviceId = snapshot.serviceId();
+
+    this.servicesByName.remove(serviceId.name(), provider);
+    removeFromBucket(this.servicesByTask, serviceId.taskName(), provider);
+    removeFromBucket(this.servicesByEnvironment, serviceId.environmentName(), provider);
+    removeFromBucket(this.servicesByNode, serviceId.nodeUniqueId(), provider);
+    for (var group : snapshot.configuration().groups()) {
+      removeFromBucket(this.servicesByGroup, group, provider);
+    }
+
+    removeFromBucket(this.servicesByLifeCycle, indexedService.lifeCycle, provider);
+
+    var reservedMemory = snapshot.configuration().processConfig().maxHeapMemorySize();
+    var nodeReservedMemory = this.reservedMemoryByNode.get(serviceId.nodeUniqueId());
+    if (nodeReservedMemory != null) {
+      nodeReservedMemory.addAndGet(-reservedMemory);
+    }
+
+    if (provider instanceof CloudService localService && this.localServices.remove(localService)) {
+      this.localReservedMemory.addAndGet(-reservedMemory);
+    }
+  }
+
+  public synchronized void updateLifeCycle(@NonNull UUID uniqueId, @NonNull ServiceLifeCycle lifeCycle) {
+    var indexedService = this.services.get(uniqueId);
+    if (indexedService == null || indexedService.lifeCycle == lifeCycle) {
+      return;
+    }
+
+    removeFromBucket(this.servicesByLifeCycle, indexedService.lifeCycle, indexedService.provider);
+    addToBucket(this.servicesByLifeCycle, lifeCycle, indexedService.provider);
+    indexedService.lifeCycle = lifeCycle;
+  }
+
+  public @Nullable SpecificCloudServiceProvider serviceByName(@NonNull String name) {
+    return this.servicesByName.get(name);
+  }
+
+  public @UnmodifiableView @NonNull Collection<SpecificCloudServiceProvider> servicesByTask(@NonNull String task) {
+    return Collections.unmodifiableCollection(this.servicesByTask.getOrDefault(task, Set.of()));
+  }
+
+  public @UnmodifiableView @NonNull Collection<SpecificCloudServiceProvider> servicesByGroup(@NonNull String group) {
+    return Collections.unmodifiableCollection(this.servicesByGroup.getOrDefault(group, Set.of()));
+  }
+
+  public @UnmodifiableView @NonNull Collection<SpecificCloudServiceProvider> servicesByEnvironment(
+    @NonNull String environment
+  ) {
+    return Collections.unmodifiableCollection(this.servicesByEnvironment.getOrDefault(environment, Set.of()));
+  }
+
+  public @UnmodifiableView @NonNull Collection<SpecificCloudServiceProvider> servicesByNode(@NonNull String node) {
+    return Collections.unmodifiableCollection(this.servicesByNode.getOrDefault(node, Set.of()));
+  }
+
+  public @UnmodifiableView @NonNull Collection<SpecificCloudServiceProvider> servicesByLifeCycle(
+    @NonNull ServiceLifeCycle lifeCycle
+  ) {
+    return Collections.unmodifiableCollection(this.servicesByLifeCycle.getOrDefault(lifeCycle, Set.of()));
+  }
+
+  public @UnmodifiableView @NonNull Collection<CloudService> localServices() {
+    return Collections.unmodifiableCollection(this.localServices);
+  }
+
+  public int localReservedMemory() {
+    return this.localReservedMemory.get();
+  }
+
+  public int reservedMemory(@NonNull String node) {
+    var reservedMemory = this.reservedMemoryByNode.get(node);
+    return reservedMemory == null ? 0 : reservedMemory.get();
+  }
+
+  private static final class IndexedService {
+
+    private final SpecificCloudServiceProvider provider;
+    private final ServiceInfoSnapshot snapshot;
+    private ServiceLifeCycle lifeCycle;
+
+    private IndexedService(
+      @NonNull SpecificCloudServiceProvider provider,
+      @NonNull ServiceInfoSnapshot snapshot,
+      @NonNull ServiceLifeCycle lifeCycle
+    ) {
+      this.provider = provider;
+      this.snapshot = snapshot;
+      this.lifeCycle = lifeCycle;
+    }
+  }
+}
@@ -23,6 +23,7 @@
 import eu.cloudnetservice.node.service.CloudService;
 import eu.cloudnetservice.node.service.CloudServiceManager;
 import eu.cloudnetservice.node.service.defaults.JVMService;
+import eu.cloudnetservice.node.template.TemplateStorageCache;
 import eu.cloudnetservice.node.version.ServiceVersionProvider;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
@@ -34,6 +35,7 @@ public class JVMLocalCloudServiceFactory extends BaseLocalCloudServiceFactory {
   protected final TickLoop mainThread;
   protected final EventManager eventManager;
   protected final CloudServiceManager cloudServiceManager;
+  protected final TemplateStorageCache templateStorageCache;
 
   @Inject
   public JVMLocalCloudServiceFactory(
@@ -41,12 +43,14 @@ public JVMLocalCloudServiceFactory(
     @NonNull Configuration nodeConfig,
     @NonNull CloudServiceManager cloudServiceManager,
     @NonNull EventManager eventManager,
-    @NonNull ServiceVersionProvider versionProvider
+    @NonNull ServiceVersionProvider versionProvider,
+    @NonNull TemplateStorageCache templateStorageCache
   ) {
     super(nodeConfig, versionProvider);
     this.mainThread = tickLoop;
     this.eventManager = eventManager;
     this.cloudServiceManager = cloudServiceManager;
+    this.templateStorageCache = templateStorageCache;
   }
 
   @Override
@@ -66,7 +70,8 @@ public JVMLocalCloudServiceFactory(
       manager,
       this.eventManager,
       this.versionProvider,
-      preparer);
+      preparer,
+      this.templateStorageCache);
   }
 
   @Override
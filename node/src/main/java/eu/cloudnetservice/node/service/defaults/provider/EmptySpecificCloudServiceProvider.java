@@ -24,6 +24,7 @@
 import eu.cloudnetservice.driver.service.ServiceLifeCycle;
 import eu.cloudnetservice.driver.service.ServiceRemoteInclusion;
 import eu.cloudnetservice.driver.service.ServiceTemplate;
+import eu.cloudnetservice.driver.service.ThreadSnapshot;
 import java.util.Collection;
 import java.util.List;
 import java.util.Queue;
@@ -70,6 +71,11 @@ public void addServiceDeployment(@NonNull ServiceDeployment serviceDeployment) {
     return new LinkedBlockingDeque<>();
   }
 
+  @Override
+  public @NonNull Collection<ThreadSnapshot> threadSnapshots() {
+    return List.of();
+  }
+
   @Override
   public boolean toggleScreenEvents(@NonNull ChannelMessageSender channelMessageSender, @NonNull String channel) {
     return false;
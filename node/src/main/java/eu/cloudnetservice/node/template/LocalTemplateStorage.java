@@ -25,16 +25,19 @@
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Files;
-import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
@@ -43,10 +46,22 @@ public class LocalTemplateStorage implements TemplateStorage {
 
   public static final String LOCAL_TEMPLATE_STORAGE = "local";
 
+  // files which are never written by a service can be hard linked into the service directory instead of being copied
+  private static final boolean LINK_IMMUTABLE_FILES = Boolean.getBoolean("cloudnet.template.link-immutable-files");
+  private static final Set<String> IMMUTABLE_FILE_EXTENSIONS = Set.of(
+    System.getProperty("cloudnet.template.immutable-file-extensions", "jar").split(","));
+
   private final Path storageDirectory;
+  private final boolean linkImmutableFiles;
+  private final TemplateManifestCache manifestCache = new TemplateManifestCache();
 
   public LocalTemplateStorage(@NonNull Path storageDirectory) {
+    this(storageDirectory, LINK_IMMUTABLE_FILES);
+  }
+
+  LocalTemplateStorage(@NonNull Path storageDirectory, boolean linkImmutableFiles) {
     this.storageDirectory = storageDirectory;
+    this.linkImmutableFiles = linkImmutableFiles;
     FileUtil.createDirectory(storageDirectory);
   }
 
@@ -79,24 +94,65 @@ public boolean deploy(@NonNull ServiceTemplate target, @NonNull InputStream inpu
 
   @Override
   public boolean pull(@NonNull ServiceTemplate template, @NonNull Path directory) {
-    FileUtil.copyDirectory(this.getTemplatePath(template), directory);
+    var templateDir = this.getTemplatePath(template);
+    if (this.linkImmutableFiles) {
+      FileUtil.walkFileTree(templateDir, ($, file) -> {
+        var target = directory.resolve(templateDir.relativize(file));
+        if (Files.isDirectory(file)) {
+          // create the directory explicitly, empty directories would be missing otherwise
+          FileUtil.createDirectory(target);
+        } else if (!isImmutableFile(file) || !linkFile(file, target)) {
+          // link the file if possible, fall back to copying it (for example if the target is on another file store)
+          FileUtil.copy(file, target);
+        }
+      });
+    } else {
+      FileUtil.copyDirectory(templateDir, directory);
+    }
     return true;
   }
 
   @Override
-  public @Nullable InputStream zipTemplate(@NonNull ServiceTemplate template) throws IOException {
+  public @Nullable InputStream zipTemplate(@NonNull ServiceTemplate template) {
+    return this.contains(template) ? ZipUtil.zipToStream(this.getTemplatePath(template)) : null;
+  }
+
+  public @Nullable TemplateManifest manifest(@NonNull ServiceTemplate template) throws IOException {
+    var templateDir = this.getTemplatePath(template);
+    return Files.exists(templateDir) ? this.manifestCache.manifest(templateDir) : null;
+  }
+
+  public @Nullable InputStream zipTemplateFiles(@NonNull ServiceTemplate template, @NonNull Set<String> paths) {
     if (this.contains(template)) {
-      // create a new temp file
-      var temp = FileUtil.createTempFile();
-      var zippedFile = ZipUtil.zipToFile(this.getTemplatePath(template), temp);
-      // open a stream to the file if possible
-      if (zippedFile != null) {
-        return Files.newInputStream(zippedFile, StandardOpenOption.DELETE_ON_CLOSE, LinkOption.NOFOLLOW_LINKS);
-      }
+      // only include the requested files and directories of the manifest in the zip, sorted to write the entries of
+      // the directories before the entries of their content
+      var templateDir = this.getTemplatePath(template);
+      return ZipUtil.zipToStream(out -> {
+        for (var path : new TreeSet<>(paths)) {
+          if (path.endsWith("/")) {
+            out.putNextEntry(new ZipEntry(path));
+            out.closeEntry();
+          } else {
+            try (var content = Files.newInputStream(templateDir.resolve(path))) {
+              ZipUtil.writeEntry(out, path, content);
+            }
+          }
+        }
+      });
     }
     return null;
   }
 
+  public boolean deleteDirectory(@NonNull ServiceTemplate template, @NonNull String path) {
+    var dirPath = this.getTemplatePath(template).resolve(path);
+    if (Files.isDirectory(dirPath)) {
+      FileUtil.delete(dirPath);
+      return true;
+    }
+
+    return false;
+  }
+
   @Override
   public boolean delete(@NonNull ServiceTemplate template) {
     var templateDir = this.getTemplatePath(template);
@@ -104,6 +160,7 @@ public boolean delete(@NonNull ServiceTemplate template) {
       return false;
     } else {
       FileUtil.delete(templateDir);
+      this.manifestCache.invalidate(templateDir);
       return true;
     }
   }
@@ -134,6 +191,7 @@ public boolean contains(@NonNull ServiceTemplate template) {
       Files.createDirectories(filePath.getParent());
     }
 
+    this.unshareFile(filePath);
     return Files.newOutputStream(filePath, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
   }
 
@@ -147,6 +205,8 @@ public boolean contains(@NonNull ServiceTemplate template) {
       Files.createDirectories(filePath.getParent());
     }
 
+    // replace the file rather than truncating it, the file might be linked into a service directory
+    Files.deleteIfExists(filePath);
     return Files.newOutputStream(filePath);
   }
 
@@ -262,6 +322,45 @@ public boolean deleteFile(@NonNull ServiceTemplate template, @NonNull String pat
   public void close() {
   }
 
+  private static boolean isImmutableFile(@NonNull Path file) {
+    var fileName = file.getFileName().toString();
+    var extensionIndex = fileName.lastIndexOf('.');
+    return extensionIndex != -1 && IMMUTABLE_FILE_EXTENSIONS.contains(fileName.substring(extensionIndex + 1));
+  }
+
+  private static boolean linkFile(@NonNull Path source, @NonNull Path target) {
+    try {
+      FileUtil.createDirectory(target.getParent());
+      Files.deleteIfExists(target);
+      Files.createLink(target, source);
+      return true;
+    } catch (IOException | UnsupportedOperationException exception) {
+      return false;
+    }
+  }
+
+  private static boolean isSharedFile(@NonNull Path file) {
+    // the link count is only available on unix file systems, treat the file as shared if it cannot be determined
+    if (file.getFileSystem().supportedFileAttributeViews().contains("unix")) {
+      try {
+        return (int) Files.getAttribute(file, "unix:nlink") > 1;
+      } catch (IOException | UnsupportedOperationException | IllegalArgumentException exception) {
+        return true;
+      }
+    }
+
+    return true;
+  }
+
+  private void unshareFile(@NonNull Path file) throws IOException {
+    // replace a file which is hard linked into a service directory with a private copy before modifying it
+    if (this.linkImmutableFiles && Files.exists(file) && isSharedFile(file)) {
+      var copy = file.resolveSibling(file.getFileName() + ".copy");
+      Files.copy(file, copy, StandardCopyOption.REPLACE_EXISTING);
+      Files.move(copy, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
   protected @NonNull Path getTemplatePath(@NonNull ServiceTemplate template) {
     return this.storageDirectory.resolve(template.prefix()).resolve(template.name());
   }
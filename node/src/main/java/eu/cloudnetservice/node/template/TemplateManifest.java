@@ -0,0 +1,85 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.template;
+
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import lombok.NonNull;
+
+/**
+ * A manifest of the content of a template, mapping the path of each file in the template (relative to the template
+ * root, separated by {@code /}) to the sha256 hash of the file content. Directories are included with a trailing
+ * {@code /} and an empty hash.
+ *
+ * @param files the hashes of all files in the template, mapped by their relative path.
+ */
+public record TemplateManifest(@NonNull Map<String, String> files) {
+
+  public static @NonNull TemplateManifest readFrom(@NonNull DataBuf dataBuf) {
+    var fileCount = dataBuf.readInt();
+    Map<String, String> files = new HashMap<>(fileCount);
+    for (var i = 0; i < fileCount; i++) {
+      files.put(dataBuf.readString(), dataBuf.readString());
+    }
+
+    return new TemplateManifest(files);
+  }
+
+  public @NonNull DataBuf.Mutable writeTo(@NonNull DataBuf.Mutable dataBuf) {
+    dataBuf.writeInt(this.files.size());
+    for (var entry : this.files.entrySet()) {
+      dataBuf.writeString(entry.getKey()).writeString(entry.getValue());
+    }
+
+    return dataBuf;
+  }
+
+  /**
+   * Get the paths of all files in this manifest which are either missing in the given target manifest or have a
+   * different content.
+   *
+   * @param target the manifest to compare this manifest to.
+   * @return the paths of the files which need to be transferred to the target.
+   * @throws NullPointerException if the given target manifest is null.
+   */
+  public @NonNull Set<String> changedFiles(@NonNull TemplateManifest target) {
+    Set<String> changedFiles = new HashSet<>();
+    for (var entry : this.files.entrySet()) {
+      if (!entry.getValue().equals(target.files.get(entry.getKey()))) {
+        changedFiles.add(entry.getKey());
+      }
+    }
+
+    return changedFiles;
+  }
+
+  /**
+   * Get the paths of all files in the given target manifest which are not present in this manifest.
+   *
+   * @param target the manifest to compare this manifest to.
+   * @return the paths of the files which need to be removed from the target.
+   * @throws NullPointerException if the given target manifest is null.
+   */
+  public @NonNull Set<String> removedFiles(@NonNull TemplateManifest target) {
+    Set<String> removedFiles = new HashSet<>(target.files.keySet());
+    removedFiles.removeAll(this.files.keySet());
+    return removedFiles;
+  }
+}
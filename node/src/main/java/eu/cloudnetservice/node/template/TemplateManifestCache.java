@@ -0,0 +1,106 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.template;
+
+import com.google.common.hash.Hashing;
+import com.google.common.io.MoreFiles;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.NonNull;
+
+/**
+ * Builds the manifests of template directories. The hashes of all files are cached together with the size and last
+ * modification time of the file, a file is only hashed again if one of them changed. This makes building the manifest
+ * of an unchanged template as cheap as listing its files.
+ * <p>
+ * Directories are included in the manifest with a trailing {@code /} and an empty hash, which allows empty directories
+ * to be synced as well. A manifest is never built partially, if a file or directory cannot be read the whole manifest
+ * fails, as a file missing in the manifest would be removed from the nodes the template is synced to.
+ */
+final class TemplateManifestCache {
+
+  static final String DIRECTORY_HASH = "";
+
+  private final Map<Path, Map<String, FileHash>> cachedHashes = new ConcurrentHashMap<>();
+
+  public @NonNull TemplateManifest manifest(@NonNull Path directory) throws IOException {
+    var previousHashes = this.cachedHashes.getOrDefault(directory, Map.of());
+    Map<String, FileHash> currentHashes = new HashMap<>();
+    Map<String, String> files = new HashMap<>();
+
+    Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+      @Override
+      public @NonNull FileVisitResult preVisitDirectory(
+        @NonNull Path dir,
+        @NonNull BasicFileAttributes attributes
+      ) {
+        if (!dir.equals(directory)) {
+          files.put(relativePath(directory, dir) + "/", DIRECTORY_HASH);
+        }
+
+        return FileVisitResult.CONTINUE;
+      }
+
+      @Override
+      public @NonNull FileVisitResult visitFile(@NonNull Path file, @NonNull BasicFileAttributes $) throws IOException {
+        // follow symbolic links, the same way as the files are read when zipping them
+        var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        if (!attributes.isRegularFile()) {
+          return FileVisitResult.CONTINUE;
+        }
+
+        var relativePath = relativePath(directory, file);
+        var lastModified = attributes.lastModifiedTime().toMillis();
+
+        // re-use the cached hash if the file was not modified since it was hashed
+        var cachedHash = previousHashes.get(relativePath);
+        if (cachedHash != null && cachedHash.size == attributes.size() && cachedHash.lastModified == lastModified) {
+          currentHashes.put(relativePath, cachedHash);
+        } else {
+          var hash = MoreFiles.asByteSource(file).hash(Hashing.sha256()).toString();
+          currentHashes.put(relativePath, new FileHash(attributes.size(), lastModified, hash));
+        }
+
+        return FileVisitResult.CONTINUE;
+      }
+    });
+
+    this.cachedHashes.put(directory, currentHashes);
+
+    currentHashes.forEach((path, fileHash) -> files.put(path, fileHash.hash));
+    return new TemplateManifest(files);
+  }
+
+  public void invalidate(@NonNull Path directory) {
+    this.cachedHashes.remove(directory);
+  }
+
+  private static @NonNull String relativePath(@NonNull Path directory, @NonNull Path file) {
+    return directory.relativize(file).toString().replace('\\', '/');
+  }
+
+  private record FileHash(long size, long lastModified, @NonNull String hash) {
+
+  }
+}
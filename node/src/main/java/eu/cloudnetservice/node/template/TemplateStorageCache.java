@@ -0,0 +1,196 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.template;
+
+import eu.cloudnetservice.common.io.FileUtil;
+import eu.cloudnetservice.driver.event.EventListener;
+import eu.cloudnetservice.driver.event.EventManager;
+import eu.cloudnetservice.driver.service.ServiceTemplate;
+import eu.cloudnetservice.driver.template.TemplateStorage;
+import eu.cloudnetservice.node.event.service.CloudServiceDeploymentEvent;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A node-local, size bounded cache in front of remote template storages. Pulled templates are kept on the local disk
+ * and reused as long as the file listing (size and modification time of each file) reported by the storage did not
+ * change. The least recently used templates are evicted once the cache exceeds its maximum size.
+ */
+@Singleton
+public final class TemplateStorageCache {
+
+  private static final Path CACHE_DIRECTORY = FileUtil.TEMP_DIR.resolve("caches").resolve("templates");
+  private static final long DEFAULT_MAX_CACHE_SIZE =
+    Long.getLong("cloudnet.template.cache.max-size-mb", 2048) * 1024 * 1024;
+
+  private final long maxCacheSize;
+  private final Map<String, CacheEntry> entries = new LinkedHashMap<>(16, 0.75F, true);
+
+  @Inject
+  public TemplateStorageCache(@NonNull EventManager eventManager) {
+    this(eventManager, DEFAULT_MAX_CACHE_SIZE);
+  }
+
+  public TemplateStorageCache(@NonNull EventManager eventManager, long maxCacheSize) {
+    this.maxCacheSize = maxCacheSize;
+    // entries left behind by a previous run (for example after a crash) are unknown to this cache and never evicted
+    FileUtil.delete(CACHE_DIRECTORY);
+    eventManager.registerListener(this);
+  }
+
+  private static @NonNull String cacheKey(@NonNull TemplateStorage storage, @NonNull ServiceTemplate template) {
+    return storage.name() + ':' + template.prefix() + '/' + template.name();
+  }
+
+  private static @Nullable Map<String, FileState> readManifest(
+    @NonNull TemplateStorage storage,
+    @NonNull ServiceTemplate template
+  ) {
+    if (!storage.contains(template)) {
+      return null;
+    }
+
+    Map<String, FileState> manifest = new HashMap<>();
+    for (var file : storage.listFiles(template, "", true)) {
+      if (!file.directory()) {
+        manifest.put(file.path(), new FileState(file.size(), file.lastModified()));
+      }
+    }
+    return manifest;
+  }
+
+  /**
+   * Pulls the given template into the given directory. Templates of the local storage are pulled directly, all other
+   * templates are copied from the cache after validating that the cached files are still up-to-date.
+   *
+   * @param storage   the storage the template is stored in.
+   * @param template  the template to pull.
+   * @param directory the directory to pull the template into.
+   * @return true if the template was pulled successfully, false otherwise.
+   * @throws NullPointerException if the given storage, template or directory is null.
+   */
+  public boolean pull(@NonNull TemplateStorage storage, @NonNull ServiceTemplate template, @NonNull Path directory) {
+    if (this.maxCacheSize <= 0 || storage instanceof LocalTemplateStorage) {
+      return storage.pull(template, directory);
+    }
+
+    // a template that doesn't exist can't be cached
+    var manifest = readManifest(storage, template);
+    if (manifest == null) {
+      return storage.pull(template, directory);
+    }
+
+    var key = cacheKey(storage, template);
+    CacheEntry entry;
+    synchronized (this.entries) {
+      var entryDirectory = CACHE_DIRECTORY.resolve(UUID.randomUUID().toString());
+      entry = this.entries.computeIfAbsent(key, $ -> new CacheEntry(entryDirectory));
+    }
+
+    synchronized (entry) {
+      // the entry was evicted while waiting for the lock, pull the template directly
+      if (entry.evicted) {
+        return storage.pull(template, directory);
+      }
+
+      // re-download the template if it changed since it was cached
+      if (!manifest.equals(entry.manifest)) {
+        FileUtil.delete(entry.directory);
+        if (!storage.pull(template, entry.directory)) {
+          entry.manifest = null;
+          return false;
+        }
+
+        entry.manifest = manifest;
+        entry.size = manifest.values().stream().mapToLong(FileState::size).sum();
+      }
+
+      FileUtil.copyDirectory(entry.directory, directory);
+    }
+
+    this.evictEntries(key);
+    return true;
+  }
+
+  public void invalidate(@NonNull TemplateStorage storage, @NonNull ServiceTemplate template) {
+    CacheEntry entry;
+    synchronized (this.entries) {
+      entry = this.entries.remove(cacheKey(storage, template));
+    }
+
+    if (entry != null) {
+      entry.delete();
+    }
+  }
+
+  @EventListener
+  public void handleServiceDeployment(@NonNull CloudServiceDeploymentEvent event) {
+    this.invalidate(event.storage(), event.deployment().template());
+  }
+
+  private void evictEntries(@NonNull String usedKey) {
+    List<CacheEntry> evictedEntries = new ArrayList<>();
+    synchronized (this.entries) {
+      var cacheSize = this.entries.values().stream().mapToLong(entry -> entry.size).sum();
+      // the iteration order is the access order, starting with the least recently used entry
+      var iterator = this.entries.entrySet().iterator();
+      while (cacheSize > this.maxCacheSize && iterator.hasNext()) {
+        var entry = iterator.next();
+        if (!entry.getKey().equals(usedKey)) {
+          cacheSize -= entry.getValue().size;
+          evictedEntries.add(entry.getValue());
+          iterator.remove();
+        }
+      }
+    }
+
+    evictedEntries.forEach(CacheEntry::delete);
+  }
+
+  private record FileState(long size, long lastModified) {
+
+  }
+
+  private static final class CacheEntry {
+
+    private final Path directory;
+
+    private volatile long size;
+    private volatile boolean evicted;
+    private volatile Map<String, FileState> manifest;
+
+    private CacheEntry(@NonNull Path directory) {
+      this.directory = directory;
+    }
+
+    private synchronized void delete() {
+      FileUtil.delete(this.directory);
+      this.manifest = null;
+      this.size = 0;
+      this.evicted = true;
+    }
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package eu.cloudnetservice.node;
+
+import eu.cloudnetservice.driver.event.EventManager;
+import eu.cloudnetservice.driver.provider.ServiceTaskProvider;
+import eu.cloudnetservice.node.cluster.NodeServerProvider;
+import eu.cloudnetservice.node.service.CloudServiceManager;
+import jakarta.inject.Provider;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+@SuppressWarnings("unchecked")
+class TickLoopTest {
+
+  private TickLoop tickLoop;
+
+  @BeforeEach
+  void setup() {
+    // the ticks are processed manually, the current tick of the loop stays at 0
+    this.tickLoop = new TickLoop(
+      Mockito.mock(EventManager.class),
+      Mockito.mock(ServiceTaskProvider.class),
+      Mockito.mock(CloudServiceManager.class),
+      Mockito.mock(NodeServerProvider.class),
+      Mockito.mock(Provider.class));
+  }
+
+  private void processTicks(long fromTick, long toTick) {
+    for (var tick = fromTick; tick <= toTick; tick++) {
+      this.tickLoop.processTasks(tick);
+    }
+  }
+
+  @Test
+  void testTaskScheduledAcrossWheelRotations() {
+    var executions = new AtomicInteger();
+    // 60 seconds are 600 ticks, which is more than one rotation of the wheel
+    var task = this.tickLoop.runDelayedTask(executions::incrementAndGet, 60, TimeUnit.SECONDS);
+
+    this.processTicks(1, 599);
+    Assertions.assertEquals(0, executions.get());
+    Assertions.assertFalse(task.isDone());
+    Assertions.assertEquals(1, this.tickLoop.scheduledTaskCount());
+
+    Assertions.assertEquals(1, this.tickLoop.processTasks(600));
+    Assertions.assertEquals(1, executions.get());
+    Assertions.assertTrue(task.isDone());
+    Assertions.assertEquals(0, this.tickLoop.scheduledTaskCount());
+  }
+
+  @Test
+  void testSkippedTicksAreCaughtUp() {
+    var executions = new AtomicInteger();
+    this.tickLoop.runDelayedTask(executions::incrementAndGet, 1, TimeUnit.SECONDS);
+
+    // ticks 6 to 19 are skipped, for example because ticking was paused
+    this.processTicks(1, 5);
+    Assertions.assertEquals(0, executions.get());
+
+    this.tickLoop.processTasks(20);
+    Assertions.assertEquals(1, executions.get());
+  }
+
+  @Test
+  void testCancelledTaskIsNotExecuted() {
+    var executions = new AtomicInteger();
+    var task = this.tickLoop.runDelayedTask(executions::incrementAndGet, 1, TimeUnit.SECONDS);
+    Assertions.assertTrue(task.cancel(true));
+
+    // cancelled tasks are counted until their slot is reached
+    this.processTicks(1, 9);
+    Assertions.assertEquals(1, this.tickLoop.scheduledTaskCount());
+
+    Assertions.assertEquals(0, this.tickLoop.processTasks(10));
+    Assertions.assertEquals(0, executions.get());
+    Assertions.assertEquals(0, this.tickLoop.scheduledTaskCount());
+  }
+
+  @Test
+  void testCancelledPeriodicTaskStopsExecuting() {
+    var executions = new AtomicInteger();
+    var task = this.tickLoop.scheduleTask(executions::incrementAndGet, 2);
+
+    this.processTicks(1, 4);
+    Assertions.assertEquals(2, executions.get());
+
+    Assertions.assertTrue(task.cancel(true));
+    this.processTicks(5, 20);
+    Assertions.assertEquals(2, executions.get());
+    Assertions.assertEquals(0, this.tickLoop.scheduledTaskCount());
+  }
+
+  @Test
+  void testTasksDueInSameTickRunInScheduleOrder() {
+    List<Integer> executionOrder = new ArrayList<>();
+    for (var i = 0; i < 5; i++) {
+      var taskNumber = i;
+      this.tickLoop.runDelayedTask(() -> executionOrder.add(taskNumber), 500, TimeUnit.MILLISECONDS);
+    }
+
+    this.processTicks(1, 4);
+    Assertions.assertTrue(executionOrder.isEmpty());
+
+    Assertions.assertEquals(5, this.tickLoop.processTasks(5));
+    Assertions.assertEquals(List.of(0, 1, 2, 3, 4), executionOrder);
+  }
+
+  @Test
+  void testPeriodicTaskWithExecutionLimit() {
+    List<Long> executionTicks = new ArrayList<>();
+    var currentTick = new long[1];
+    var task = this.tickLoop.scheduleTask(() -> executionTicks.add(currentTick[0]), 3, 4);
+
+    for (var tick = 1L; tick <= 20; tick++) {
+      currentTick[0] = tick;
+      this.tickLoop.processTasks(tick);
+    }
+
+    Assertions.assertEquals(List.of(3L, 6L, 9L, 12L), executionTicks);
+    Assertions.assertTrue(task.isDone());
+    Assertions.assertEquals(0, this.tickLoop.scheduledTaskCount());
+  }
+}
@@ -20,6 +20,7 @@
 import eu.cloudnetservice.driver.document.Document;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -125,6 +126,61 @@ void testBasicDatabaseOperations() {
     Assertions.assertFalse(database.delete("1234"));
   }
 
+  @Test
+  void testIndexedLookups() {
+    var database = this.databaseProvider.database("test");
+    Assertions.assertNotNull(database);
+
+    // insert a document before creating the index to ensure that it gets indexed as well
+    Assertions.assertTrue(database.insert("1", Document.newJsonDocument().append("name", "a").append("group", "x")));
+    database.createIndex("name");
+    Assertions.assertTrue(database.insert("2", Document.newJsonDocument().append("name", "b").append("group", "x")));
+    Assertions.assertTrue(database.insert("3", Document.newJsonDocument().append("name", "b").append("group", "y")));
+
+    Assertions.assertEquals(1, database.find("name", "a").size());
+    Assertions.assertEquals(2, database.find("name", "b").size());
+    Assertions.assertEquals(1, database.find(Map.of("name", "b", "group", "y")).size());
+
+    // updating a document must update the index
+    Assertions.assertTrue(database.insert("1", Document.newJsonDocument().append("name", "b").append("group", "x")));
+    Assertions.assertTrue(database.find("name", "a").isEmpty());
+    Assertions.assertEquals(3, database.find("name", "b").size());
+
+    // deleting a document must remove it from the index
+    Assertions.assertTrue(database.delete("2"));
+    Assertions.assertEquals(2, database.find("name", "b").size());
+
+    database.clear();
+    Assertions.assertTrue(database.find("name", "b").isEmpty());
+  }
+
+  @Test
+  void testBulkOperations() {
+    var database = this.databaseProvider.database("test");
+    database.createIndex("name");
+
+    Map<String, Document> entries = new HashMap<>();
+    for (var i = 0; i < 100; i++) {
+      entries.put("key" + i, Document.newJsonDocument().append("name", "name" + (i % 10)).append("value", i));
+    }
+
+    Assertions.assertTrue(database.insertAll(entries));
+    Assertions.assertEquals(100, database.documentCount());
+    Assertions.assertEquals(10, database.find("name", "name5").size());
+    Assertions.assertEquals(42, database.get("key42").getInt("value"));
+
+    // override some of the entries
+    Assertions.assertTrue(database.insertAll(Map.of("key5", Document.newJsonDocument().append("name", "other"))));
+    Assertions.assertEquals(100, database.documentCount());
+    Assertions.assertEquals(9, database.find("name", "name5").size());
+    Assertions.assertEquals(1, database.find("name", "other").size());
+
+    Assertions.assertEquals(2, database.deleteAll(List.of("key5", "key15", "unknown")));
+    Assertions.assertEquals(98, database.documentCount());
+    Assertions.assertEquals(8, database.find("name", "name5").size());
+    Assertions.assertTrue(database.find("name", "other").isEmpty());
+  }
+
   @Test
   void testChunkedDataRead() {
     var database = this.databaseProvider.database("test");
@@ -159,4 +215,68 @@ void testChunkedDataRead() {
     Assertions.assertEquals(expectedReadCounts, readsCalled);
     Assertions.assertTrue(keys.isEmpty());
   }
+
+  @Test
+  void testChunkedDataReadAfterKey() {
+    var database = this.databaseProvider.database("test");
+    Assertions.assertNotNull(database);
+
+    // fill in some data
+    var entries = 1235;
+    List<String> keys = new ArrayList<>();
+    for (var i = 0; i < entries; i++) {
+      var key = UUID.randomUUID().toString();
+
+      keys.add(key);
+      database.insert(key, Document.newJsonDocument().append("this_is", "a_world_test"));
+    }
+
+    String lastKey = null;
+    var readsCalled = 0;
+    List<String> readKeys = new ArrayList<>();
+
+    Map<String, Document> currentChunk;
+    while ((currentChunk = database.readChunkAfter(lastKey, 50)) != null) {
+      readsCalled++;
+      Assertions.assertFalse(currentChunk.size() > 50);
+
+      for (var key : currentChunk.keySet()) {
+        // the keys must be returned in ascending order
+        if (lastKey != null) {
+          Assertions.assertTrue(lastKey.compareTo(key) < 0);
+        }
+
+        readKeys.add(key);
+        lastKey = key;
+      }
+    }
+
+    Assertions.assertEquals((int) Math.ceil(entries / 50D), readsCalled);
+    Assertions.assertEquals(entries, readKeys.size());
+    Assertions.assertTrue(keys.containsAll(readKeys));
+
+    // the chunked iteration must visit each entry exactly once
+    List<String> iteratedKeys = new ArrayList<>();
+    database.iterate((key, $) -> iteratedKeys.add(key), 50);
+    Assertions.assertEquals(readKeys, iteratedKeys);
+  }
+
+  @Test
+  void testFailingBatchUpdateIsRolledBack() {
+    var database = this.databaseProvider.database("test");
+    Assertions.assertNotNull(database);
+
+    // the duplicate key fails the batch after the first row was written
+    List<Object[]> rows = List.of(new Object[]{"1", "{}"}, new Object[]{"2", "{}"}, new Object[]{"1", "{}"});
+    var updatedRows = this.databaseProvider.executeBatchUpdate("INSERT INTO `test` VALUES (?, ?)", rows);
+
+    Assertions.assertEquals(-1, updatedRows);
+    Assertions.assertEquals(0, database.documentCount());
+
+    // the connection must be usable for the next batch
+    Assertions.assertEquals(2, this.databaseProvider.executeBatchUpdate(
+      "INSERT INTO `test` VALUES (?, ?)",
+      List.of(new Object[]{"1", "{}"}, new Object[]{"2", "{}"})));
+    Assertions.assertEquals(2, database.documentCount());
+  }
 }
@@ -20,9 +20,13 @@
 import eu.cloudnetservice.driver.document.Document;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -131,6 +135,136 @@ void testBasicDatabaseOperations() {
     Assertions.assertFalse(database.delete("1234"));
   }
 
+  @Test
+  void testIndexedLookups() {
+    var database = this.databaseProvider.database("test");
+    Assertions.assertNotNull(database);
+
+    // insert a document before creating the index to ensure that it gets indexed as well
+    Assertions.assertTrue(database.insert("1", Document.newJsonDocument().append("name", "a").append("group", "x")));
+    database.createIndex("name");
+    Assertions.assertTrue(database.insert("2", Document.newJsonDocument().append("name", "b").append("group", "x")));
+    Assertions.assertTrue(database.insert("3", Document.newJsonDocument().append("name", "b").append("group", "y")));
+
+    Assertions.assertEquals(1, database.find("name", "a").size());
+    Assertions.assertEquals(2, database.find("name", "b").size());
+    Assertions.assertEquals(1, database.find(Map.of("name", "b", "group", "y")).size());
+
+    // updating a document must update the index
+    Assertions.assertTrue(database.insert("1", Document.newJsonDocument().append("name", "b").append("group", "x")));
+    Assertions.assertTrue(database.find("name", "a").isEmpty());
+    Assertions.assertEquals(3, database.find("name", "b").size());
+
+    // deleting a document must remove it from the index
+    Assertions.assertTrue(database.delete("2"));
+    Assertions.assertEquals(2, database.find("name", "b").size());
+
+    database.clear();
+    Assertions.assertTrue(database.find("name", "b").isEmpty());
+  }
+
+  @Test
+  void testIndexStoresOfDatabasesWithSimilarNames() throws Exception {
+    this.databaseProvider.database("a").createIndex("b#c");
+    var database = this.databaseProvider.database("a#b");
+    database.createIndex("c");
+    Assertions.assertTrue(database.insert("1", Document.newJsonDocument().append("c", "x")));
+    Assertions.assertNotNull(this.databaseProvider.database("index#user"));
+
+    // the index stores are not listed, user databases starting with the index prefix are
+    Assertions.assertEquals(Set.of("a", "a#b", "index#user"), Set.copyOf(this.databaseProvider.databaseNames()));
+
+    // deleting a database must only remove its own index stores
+    Assertions.assertTrue(this.databaseProvider.deleteDatabase("a"));
+    Assertions.assertEquals(Set.of("a#b", "index#user"), Set.copyOf(this.databaseProvider.databaseNames()));
+
+    // re-open the environment to ensure that each database only opens its own index stores
+    this.databaseProvider.close();
+    this.setup();
+
+    var reopened = (XodusDatabase) this.databaseProvider.database("a#b");
+    Assertions.assertEquals(Set.of("c"), reopened.indexStores.keySet());
+    Assertions.assertEquals(1, reopened.find("c", "x").size());
+    Assertions.assertTrue(((XodusDatabase) this.databaseProvider.database("a")).indexStores.isEmpty());
+  }
+
+  @Test
+  void testBinaryDocumentMigration() throws Exception {
+    // insert a json document
+    var database = this.databaseProvider.database("test");
+    Assertions.assertTrue(database.insert("1", Document.newJsonDocument().append("hello", "world")));
+    this.databaseProvider.close();
+
+    // reopen the database using the binary format, the json document must still be readable
+    this.databaseProvider = new XodusDatabaseProvider(BASE_DIRECTORY.toFile(), false, true);
+    this.databaseProvider.init();
+
+    database = this.databaseProvider.database("test");
+    Assertions.assertEquals("world", database.get("1").getString("hello"));
+
+    Assertions.assertTrue(database.insert("2", Document.newJsonDocument().append("hello", "world2").append("int", 5)));
+    var document = database.get("2");
+    Assertions.assertNotNull(document);
+    Assertions.assertEquals("world2", document.getString("hello"));
+    Assertions.assertEquals(5, document.getInt("int"));
+
+    Assertions.assertEquals(1, database.find("hello", "world").size());
+    Assertions.assertEquals(2, database.documents().size());
+  }
+
+  @Test
+  void testBulkOperations() {
+    var database = this.databaseProvider.database("test");
+    database.createIndex("name");
+
+    Map<String, Document> entries = new HashMap<>();
+    for (var i = 0; i < 100; i++) {
+      entries.put("key" + i, Document.newJsonDocument().append("name", "name" + (i % 10)).append("value", i));
+    }
+
+    Assertions.assertTrue(database.insertAll(entries));
+    Assertions.assertEquals(100, database.documentCount());
+    Assertions.assertEquals(10, database.find("name", "name5").size());
+    Assertions.assertEquals(42, database.get("key42").getInt("value"));
+
+    // override some of the entries
+    Assertions.assertTrue(database.insertAll(Map.of("key5", Document.newJsonDocument().append("name", "other"))));
+    Assertions.assertEquals(100, database.documentCount());
+    Assertions.assertEquals(9, database.find("name", "name5").size());
+    Assertions.assertEquals(1, database.find("name", "other").size());
+
+    Assertions.assertEquals(2, database.deleteAll(List.of("key5", "key15", "unknown")));
+    Assertions.assertEquals(98, database.documentCount());
+    Assertions.assertEquals(8, database.find("name", "name5").size());
+    Assertions.assertTrue(database.find("name", "other").isEmpty());
+  }
+
+  @Test
+  void testGroupCommitInserts() throws Exception {
+    this.databaseProvider.close();
+    this.databaseProvider = new XodusDatabaseProvider(BASE_DIRECTORY.toFile(), false, false, true);
+    this.databaseProvider.init();
+
+    var database = this.databaseProvider.database("test");
+    var executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (var i = 0; i < 500; i++) {
+        var key = "key" + i;
+        results.add(executor.submit(() -> database.insert(key, Document.newJsonDocument().append("key", key))));
+      }
+
+      for (var result : results) {
+        Assertions.assertTrue(result.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    Assertions.assertEquals(500, database.documentCount());
+    Assertions.assertEquals("key123", database.get("key123").getString("key"));
+  }
+
   @Test
   void testChunkedDataRead() {
     var database = this.databaseProvider.database("test");
@@ -165,4 +299,49 @@ void testChunkedDataRead() {
     Assertions.assertEquals(expectedReadCounts, readsCalled);
     Assertions.assertTrue(keys.isEmpty());
   }
+
+  @Test
+  void testChunkedDataReadAfterKey() {
+    var database = this.databaseProvider.database("test");
+    Assertions.assertNotNull(database);
+
+    // fill in some data
+    var entries = 1235;
+    List<String> keys = new ArrayList<>();
+    for (var i = 0; i < entries; i++) {
+      var key = UUID.randomUUID().toString();
+
+      keys.add(key);
+      database.insert(key, Document.newJsonDocument().append("this_is", "a_world_test"));
+    }
+
+    String lastKey = null;
+    var readsCalled = 0;
+    List<String> readKeys = new ArrayList<>();
+
+    Map<String, Document> currentChunk;
+    while ((currentChunk = database.readChunkAfter(lastKey, 50)) != null) {
+      readsCalled++;
+      Assertions.assertFalse(currentChunk.size() > 50);
+
+      for (var key : currentChunk.keySet()) {
+        // the keys must be returned in ascending order
+        if (lastKey != null) {
+          Assertions.assertTrue(lastKey.compareTo(key) < 0);
+        }
+
+        readKeys.add(key);
+        lastKey = key;
+      }
+    }
+
+    Assertions.assertEquals((int) Math.ceil(entries / 50D), readsCalled);
+    Assertions.assertEquals(entries, readKeys.size());
+    Assertions.assertTrue(keys.containsAll(readKeys));
+
+    // the chunked iteration must visit each entry exactly once
+    List<String> iteratedKeys = new ArrayList<>();
+    database.iterate((key, $) -> iteratedKeys.add(key), 50);
+    Assertions.assertEquals(readKeys, iteratedKeys);
+  }
 }
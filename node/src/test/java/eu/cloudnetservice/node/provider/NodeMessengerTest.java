@@ -0,0 +1,120 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.provider;
+
+import eu.cloudnetservice.driver.DriverEnvironment;
+import eu.cloudnetservice.driver.channel.ChannelMessage;
+import eu.cloudnetservice.driver.channel.ChannelMessageSender;
+import eu.cloudnetservice.driver.event.EventManager;
+import eu.cloudnetservice.driver.event.events.network.ChannelType;
+import eu.cloudnetservice.driver.event.events.network.NetworkChannelCloseEvent;
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
+import eu.cloudnetservice.driver.network.protocol.Packet;
+import eu.cloudnetservice.node.cluster.NodeServerProvider;
+import eu.cloudnetservice.node.event.network.NetworkServiceAuthSuccessEvent;
+import eu.cloudnetservice.node.service.CloudService;
+import eu.cloudnetservice.node.service.CloudServiceManager;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class NodeMessengerTest {
+
+  @Test
+  void testBroadcastChannelsAreRebuiltOnChanges() {
+    var nodeServerProvider = Mockito.mock(NodeServerProvider.class);
+    var cloudServiceManager = Mockito.mock(CloudServiceManager.class);
+    var messenger = new NodeMessenger(nodeServerProvider, cloudServiceManager, Mockito.mock(EventManager.class));
+
+    var firstChannel = mockChannel();
+    var firstService = mockService(firstChannel);
+    Mockito.when(cloudServiceManager.localCloudServices()).thenReturn(List.of(firstService));
+
+    // the channels are cached as long as nothing changes
+    var channels = messenger.broadcastChannels(false);
+    Assertions.assertEquals(Set.of(firstChannel), channels);
+    Assertions.assertSame(channels, messenger.broadcastChannels(false));
+    Mockito.verify(cloudServiceManager, Mockito.times(1)).localCloudServices();
+
+    // a service authorization causes a rebuild
+    var secondChannel = mockChannel();
+    var secondService = mockService(secondChannel);
+    Mockito.when(cloudServiceManager.localCloudServices()).thenReturn(List.of(firstService, secondService));
+    messenger.handleServiceAuthSuccess(new NetworkServiceAuthSuccessEvent(secondService, secondChannel));
+    Assertions.assertEquals(Set.of(firstChannel, secondChannel), messenger.broadcastChannels(false));
+
+    // a channel close causes a rebuild
+    Mockito.when(firstChannel.active()).thenReturn(false);
+    messenger.handleChannelClose(new NetworkChannelCloseEvent(firstChannel, ChannelType.SERVER_CHANNEL));
+    Assertions.assertEquals(Set.of(secondChannel), messenger.broadcastChannels(false));
+    Mockito.verify(cloudServiceManager, Mockito.times(3)).localCloudServices();
+  }
+
+  @Test
+  void testUnsentPacketsAreReleased() {
+    var nodeServerProvider = Mockito.mock(NodeServerProvider.class);
+    var messenger = Mockito.spy(new NodeMessenger(
+      nodeServerProvider,
+      Mockito.mock(CloudServiceManager.class),
+      Mockito.mock(EventManager.class)));
+
+    // sending the first packet fails, the second packet is never sent
+    var firstChannel = mockChannel();
+    var secondChannel = mockChannel();
+    Mockito.doThrow(IllegalStateException.class).when(firstChannel).sendPacketSync(Mockito.any(Packet.class));
+    Mockito.doThrow(IllegalStateException.class).when(secondChannel).sendPacketSync(Mockito.any(Packet.class));
+    Mockito.when(nodeServerProvider.connectedNodeChannels()).thenReturn(List.of(firstChannel, secondChannel));
+
+    var packets = new AtomicReference<Packet[]>();
+    Mockito.doAnswer(invocation -> {
+      packets.set((Packet[]) invocation.callRealMethod());
+      return packets.get();
+    }).when(messenger).channelMessagePackets(Mockito.any(), Mockito.anyInt());
+
+    var message = ChannelMessage.builder()
+      .channel("test")
+      .message("test")
+      .sendSync(true)
+      .sender(ChannelMessageSender.of("Node-1", DriverEnvironment.NODE))
+      .buffer(DataBufFactory.defaultFactory().createEmpty().writeString("Hello World"))
+      .targetNodes()
+      .build();
+    Assertions.assertThrows(IllegalStateException.class, () -> messenger.sendChannelMessage(message));
+
+    // the packet handed to the failing channel is owned by it, the other one must be released
+    Assertions.assertEquals(2, packets.get().length);
+    Assertions.assertTrue(packets.get()[0].content().accessible());
+    Assertions.assertFalse(packets.get()[1].content().accessible());
+    packets.get()[0].content().release();
+  }
+
+  private static NetworkChannel mockChannel() {
+    var channel = Mockito.mock(NetworkChannel.class);
+    Mockito.when(channel.active()).thenReturn(true);
+    return channel;
+  }
+
+  private static CloudService mockService(NetworkChannel channel) {
+    var service = Mockito.mock(CloudService.class);
+    Mockito.when(service.networkChannel()).thenReturn(channel);
+    return service;
+  }
+}
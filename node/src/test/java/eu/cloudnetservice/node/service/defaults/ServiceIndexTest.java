@@ -0,0 +1,158 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package eu.cloudnetservice.node.service.defaults;
+
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.network.HostAndPort;
+import eu.cloudnetservice.driver.provider.SpecificCloudServiceProvider;
+import eu.cloudnetservice.driver.service.ProcessSnapshot;
+import eu.cloudnetservice.driver.service.ServiceConfiguration;
+import eu.cloudnetservice.driver.service.ServiceEnvironmentType;
+import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
+import eu.cloudnetservice.driver.service.ServiceLifeCycle;
+import eu.cloudnetservice.node.service.CloudService;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class ServiceIndexTest {
+
+  private static ServiceInfoSnapshot snapshot(String task, int id, String node, ServiceLifeCycle lifeCycle) {
+    return new ServiceInfoSnapshot(
+      System.currentTimeMillis(),
+      new HostAndPort("127.0.0.1", 25565),
+      ProcessSnapshot.empty(),
+      ServiceConfiguration.builder()
+        .taskName(task)
+        .taskId(id)
+        .node(node)
+        .groups(Set.of("Global", task))
+        .environment(ServiceEnvironmentType.MINECRAFT_SERVER)
+        .maxHeapMemory(512)
+        .build(),
+      -1,
+      lifeCycle,
+      Document.newJsonDocument());
+  }
+
+  @Test
+  void testServiceIsIndexed() {
+    var index = new ServiceIndex();
+    var provider = Mockito.mock(SpecificCloudServiceProvider.class);
+    var snapshot = snapshot("Lobby", 1, "Node-1", ServiceLifeCycle.PREPARED);
+
+    index.add(provider, snapshot);
+
+    Assertions.assertSame(provider, index.serviceByName("Lobby-1"));
+    Assertions.assertTrue(index.servicesByTask("Lobby").contains(provider));
+    Assertions.assertTrue(index.servicesByGroup("Global").contains(provider));
+    Assertions.assertTrue(index.servicesByGroup("Lobby").contains(provider));
+    Assertions.assertTrue(index.servicesByEnvironment("MINECRAFT_SERVER").contains(provider));
+    Assertions.assertTrue(index.servicesByNode("Node-1").contains(provider));
+    Assertions.assertTrue(index.servicesByLifeCycle(ServiceLifeCycle.PREPARED).contains(provider));
+    Assertions.assertEquals(512, index.reservedMemory("Node-1"));
+
+    // the provider is not a local service
+    Assertions.assertTrue(index.localServices().isEmpty());
+    Assertions.assertEquals(0, index.localReservedMemory());
+  }
+
+  @Test
+  void testDuplicateAddIsIgnored() {
+    var index = new ServiceIndex();
+    var snapshot = snapshot("Lobby", 1, "Node-1", ServiceLifeCycle.PREPARED);
+    var provider = Mockito.mock(SpecificCloudServiceProvider.class);
+    var otherProvider = Mockito.mock(SpecificCloudServiceProvider.class);
+
+    index.add(provider, snapshot);
+    index.add(otherProvider, snapshot);
+
+    Assertions.assertSame(provider, index.serviceByName("Lobby-1"));
+    Assertions.assertEquals(1, index.servicesByTask("Lobby").size());
+    Assertions.assertEquals(512, index.reservedMemory("Node-1"));
+  }
+
+  @Test
+  void testRemoveClearsAllBuckets() {
+    var index = new ServiceIndex();
+    var service = Mockito.mock(CloudService.class);
+    var snapshot = snapshot("Lobby", 1, "Node-1", ServiceLifeCycle.PREPARED);
+
+    index.add(service, snapshot);
+    Assertions.assertTrue(index.localServices().contains(service));
+    Assertions.assertEquals(512, index.localReservedMemory());
+
+    index.updateLifeCycle(snapshot.serviceId().uniqueId(), ServiceLifeCycle.RUNNING);
+    index.remove(snapshot.serviceId().uniqueId());
+
+    Assertions.assertNull(index.serviceByName("Lobby-1"));
+    Assertions.assertTrue(index.servicesByTask("Lobby").isEmpty());
+    Assertions.assertTrue(index.servicesByGroup("Global").isEmpty());
+    Assertions.assertTrue(index.servicesByEnvironment("MINECRAFT_SERVER").isEmpty());
+    Assertions.assertTrue(index.servicesByNode("Node-1").isEmpty());
+    Assertions.assertTrue(index.servicesByLifeCycle(ServiceLifeCycle.PREPARED).isEmpty());
+    Assertions.assertTrue(index.servicesByLifeCycle(ServiceLifeCycle.RUNNING).isEmpty());
+    Assertions.assertTrue(index.localServices().isEmpty());
+    Assertions.assertEquals(0, index.localReservedMemory());
+    Assertions.assertEquals(0, index.reservedMemory("Node-1"));
+
+    // removing an unknown service has no effect
+    index.remove(snapshot.serviceId().uniqueId());
+    Assertions.assertEquals(0, index.reservedMemory("Node-1"));
+  }
+
+  @Test
+  void testLifeCycleUpdateMovesService() {
+    var index = new ServiceIndex();
+    var provider = Mockito.mock(SpecificCloudServiceProvider.class);
+    var otherProvider = Mockito.mock(SpecificCloudServiceProvider.class);
+    var snapshot = snapshot("Lobby", 1, "Node-1", ServiceLifeCycle.PREPARED);
+    var otherSnapshot = snapshot("Lobby", 2, "Node-2", ServiceLifeCycle.PREPARED);
+
+    index.add(provider, snapshot);
+    index.add(otherProvider, otherSnapshot);
+    index.updateLifeCycle(snapshot.serviceId().uniqueId(), ServiceLifeCycle.RUNNING);
+
+    Assertions.assertEquals(Set.of(otherProvider), Set.copyOf(index.servicesByLifeCycle(ServiceLifeCycle.PREPARED)));
+    Assertions.assertEquals(Set.of(provider), Set.copyOf(index.servicesByLifeCycle(ServiceLifeCycle.RUNNING)));
+
+    // updates of unknown services are ignored
+    index.remove(snapshot.serviceId().uniqueId());
+    index.updateLifeCycle(snapshot.serviceId().uniqueId(), ServiceLifeCycle.STOPPED);
+    Assertions.assertTrue(index.servicesByLifeCycle(ServiceLifeCycle.STOPPED).isEmpty());
+    Assertions.assertTrue(index.servicesByLifeCycle(ServiceLifeCycle.RUNNING).isEmpty());
+  }
+
+  @Test
+  void testReservedMemoryIsTrackedPerNode() {
+    var index = new ServiceIndex();
+    var firstProvider = Mockito.mock(SpecificCloudServiceProvider.class);
+    var secondProvider = Mockito.mock(SpecificCloudServiceProvider.class);
+    var thirdProvider = Mockito.mock(SpecificCloudServiceProvider.class);
+
+    index.add(firstProvider, snapshot("Lobby", 1, "Node-1", ServiceLifeCycle.RUNNING));
+    index.add(secondProvider, snapshot("Lobby", 2, "Node-1", ServiceLifeCycle.RUNNING));
+    index.add(thirdProvider, snapshot("Proxy", 1, "Node-2", ServiceLifeCycle.RUNNING));
+
+    Assertions.assertEquals(1024, index.reservedMemory("Node-1"));
+    Assertions.assertEquals(512, index.reservedMemory("Node-2"));
+    Assertions.assertEquals(0, index.reservedMemory("Node-3"));
+    Assertions.assertEquals(Set.of(firstProvider, secondProvider), Set.copyOf(index.servicesByNode("Node-1")));
+  }
+}
@@ -21,14 +21,17 @@
 import eu.cloudnetservice.driver.template.FileInfo;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 class LocalTemplateStorageTest {
@@ -190,4 +193,68 @@ void testTemplateDelete() {
     Assertions.assertFalse(storage.contains(TEMPLATE));
     Assertions.assertFalse(storage.hasFile(TEMPLATE, "test.txt"));
   }
+
+  @Test
+  @Order(120)
+  void testPullLinksImmutableFiles(@TempDir Path tempDir) throws IOException {
+    var linkingStorage = new LocalTemplateStorage(tempDir.resolve("templates"), true);
+    var serviceDir = tempDir.resolve("service");
+    setupLinkingTemplate(linkingStorage);
+
+    Assertions.assertTrue(linkingStorage.pull(TEMPLATE, serviceDir));
+    Assertions.assertEquals("jar", Files.readString(serviceDir.resolve("server.jar")));
+    Assertions.assertEquals("config", Files.readString(serviceDir.resolve("config.yml")));
+    Assertions.assertTrue(Files.isDirectory(serviceDir.resolve("plugins/empty")));
+
+    Assumptions.assumeTrue(tempDir.getFileSystem().supportedFileAttributeViews().contains("unix"));
+    Assertions.assertEquals(2, Files.getAttribute(serviceDir.resolve("server.jar"), "unix:nlink"));
+    Assertions.assertEquals(1, Files.getAttribute(serviceDir.resolve("config.yml"), "unix:nlink"));
+  }
+
+  @Test
+  @Order(130)
+  void testWriteUnsharesLinkedFiles(@TempDir Path tempDir) throws IOException {
+    var linkingStorage = new LocalTemplateStorage(tempDir.resolve("templates"), true);
+    var serviceDir = tempDir.resolve("service");
+    setupLinkingTemplate(linkingStorage);
+    Assertions.assertTrue(linkingStorage.pull(TEMPLATE, serviceDir));
+
+    // appending must not change the file linked into the service directory
+    try (var stream = linkingStorage.appendOutputStream(TEMPLATE, "server.jar")) {
+      Assertions.assertNotNull(stream);
+      stream.write("-appended".getBytes(StandardCharsets.UTF_8));
+    }
+
+    Assertions.assertEquals("jar", Files.readString(serviceDir.resolve("server.jar")));
+    try (var stream = linkingStorage.newInputStream(TEMPLATE, "server.jar")) {
+      Assertions.assertNotNull(stream);
+      Assertions.assertEquals("jar-appended", new String(stream.readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    // overwriting must not change the file linked into the service directory either
+    Assertions.assertTrue(linkingStorage.pull(TEMPLATE, serviceDir));
+    try (var stream = linkingStorage.newOutputStream(TEMPLATE, "server.jar")) {
+      Assertions.assertNotNull(stream);
+      stream.write("replaced".getBytes(StandardCharsets.UTF_8));
+    }
+
+    Assertions.assertEquals("jar-appended", Files.readString(serviceDir.resolve("server.jar")));
+    try (var stream = linkingStorage.newInputStream(TEMPLATE, "server.jar")) {
+      Assertions.assertNotNull(stream);
+      Assertions.assertEquals("replaced", new String(stream.readAllBytes(), StandardCharsets.UTF_8));
+    }
+  }
+
+  private static void setupLinkingTemplate(LocalTemplateStorage linkingStorage) throws IOException {
+    Assertions.assertTrue(linkingStorage.create(TEMPLATE));
+    Assertions.assertTrue(linkingStorage.createDirectory(TEMPLATE, "plugins/empty"));
+    try (var stream = linkingStorage.newOutputStream(TEMPLATE, "server.jar")) {
+      Assertions.assertNotNull(stream);
+      stream.write("jar".getBytes(StandardCharsets.UTF_8));
+    }
+    try (var stream = linkingStorage.newOutputStream(TEMPLATE, "config.yml")) {
+      Assertions.assertNotNull(stream);
+      stream.write("config".getBytes(StandardCharsets.UTF_8));
+    }
+  }
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.template;
+
+import eu.cloudnetservice.common.io.ZipUtil;
+import eu.cloudnetservice.driver.service.ServiceTemplate;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TemplateManifestTest {
+
+  private static final ServiceTemplate TEMPLATE = ServiceTemplate.builder()
+    .prefix("global")
+    .name("server")
+    .storage("local")
+    .build();
+
+  @Test
+  void testChangedAndRemovedFiles() {
+    var source = new TemplateManifest(Map.of(
+      "spigot.yml", "a",
+      "plugins/", "",
+      "plugins/test.jar", "b",
+      "new.txt", "c"));
+    var target = new TemplateManifest(Map.of(
+      "spigot.yml", "a",
+      "plugins/", "",
+      "plugins/test.jar", "old",
+      "removed.txt", "d",
+      "removed/", ""));
+
+    Assertions.assertEquals(Set.of("plugins/test.jar", "new.txt"), source.changedFiles(target));
+    Assertions.assertEquals(Set.of("removed.txt", "removed/"), source.removedFiles(target));
+    Assertions.assertTrue(source.changedFiles(source).isEmpty());
+    Assertions.assertTrue(source.removedFiles(source).isEmpty());
+  }
+
+  @Test
+  void testManifestContainsFilesAndDirectories(@TempDir Path directory) throws IOException {
+    Files.writeString(directory.resolve("spigot.yml"), "hello");
+    Files.createDirectories(directory.resolve("plugins/empty"));
+
+    var manifest = new TemplateManifestCache().manifest(directory);
+    Assertions.assertEquals(Set.of("spigot.yml", "plugins/", "plugins/empty/"), manifest.files().keySet());
+    Assertions.assertEquals(TemplateManifestCache.DIRECTORY_HASH, manifest.files().get("plugins/empty/"));
+  }
+
+  @Test
+  void testCachedHashesAreInvalidated(@TempDir Path directory) throws IOException {
+    var file = directory.resolve("spigot.yml");
+    Files.writeString(file, "hello");
+
+    var cache = new TemplateManifestCache();
+    var initialHash = cache.manifest(directory).files().get("spigot.yml");
+
+    // content of the same size with the same modification time is not hashed again
+    var lastModified = Files.getLastModifiedTime(file);
+    Files.writeString(file, "world");
+    Files.setLastModifiedTime(file, lastModified);
+    Assertions.assertEquals(initialHash, cache.manifest(directory).files().get("spigot.yml"));
+
+    // a modification time change causes the file to be hashed again
+    Files.setLastModifiedTime(file, FileTime.fromMillis(lastModified.toMillis() + 1000));
+    var changedHash = cache.manifest(directory).files().get("spigot.yml");
+    Assertions.assertNotEquals(initialHash, changedHash);
+
+    // an invalidation drops all cached hashes of the directory
+    Files.writeString(file, "hallo");
+    Files.setLastModifiedTime(file, FileTime.fromMillis(lastModified.toMillis() + 1000));
+    Assertions.assertEquals(changedHash, cache.manifest(directory).files().get("spigot.yml"));
+    cache.invalidate(directory);
+    Assertions.assertNotEquals(changedHash, cache.manifest(directory).files().get("spigot.yml"));
+  }
+
+  @Test
+  void testUnreadableFileFailsManifest(@TempDir Path directory) throws IOException {
+    Files.writeString(directory.resolve("spigot.yml"), "hello");
+    Files.createSymbolicLink(directory.resolve("broken.yml"), directory.resolve("missing.yml"));
+
+    Assertions.assertThrows(IOException.class, () -> new TemplateManifestCache().manifest(directory));
+  }
+
+  @Test
+  void testZipTemplateFilesContainsDirectories(@TempDir Path directory) throws IOException {
+    var storage = new LocalTemplateStorage(directory.resolve("local"));
+    Assertions.assertTrue(storage.create(TEMPLATE));
+    Assertions.assertTrue(storage.createDirectory(TEMPLATE, "plugins/empty"));
+    try (var stream = storage.newOutputStream(TEMPLATE, "plugins/test.yml")) {
+      stream.write("hello".getBytes(StandardCharsets.UTF_8));
+    }
+
+    var manifest = storage.manifest(TEMPLATE);
+    Assertions.assertNotNull(manifest);
+
+    var target = directory.resolve("target");
+    var changedFiles = manifest.changedFiles(new TemplateManifest(Map.of()));
+    try (var stream = storage.zipTemplateFiles(TEMPLATE, changedFiles)) {
+      Assertions.assertNotNull(stream);
+      ZipUtil.extract(stream, target);
+    }
+
+    Assertions.assertTrue(Files.isDirectory(target.resolve("plugins/empty")));
+    Assertions.assertEquals("hello", Files.readString(target.resolve("plugins/test.yml")));
+
+    Assertions.assertTrue(storage.deleteDirectory(TEMPLATE, "plugins/"));
+    Assertions.assertEquals(Set.of(), storage.manifest(TEMPLATE).files().keySet());
+    storage.close();
+  }
+}
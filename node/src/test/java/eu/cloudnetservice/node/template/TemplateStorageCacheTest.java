@@ -0,0 +1,120 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.template;
+
+import eu.cloudnetservice.driver.event.EventManager;
+import eu.cloudnetservice.driver.service.ServiceDeployment;
+import eu.cloudnetservice.driver.service.ServiceTemplate;
+import eu.cloudnetservice.driver.template.FileInfo;
+import eu.cloudnetservice.driver.template.TemplateStorage;
+import eu.cloudnetservice.node.event.service.CloudServiceDeploymentEvent;
+import eu.cloudnetservice.node.service.CloudService;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+class TemplateStorageCacheTest {
+
+  private static final int FILE_SIZE = 40;
+
+  private static final ServiceTemplate LOBBY = ServiceTemplate.builder().prefix("global").name("lobby").build();
+  private static final ServiceTemplate PROXY = ServiceTemplate.builder().prefix("global").name("proxy").build();
+  private static final ServiceTemplate SERVER = ServiceTemplate.builder().prefix("global").name("server").build();
+
+  @Test
+  void testLeastRecentlyUsedEntryIsEvicted(@TempDir Path tempDir) throws IOException {
+    // the cache can hold two templates
+    var cache = new TemplateStorageCache(Mockito.mock(EventManager.class), FILE_SIZE * 2 + 10);
+    var storage = mockStorage(0);
+
+    assertPull(cache, storage, LOBBY, tempDir.resolve("1"));
+    assertPull(cache, storage, LOBBY, tempDir.resolve("2"));
+    Mockito.verify(storage, Mockito.times(1)).pull(Mockito.eq(LOBBY), Mockito.any());
+
+    // use the lobby template after the proxy template, the proxy template is evicted when the third template is added
+    assertPull(cache, storage, PROXY, tempDir.resolve("3"));
+    assertPull(cache, storage, LOBBY, tempDir.resolve("4"));
+    assertPull(cache, storage, SERVER, tempDir.resolve("5"));
+
+    assertPull(cache, storage, LOBBY, tempDir.resolve("6"));
+    Mockito.verify(storage, Mockito.times(1)).pull(Mockito.eq(LOBBY), Mockito.any());
+    assertPull(cache, storage, PROXY, tempDir.resolve("7"));
+    Mockito.verify(storage, Mockito.times(2)).pull(Mockito.eq(PROXY), Mockito.any());
+
+    cache.invalidate(storage, LOBBY);
+    cache.invalidate(storage, PROXY);
+    cache.invalidate(storage, SERVER);
+  }
+
+  @Test
+  void testEntriesAreInvalidated(@TempDir Path tempDir) throws IOException {
+    var cache = new TemplateStorageCache(Mockito.mock(EventManager.class), FILE_SIZE * 2);
+    var storage = mockStorage(0);
+
+    assertPull(cache, storage, LOBBY, tempDir.resolve("1"));
+    assertPull(cache, storage, LOBBY, tempDir.resolve("2"));
+    Mockito.verify(storage, Mockito.times(1)).pull(Mockito.eq(LOBBY), Mockito.any());
+
+    // a deployment into the template invalidates the cached template
+    var deployment = ServiceDeployment.builder().template(LOBBY).build();
+    cache.handleServiceDeployment(
+      new CloudServiceDeploymentEvent(Mockito.mock(CloudService.class), storage, deployment));
+    assertPull(cache, storage, LOBBY, tempDir.resolve("3"));
+    Mockito.verify(storage, Mockito.times(2)).pull(Mockito.eq(LOBBY), Mockito.any());
+
+    // a change of the files in the storage invalidates the cached template as well
+    Mockito.when(storage.listFiles(LOBBY, "", true)).thenReturn(List.of(fileInfo(1)));
+    assertPull(cache, storage, LOBBY, tempDir.resolve("4"));
+    Mockito.verify(storage, Mockito.times(3)).pull(Mockito.eq(LOBBY), Mockito.any());
+
+    cache.invalidate(storage, LOBBY);
+  }
+
+  private static void assertPull(
+    TemplateStorageCache cache,
+    TemplateStorage storage,
+    ServiceTemplate template,
+    Path directory
+  ) throws IOException {
+    Assertions.assertTrue(cache.pull(storage, template, directory));
+    Assertions.assertEquals(FILE_SIZE, Files.size(directory.resolve("server.jar")));
+  }
+
+  private static TemplateStorage mockStorage(long lastModified) {
+    var storage = Mockito.mock(TemplateStorage.class);
+    Mockito.when(storage.name()).thenReturn("remote");
+    Mockito.when(storage.contains(Mockito.any())).thenReturn(true);
+    Mockito.when(storage.listFiles(Mockito.any(), Mockito.eq(""), Mockito.eq(true)))
+      .thenReturn(List.of(fileInfo(lastModified)));
+    Mockito.when(storage.pull(Mockito.any(), Mockito.any())).thenAnswer(invocation -> {
+      Path directory = invocation.getArgument(1);
+      Files.createDirectories(directory);
+      Files.write(directory.resolve("server.jar"), new byte[FILE_SIZE]);
+      return true;
+    });
+    return storage;
+  }
+
+  private static FileInfo fileInfo(long lastModified) {
+    return new FileInfo("server.jar", "server.jar", false, false, 0, lastModified, 0, FILE_SIZE);
+  }
+}
@@ -16,6 +16,8 @@
 
 package eu.cloudnetservice.wrapper;
 
+import eu.cloudnetservice.driver.event.DefaultEventManager;
+import eu.cloudnetservice.driver.event.EventManager;
 import eu.cloudnetservice.driver.module.ModuleProvider;
 import eu.cloudnetservice.driver.network.NetworkClient;
 import eu.cloudnetservice.driver.registry.ServiceRegistry;
@@ -29,6 +31,7 @@
 @Singleton
 final class ShutdownHandler {
 
+  private final EventManager eventManager;
   private final NetworkClient networkClient;
   private final ModuleProvider moduleProvider;
   private final ServiceRegistry serviceRegistry;
@@ -36,11 +39,13 @@ final class ShutdownHandler {
 
   @Inject
   public ShutdownHandler(
+    @NonNull EventManager eventManager,
     @NonNull NetworkClient networkClient,
     @NonNull ModuleProvider moduleProvider,
     @NonNull ServiceRegistry serviceRegistry,
     @NonNull @Named("taskScheduler") ScheduledExecutorService scheduledExecutor
   ) {
+    this.eventManager = eventManager;
     this.networkClient = networkClient;
     this.moduleProvider = moduleProvider;
     this.serviceRegistry = serviceRegistry;
@@ -56,5 +61,10 @@ public void shutdown() {
     this.moduleProvider.unloadAll();
     this.serviceRegistry.unregisterAll();
     this.scheduledExecutor.shutdownNow();
+
+    // stop calling asynchronous event listeners
+    if (this.eventManager instanceof DefaultEventManager defaultEventManager) {
+      defaultEventManager.close();
+    }
   }
 }
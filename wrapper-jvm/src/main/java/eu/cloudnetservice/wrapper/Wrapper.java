@@ -148,7 +148,7 @@ private void connectToNode(
     // add the runtime packet listeners
     networkClient.packetRegistry().addListener(
       NetworkConstants.CHUNKED_PACKET_COM_CHANNEL,
-      new ChunkedPacketListener(EventChunkHandlerFactory.withEventManager(eventManager)));
+      new ChunkedPacketListener(EventChunkHandlerFactory.withEventManager(eventManager), eventManager));
     networkClient.packetRegistry().addListener(
       NetworkConstants.CHANNEL_MESSAGING_CHANNEL,
       PacketServerChannelMessageListener.class);
@@ -92,7 +92,7 @@ public void setup() {
     this.currentServiceInfoSnapshot = new ServiceInfoSnapshot(
       System.currentTimeMillis(),
       suppliedServiceSnapshot.address(),
-      ProcessSnapshot.self(),
+      ProcessSnapshot.periodic(),
       suppliedServiceSnapshot.configuration(),
       System.currentTimeMillis(),
       ServiceLifeCycle.RUNNING,
@@ -136,7 +136,7 @@ public void setup() {
     return new ServiceInfoSnapshot(
       System.currentTimeMillis(),
       info.address(),
-      ProcessSnapshot.self(),
+      ProcessSnapshot.periodic(),
       this.configuration.serviceConfiguration(),
       info.connectedTime(),
       ServiceLifeCycle.RUNNING,
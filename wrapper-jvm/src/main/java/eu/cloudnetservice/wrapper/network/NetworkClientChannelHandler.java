@@ -53,12 +53,16 @@ public void handleChannelInitialize(@NonNull NetworkChannel channel) {
       PacketClientAuthorization.PacketAuthorizationType.WRAPPER_TO_NODE,
       DataBuf.empty()
         .writeString(this.wrapperConfiguration.connectionKey())
-        .writeObject(this.wrapperConfiguration.serviceConfiguration().serviceId())));
+        .writeObject(this.wrapperConfiguration.serviceConfiguration().serviceId())
+        // announce that resume requests of chunked transfers can be answered
+        .writeBoolean(true)));
   }
 
   @Override
   public boolean handlePacketReceive(@NonNull NetworkChannel channel, @NonNull Packet packet) {
-    return !this.eventManager.callEvent(new NetworkChannelPacketReceiveEvent(channel, packet)).cancelled();
+    // skip the event construction when nobody is listening, this is called for every received packet
+    return !this.eventManager.hasListeners(NetworkChannelPacketReceiveEvent.class)
+      || !this.eventManager.callEvent(new NetworkChannelPacketReceiveEvent(channel, packet)).cancelled();
   }
 
   @Override
@@ -19,6 +19,7 @@
 import eu.cloudnetservice.driver.network.NetworkChannel;
 import eu.cloudnetservice.driver.network.protocol.Packet;
 import eu.cloudnetservice.driver.network.protocol.PacketListener;
+import eu.cloudnetservice.driver.network.rpc.defaults.object.serializers.DocumentObjectSerializer;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.LockSupport;
 import lombok.NonNull;
@@ -43,6 +44,12 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) {
     content.readBoolean();
     content.readBoolean();
 
+    // write binary documents if the cluster of the node supports them, older nodes are not sending the information.
+    // changes of the encoding are sent to us by the node afterwards
+    DocumentObjectSerializer.binaryEncoding(content.readableBytes() > 0 && content.readBoolean());
+    // older nodes are not able to answer resume requests of chunked transfers and are not sending the information
+    channel.resumableChunks(content.readableBytes() > 0 && content.readBoolean());
+
     // signal all listeners waiting for the auth
     LockSupport.unpark(this.blockedThread);
   }
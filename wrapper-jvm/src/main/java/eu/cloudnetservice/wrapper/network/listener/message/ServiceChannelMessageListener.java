@@ -26,6 +26,8 @@
 import eu.cloudnetservice.driver.event.events.service.CloudServiceUpdateEvent;
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.network.def.NetworkConstants;
+import eu.cloudnetservice.driver.network.rpc.defaults.object.serializers.DocumentObjectSerializer;
+import eu.cloudnetservice.driver.service.ProcessSnapshot;
 import eu.cloudnetservice.driver.service.ServiceCreateResult;
 import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
 import eu.cloudnetservice.driver.service.ServiceLifeCycle;
@@ -61,6 +63,10 @@ public void handleChannelMessage(
         case "request_update_service_information" -> event.binaryResponse(DataBuf.empty()
           .writeObject(serviceInfoHolder.configureServiceInfoSnapshot()));
 
+        // on demand request of the snapshots of all threads of the service
+        case "request_thread_snapshots" -> event.binaryResponse(DataBuf.empty()
+          .writeObject(ProcessSnapshot.threadSnapshots()));
+
         // force update request of the service information with new properties
         case "request_update_service_information_with_new_properties" -> {
           var properties = event.content().readObject(Document.class);
@@ -90,6 +96,9 @@ public void handleChannelMessage(
           eventManager.callEvent(new CloudServiceDeferredStateEvent(creationId, createResult));
         }
 
+        // the node changed the encoding of documents, follow it as our documents might be forwarded into the cluster
+        case "update_document_encoding" -> DocumentObjectSerializer.binaryEncoding(event.content().readBoolean());
+
         // none of our business
         default -> {
         }
@@ -41,11 +41,14 @@ public void handle(@NonNull PermissionUpdateUserEvent event) {
     if (this.permissionManagement.cachedPermissionUsers().containsKey(user.uniqueId())) {
       this.permissionManagement.cachedPermissionUsers().put(user.uniqueId(), user);
     }
+
+    this.permissionManagement.invalidateCompiledPermissions(user.uniqueId());
   }
 
   @EventListener
   public void handle(@NonNull PermissionDeleteUserEvent event) {
     this.permissionManagement.cachedPermissionUsers().remove(event.permissionUser().uniqueId());
+    this.permissionManagement.invalidateCompiledPermissions(event.permissionUser().uniqueId());
   }
 
   @EventListener
@@ -53,6 +56,7 @@ public void handle(@NonNull PermissionAddGroupEvent event) {
     this.permissionManagement.cachedPermissionGroups().put(
       event.permissionGroup().name(),
       event.permissionGroup());
+    this.permissionManagement.invalidateCompiledPermissions();
   }
 
   @EventListener
@@ -60,11 +64,13 @@ public void handle(@NonNull PermissionUpdateGroupEvent event) {
     this.permissionManagement.cachedPermissionGroups().put(
       event.permissionGroup().name(),
       event.permissionGroup());
+    this.permissionManagement.invalidateCompiledPermissions();
   }
 
   @EventListener
   public void handle(@NonNull PermissionDeleteGroupEvent event) {
     this.permissionManagement.cachedPermissionGroups().remove(event.permissionGroup().name());
+    this.permissionManagement.invalidateCompiledPermissions();
   }
 
   @EventListener
@@ -74,5 +80,7 @@ public void handle(@NonNull PermissionSetGroupsEvent event) {
     for (var permissionGroup : event.groups()) {
       this.permissionManagement.cachedPermissionGroups().put(permissionGroup.name(), permissionGroup);
     }
+
+    this.permissionManagement.invalidateCompiledPermissions();
   }
 }